@@ -23,19 +23,21 @@ public class AccountDTO {
     private final String accountNumber;
     private final AccountStatus status;
     private final BigDecimal balance;
+    private final String currency;
     private final Boolean gmfExempt;
     private final Long customerId;
     private final String customerName;
 
     @Builder
     public AccountDTO(Long id, AccountType accountType, String accountNumber,
-                      AccountStatus status, BigDecimal balance, Boolean gmfExempt,
+                      AccountStatus status, BigDecimal balance, String currency, Boolean gmfExempt,
                       Long customerId, String customerName) {
         this.id = id;
         this.accountType = accountType;
         this.accountNumber = accountNumber;
         this.status = status;
         this.balance = balance;
+        this.currency = currency;
         this.gmfExempt = gmfExempt;
         this.customerId = customerId;
         this.customerName = customerName;
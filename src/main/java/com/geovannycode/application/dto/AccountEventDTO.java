@@ -0,0 +1,39 @@
+package com.geovannycode.application.dto;
+
+import com.geovannycode.domain.model.enums.TransactionType;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class AccountEventDTO {
+
+    private final String accountNumber;
+    private final BigDecimal balance;
+    private final String currency;
+    private final long version;
+    private final Long transactionId;
+    private final TransactionType transactionType;
+    private final BigDecimal amount;
+    private final LocalDateTime occurredAt;
+
+    @Builder
+    public AccountEventDTO(String accountNumber, BigDecimal balance, String currency, long version,
+                           Long transactionId, TransactionType transactionType, BigDecimal amount,
+                           LocalDateTime occurredAt) {
+        this.accountNumber = accountNumber;
+        this.balance = balance;
+        this.currency = currency;
+        this.version = version;
+        this.transactionId = transactionId;
+        this.transactionType = transactionType;
+        this.amount = amount;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -11,4 +11,6 @@ import lombok.Setter;
 @AllArgsConstructor
 public class AuthResponseDTO {
     private String token;
+    private String refreshToken;
+    private long expiresIn;
 }
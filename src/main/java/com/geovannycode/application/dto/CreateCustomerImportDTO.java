@@ -0,0 +1,27 @@
+package com.geovannycode.application.dto;
+
+import com.geovannycode.domain.model.enums.ImportFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class CreateCustomerImportDTO {
+
+    @NotBlank(message = "Source path is required")
+    private final String sourcePath;
+
+    @NotNull(message = "Format is required")
+    private final ImportFormat format;
+
+    @Builder
+    public CreateCustomerImportDTO(String sourcePath, ImportFormat format) {
+        this.sourcePath = sourcePath;
+        this.format = format;
+    }
+}
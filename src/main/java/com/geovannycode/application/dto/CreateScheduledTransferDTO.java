@@ -0,0 +1,55 @@
+package com.geovannycode.application.dto;
+
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.enums.TransferFrequency;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class CreateScheduledTransferDTO {
+
+    @NotBlank(message = "Source account number is required")
+    private final String sourceAccountNumber;
+
+    @NotBlank(message = "Destination account number is required")
+    private final String destinationAccountNumber;
+
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    @Digits(integer = MinorUnits.MAX_INTEGER_DIGITS, fraction = MinorUnits.SCALE,
+            message = "Amount must have at most 2 decimal places")
+    private final BigDecimal amount;
+
+    @NotNull(message = "Frequency is required")
+    private final TransferFrequency frequency;
+
+    @NotNull(message = "First execution is required")
+    @Future(message = "First execution must be in the future")
+    private final LocalDateTime firstExecution;
+
+    private final LocalDate endDate;
+
+    @Builder
+    public CreateScheduledTransferDTO(String sourceAccountNumber, String destinationAccountNumber, BigDecimal amount,
+                                      TransferFrequency frequency, LocalDateTime firstExecution, LocalDate endDate) {
+        this.sourceAccountNumber = sourceAccountNumber;
+        this.destinationAccountNumber = destinationAccountNumber;
+        this.amount = amount;
+        this.frequency = frequency;
+        this.firstExecution = firstExecution;
+        this.endDate = endDate;
+    }
+}
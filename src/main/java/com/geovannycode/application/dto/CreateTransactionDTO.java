@@ -1,6 +1,8 @@
 package com.geovannycode.application.dto;
 
+import com.geovannycode.domain.model.MinorUnits;
 import com.geovannycode.domain.model.enums.TransactionType;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.Builder;
@@ -20,6 +22,8 @@ public class CreateTransactionDTO {
 
     @NotNull(message = "Amount is required")
     @Positive(message = "Amount must be positive")
+    @Digits(integer = MinorUnits.MAX_INTEGER_DIGITS, fraction = MinorUnits.SCALE,
+            message = "Amount must have at most 2 decimal places")
     private final BigDecimal amount;
 
     private final String sourceAccountNumber;
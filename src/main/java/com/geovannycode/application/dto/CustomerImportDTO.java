@@ -0,0 +1,45 @@
+package com.geovannycode.application.dto;
+
+import com.geovannycode.domain.model.enums.ImportFormat;
+import com.geovannycode.domain.model.enums.ImportStatus;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class CustomerImportDTO {
+
+    private final Long id;
+    private final String sourcePath;
+    private final String rejectsPath;
+    private final ImportFormat format;
+    private final ImportStatus status;
+    private final long linesRead;
+    private final long imported;
+    private final long rejected;
+    private final String lastError;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    @Builder
+    public CustomerImportDTO(Long id, String sourcePath, String rejectsPath, ImportFormat format, ImportStatus status,
+                             long linesRead, long imported, long rejected, String lastError,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.sourcePath = sourcePath;
+        this.rejectsPath = rejectsPath;
+        this.format = format;
+        this.status = status;
+        this.linesRead = linesRead;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
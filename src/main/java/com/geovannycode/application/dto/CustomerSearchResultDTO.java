@@ -0,0 +1,27 @@
+package com.geovannycode.application.dto;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class CustomerSearchResultDTO {
+
+    private final List<CustomerDTO> customers;
+    private final int page;
+    private final int size;
+    private final boolean hasMore;
+
+    @Builder
+    public CustomerSearchResultDTO(List<CustomerDTO> customers, int page, int size, boolean hasMore) {
+        this.customers = customers;
+        this.page = page;
+        this.size = size;
+        this.hasMore = hasMore;
+    }
+}
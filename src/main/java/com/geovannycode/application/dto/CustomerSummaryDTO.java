@@ -0,0 +1,37 @@
+package com.geovannycode.application.dto;
+
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Map;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class CustomerSummaryDTO {
+
+    private final Long customerId;
+    private final Map<AccountType, BigDecimal> balanceByAccountType;
+    private final Map<AccountStatus, Long> accountsByStatus;
+    private final YearMonth month;
+    private final BigDecimal monthToDateInflow;
+    private final BigDecimal monthToDateOutflow;
+
+    @Builder
+    public CustomerSummaryDTO(Long customerId, Map<AccountType, BigDecimal> balanceByAccountType,
+                              Map<AccountStatus, Long> accountsByStatus, YearMonth month,
+                              BigDecimal monthToDateInflow, BigDecimal monthToDateOutflow) {
+        this.customerId = customerId;
+        this.balanceByAccountType = balanceByAccountType;
+        this.accountsByStatus = accountsByStatus;
+        this.month = month;
+        this.monthToDateInflow = monthToDateInflow;
+        this.monthToDateOutflow = monthToDateOutflow;
+    }
+}
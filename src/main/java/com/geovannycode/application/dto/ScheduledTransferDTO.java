@@ -0,0 +1,48 @@
+package com.geovannycode.application.dto;
+
+import com.geovannycode.domain.model.enums.ScheduledTransferStatus;
+import com.geovannycode.domain.model.enums.TransferFrequency;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ScheduledTransferDTO {
+
+    private final Long id;
+    private final String sourceAccountNumber;
+    private final String destinationAccountNumber;
+    private final BigDecimal amount;
+    private final TransferFrequency frequency;
+    private final LocalDateTime nextExecution;
+    private final LocalDate endDate;
+    private final int executionCount;
+    private final int attempts;
+    private final ScheduledTransferStatus status;
+    private final String lastError;
+
+    @Builder
+    public ScheduledTransferDTO(Long id, String sourceAccountNumber, String destinationAccountNumber,
+                                BigDecimal amount, TransferFrequency frequency, LocalDateTime nextExecution,
+                                LocalDate endDate, int executionCount, int attempts,
+                                ScheduledTransferStatus status, String lastError) {
+        this.id = id;
+        this.sourceAccountNumber = sourceAccountNumber;
+        this.destinationAccountNumber = destinationAccountNumber;
+        this.amount = amount;
+        this.frequency = frequency;
+        this.nextExecution = nextExecution;
+        this.endDate = endDate;
+        this.executionCount = executionCount;
+        this.attempts = attempts;
+        this.status = status;
+        this.lastError = lastError;
+    }
+}
@@ -17,17 +17,26 @@ public class TransactionDTO {
     private final Long id;
     private final TransactionType transactionType;
     private final BigDecimal amount;
+    private final String currency;
+    private final BigDecimal destinationAmount;
+    private final BigDecimal exchangeRate;
+    private final Long rateVersion;
     private final LocalDateTime transactionDate;
     private final String sourceAccountNumber;
     private final String destinationAccountNumber;
 
     @Builder
-    public TransactionDTO(Long id, TransactionType transactionType, BigDecimal amount,
+    public TransactionDTO(Long id, TransactionType transactionType, BigDecimal amount, String currency,
+                          BigDecimal destinationAmount, BigDecimal exchangeRate, Long rateVersion,
                           LocalDateTime transactionDate, String sourceAccountNumber,
                           String destinationAccountNumber) {
         this.id = id;
         this.transactionType = transactionType;
         this.amount = amount;
+        this.currency = currency;
+        this.destinationAmount = destinationAmount;
+        this.exchangeRate = exchangeRate;
+        this.rateVersion = rateVersion;
         this.transactionDate = transactionDate;
         this.sourceAccountNumber = sourceAccountNumber;
         this.destinationAccountNumber = destinationAccountNumber;
@@ -0,0 +1,33 @@
+package com.geovannycode.application.dto;
+
+import com.geovannycode.domain.model.enums.RollupGranularity;
+import com.geovannycode.domain.model.enums.TransactionType;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class TransactionVolumeDTO {
+
+    private final RollupGranularity granularity;
+    private final LocalDateTime bucketStart;
+    private final TransactionType transactionType;
+    private final long transactionCount;
+    private final BigDecimal totalAmount;
+
+    @Builder
+    public TransactionVolumeDTO(RollupGranularity granularity, LocalDateTime bucketStart,
+                                TransactionType transactionType, long transactionCount, BigDecimal totalAmount) {
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.transactionType = transactionType;
+        this.transactionCount = transactionCount;
+        this.totalAmount = totalAmount;
+    }
+}
@@ -26,6 +26,7 @@ public class AccountMapper {
                 .accountNumber(account.getAccountNumber())
                 .status(account.getStatus())
                 .balance(account.getBalance())
+                .currency(account.getCurrency())
                 .gmfExempt(account.getGmfExempt())
                 .customerId(customer != null ? customer.getId() : null)
                 .customerName(customerName)
@@ -0,0 +1,29 @@
+package com.geovannycode.application.mapper;
+
+import com.geovannycode.application.dto.CustomerImportDTO;
+import com.geovannycode.domain.model.CustomerImport;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerImportMapper {
+
+    public CustomerImportDTO toDTO(CustomerImport customerImport) {
+        if (customerImport == null) {
+            return null;
+        }
+
+        return CustomerImportDTO.builder()
+                .id(customerImport.getId())
+                .sourcePath(customerImport.getSourcePath())
+                .rejectsPath(customerImport.getRejectsPath())
+                .format(customerImport.getFormat())
+                .status(customerImport.getStatus())
+                .linesRead(customerImport.getLinesRead())
+                .imported(customerImport.getImported())
+                .rejected(customerImport.getRejected())
+                .lastError(customerImport.getLastError())
+                .createdAt(customerImport.getCreatedAt())
+                .updatedAt(customerImport.getUpdatedAt())
+                .build();
+    }
+}
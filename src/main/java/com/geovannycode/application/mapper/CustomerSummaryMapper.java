@@ -0,0 +1,40 @@
+package com.geovannycode.application.mapper;
+
+import com.geovannycode.application.dto.CustomerSummaryDTO;
+import com.geovannycode.domain.model.CustomerSummary;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class CustomerSummaryMapper {
+
+    public CustomerSummaryDTO toDTO(CustomerSummary summary, Map<AccountType, BigDecimal> balances,
+                                    YearMonth currentMonth) {
+        if (summary == null) {
+            return null;
+        }
+
+        Map<AccountStatus, Long> accounts = new EnumMap<>(AccountStatus.class);
+        for (AccountStatus status : AccountStatus.values()) {
+            accounts.put(status, summary.accountsWith(status));
+        }
+
+        boolean currentFlows = summary.getMonthStart() != null
+                && YearMonth.from(summary.getMonthStart()).equals(currentMonth);
+
+        return CustomerSummaryDTO.builder()
+                .customerId(summary.getCustomerId())
+                .balanceByAccountType(balances)
+                .accountsByStatus(accounts)
+                .month(currentMonth)
+                .monthToDateInflow(currentFlows ? summary.getMonthInflow() : BigDecimal.ZERO)
+                .monthToDateOutflow(currentFlows ? summary.getMonthOutflow() : BigDecimal.ZERO)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.geovannycode.application.mapper;
+
+import com.geovannycode.application.dto.ScheduledTransferDTO;
+import com.geovannycode.domain.model.ScheduledTransfer;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ScheduledTransferMapper {
+
+    public ScheduledTransferDTO toDTO(ScheduledTransfer scheduledTransfer) {
+        if (scheduledTransfer == null) {
+            return null;
+        }
+
+        return ScheduledTransferDTO.builder()
+                .id(scheduledTransfer.getId())
+                .sourceAccountNumber(scheduledTransfer.getSourceAccountNumber())
+                .destinationAccountNumber(scheduledTransfer.getDestinationAccountNumber())
+                .amount(scheduledTransfer.getAmount())
+                .frequency(scheduledTransfer.getFrequency())
+                .nextExecution(scheduledTransfer.getNextExecution())
+                .endDate(scheduledTransfer.getEndDate())
+                .executionCount(scheduledTransfer.getExecutionCount())
+                .attempts(scheduledTransfer.getAttempts())
+                .status(scheduledTransfer.getStatus())
+                .lastError(scheduledTransfer.getLastError())
+                .build();
+    }
+}
@@ -23,6 +23,11 @@ public class TransactionMapper {
                 .id(transaction.getId())
                 .transactionType(transaction.getTransactionType())
                 .amount(transaction.getAmount())
+                .currency(sourceAccount != null ? sourceAccount.getCurrency()
+                        : destinationAccount != null ? destinationAccount.getCurrency() : null)
+                .destinationAmount(transaction.getExchangeRate() != null ? transaction.getDestinationAmount() : null)
+                .exchangeRate(transaction.getExchangeRate())
+                .rateVersion(transaction.getRateVersion())
                 .transactionDate(transaction.getTransactionDate())
                 .sourceAccountNumber(sourceAccount != null ? sourceAccount.getAccountNumber() : null)
                 .destinationAccountNumber(destinationAccount != null ? destinationAccount.getAccountNumber() : null)
@@ -0,0 +1,214 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.AccountEventDTO;
+import com.geovannycode.domain.event.TransactionCompletedEvent;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.ResourceVersion;
+import com.geovannycode.domain.model.Transaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed balance changes out to streaming subscribers. Publishing only enqueues: each subscriber owns a
+ * bounded buffer drained on a virtual thread, so a slow client can neither block the transaction that produced
+ * the event nor hold memory beyond its buffer. A subscriber whose buffer overflows is evicted and is expected to
+ * reconnect and resynchronise from the snapshot it receives on subscription.
+ */
+@Slf4j
+@Service
+public class AccountEventBus {
+
+    private static final AccountEventDTO HEARTBEAT = AccountEventDTO.builder().build();
+
+    private final Map<String, Set<Subscription>> subscriptionsByAccount = new ConcurrentHashMap<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final Counter publishedEvents;
+    private final Counter evictedSubscribers;
+
+    public AccountEventBus(MeterRegistry meterRegistry,
+                           @Value("${app.streams.max-subscribers:50000}") int maxSubscribers,
+                           @Value("${app.streams.buffer-size:64}") int bufferSize) {
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.publishedEvents = meterRegistry.counter("account.events.published");
+        this.evictedSubscribers = meterRegistry.counter("account.events.evicted");
+        Gauge.builder("account.events.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public Optional<Subscription> subscribe(Set<String> accountNumbers, Sink sink) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return Optional.empty();
+        }
+        Subscription subscription = new Subscription(accountNumbers, sink);
+        subscriptions.add(subscription);
+        // Adding inside compute keeps a concurrent close() of the last subscriber from dropping the set in between.
+        for (String accountNumber : accountNumbers) {
+            subscriptionsByAccount.compute(accountNumber, (key, subscribers) -> {
+                Set<Subscription> updated = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                updated.add(subscription);
+                return updated;
+            });
+        }
+        return Optional.of(subscription);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        Transaction transaction = event.transaction();
+        if (transaction.getSourceAccount() != null) {
+            publish(transaction.getSourceAccount(), transaction, transaction.getAmount().negate());
+        }
+        if (transaction.getDestinationAccount() != null) {
+            publish(transaction.getDestinationAccount(), transaction, transaction.getDestinationAmount());
+        }
+    }
+
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            subscription.heartbeat();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Subscription subscription : new ArrayList<>(subscriptions)) {
+            subscription.close();
+        }
+        deliveryExecutor.close();
+    }
+
+    private void publish(Account account, Transaction transaction, BigDecimal amount) {
+        Set<Subscription> subscribers = subscriptionsByAccount.get(account.getAccountNumber());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        AccountEventDTO accountEvent = AccountEventDTO.builder()
+                .accountNumber(account.getAccountNumber())
+                .balance(account.getBalance())
+                .currency(account.getCurrency())
+                .version(ResourceVersion.of(account).version())
+                .transactionId(transaction.getId())
+                .transactionType(transaction.getTransactionType())
+                .amount(amount)
+                .occurredAt(transaction.getTransactionDate() != null ? transaction.getTransactionDate() : LocalDateTime.now())
+                .build();
+        for (Subscription subscription : subscribers) {
+            subscription.offer(accountEvent);
+        }
+        publishedEvents.increment();
+    }
+
+    public interface Sink {
+        void send(AccountEventDTO event) throws IOException;
+        void heartbeat() throws IOException;
+        void close();
+    }
+
+    public final class Subscription implements AutoCloseable {
+
+        private final Set<String> accountNumbers;
+        private final Sink sink;
+        private final BlockingQueue<AccountEventDTO> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(Set<String> accountNumbers, Sink sink) {
+            this.accountNumbers = Set.copyOf(accountNumbers);
+            this.sink = sink;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        public void offer(AccountEventDTO event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                evictedSubscribers.increment();
+                log.debug("Evicting slow stream subscriber of {}", accountNumbers);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        // A full buffer means the subscriber is about to be evicted anyway, so a skipped heartbeat costs nothing.
+        private void heartbeat() {
+            if (buffer.isEmpty() && buffer.offer(HEARTBEAT)) {
+                scheduleDrain();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriptions.remove(this);
+            for (String accountNumber : accountNumbers) {
+                subscriptionsByAccount.computeIfPresent(accountNumber, (key, subscribers) -> {
+                    subscribers.remove(this);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+            }
+            subscriberCount.decrementAndGet();
+            buffer.clear();
+            // Closing may wait for a write stuck on the slow client, so it never runs on the publishing thread.
+            deliveryExecutor.execute(sink::close);
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    AccountEventDTO event;
+                    while (!closed.get() && (event = buffer.poll()) != null) {
+                        if (event == HEARTBEAT) {
+                            sink.heartbeat();
+                        } else {
+                            sink.send(event);
+                        }
+                    }
+                    draining.set(false);
+                } while (!closed.get() && !buffer.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | RuntimeException e) {
+                draining.set(false);
+                close();
+            }
+        }
+    }
+}
@@ -2,20 +2,25 @@ package com.geovannycode.application.service;
 
 import com.geovannycode.application.dto.AccountDTO;
 import com.geovannycode.application.mapper.AccountMapper;
+import com.geovannycode.domain.event.AccountStatusChangedEvent;
 import com.geovannycode.domain.exception.InvalidAccountOperationException;
 import com.geovannycode.domain.exception.ResourceNotFoundException;
 import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.MinorUnits;
 import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.ResourceVersion;
 import com.geovannycode.domain.model.enums.AccountStatus;
 import com.geovannycode.domain.port.in.AccountUseCase;
 import com.geovannycode.domain.port.out.AccountPort;
 import com.geovannycode.domain.port.out.CustomerPort;
 import com.geovannycode.infrastructure.util.AccountNumberGenerator;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -28,6 +33,7 @@ public class AccountService implements AccountUseCase {
     private final CustomerPort customerPort;
     private final AccountNumberGenerator accountNumberGenerator;
     private final AccountMapper accountMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -43,11 +49,13 @@ public class AccountService implements AccountUseCase {
                 .accountNumber(accountNumber)
                 .status(AccountStatus.ACTIVE)
                 .balance(BigDecimal.ZERO)
+                .currency(currencyOf(accountDTO))
                 .gmfExempt(accountDTO.getGmfExempt() != null ? accountDTO.getGmfExempt() : false)
                 .customer(customer)
                 .build();
 
         Account savedAccount = accountPort.saveAccount(newAccount);
+        eventPublisher.publishEvent(new AccountStatusChangedEvent(savedAccount, null));
         return accountMapper.toDTO(savedAccount);
     }
 
@@ -57,12 +65,14 @@ public class AccountService implements AccountUseCase {
         Account account = accountPort.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found with ID: " + id));
 
-        if (status == AccountStatus.CANCELLED && !account.getBalance().equals(BigDecimal.ZERO)) {
+        if (status == AccountStatus.CANCELLED && account.getBalanceMinorUnits() != 0) {
             throw new InvalidAccountOperationException("Cannot cancel account with non-zero balance");
         }
 
+        AccountStatus previousStatus = account.getStatus();
         account.setStatus(status);
         Account updatedAccount = accountPort.saveAccount(account);
+        eventPublisher.publishEvent(new AccountStatusChangedEvent(updatedAccount, previousStatus));
         return accountMapper.toDTO(updatedAccount);
     }
 
@@ -72,34 +82,61 @@ public class AccountService implements AccountUseCase {
         Account account = accountPort.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found with ID: " + id));
 
-        if (!account.getBalance().equals(BigDecimal.ZERO)) {
+        if (account.getBalanceMinorUnits() != 0) {
             throw new InvalidAccountOperationException("Cannot cancel account with non-zero balance");
         }
 
+        AccountStatus previousStatus = account.getStatus();
         account.setStatus(AccountStatus.CANCELLED);
         accountPort.saveAccount(account);
+        eventPublisher.publishEvent(new AccountStatusChangedEvent(account, previousStatus));
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<AccountDTO> findAccountById(Long id) {
         return accountPort.findById(id)
                 .map(accountMapper::toDTO);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<AccountDTO> findAccountByNumber(String accountNumber) {
         return accountPort.findByAccountNumber(accountNumber)
                 .map(accountMapper::toDTO);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<AccountDTO> getAccountsByCustomerId(Long customerId) {
         List<Account> accounts = accountPort.findByCustomerId(customerId);
         return accounts.stream()
                 .map(accountMapper::toDTO)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> findAccountVersionById(Long id) {
+        return accountPort.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> findAccountVersionByNumber(String accountNumber) {
+        return accountPort.findVersionByAccountNumber(accountNumber);
+    }
+
+    private static String currencyOf(AccountDTO accountDTO) {
+        if (accountDTO.getCurrency() == null) {
+            return Account.DEFAULT_CURRENCY;
+        }
+        try {
+            String currency = Currency.getInstance(accountDTO.getCurrency().toUpperCase()).getCurrencyCode();
+            MinorUnits.fractionDigits(currency);
+            return currency;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidAccountOperationException("Unsupported currency: " + accountDTO.getCurrency());
+        }
+    }
 }
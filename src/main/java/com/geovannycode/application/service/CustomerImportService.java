@@ -0,0 +1,393 @@
+package com.geovannycode.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geovannycode.application.dto.CreateCustomerImportDTO;
+import com.geovannycode.application.dto.CustomerDTO;
+import com.geovannycode.application.dto.CustomerImportDTO;
+import com.geovannycode.application.mapper.CustomerImportMapper;
+import com.geovannycode.application.mapper.CustomerMapper;
+import com.geovannycode.domain.exception.InvalidImportFileException;
+import com.geovannycode.domain.exception.ResourceNotFoundException;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.CustomerImport;
+import com.geovannycode.domain.model.enums.ImportFormat;
+import com.geovannycode.domain.port.in.CustomerImportUseCase;
+import com.geovannycode.domain.port.out.CustomerImportPort;
+import com.geovannycode.infrastructure.util.OffsetLineReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Profile("!in-memory")
+public class CustomerImportService implements CustomerImportUseCase {
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "identification_type", "identification_number", "first_name", "last_name", "email", "birth_date");
+    private static final String REJECTS_HEADER = "line_number,reason,record\n";
+
+    private final CustomerImportPort customerImportPort;
+    private final CustomerImportMapper customerImportMapper;
+    private final CustomerMapper customerMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionOperations transactionOperations;
+    private final Path importDirectory;
+    private final int batchSize;
+
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+
+    public CustomerImportService(CustomerImportPort customerImportPort,
+                                 CustomerImportMapper customerImportMapper,
+                                 CustomerMapper customerMapper,
+                                 ObjectMapper objectMapper,
+                                 Validator validator,
+                                 TransactionOperations transactionOperations,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.customer-import.directory:imports}") Path importDirectory,
+                                 @Value("${app.customer-import.batch-size:1000}") int batchSize) {
+        this.customerImportPort = customerImportPort;
+        this.customerImportMapper = customerImportMapper;
+        this.customerMapper = customerMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionOperations = transactionOperations;
+        this.importDirectory = importDirectory.toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.importedCounter = meterRegistry.counter("customer.import.records", "result", "imported");
+        this.rejectedCounter = meterRegistry.counter("customer.import.records", "result", "rejected");
+    }
+
+    @Override
+    @Transactional
+    public CustomerImportDTO createImport(CreateCustomerImportDTO customerImportDTO) {
+        Path source = importDirectory.resolve(customerImportDTO.getSourcePath()).normalize();
+        if (!source.startsWith(importDirectory)) {
+            throw new InvalidImportFileException("Import files must be inside the import directory");
+        }
+        if (!Files.isRegularFile(source)) {
+            throw new ResourceNotFoundException("Import file not found: " + customerImportDTO.getSourcePath());
+        }
+
+        CustomerImport customerImport = CustomerImport.builder()
+                .sourcePath(source.toString())
+                .rejectsPath(source.resolveSibling(source.getFileName() + ".rejects.csv").toString())
+                .format(customerImportDTO.getFormat())
+                .build();
+        return customerImportMapper.toDTO(customerImportPort.save(customerImport));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CustomerImportDTO> findImportById(Long id) {
+        return customerImportPort.findById(id)
+                .map(customerImportMapper::toDTO);
+    }
+
+    public boolean runNext() {
+        Optional<CustomerImport> next = customerImportPort.findNextUnfinished();
+        next.ifPresent(customerImport -> run(customerImport.getId()));
+        return next.isPresent();
+    }
+
+    public void run(Long importId) {
+        CustomerImport customerImport = customerImportPort.findById(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Customer import not found with ID: " + importId));
+        if (customerImport.isFinished()) {
+            return;
+        }
+        customerImport.start();
+        customerImport = customerImportPort.save(customerImport);
+
+        try {
+            importFile(customerImport);
+        } catch (IOException | RuntimeException e) {
+            // If the failure cannot be recorded either, the import stays RUNNING and resumes from its last batch.
+            log.error("Customer import {} failed", importId, e);
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            transactionOperations.executeWithoutResult(status -> customerImportPort.lockById(importId)
+                    .ifPresent(failed -> {
+                        failed.fail(error);
+                        customerImportPort.save(failed);
+                    }));
+        }
+    }
+
+    private void importFile(CustomerImport customerImport) throws IOException {
+        Path source = Path.of(customerImport.getSourcePath());
+        Map<String, Integer> columns = customerImport.getFormat() == ImportFormat.CSV ? readHeader(source) : Map.of();
+
+        try (OffsetLineReader reader = new OffsetLineReader(source, customerImport.getSourceOffset());
+             FileChannel rejects = FileChannel.open(Path.of(customerImport.getRejectsPath()),
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Anything past the committed offset was written by a batch that never committed.
+            rejects.truncate(customerImport.getRejectsOffset());
+            rejects.position(customerImport.getRejectsOffset());
+            if (customerImport.getRejectsOffset() == 0) {
+                write(rejects, REJECTS_HEADER);
+            }
+
+            long lineNumber = customerImport.getLinesRead();
+            int skippedLines = 0;
+            if (customerImport.getFormat() == ImportFormat.CSV && customerImport.getSourceOffset() == 0) {
+                reader.readLine();
+                skippedLines = 1;
+                lineNumber++;
+            }
+
+            long expectedOffset = customerImport.getSourceOffset();
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                List<SourceLine> lines = new ArrayList<>(batchSize);
+                String line = null;
+                while (lines.size() < batchSize && (line = reader.readLine()) != null) {
+                    lines.add(new SourceLine(++lineNumber, line));
+                }
+                endOfFile = line == null;
+
+                Batch batch = new Batch(customerImport.getId(), customerImport.getFormat(), columns, lines,
+                        skippedLines, expectedOffset, reader.offset(), endOfFile);
+                transactionOperations.executeWithoutResult(status -> importBatch(batch, rejects));
+                expectedOffset = reader.offset();
+                skippedLines = 0;
+            }
+        }
+    }
+
+    private void importBatch(Batch batch, FileChannel rejectsFile) {
+        CustomerImport customerImport = customerImportPort.lockById(batch.importId())
+                .orElseThrow(() -> new ResourceNotFoundException("Customer import not found with ID: " + batch.importId()));
+        if (customerImport.isFinished() || customerImport.getSourceOffset() != batch.startOffset()) {
+            throw new IllegalStateException("Customer import " + batch.importId() + " was advanced by another worker");
+        }
+
+        List<Rejection> rejections = new ArrayList<>();
+        List<Candidate> candidates = new ArrayList<>(batch.lines().size());
+        Set<String> emails = new HashSet<>();
+        Set<String> identificationNumbers = new HashSet<>();
+        for (SourceLine line : batch.lines()) {
+            if (line.text().isBlank()) {
+                continue;
+            }
+            try {
+                Customer customer = parse(line.text(), batch.format(), batch.columns());
+                if (emails.contains(customer.getEmail())) {
+                    rejections.add(new Rejection(line, "Duplicate email in file"));
+                } else if (identificationNumbers.contains(customer.getIdentificationNumber())) {
+                    rejections.add(new Rejection(line, "Duplicate identification number in file"));
+                } else {
+                    emails.add(customer.getEmail());
+                    identificationNumbers.add(customer.getIdentificationNumber());
+                    candidates.add(new Candidate(line, customer));
+                }
+            } catch (RowRejectedException e) {
+                rejections.add(new Rejection(line, e.getMessage()));
+            }
+        }
+
+        Set<String> existingEmails = customerImportPort.findExistingEmails(emails);
+        Set<String> existingIdentificationNumbers = customerImportPort.findExistingIdentificationNumbers(identificationNumbers);
+        List<Candidate> insertable = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (existingEmails.contains(candidate.customer().getEmail())) {
+                rejections.add(new Rejection(candidate.line(), "A customer with this email already exists"));
+            } else if (existingIdentificationNumbers.contains(candidate.customer().getIdentificationNumber())) {
+                rejections.add(new Rejection(candidate.line(), "A customer with this identification number already exists"));
+            } else {
+                insertable.add(candidate);
+            }
+        }
+
+        long imported = 0;
+        if (!insertable.isEmpty()) {
+            boolean[] inserted = customerImportPort.insertCustomers(
+                    insertable.stream().map(Candidate::customer).toList());
+            for (int i = 0; i < inserted.length; i++) {
+                if (inserted[i]) {
+                    imported++;
+                } else {
+                    rejections.add(new Rejection(insertable.get(i).line(), "Customer was registered concurrently"));
+                }
+            }
+        }
+
+        rejections.sort(Comparator.comparingLong(rejection -> rejection.line().number()));
+        try {
+            write(rejectsFile, rejections.stream().map(CustomerImportService::format).collect(Collectors.joining()));
+            rejectsFile.force(false);
+            customerImport.recordBatch(batch.endOffset(), rejectsFile.position(),
+                    batch.lines().size() + batch.skippedLines(), imported, rejections.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write rejects file " + customerImport.getRejectsPath(), e);
+        }
+        if (batch.endOfFile()) {
+            customerImport.complete();
+        }
+        customerImportPort.save(customerImport);
+        importedCounter.increment(imported);
+        rejectedCounter.increment(rejections.size());
+    }
+
+    private Customer parse(String line, ImportFormat format, Map<String, Integer> columns) {
+        CustomerDTO customerDTO = format == ImportFormat.CSV ? parseCsv(line, columns) : parseJson(line);
+
+        Set<ConstraintViolation<CustomerDTO>> violations = validator.validate(customerDTO);
+        if (!violations.isEmpty()) {
+            throw new RowRejectedException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        if (customerDTO.getEmail() == null || customerDTO.getEmail().isBlank()) {
+            throw new RowRejectedException("Email is required");
+        }
+        if (customerDTO.getBirthDate() == null) {
+            throw new RowRejectedException("Birth date is required");
+        }
+        if (CustomerService.isUnderage(customerDTO.getBirthDate())) {
+            throw new RowRejectedException("Cannot register an underage customer");
+        }
+        return customerMapper.toEntity(customerDTO);
+    }
+
+    private CustomerDTO parseCsv(String line, Map<String, Integer> columns) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != columns.size()) {
+            throw new RowRejectedException("Expected " + columns.size() + " columns but found " + fields.size());
+        }
+        try {
+            String birthDate = fields.get(columns.get("birth_date"));
+            return CustomerDTO.builder()
+                    .identificationType(fields.get(columns.get("identification_type")))
+                    .identificationNumber(fields.get(columns.get("identification_number")))
+                    .firstName(fields.get(columns.get("first_name")))
+                    .lastName(fields.get(columns.get("last_name")))
+                    .email(fields.get(columns.get("email")))
+                    .birthDate(birthDate.isEmpty() ? null : LocalDate.parse(birthDate))
+                    .build();
+        } catch (DateTimeParseException e) {
+            throw new RowRejectedException("Birth date must use the yyyy-MM-dd format");
+        }
+    }
+
+    private CustomerDTO parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, CustomerDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new RowRejectedException("Malformed JSON record");
+        }
+    }
+
+    private static Map<String, Integer> readHeader(Path source) throws IOException {
+        String header;
+        try (OffsetLineReader reader = new OffsetLineReader(source, 0)) {
+            header = reader.readLine();
+        }
+        if (header == null) {
+            throw new InvalidImportFileException("Import file is empty");
+        }
+        List<String> names = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).toLowerCase(), i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new InvalidImportFileException("Missing CSV column: " + column);
+            }
+        }
+        return columns;
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().strip());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().strip());
+        return fields;
+    }
+
+    private static String format(Rejection rejection) {
+        return rejection.line().number() + "," + quote(rejection.reason()) + "," + quote(rejection.line().text()) + "\n";
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void write(FileChannel channel, String text) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private record SourceLine(long number, String text) {
+    }
+
+    private record Candidate(SourceLine line, Customer customer) {
+    }
+
+    private record Rejection(SourceLine line, String reason) {
+    }
+
+    private record Batch(Long importId, ImportFormat format, Map<String, Integer> columns, List<SourceLine> lines,
+                         int skippedLines, long startOffset, long endOffset, boolean endOfFile) {
+    }
+
+    private static final class RowRejectedException extends RuntimeException {
+        private RowRejectedException(String message) {
+            super(message);
+        }
+    }
+}
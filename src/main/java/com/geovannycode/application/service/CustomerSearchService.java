@@ -0,0 +1,152 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.CustomerDTO;
+import com.geovannycode.application.dto.CustomerSearchResultDTO;
+import com.geovannycode.application.mapper.CustomerMapper;
+import com.geovannycode.domain.event.CustomerChangedEvent;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.port.in.CustomerSearchUseCase;
+import com.geovannycode.domain.port.out.CustomerPort;
+import com.geovannycode.domain.port.out.CustomerSearchPort;
+import com.geovannycode.infrastructure.util.PrefixIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Slf4j
+@Service
+public class CustomerSearchService implements CustomerSearchUseCase {
+
+    private final CustomerSearchPort customerSearchPort;
+    private final CustomerPort customerPort;
+    private final CustomerMapper customerMapper;
+    private final boolean prefixIndexEnabled;
+    private final int maxCandidates;
+    private final int minQueryLength;
+    private final int maxPageSize;
+
+    private volatile PrefixIndex<CustomerDTO> prefixIndex;
+    private volatile Queue<CustomerChangedEvent> pendingChanges;
+
+    public CustomerSearchService(CustomerSearchPort customerSearchPort,
+                                 CustomerPort customerPort,
+                                 CustomerMapper customerMapper,
+                                 @Value("${app.customer-search.prefix-index.enabled:false}") boolean prefixIndexEnabled,
+                                 @Value("${app.customer-search.prefix-index.max-candidates:10000}") int maxCandidates,
+                                 @Value("${app.customer-search.min-query-length:3}") int minQueryLength,
+                                 @Value("${app.customer-search.max-page-size:100}") int maxPageSize) {
+        this.customerSearchPort = customerSearchPort;
+        this.customerPort = customerPort;
+        this.customerMapper = customerMapper;
+        this.prefixIndexEnabled = prefixIndexEnabled;
+        this.maxCandidates = maxCandidates;
+        this.minQueryLength = minQueryLength;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public CustomerSearchResultDTO searchCustomers(String query, int page, int size) {
+        String normalized = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        int pageSize = Math.clamp(size, 1, maxPageSize);
+        int pageNumber = Math.max(page, 0);
+        int offset = Math.multiplyExact(pageNumber, pageSize);
+
+        List<CustomerDTO> customers;
+        PrefixIndex<CustomerDTO> index = prefixIndex;
+        // The index only matches prefixes, so it answers the short queries the trigram index cannot; longer
+        // queries keep the database's substring matching.
+        if (normalized.isEmpty()) {
+            customers = List.of();
+        } else if (normalized.length() < minQueryLength) {
+            customers = index != null ? index.search(normalized, offset, pageSize + 1, maxCandidates) : List.of();
+        } else {
+            customers = customerSearchPort.search(normalized, offset, pageSize + 1).stream()
+                    .map(customerMapper::toDTO)
+                    .toList();
+        }
+
+        boolean hasMore = customers.size() > pageSize;
+        return CustomerSearchResultDTO.builder()
+                .customers(hasMore ? customers.subList(0, pageSize) : customers)
+                .page(pageNumber)
+                .size(pageSize)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildPrefixIndex() {
+        if (!prefixIndexEnabled) {
+            return;
+        }
+        Queue<CustomerChangedEvent> changes = new ConcurrentLinkedQueue<>();
+        pendingChanges = changes;
+        PrefixIndex<CustomerDTO> rebuilt = new PrefixIndex<>();
+        try {
+            for (Customer customer : customerPort.findAll()) {
+                index(rebuilt, customer);
+            }
+            prefixIndex = rebuilt;
+        } finally {
+            pendingChanges = null;
+        }
+        // Changes committed while the snapshot was being read are replayed on top of it.
+        for (CustomerChangedEvent change = changes.poll(); change != null; change = changes.poll()) {
+            apply(rebuilt, change);
+        }
+        log.info("Customer prefix index rebuilt with {} customers", rebuilt.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        Queue<CustomerChangedEvent> changes = pendingChanges;
+        if (changes != null) {
+            changes.add(event);
+        }
+        PrefixIndex<CustomerDTO> index = prefixIndex;
+        if (index != null) {
+            apply(index, event);
+        }
+    }
+
+    private void apply(PrefixIndex<CustomerDTO> index, CustomerChangedEvent event) {
+        if (event.deleted()) {
+            index.remove(event.customer().getId());
+        } else {
+            index(index, event.customer());
+        }
+    }
+
+    private void index(PrefixIndex<CustomerDTO> index, Customer customer) {
+        index.put(customer.getId(), customerMapper.toDTO(customer), tokens(customer));
+    }
+
+    static Set<String> tokens(Customer customer) {
+        Set<String> tokens = new HashSet<>();
+        String firstName = normalize(customer.getFirstName());
+        String lastName = normalize(customer.getLastName());
+        String email = normalize(customer.getEmail());
+        tokens.add(firstName);
+        tokens.add(lastName);
+        tokens.add(firstName + " " + lastName);
+        tokens.add(email);
+        tokens.add(email.substring(0, Math.max(0, email.indexOf('@'))));
+        tokens.add(normalize(customer.getIdentificationNumber()));
+        tokens.remove("");
+        return tokens;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+}
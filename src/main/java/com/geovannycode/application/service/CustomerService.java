@@ -2,15 +2,18 @@ package com.geovannycode.application.service;
 
 import com.geovannycode.application.dto.CustomerDTO;
 import com.geovannycode.application.mapper.CustomerMapper;
+import com.geovannycode.domain.event.CustomerChangedEvent;
 import com.geovannycode.domain.exception.CustomerHasAccountsException;
 import com.geovannycode.domain.exception.ResourceNotFoundException;
 import com.geovannycode.domain.exception.UnderageCustomerException;
 import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.ResourceVersion;
 import com.geovannycode.domain.port.in.CustomerUseCase;
 import com.geovannycode.domain.port.out.CustomerPort;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -24,6 +27,7 @@ public class CustomerService implements CustomerUseCase {
 
     private final CustomerPort customerPort;
     private final CustomerMapper customerMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -38,6 +42,7 @@ public class CustomerService implements CustomerUseCase {
         }
 
         Customer savedCustomer = customerPort.saveCustomer(customer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(savedCustomer, false));
         return customerMapper.toDTO(savedCustomer);
     }
 
@@ -62,6 +67,7 @@ public class CustomerService implements CustomerUseCase {
                 customerData.getBirthDate()
         );
         Customer updatedCustomer = customerPort.saveCustomer(existingCustomer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(updatedCustomer, false));
         return customerMapper.toDTO(updatedCustomer);
     }
 
@@ -74,17 +80,18 @@ public class CustomerService implements CustomerUseCase {
             throw new CustomerHasAccountsException("Cannot delete a customer with linked accounts");
         }
         customerPort.deleteCustomer(id);
+        eventPublisher.publishEvent(new CustomerChangedEvent(customer, true));
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<CustomerDTO> findCustomerById(Long id) {
         return customerPort.findById(id)
                 .map(customerMapper::toDTO);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<CustomerDTO> listCustomers() {
         List<Customer> customers = customerPort.findAll();
         return customers.stream()
@@ -92,7 +99,13 @@ public class CustomerService implements CustomerUseCase {
                 .collect(Collectors.toList());
     }
 
-    private boolean isUnderage(LocalDate birthDate) {
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> findCustomerVersionById(Long id) {
+        return customerPort.findVersionById(id);
+    }
+
+    static boolean isUnderage(LocalDate birthDate) {
         return Period.between(birthDate, LocalDate.now()).getYears() < 18;
     }
 }
@@ -0,0 +1,119 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.CustomerSummaryDTO;
+import com.geovannycode.application.mapper.CustomerSummaryMapper;
+import com.geovannycode.domain.event.AccountStatusChangedEvent;
+import com.geovannycode.domain.event.TransactionCompletedEvent;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.CustomerBalanceTotal;
+import com.geovannycode.domain.model.CustomerSummary;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.port.in.CustomerSummaryUseCase;
+import com.geovannycode.domain.port.out.CustomerPort;
+import com.geovannycode.domain.port.out.CustomerSummaryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerSummaryService implements CustomerSummaryUseCase {
+
+    private final CustomerSummaryPort customerSummaryPort;
+    private final CustomerPort customerPort;
+    private final CustomerSummaryMapper customerSummaryMapper;
+    private final ExchangeRateService exchangeRateService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CustomerSummaryDTO> getCustomerSummary(Long customerId) {
+        if (customerPort.findById(customerId).isEmpty()) {
+            return Optional.empty();
+        }
+        YearMonth currentMonth = YearMonth.now();
+        CustomerSummary summary = customerSummaryPort.findByCustomerId(customerId)
+                .orElseGet(() -> CustomerSummary.builder()
+                        .customerId(customerId)
+                        .monthStart(currentMonth.atDay(1))
+                        .build());
+        // Totals are kept in each account's currency, so they follow the accounts at the current rates.
+        Map<AccountType, BigDecimal> balances = new EnumMap<>(AccountType.class);
+        for (AccountType accountType : AccountType.values()) {
+            balances.put(accountType, BigDecimal.ZERO);
+        }
+        for (CustomerBalanceTotal total : customerSummaryPort.findBalanceTotals(customerId)) {
+            balances.merge(total.accountType(), exchangeRateService.toBase(
+                    MinorUnits.toBigDecimal(total.balanceMinorUnits()), total.currency()), BigDecimal::add);
+        }
+        return Optional.of(customerSummaryMapper.toDTO(summary, balances, currentMonth));
+    }
+
+    // Recorded just before the commit of the transaction that moved the money, so a summary never counts a
+    // rolled-back movement and its row lock is held only while committing.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        Transaction transaction = event.transaction();
+        Account source = transaction.getSourceAccount();
+        Account destination = transaction.getDestinationAccount();
+        Long sourceCustomerId = customerIdOf(source);
+        Long destinationCustomerId = customerIdOf(destination);
+        boolean crossesCustomers = !Objects.equals(sourceCustomerId, destinationCustomerId);
+        // Balances move in each account's own currency; flows add up every currency at the transaction's rates.
+        Movement debit = new Movement(MinorUnits.of(transaction.getAmount()), exchangeRateService.toBase(
+                transaction.getAmount(), transaction.getCurrency(), transaction.getRateVersion()));
+        Movement credit = new Movement(MinorUnits.of(transaction.getDestinationAmount()), exchangeRateService.toBase(
+                transaction.getDestinationAmount(), transaction.getDestinationCurrency(), transaction.getRateVersion()));
+        LocalDate monthStart = (transaction.getTransactionDate() != null
+                ? transaction.getTransactionDate().toLocalDate()
+                : LocalDate.now()).withDayOfMonth(1);
+
+        // Update rows in customer id order so two opposite transfers cannot deadlock on the summaries.
+        boolean destinationFirst = sourceCustomerId != null && destinationCustomerId != null
+                && destinationCustomerId < sourceCustomerId;
+        if (destinationFirst) {
+            recordIncoming(destination, credit, monthStart, crossesCustomers);
+        }
+        if (sourceCustomerId != null) {
+            customerSummaryPort.recordMovement(sourceCustomerId, source.getAccountType(), source.getCurrency(),
+                    -debit.minorUnits(), monthStart, BigDecimal.ZERO,
+                    crossesCustomers ? debit.inBase() : BigDecimal.ZERO);
+        }
+        if (!destinationFirst && destinationCustomerId != null) {
+            recordIncoming(destination, credit, monthStart, crossesCustomers);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAccountStatusChanged(AccountStatusChangedEvent event) {
+        Account account = event.account();
+        if (event.previousStatus() == account.getStatus() || customerIdOf(account) == null) {
+            return;
+        }
+        customerSummaryPort.recordAccountStatus(customerIdOf(account), event.previousStatus(), account.getStatus());
+    }
+
+    private void recordIncoming(Account destination, Movement credit, LocalDate monthStart, boolean crossesCustomers) {
+        customerSummaryPort.recordMovement(customerIdOf(destination), destination.getAccountType(),
+                destination.getCurrency(), credit.minorUnits(), monthStart,
+                crossesCustomers ? credit.inBase() : BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    private static Long customerIdOf(Account account) {
+        return account != null && account.getCustomer() != null ? account.getCustomer().getId() : null;
+    }
+
+    private record Movement(long minorUnits, BigDecimal inBase) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.exception.InvalidAccountOperationException;
+import com.geovannycode.domain.model.CurrencyConversion;
+import com.geovannycode.domain.model.ExchangeRateSnapshot;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.port.out.ExchangeRateHistoryPort;
+import com.geovannycode.domain.port.out.ExchangeRatePort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+public class ExchangeRateService {
+
+    private final ExchangeRatePort exchangeRatePort;
+    private final ExchangeRateHistoryPort exchangeRateHistoryPort;
+    private final String baseCurrency;
+    private final AtomicReference<ExchangeRateSnapshot> snapshot = new AtomicReference<>(ExchangeRateSnapshot.empty());
+    // Older versions looked up by recorded transactions; rate tables change rarely, so this stays small.
+    private final Map<Long, ExchangeRateSnapshot> history = new ConcurrentHashMap<>();
+
+    public ExchangeRateService(ExchangeRatePort exchangeRatePort, ExchangeRateHistoryPort exchangeRateHistoryPort,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.fx.base-currency:COP}") String baseCurrency) {
+        this.exchangeRatePort = exchangeRatePort;
+        this.exchangeRateHistoryPort = exchangeRateHistoryPort;
+        this.baseCurrency = baseCurrency;
+        Gauge.builder("fx.rates.version", snapshot, current -> current.get().version())
+                .register(meterRegistry);
+        try {
+            exchangeRateHistoryPort.findLatest().ifPresent(snapshot::set);
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Initial exchange rate load failed, cross-currency transfers are rejected until the next refresh", e);
+        }
+    }
+
+    public CurrencyConversion convert(BigDecimal amount, String fromCurrency, String toCurrency) {
+        ExchangeRateSnapshot current = snapshot.get();
+        BigDecimal rate = current.rate(fromCurrency, toCurrency)
+                .orElseThrow(() -> new InvalidAccountOperationException(
+                        "No exchange rate from " + fromCurrency + " to " + toCurrency));
+        BigDecimal converted = amount.multiply(rate)
+                .setScale(MinorUnits.fractionDigits(toCurrency), RoundingMode.HALF_EVEN);
+        return new CurrencyConversion(converted, rate, current.version());
+    }
+
+    public String baseCurrency() {
+        return baseCurrency;
+    }
+
+    public BigDecimal toBase(BigDecimal amount, String currency) {
+        return toBase(amount, currency, null);
+    }
+
+    // Converts at the rate version a transaction recorded; without one, the current rates apply.
+    public BigDecimal toBase(BigDecimal amount, String currency, Long rateVersion) {
+        if (baseCurrency.equals(currency)) {
+            return amount;
+        }
+        ExchangeRateSnapshot rates = rateVersion != null ? snapshotAt(rateVersion) : snapshot.get();
+        BigDecimal rate = rates.rate(currency, baseCurrency)
+                .orElseThrow(() -> new InvalidAccountOperationException(
+                        "No exchange rate from " + currency + " to " + baseCurrency));
+        return amount.multiply(rate).setScale(MinorUnits.fractionDigits(baseCurrency), RoundingMode.HALF_EVEN);
+    }
+
+    public ExchangeRateSnapshot currentRates() {
+        return snapshot.get();
+    }
+
+    public synchronized boolean refresh() {
+        Map<String, BigDecimal> rates = new HashMap<>(exchangeRatePort.loadRates());
+        rates.putIfAbsent(baseCurrency, BigDecimal.ONE);
+        rates.forEach((currency, rate) -> {
+            if (rate.signum() <= 0) {
+                throw new IllegalStateException("Exchange rate for " + currency + " must be positive");
+            }
+        });
+        if (rates.get(baseCurrency).compareTo(BigDecimal.ONE) != 0) {
+            throw new IllegalStateException("Base currency " + baseCurrency + " must have a rate of 1");
+        }
+
+        ExchangeRateSnapshot current = snapshot.get();
+        if (sameRates(rates, current.rates())) {
+            return false;
+        }
+        // Another node may already have stored this table; sharing its version keeps recorded versions comparable.
+        ExchangeRateSnapshot loaded = exchangeRateHistoryPort.findLatest()
+                .filter(latest -> sameRates(rates, latest.rates()))
+                .orElseGet(() -> exchangeRateHistoryPort.save(Instant.now(), rates));
+        history.put(current.version(), current);
+        snapshot.set(loaded);
+        log.info("Loaded {} exchange rates, version {}", rates.size(), loaded.version());
+        return true;
+    }
+
+    private ExchangeRateSnapshot snapshotAt(long version) {
+        ExchangeRateSnapshot current = snapshot.get();
+        if (current.version() == version) {
+            return current;
+        }
+        ExchangeRateSnapshot recorded = history.get(version);
+        if (recorded == null) {
+            recorded = exchangeRateHistoryPort.findByVersion(version).orElse(null);
+            if (recorded == null) {
+                log.warn("Exchange rate version {} is unknown, converting at version {}", version, current.version());
+                return current;
+            }
+            history.put(version, recorded);
+        }
+        return recorded;
+    }
+
+    private static boolean sameRates(Map<String, BigDecimal> rates, Map<String, BigDecimal> other) {
+        if (rates.size() != other.size()) {
+            return false;
+        }
+        return rates.entrySet().stream().allMatch(rate -> {
+            BigDecimal otherRate = other.get(rate.getKey());
+            return otherRate != null && otherRate.compareTo(rate.getValue()) == 0;
+        });
+    }
+}
@@ -0,0 +1,233 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.exception.FraudSuspectedException;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.enums.FraudAction;
+import com.geovannycode.infrastructure.util.SlidingWindowCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class FraudVelocityService {
+
+    static final String WITHDRAWAL_VELOCITY = "withdrawal-velocity";
+    static final String TRANSFER_AMOUNT = "transfer-amount";
+
+    private static final int STRIPES = 16;
+
+    private final VelocityStripe[] stripes = new VelocityStripe[STRIPES];
+    private final MeterRegistry meterRegistry;
+    private final Timer checkTimer;
+    private final boolean enabled;
+    private final FraudAction withdrawalAction;
+    private final int maxWithdrawals;
+    private final Duration withdrawalWindow;
+    private final int withdrawalBuckets;
+    private final FraudAction transferAction;
+    private final double transferMultiplier;
+    private final Duration transferWindow;
+    private final int transferBuckets;
+    private final int minTransferHistory;
+
+    public FraudVelocityService(MeterRegistry meterRegistry,
+                                @Value("${app.fraud.enabled:true}") boolean enabled,
+                                @Value("${app.fraud.max-tracked-accounts:200000}") int maxTrackedAccounts,
+                                @Value("${app.fraud.withdrawal-velocity.action:REJECT}") FraudAction withdrawalAction,
+                                @Value("${app.fraud.withdrawal-velocity.max-count:5}") int maxWithdrawals,
+                                @Value("${app.fraud.withdrawal-velocity.window:10m}") Duration withdrawalWindow,
+                                @Value("${app.fraud.withdrawal-velocity.buckets:10}") int withdrawalBuckets,
+                                @Value("${app.fraud.transfer-amount.action:FLAG}") FraudAction transferAction,
+                                @Value("${app.fraud.transfer-amount.multiplier:10}") double transferMultiplier,
+                                @Value("${app.fraud.transfer-amount.window:30d}") Duration transferWindow,
+                                @Value("${app.fraud.transfer-amount.buckets:30}") int transferBuckets,
+                                @Value("${app.fraud.transfer-amount.min-history:5}") int minTransferHistory) {
+        this.meterRegistry = meterRegistry;
+        this.checkTimer = Timer.builder("fraud.velocity.check")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.enabled = enabled;
+        Counter evicted = meterRegistry.counter("fraud.velocity.evicted");
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new VelocityStripe(Math.max(1, (maxTrackedAccounts + STRIPES - 1) / STRIPES), evicted);
+        }
+        this.withdrawalAction = withdrawalAction;
+        this.maxWithdrawals = maxWithdrawals;
+        this.withdrawalWindow = withdrawalWindow;
+        this.withdrawalBuckets = withdrawalBuckets;
+        this.transferAction = transferAction;
+        this.transferMultiplier = transferMultiplier;
+        this.transferWindow = transferWindow;
+        this.transferBuckets = transferBuckets;
+        this.minTransferHistory = minTransferHistory;
+    }
+
+    public Reservation checkWithdrawal(Account account, BigDecimal amount) {
+        return checkWithdrawal(account, amount, System.currentTimeMillis());
+    }
+
+    public Reservation checkTransfer(Account sourceAccount, BigDecimal amount) {
+        return checkTransfer(sourceAccount, amount, System.currentTimeMillis());
+    }
+
+    // The check and the recording of the operation happen under the account's lock, so concurrent debits of one
+    // account cannot all pass against the same count. The reservation is released if the transaction rolls back.
+    Reservation checkWithdrawal(Account account, BigDecimal amount, long nowMillis) {
+        if (!enabled || withdrawalAction == FraudAction.OFF || account.getId() == null) {
+            return Reservation.NONE;
+        }
+        long start = System.nanoTime();
+        AccountVelocity velocity = velocityOf(account.getId());
+        long minorUnits = toMinorUnits(amount);
+        long recent;
+        synchronized (velocity) {
+            recent = velocity.withdrawals.count(nowMillis);
+            if (recent < maxWithdrawals || withdrawalAction != FraudAction.REJECT) {
+                velocity.withdrawals.add(nowMillis, minorUnits);
+            }
+        }
+        checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (recent >= maxWithdrawals) {
+            hit(WITHDRAWAL_VELOCITY, withdrawalAction, account,
+                    (recent + 1) + " withdrawals within " + withdrawalWindow);
+        }
+        return reserve(velocity.withdrawals, nowMillis, minorUnits);
+    }
+
+    Reservation checkTransfer(Account sourceAccount, BigDecimal amount, long nowMillis) {
+        if (!enabled || transferAction == FraudAction.OFF || sourceAccount.getId() == null) {
+            return Reservation.NONE;
+        }
+        long start = System.nanoTime();
+        AccountVelocity velocity = velocityOf(sourceAccount.getId());
+        long minorUnits = toMinorUnits(amount);
+        boolean exceeded;
+        synchronized (velocity) {
+            long count = velocity.transfers.count(nowMillis);
+            long sum = velocity.transfers.sum(nowMillis);
+            exceeded = count >= minTransferHistory && minorUnits > transferMultiplier * ((double) sum / count);
+            if (!exceeded || transferAction != FraudAction.REJECT) {
+                velocity.transfers.add(nowMillis, minorUnits);
+            }
+        }
+        checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (exceeded) {
+            hit(TRANSFER_AMOUNT, transferAction, sourceAccount,
+                    "amount " + amount + " exceeds " + transferMultiplier + "x the " + transferWindow + " average");
+        }
+        return reserve(velocity.transfers, nowMillis, minorUnits);
+    }
+
+    int trackedAccounts() {
+        int tracked = 0;
+        for (VelocityStripe stripe : stripes) {
+            synchronized (stripe) {
+                tracked += stripe.size();
+            }
+        }
+        return tracked;
+    }
+
+    private Reservation reserve(SlidingWindowCounter counter, long addedAtMillis, long minorUnits) {
+        Reservation reservation = new Reservation(() -> counter.remove(addedAtMillis, minorUnits));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        reservation.release();
+                    }
+                }
+            });
+        }
+        return reservation;
+    }
+
+    // Every account being checked is tracked; at capacity the stripe drops its least recently checked account.
+    private AccountVelocity velocityOf(long accountId) {
+        VelocityStripe stripe = stripes[(int) (Long.hashCode(accountId) * 0x9E3779B9L >>> 32) & (STRIPES - 1)];
+        synchronized (stripe) {
+            AccountVelocity velocity = stripe.get(accountId);
+            if (velocity == null) {
+                velocity = new AccountVelocity(
+                        new SlidingWindowCounter(withdrawalWindow, withdrawalBuckets),
+                        new SlidingWindowCounter(transferWindow, transferBuckets));
+                stripe.put(accountId, velocity);
+            }
+            return velocity;
+        }
+    }
+
+    private void hit(String rule, FraudAction action, Account account, String detail) {
+        meterRegistry.counter("fraud.velocity.hits", "rule", rule, "action", action.name().toLowerCase()).increment();
+        if (action == FraudAction.REJECT) {
+            throw new FraudSuspectedException("Transaction rejected for account " + account.getAccountNumber()
+                    + ": " + detail);
+        }
+        log.warn("Transaction flagged by rule {} for account {}: {}", rule, account.getAccountNumber(), detail);
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return MinorUnits.of(amount.setScale(MinorUnits.SCALE, RoundingMode.HALF_UP));
+    }
+
+    // Lets a caller that shares one transaction between several operations, such as a group commit batch, take
+    // back the reservation of an operation that failed on its own while the batch still commits.
+    public static final class Reservation {
+
+        static final Reservation NONE = new Reservation(() -> { });
+
+        private final Runnable undo;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Reservation(Runnable undo) {
+            this.undo = undo;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                undo.run();
+            }
+        }
+    }
+
+    private record AccountVelocity(SlidingWindowCounter withdrawals, SlidingWindowCounter transfers) {
+    }
+
+    private static final class VelocityStripe extends LinkedHashMap<Long, AccountVelocity> {
+        private final int capacity;
+        private final Counter evicted;
+
+        private VelocityStripe(int capacity, Counter evicted) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evicted = evicted;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, AccountVelocity> eldest) {
+            if (size() > capacity) {
+                evicted.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.CreateTransactionDTO;
+import com.geovannycode.application.dto.TransactionDTO;
+import com.geovannycode.application.mapper.TransactionMapper;
+import com.geovannycode.domain.event.TransactionCompletedEvent;
+import com.geovannycode.domain.exception.ResourceNotFoundException;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.in.TransactionUseCase;
+import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.domain.port.out.TransactionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class GroupCommitTransactionService implements TransactionUseCase, AutoCloseable {
+
+    private final TransactionUseCase delegate;
+    private final AccountPort accountPort;
+    private final TransactionPort transactionPort;
+    private final TransactionMapper transactionMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FraudVelocityService fraudVelocityService;
+    private final TransactionLimitService transactionLimitService;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<PendingOperation> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public GroupCommitTransactionService(TransactionUseCase delegate, AccountPort accountPort,
+                                         TransactionPort transactionPort, TransactionMapper transactionMapper,
+                                         TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                                         FraudVelocityService fraudVelocityService,
+                                         TransactionLimitService transactionLimitService, Duration window, int maxBatchSize) {
+        this.delegate = delegate;
+        this.accountPort = accountPort;
+        this.transactionPort = transactionPort;
+        this.transactionMapper = transactionMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.fraudVelocityService = fraudVelocityService;
+        this.transactionLimitService = transactionLimitService;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.worker = Thread.ofPlatform().name("group-commit").daemon().start(this::run);
+    }
+
+    @Override
+    public TransactionDTO createTransaction(CreateTransactionDTO transactionDTO) {
+        switch (transactionDTO.getTransactionType()) {
+            case DEPOSIT:
+                return createDeposit(
+                        transactionDTO.getDestinationAccountNumber(),
+                        transactionDTO.getAmount());
+            case WITHDRAWAL:
+                return createWithdrawal(
+                        transactionDTO.getSourceAccountNumber(),
+                        transactionDTO.getAmount());
+            case TRANSFER:
+                return createTransfer(
+                        transactionDTO.getSourceAccountNumber(),
+                        transactionDTO.getDestinationAccountNumber(),
+                        transactionDTO.getAmount());
+            default:
+                throw new IllegalArgumentException("Invalid transaction type");
+        }
+    }
+
+    @Override
+    public TransactionDTO createDeposit(String accountNumber, BigDecimal amount) {
+        return submit(new PendingOperation(TransactionType.DEPOSIT, accountNumber, amount));
+    }
+
+    @Override
+    public TransactionDTO createWithdrawal(String accountNumber, BigDecimal amount) {
+        return submit(new PendingOperation(TransactionType.WITHDRAWAL, accountNumber, amount));
+    }
+
+    @Override
+    public TransactionDTO createTransfer(String sourceAccountNumber, String destinationAccountNumber, BigDecimal amount) {
+        return delegate.createTransfer(sourceAccountNumber, destinationAccountNumber, amount);
+    }
+
+    @Override
+    public Optional<TransactionDTO> findTransactionById(Long id) {
+        return delegate.findTransactionById(id);
+    }
+
+    @Override
+    public List<TransactionDTO> getTransactionsByAccount(String accountNumber, LocalDateTime from, LocalDateTime to) {
+        return delegate.getTransactionsByAccount(accountNumber, from, to);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingOperation> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(operation -> operation.result.completeExceptionally(
+                new IllegalStateException("Group commit is shutting down")));
+    }
+
+    private TransactionDTO submit(PendingOperation operation) {
+        if (!running) {
+            throw new IllegalStateException("Group commit is shutting down");
+        }
+        queue.add(operation);
+        if (!running && queue.remove(operation)) {
+            throw new IllegalStateException("Group commit is shutting down");
+        }
+        try {
+            return operation.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void run() {
+        List<PendingOperation> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingOperation first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || (queue.drainTo(batch, maxBatchSize - batch.size()) == 0
+                            && !pollInto(batch, remaining))) {
+                        break;
+                    }
+                }
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.forEach(operation -> operation.result.completeExceptionally(
+                        new IllegalStateException("Group commit aborted")));
+                batch.clear();
+            }
+        }
+    }
+
+    private boolean pollInto(List<PendingOperation> batch, long timeoutNanos) throws InterruptedException {
+        PendingOperation next = queue.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        if (next == null) {
+            return false;
+        }
+        batch.add(next);
+        return true;
+    }
+
+    private void processBatch(List<PendingOperation> batch) {
+        Map<PendingOperation, Transaction> saved;
+        try {
+            saved = transactionTemplate.execute(status -> applyBatch(batch));
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} operations failed, retrying individually", batch.size(), e);
+            batch.forEach(this::applyIndividually);
+            return;
+        }
+
+        for (PendingOperation operation : batch) {
+            Transaction transaction = saved.get(operation);
+            if (transaction != null) {
+                operation.result.complete(transactionMapper.toDTO(transaction));
+            }
+        }
+    }
+
+    private Map<PendingOperation, Transaction> applyBatch(List<PendingOperation> batch) {
+        Set<String> accountNumbers = batch.stream()
+                .map(operation -> operation.accountNumber)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        // Transfers run through the delegate concurrently with the batch; both lock the accounts in id order.
+        Map<String, Account> accounts = accountPort.lockByAccountNumbers(accountNumbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+
+        Map<PendingOperation, Transaction> pending = new LinkedHashMap<>();
+        Map<String, Account> touched = new LinkedHashMap<>();
+        for (PendingOperation operation : batch) {
+            try {
+                Account account = accounts.get(operation.accountNumber);
+                if (account == null) {
+                    throw new ResourceNotFoundException("Account not found: " + operation.accountNumber);
+                }
+                pending.put(operation, apply(operation, account));
+                touched.put(account.getAccountNumber(), account);
+            } catch (RuntimeException e) {
+                operation.result.completeExceptionally(e);
+            }
+        }
+
+        accountPort.saveAccounts(new ArrayList<>(touched.values()));
+        List<Transaction> saved = transactionPort.saveTransactions(new ArrayList<>(pending.values()));
+        saved.forEach(transaction -> eventPublisher.publishEvent(new TransactionCompletedEvent(transaction)));
+
+        Map<PendingOperation, Transaction> results = new LinkedHashMap<>();
+        int index = 0;
+        for (PendingOperation operation : pending.keySet()) {
+            results.put(operation, saved.get(index++));
+        }
+        return results;
+    }
+
+    private Transaction apply(PendingOperation operation, Account account) {
+        TransactionService.validateAccountIsActive(account);
+        long minorUnits = TransactionService.toMinorUnits(account, operation.amount);
+        if (operation.type == TransactionType.WITHDRAWAL) {
+            TransactionService.validateSufficientFunds(account, minorUnits);
+            FraudVelocityService.Reservation reservation = fraudVelocityService.checkWithdrawal(account, operation.amount);
+            try {
+                transactionLimitService.checkWithdrawal(account, operation.amount);
+            } catch (RuntimeException e) {
+                reservation.release();
+                throw e;
+            }
+            account.updateBalance(-minorUnits);
+            return Transaction.builder()
+                    .transactionType(TransactionType.WITHDRAWAL)
+                    .amount(operation.amount)
+                    .sourceAccount(account)
+                    .build();
+        }
+        account.updateBalance(minorUnits);
+        return Transaction.builder()
+                .transactionType(TransactionType.DEPOSIT)
+                .amount(operation.amount)
+                .destinationAccount(account)
+                .build();
+    }
+
+    private void applyIndividually(PendingOperation operation) {
+        if (operation.result.isDone()) {
+            return;
+        }
+        try {
+            TransactionDTO result = operation.type == TransactionType.DEPOSIT
+                    ? delegate.createDeposit(operation.accountNumber, operation.amount)
+                    : delegate.createWithdrawal(operation.accountNumber, operation.amount);
+            operation.result.complete(result);
+        } catch (RuntimeException e) {
+            operation.result.completeExceptionally(e);
+        }
+    }
+
+    private static final class PendingOperation {
+        private final TransactionType type;
+        private final String accountNumber;
+        private final BigDecimal amount;
+        private final CompletableFuture<TransactionDTO> result = new CompletableFuture<>();
+
+        private PendingOperation(TransactionType type, String accountNumber, BigDecimal amount) {
+            this.type = type;
+            this.accountNumber = accountNumber;
+            this.amount = amount;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.event.TransactionCompletedEvent;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.InterestAccrualCheckpoint;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.domain.port.out.InterestAccrualPort;
+import com.geovannycode.domain.port.out.TransactionPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@Profile("!in-memory")
+public class InterestAccrualService {
+
+    private static final BigDecimal DAYS_PER_YEAR = BigDecimal.valueOf(365);
+    private static final LocalTime POSTING_TIME = LocalTime.of(23, 59, 59);
+
+    private final InterestAccrualPort interestAccrualPort;
+    private final AccountPort accountPort;
+    private final TransactionPort transactionPort;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BigDecimal annualRate;
+    private final int partitions;
+    private final int batchSize;
+
+    private final Counter accountsCounter;
+    private final Counter interestCounter;
+    private final Timer runTimer;
+    private final AtomicInteger partitionsRemaining = new AtomicInteger();
+
+    public InterestAccrualService(InterestAccrualPort interestAccrualPort,
+                                  AccountPort accountPort,
+                                  TransactionPort transactionPort,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.interest.annual-rate:0.04}") BigDecimal annualRate,
+                                  @Value("${app.interest.partitions:8}") int partitions,
+                                  @Value("${app.interest.batch-size:1000}") int batchSize) {
+        this.interestAccrualPort = interestAccrualPort;
+        this.accountPort = accountPort;
+        this.transactionPort = transactionPort;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.annualRate = annualRate;
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+        this.accountsCounter = meterRegistry.counter("interest.accrual.accounts");
+        this.interestCounter = meterRegistry.counter("interest.accrual.amount");
+        this.runTimer = meterRegistry.timer("interest.accrual.duration");
+        meterRegistry.gauge("interest.accrual.partitions.remaining", partitionsRemaining);
+    }
+
+    public List<InterestAccrualCheckpoint> accrue(LocalDate businessDate) {
+        return runTimer.record(() -> {
+            List<InterestAccrualCheckpoint> checkpoints = checkpointsFor(businessDate);
+            partitionsRemaining.set((int) checkpoints.stream().filter(checkpoint -> !checkpoint.isCompleted()).count());
+            log.info("Accruing interest for {} over {} partitions", businessDate, checkpoints.size());
+
+            List<Future<InterestAccrualCheckpoint>> futures = new ArrayList<>(checkpoints.size());
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (InterestAccrualCheckpoint checkpoint : checkpoints) {
+                    futures.add(executor.submit(() -> accruePartition(checkpoint)));
+                }
+                List<InterestAccrualCheckpoint> results = new ArrayList<>(futures.size());
+                for (Future<InterestAccrualCheckpoint> future : futures) {
+                    results.add(await(future));
+                }
+                return results;
+            }
+        });
+    }
+
+    public List<LocalDate> findIncompleteBusinessDates() {
+        return interestAccrualPort.findIncompleteBusinessDates();
+    }
+
+    BigDecimal dailyInterest(BigDecimal balance, String currency) {
+        return balance.multiply(annualRate)
+                .divide(DAYS_PER_YEAR, MinorUnits.fractionDigits(currency), RoundingMode.HALF_EVEN)
+                .setScale(MinorUnits.SCALE);
+    }
+
+    private List<InterestAccrualCheckpoint> checkpointsFor(LocalDate businessDate) {
+        List<InterestAccrualCheckpoint> existing = interestAccrualPort.findCheckpoints(businessDate);
+        if (!existing.isEmpty()) {
+            return existing;
+        }
+
+        long maxAccountId = interestAccrualPort.findMaxSavingsAccountId();
+        long partitionSize = Math.max(1, (maxAccountId + partitions - 1) / partitions);
+        List<InterestAccrualCheckpoint> checkpoints = new ArrayList<>(partitions);
+        for (long start = 1; start <= maxAccountId; start += partitionSize) {
+            checkpoints.add(InterestAccrualCheckpoint.builder()
+                    .businessDate(businessDate)
+                    .partitionStart(start)
+                    .partitionEnd(Math.min(maxAccountId, start + partitionSize - 1))
+                    .build());
+        }
+        return transactionTemplate.execute(status -> interestAccrualPort.saveCheckpoints(checkpoints));
+    }
+
+    private InterestAccrualCheckpoint accruePartition(InterestAccrualCheckpoint checkpoint) {
+        while (!checkpoint.isCompleted()) {
+            InterestAccrualCheckpoint current = checkpoint;
+            checkpoint = transactionTemplate.execute(status -> accrueBatch(current));
+            if (checkpoint.isCompleted()) {
+                partitionsRemaining.decrementAndGet();
+            }
+        }
+        return checkpoint;
+    }
+
+    private InterestAccrualCheckpoint accrueBatch(InterestAccrualCheckpoint checkpoint) {
+        List<Account> accounts = interestAccrualPort.lockSavingsAccountsForAccrual(
+                checkpoint.getLastAccountId(), checkpoint.getPartitionEnd(), batchSize);
+
+        long lastAccountId = accounts.isEmpty()
+                ? checkpoint.getPartitionEnd()
+                : accounts.get(accounts.size() - 1).getId();
+        // A catch-up run sees later movements in the live balance, so they are taken back out to get the balance the
+        // account closed the business date with. Postings are stamped on that date and stay out of the correction.
+        LocalDate businessDate = checkpoint.getBusinessDate();
+        Map<Long, Long> laterMovements = accounts.isEmpty() ? Map.of() : interestAccrualPort.findNetMovementsSince(
+                checkpoint.getLastAccountId(), lastAccountId, businessDate.plusDays(1).atStartOfDay());
+        LocalDateTime postedAt = businessDate.atTime(POSTING_TIME);
+
+        List<Account> credited = new ArrayList<>(accounts.size());
+        List<Transaction> postings = new ArrayList<>(accounts.size());
+        BigDecimal batchInterest = BigDecimal.ZERO;
+        for (Account account : accounts) {
+            long closingBalance = MinorUnits.subtract(account.getBalanceMinorUnits(),
+                    laterMovements.getOrDefault(account.getId(), 0L));
+            BigDecimal interest = dailyInterest(MinorUnits.toBigDecimal(closingBalance), account.getCurrency());
+            if (interest.signum() <= 0) {
+                continue;
+            }
+            account.updateBalance(MinorUnits.of(interest));
+            credited.add(account);
+            postings.add(Transaction.builder()
+                    .transactionType(TransactionType.INTEREST)
+                    .amount(interest)
+                    .destinationAccount(account)
+                    .transactionDate(postedAt)
+                    .build());
+            batchInterest = batchInterest.add(interest);
+        }
+        accountPort.saveAccounts(credited);
+        transactionPort.saveTransactions(postings)
+                .forEach(posting -> eventPublisher.publishEvent(new TransactionCompletedEvent(posting)));
+
+        checkpoint.advance(lastAccountId, accounts.size(), batchInterest, accounts.size() < batchSize);
+        InterestAccrualCheckpoint saved = interestAccrualPort.saveCheckpoint(checkpoint);
+
+        accountsCounter.increment(accounts.size());
+        interestCounter.increment(batchInterest.doubleValue());
+        return saved;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while accruing interest", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.CreateTransactionDTO;
+import com.geovannycode.application.dto.TransactionDTO;
+import com.geovannycode.domain.port.in.TransactionUseCase;
+import com.geovannycode.infrastructure.engine.AccountLaneExecutor;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class LaneTransactionService implements TransactionUseCase {
+
+    private final TransactionUseCase delegate;
+    private final AccountLaneExecutor laneExecutor;
+
+    @Override
+    public TransactionDTO createTransaction(CreateTransactionDTO transactionDTO) {
+        switch (transactionDTO.getTransactionType()) {
+            case DEPOSIT:
+                return createDeposit(
+                        transactionDTO.getDestinationAccountNumber(),
+                        transactionDTO.getAmount());
+            case WITHDRAWAL:
+                return createWithdrawal(
+                        transactionDTO.getSourceAccountNumber(),
+                        transactionDTO.getAmount());
+            case TRANSFER:
+                return createTransfer(
+                        transactionDTO.getSourceAccountNumber(),
+                        transactionDTO.getDestinationAccountNumber(),
+                        transactionDTO.getAmount());
+            default:
+                throw new IllegalArgumentException("Invalid transaction type");
+        }
+    }
+
+    @Override
+    public TransactionDTO createDeposit(String accountNumber, BigDecimal amount) {
+        return laneExecutor.execute(accountNumber, () -> delegate.createDeposit(accountNumber, amount));
+    }
+
+    @Override
+    public TransactionDTO createWithdrawal(String accountNumber, BigDecimal amount) {
+        return laneExecutor.execute(accountNumber, () -> delegate.createWithdrawal(accountNumber, amount));
+    }
+
+    @Override
+    public TransactionDTO createTransfer(String sourceAccountNumber, String destinationAccountNumber, BigDecimal amount) {
+        return laneExecutor.execute(sourceAccountNumber, destinationAccountNumber,
+                () -> delegate.createTransfer(sourceAccountNumber, destinationAccountNumber, amount));
+    }
+
+    @Override
+    public Optional<TransactionDTO> findTransactionById(Long id) {
+        return delegate.findTransactionById(id);
+    }
+
+    @Override
+    public List<TransactionDTO> getTransactionsByAccount(String accountNumber, LocalDateTime from, LocalDateTime to) {
+        return delegate.getTransactionsByAccount(accountNumber, from, to);
+    }
+}
@@ -0,0 +1,83 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.model.RateLimit;
+import com.geovannycode.domain.port.out.RateLimitPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the request limits from the widest scope down: the caller as a whole, then the caller on one route, and
+ * separately the account a request acts on, which is shared by every caller. A token taken at an outer level is
+ * handed back when an inner level rejects, so a throttled route does not also drain the caller's overall budget.
+ */
+public class RateLimitService {
+
+    public static final String USER = "user";
+    public static final String ROUTE = "route";
+    public static final String ACCOUNT = "account";
+
+    private final RateLimitPort rateLimitPort;
+    private final RateLimit userLimit;
+    private final RateLimit routeLimit;
+    private final Map<String, RateLimit> routeLimits;
+    private final RateLimit accountLimit;
+    private final MeterRegistry meterRegistry;
+    private final Timer checkTimer;
+
+    public RateLimitService(RateLimitPort rateLimitPort, RateLimit userLimit, RateLimit routeLimit,
+                            Map<String, RateLimit> routeLimits, RateLimit accountLimit, MeterRegistry meterRegistry) {
+        this.rateLimitPort = rateLimitPort;
+        this.userLimit = userLimit;
+        this.routeLimit = routeLimit;
+        this.routeLimits = Map.copyOf(routeLimits);
+        this.accountLimit = accountLimit;
+        this.meterRegistry = meterRegistry;
+        this.checkTimer = meterRegistry.timer("rate.limit.check");
+    }
+
+    public Optional<Rejection> checkRequest(String subject, String route) {
+        long start = System.nanoTime();
+        try {
+            String userKey = USER + ":" + subject;
+            long wait = rateLimitPort.tryAcquire(userKey, userLimit);
+            if (wait > 0) {
+                return reject(USER, wait);
+            }
+            wait = rateLimitPort.tryAcquire(ROUTE + ":" + subject + ":" + route, routeLimits.getOrDefault(route, routeLimit));
+            if (wait > 0) {
+                rateLimitPort.release(userKey, userLimit);
+                return reject(ROUTE, wait);
+            }
+            return Optional.empty();
+        } finally {
+            checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public Optional<Rejection> checkAccount(String accountNumber) {
+        long start = System.nanoTime();
+        try {
+            long wait = rateLimitPort.tryAcquire(ACCOUNT + ":" + accountNumber, accountLimit);
+            return wait > 0 ? reject(ACCOUNT, wait) : Optional.empty();
+        } finally {
+            checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Optional<Rejection> reject(String scope, long waitNanos) {
+        meterRegistry.counter("rate.limit.rejected", "scope", scope).increment();
+        return Optional.of(new Rejection(scope, Duration.ofNanos(waitNanos)));
+    }
+
+    public record Rejection(String scope, Duration retryAfter) {
+
+        public long retryAfterSeconds() {
+            return Math.max(1, (retryAfter.toNanos() + 999_999_999L) / 1_000_000_000L);
+        }
+    }
+}
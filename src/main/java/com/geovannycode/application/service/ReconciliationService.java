@@ -0,0 +1,113 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.model.ReconciliationDiscrepancy;
+import com.geovannycode.domain.port.out.ReconciliationPort;
+import com.geovannycode.infrastructure.util.LongLongHashMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@Profile("!in-memory")
+public class ReconciliationService {
+
+    private final ReconciliationPort reconciliationPort;
+    private final int partitions;
+
+    private final Timer runTimer;
+    private final AtomicLong discrepancies = new AtomicLong();
+    private final AtomicLong transactionsScanned = new AtomicLong();
+
+    public ReconciliationService(ReconciliationPort reconciliationPort,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.reconciliation.partitions:8}") int partitions) {
+        this.reconciliationPort = reconciliationPort;
+        this.partitions = partitions;
+        this.runTimer = meterRegistry.timer("reconciliation.duration");
+        meterRegistry.gauge("reconciliation.discrepancies", discrepancies);
+        meterRegistry.gauge("reconciliation.transactions.scanned", transactionsScanned);
+    }
+
+    public List<ReconciliationDiscrepancy> reconcile() {
+        return runTimer.record(() -> {
+            long maxAccountId = reconciliationPort.findMaxAccountId();
+            // Ids have gaps, so the number of accounts sizes the map; the maximum id only bounds the partitions.
+            long accountCount = reconciliationPort.countAccounts();
+            LongLongHashMap netMovements = new LongLongHashMap((int) Math.min(LongLongHashMap.MAX_SIZE, accountCount));
+            long scanned = reconciliationPort.streamTransactionMovements((sourceId, destinationId, amount, destinationAmount) -> {
+                if (sourceId != 0) {
+                    netMovements.addTo(sourceId, -amount);
+                }
+                if (destinationId != 0) {
+                    netMovements.addTo(destinationId, destinationAmount);
+                }
+            });
+            transactionsScanned.set(scanned);
+
+            List<Long> suspects = compareBalances(netMovements, maxAccountId);
+            List<ReconciliationDiscrepancy> confirmed = suspects.stream()
+                    .map(reconciliationPort::verifyAccount)
+                    .flatMap(Optional::stream)
+                    .toList();
+            if (!confirmed.isEmpty()) {
+                reconciliationPort.saveDiscrepancies(confirmed);
+            }
+            discrepancies.set(confirmed.size());
+            log.info("Reconciled {} transactions over {} accounts: {} suspects, {} discrepancies",
+                    scanned, netMovements.size(), suspects.size(), confirmed.size());
+            return confirmed;
+        });
+    }
+
+    private List<Long> compareBalances(LongLongHashMap netMovements, long maxAccountId) {
+        long partitionSize = Math.max(1, (maxAccountId + partitions - 1) / partitions);
+        List<Future<List<Long>>> futures = new ArrayList<>(partitions);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long start = 1; start <= maxAccountId; start += partitionSize) {
+                long afterId = start - 1;
+                long lastId = Math.min(maxAccountId, start + partitionSize - 1);
+                futures.add(executor.submit(() -> {
+                    List<Long> suspects = new ArrayList<>();
+                    reconciliationPort.forEachAccountBalance(afterId, lastId, (accountId, balance) -> {
+                        if (netMovements.get(accountId) != balance) {
+                            suspects.add(accountId);
+                        }
+                    });
+                    return suspects;
+                }));
+            }
+            List<Long> suspects = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                suspects.addAll(await(future));
+            }
+            return suspects;
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reconciling balances", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
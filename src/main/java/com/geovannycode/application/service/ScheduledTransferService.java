@@ -0,0 +1,298 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.CreateScheduledTransferDTO;
+import com.geovannycode.application.dto.ScheduledTransferDTO;
+import com.geovannycode.application.mapper.ScheduledTransferMapper;
+import com.geovannycode.domain.exception.InvalidAccountOperationException;
+import com.geovannycode.domain.exception.ResourceNotFoundException;
+import com.geovannycode.domain.model.ScheduledTransfer;
+import com.geovannycode.domain.model.enums.ScheduledTransferStatus;
+import com.geovannycode.domain.port.in.ScheduledTransferUseCase;
+import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import com.geovannycode.domain.port.out.ScheduledTransferPort;
+import com.geovannycode.infrastructure.engine.AccountLaneExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Service
+public class ScheduledTransferService implements ScheduledTransferUseCase {
+
+    static final String WORKLOAD = "scheduled-transfers";
+
+    private final ScheduledTransferPort scheduledTransferPort;
+    private final AccountPort accountPort;
+    // The direct service, so the debit and the order update commit or roll back together. It locks the accounts'
+    // rows like every other writer; with the lane engine the whole execution also runs on the accounts' lanes.
+    private final TransactionService transactionService;
+    private final ObjectProvider<AccountLaneExecutor> laneExecutor;
+    private final ScheduledTransferMapper scheduledTransferMapper;
+    private final TransactionOperations transactionOperations;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+    private final int partitions;
+    private final int batchSize;
+    private final Duration lookahead;
+    private final int maxQueued;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    private final Counter executedCounter;
+    private final Counter failedCounter;
+
+    // Min-heap of the executions due within the lookahead window for the partitions this node owns.
+    private final PriorityQueue<DueTransfer> dueQueue = new PriorityQueue<>();
+    private final Set<Long> queuedIds = new HashSet<>();
+
+    public ScheduledTransferService(ScheduledTransferPort scheduledTransferPort,
+                                    AccountPort accountPort,
+                                    TransactionService transactionService,
+                                    ObjectProvider<AccountLaneExecutor> laneExecutor,
+                                    ScheduledTransferMapper scheduledTransferMapper,
+                                    TransactionOperations transactionOperations,
+                                    PartitionOwnershipPort partitionOwnershipPort,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.scheduled-transfers.partitions:16}") int partitions,
+                                    @Value("${app.scheduled-transfers.batch-size:100}") int batchSize,
+                                    @Value("${app.scheduled-transfers.lookahead:1m}") Duration lookahead,
+                                    @Value("${app.scheduled-transfers.max-queued:100000}") int maxQueued,
+                                    @Value("${app.scheduled-transfers.max-attempts:3}") int maxAttempts,
+                                    @Value("${app.scheduled-transfers.retry-backoff:15m}") Duration retryBackoff) {
+        this.scheduledTransferPort = scheduledTransferPort;
+        this.accountPort = accountPort;
+        this.transactionService = transactionService;
+        this.laneExecutor = laneExecutor;
+        this.scheduledTransferMapper = scheduledTransferMapper;
+        this.transactionOperations = transactionOperations;
+        this.partitionOwnershipPort = partitionOwnershipPort;
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+        this.lookahead = lookahead;
+        this.maxQueued = maxQueued;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.executedCounter = meterRegistry.counter("scheduled.transfers.executed");
+        this.failedCounter = meterRegistry.counter("scheduled.transfers.failed");
+        meterRegistry.gauge("scheduled.transfers.queued", dueQueue, queue -> queuedSize());
+    }
+
+    @Override
+    @Transactional
+    public ScheduledTransferDTO createScheduledTransfer(CreateScheduledTransferDTO scheduledTransferDTO) {
+        String source = scheduledTransferDTO.getSourceAccountNumber();
+        String destination = scheduledTransferDTO.getDestinationAccountNumber();
+        if (source.equals(destination)) {
+            throw new InvalidAccountOperationException("Source and destination accounts must differ");
+        }
+        if (scheduledTransferDTO.getEndDate() != null
+                && scheduledTransferDTO.getEndDate().isBefore(scheduledTransferDTO.getFirstExecution().toLocalDate())) {
+            throw new InvalidAccountOperationException("End date is before the first execution");
+        }
+        accountPort.findByAccountNumber(source)
+                .orElseThrow(() -> new ResourceNotFoundException("Source account not found: " + source));
+        accountPort.findByAccountNumber(destination)
+                .orElseThrow(() -> new ResourceNotFoundException("Destination account not found: " + destination));
+
+        ScheduledTransfer saved = scheduledTransferPort.save(ScheduledTransfer.builder()
+                .sourceAccountNumber(source)
+                .destinationAccountNumber(destination)
+                .amount(scheduledTransferDTO.getAmount())
+                .frequency(scheduledTransferDTO.getFrequency())
+                .firstExecution(scheduledTransferDTO.getFirstExecution())
+                .endDate(scheduledTransferDTO.getEndDate())
+                .partitionId(partitionOf(source, partitions))
+                .build());
+
+        if (saved.getNextExecution().isBefore(LocalDateTime.now().plus(lookahead))
+                && partitionOwnershipPort.ownedPartitions(WORKLOAD, partitions).contains(saved.getPartitionId())) {
+            enqueue(List.of(saved));
+        }
+        return scheduledTransferMapper.toDTO(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ScheduledTransferDTO> findScheduledTransferById(Long id) {
+        return scheduledTransferPort.findById(id)
+                .map(scheduledTransferMapper::toDTO);
+    }
+
+    @Override
+    @Transactional
+    public void cancelScheduledTransfer(Long id) {
+        ScheduledTransfer scheduledTransfer = scheduledTransferPort.lockById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Scheduled transfer not found with ID: " + id));
+        if (scheduledTransfer.getStatus() != ScheduledTransferStatus.ACTIVE) {
+            throw new InvalidAccountOperationException("Scheduled transfer is not active: " + id);
+        }
+        scheduledTransfer.cancel();
+        scheduledTransferPort.save(scheduledTransfer);
+    }
+
+    public int refill(LocalDateTime now) {
+        Set<Integer> owned = partitionOwnershipPort.ownedPartitions(WORKLOAD, partitions);
+        int capacity;
+        synchronized (this) {
+            dueQueue.removeIf(due -> {
+                boolean released = !owned.contains(due.partitionId());
+                if (released) {
+                    queuedIds.remove(due.id());
+                }
+                return released;
+            });
+            capacity = maxQueued - queuedIds.size();
+        }
+        if (capacity <= 0 || owned.isEmpty()) {
+            return 0;
+        }
+        return enqueue(scheduledTransferPort.findDue(owned, now.plus(lookahead), capacity));
+    }
+
+    public int dispatch(LocalDateTime now) {
+        Set<Integer> owned = partitionOwnershipPort.ownedPartitions(WORKLOAD, partitions);
+        List<DueTransfer> batch = new ArrayList<>();
+        synchronized (this) {
+            while (batch.size() < batchSize && !dueQueue.isEmpty() && !dueQueue.peek().dueAt().isAfter(now)) {
+                DueTransfer due = dueQueue.poll();
+                if (owned.contains(due.partitionId())) {
+                    batch.add(due);
+                } else {
+                    queuedIds.remove(due.id());
+                }
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // Orders debiting the same account run one after another; different accounts run in parallel.
+        Map<String, List<DueTransfer>> bySourceAccount = new LinkedHashMap<>();
+        batch.forEach(due -> bySourceAccount.computeIfAbsent(due.sourceAccountNumber(), key -> new ArrayList<>()).add(due));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(bySourceAccount.size());
+            for (List<DueTransfer> group : bySourceAccount.values()) {
+                futures.add(executor.submit(() -> group.forEach(due -> execute(due, now))));
+            }
+            futures.forEach(ScheduledTransferService::await);
+        } finally {
+            synchronized (this) {
+                batch.forEach(due -> queuedIds.remove(due.id()));
+            }
+        }
+        return batch.size();
+    }
+
+    boolean execute(DueTransfer due, LocalDateTime now) {
+        try {
+            AccountLaneExecutor lanes = laneExecutor.getIfAvailable();
+            Boolean executed = lanes == null
+                    ? executeInTransaction(due)
+                    : lanes.execute(due.sourceAccountNumber(), due.destinationAccountNumber(),
+                            () -> executeInTransaction(due));
+            if (Boolean.TRUE.equals(executed)) {
+                executedCounter.increment();
+                return true;
+            }
+            return false;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("Scheduled transfer {} failed: {}", due.id(), e.getMessage());
+            recordFailure(due, e.getMessage(), now);
+            return false;
+        }
+    }
+
+    synchronized int queuedSize() {
+        return queuedIds.size();
+    }
+
+    static int partitionOf(String accountNumber, int partitions) {
+        return Math.floorMod(accountNumber.hashCode(), partitions);
+    }
+
+    private Boolean executeInTransaction(DueTransfer due) {
+        return transactionOperations.execute(status -> {
+            ScheduledTransfer scheduledTransfer = scheduledTransferPort.lockById(due.id()).orElse(null);
+            if (scheduledTransfer == null || !scheduledTransfer.isDueAt(due.dueAt())) {
+                return false;
+            }
+            transactionService.createTransfer(scheduledTransfer.getSourceAccountNumber(),
+                    scheduledTransfer.getDestinationAccountNumber(), scheduledTransfer.getAmount());
+            scheduledTransfer.recordSuccess();
+            scheduledTransferPort.save(scheduledTransfer);
+            return true;
+        });
+    }
+
+    private void recordFailure(DueTransfer due, String error, LocalDateTime now) {
+        try {
+            transactionOperations.executeWithoutResult(status -> scheduledTransferPort.lockById(due.id())
+                    .filter(scheduledTransfer -> scheduledTransfer.isDueAt(due.dueAt()))
+                    .ifPresent(scheduledTransfer -> {
+                        scheduledTransfer.recordFailure(error, now.plus(retryBackoff), maxAttempts);
+                        scheduledTransferPort.save(scheduledTransfer);
+                    }));
+        } catch (RuntimeException e) {
+            log.error("Could not record failure of scheduled transfer {}, it will be retried", due.id(), e);
+        }
+    }
+
+    private synchronized int enqueue(List<ScheduledTransfer> scheduledTransfers) {
+        int added = 0;
+        for (ScheduledTransfer scheduledTransfer : scheduledTransfers) {
+            if (queuedIds.size() < maxQueued && queuedIds.add(scheduledTransfer.getId())) {
+                dueQueue.add(new DueTransfer(scheduledTransfer.getId(), scheduledTransfer.getNextExecution(),
+                        scheduledTransfer.getSourceAccountNumber(), scheduledTransfer.getDestinationAccountNumber(),
+                        scheduledTransfer.getPartitionId()));
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Scheduled transfer dispatch interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    record DueTransfer(Long id, LocalDateTime dueAt, String sourceAccountNumber, String destinationAccountNumber,
+                       int partitionId)
+            implements Comparable<DueTransfer> {
+
+        @Override
+        public int compareTo(DueTransfer other) {
+            int byTime = dueAt.compareTo(other.dueAt);
+            return byTime != 0 ? byTime : id.compareTo(other.id);
+        }
+    }
+}
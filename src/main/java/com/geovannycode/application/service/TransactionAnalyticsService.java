@@ -0,0 +1,179 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.TransactionVolumeDTO;
+import com.geovannycode.domain.event.TransactionCompletedEvent;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.TransactionRollup;
+import com.geovannycode.domain.model.enums.RollupGranularity;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.in.TransactionAnalyticsUseCase;
+import com.geovannycode.domain.port.out.TransactionRollupPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Service
+public class TransactionAnalyticsService implements TransactionAnalyticsUseCase {
+
+    private static final Duration MINUTE_RANGE_LIMIT = Duration.ofHours(6);
+    private static final Duration HOUR_RANGE_LIMIT = Duration.ofDays(7);
+
+    private final TransactionRollupPort transactionRollupPort;
+    private final ExchangeRateService exchangeRateService;
+    private final Duration minuteRetention;
+    private final Duration hourRetention;
+
+    private final ReadWriteLock pendingLock = new ReentrantReadWriteLock();
+    private Map<BucketKey, PendingBucket> pending = new ConcurrentHashMap<>();
+
+    public TransactionAnalyticsService(TransactionRollupPort transactionRollupPort,
+                                       ExchangeRateService exchangeRateService,
+                                       @Value("${app.analytics.minute-retention:48h}") Duration minuteRetention,
+                                       @Value("${app.analytics.hour-retention:90d}") Duration hourRetention) {
+        this.transactionRollupPort = transactionRollupPort;
+        this.exchangeRateService = exchangeRateService;
+        this.minuteRetention = minuteRetention;
+        this.hourRetention = hourRetention;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        Transaction transaction = event.transaction();
+        LocalDateTime time = transaction.getTransactionDate() != null ? transaction.getTransactionDate() : LocalDateTime.now();
+        BigDecimal baseAmount = exchangeRateService.toBase(transaction.getAmount(), transaction.getCurrency(),
+                transaction.getRateVersion());
+        long amount = MinorUnits.of(baseAmount.setScale(MinorUnits.SCALE, RoundingMode.HALF_EVEN));
+        BucketKey key = new BucketKey(RollupGranularity.MINUTE.truncate(time), transaction.getTransactionType());
+
+        pendingLock.readLock().lock();
+        try {
+            pending.computeIfAbsent(key, ignored -> new PendingBucket()).add(1, amount);
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
+
+    public int flushPendingBuckets() {
+        Map<BucketKey, PendingBucket> drained;
+        pendingLock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            drained = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            pendingLock.writeLock().unlock();
+        }
+
+        List<TransactionRollup> deltas = new ArrayList<>(drained.size());
+        drained.forEach((key, bucket) -> deltas.add(TransactionRollup.builder()
+                .granularity(RollupGranularity.MINUTE)
+                .bucketStart(key.bucketStart())
+                .transactionType(key.transactionType())
+                .transactionCount(bucket.count.sum())
+                .totalAmount(MinorUnits.toBigDecimal(bucket.amount.sum()))
+                .build()));
+        try {
+            transactionRollupPort.addToBuckets(deltas);
+        } catch (RuntimeException e) {
+            requeue(drained);
+            throw e;
+        }
+        return deltas.size();
+    }
+
+    public void compact(LocalDateTime now) {
+        LocalDateTime hourCutoff = RollupGranularity.HOUR.truncate(now.minus(minuteRetention));
+        LocalDateTime dayCutoff = RollupGranularity.DAY.truncate(now.minus(hourRetention));
+        int hours = transactionRollupPort.compact(RollupGranularity.MINUTE, RollupGranularity.HOUR, hourCutoff);
+        int days = transactionRollupPort.compact(RollupGranularity.HOUR, RollupGranularity.DAY, dayCutoff);
+        log.info("Compacted transaction rollups into {} hour and {} day buckets", hours, days);
+    }
+
+    @Override
+    public List<TransactionVolumeDTO> getTransactionVolume(LocalDateTime from, LocalDateTime to,
+                                                           RollupGranularity granularity) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Range start must be before its end");
+        }
+        RollupGranularity effective = effectiveGranularity(from, to, granularity, LocalDateTime.now());
+        List<RollupGranularity> sources = Arrays.stream(RollupGranularity.values())
+                .filter(candidate -> candidate.compareTo(effective) <= 0)
+                .toList();
+
+        Map<BucketKey, PendingBucket> buckets = new TreeMap<>(Comparator.comparing(BucketKey::bucketStart)
+                .thenComparing(BucketKey::transactionType));
+        for (TransactionRollup rollup : transactionRollupPort.findBuckets(sources, effective.truncate(from), to)) {
+            BucketKey key = new BucketKey(effective.truncate(rollup.getBucketStart()), rollup.getTransactionType());
+            buckets.computeIfAbsent(key, ignored -> new PendingBucket())
+                    .add(rollup.getTransactionCount(), MinorUnits.of(rollup.getTotalAmount()));
+        }
+
+        List<TransactionVolumeDTO> volumes = new ArrayList<>(buckets.size());
+        buckets.forEach((key, bucket) -> volumes.add(TransactionVolumeDTO.builder()
+                .granularity(effective)
+                .bucketStart(key.bucketStart())
+                .transactionType(key.transactionType())
+                .transactionCount(bucket.count.sum())
+                .totalAmount(MinorUnits.toBigDecimal(bucket.amount.sum()))
+                .build()));
+        return volumes;
+    }
+
+    RollupGranularity effectiveGranularity(LocalDateTime from, LocalDateTime to,
+                                           RollupGranularity requested, LocalDateTime now) {
+        RollupGranularity granularity = requested;
+        if (granularity == null) {
+            Duration range = Duration.between(from, to);
+            granularity = range.compareTo(MINUTE_RANGE_LIMIT) <= 0 ? RollupGranularity.MINUTE
+                    : range.compareTo(HOUR_RANGE_LIMIT) <= 0 ? RollupGranularity.HOUR
+                    : RollupGranularity.DAY;
+        }
+        RollupGranularity available = from.isBefore(now.minus(hourRetention)) ? RollupGranularity.DAY
+                : from.isBefore(now.minus(minuteRetention)) ? RollupGranularity.HOUR
+                : RollupGranularity.MINUTE;
+        return granularity.compareTo(available) >= 0 ? granularity : available;
+    }
+
+    private void requeue(Map<BucketKey, PendingBucket> drained) {
+        pendingLock.readLock().lock();
+        try {
+            drained.forEach((key, bucket) -> pending.computeIfAbsent(key, ignored -> new PendingBucket())
+                    .add(bucket.count.sum(), bucket.amount.sum()));
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
+
+    private record BucketKey(LocalDateTime bucketStart, TransactionType transactionType) {
+    }
+
+    private static final class PendingBucket {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder amount = new LongAdder();
+
+        private void add(long transactions, long minorUnits) {
+            count.add(transactions);
+            amount.add(minorUnits);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.port.out.TransactionArchiveCatalogPort;
+import com.geovannycode.domain.port.out.TransactionArchivePort;
+import com.geovannycode.domain.port.out.TransactionPartitionPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+
+@Slf4j
+@Service
+@Profile("!in-memory")
+public class TransactionArchiveService {
+
+    private final TransactionArchivePort transactionArchivePort;
+    private final TransactionArchiveCatalogPort transactionArchiveCatalogPort;
+    private final TransactionPartitionPort transactionPartitionPort;
+    private final int hotDays;
+    private final Counter archivedTransactions;
+
+    public TransactionArchiveService(TransactionArchivePort transactionArchivePort,
+                                     TransactionArchiveCatalogPort transactionArchiveCatalogPort,
+                                     TransactionPartitionPort transactionPartitionPort,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.archive.hot-days:90}") int hotDays) {
+        this.transactionArchivePort = transactionArchivePort;
+        this.transactionArchiveCatalogPort = transactionArchiveCatalogPort;
+        this.transactionPartitionPort = transactionPartitionPort;
+        this.hotDays = hotDays;
+        this.archivedTransactions = meterRegistry.counter("transactions.archived");
+    }
+
+    // Archives whole monthly partitions that ended before the hot window; the current partial month stays hot.
+    public int archive(LocalDate today) {
+        // The partition is dropped for every node, so the only copy must not live on this node's disk.
+        if (!transactionArchivePort.isShared()) {
+            throw new IllegalStateException("Archive storage is node-local; partitions are only archived and dropped"
+                    + " once every node mounts it (app.archive.shared-storage)");
+        }
+        LocalDate cutoff = today.minusDays(hotDays);
+        SortedSet<YearMonth> archived = transactionArchiveCatalogPort.findArchivedMonths();
+        int months = 0;
+        for (YearMonth month : transactionPartitionPort.findPartitions()) {
+            if (month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                break;
+            }
+            if (!archived.contains(month)) {
+                archiveMonth(month);
+                months++;
+            }
+        }
+        return months;
+    }
+
+    private void archiveMonth(YearMonth month) {
+        Map<Long, BigDecimal> netByAccount = new HashMap<>();
+        long streamed;
+        long written;
+        try (TransactionArchivePort.ArchiveWriter writer = transactionArchivePort.openWriter(month)) {
+            streamed = transactionArchiveCatalogPort.streamMonth(month, transaction -> {
+                writer.append(transaction);
+                accumulate(netByAccount, transaction);
+            });
+            written = writer.commit();
+        }
+
+        long verified = transactionArchivePort.countArchived(month);
+        if (streamed != written || written != verified) {
+            throw new IllegalStateException("Archive for " + month + " holds " + verified + " rows but "
+                    + streamed + " were read, the partition is kept");
+        }
+        transactionArchiveCatalogPort.completeArchive(month, written, transactionArchivePort.locationOf(month),
+                netByAccount);
+        archivedTransactions.increment(written);
+        log.info("Archived {} transactions of {} over {} accounts", written, month, netByAccount.size());
+    }
+
+    private static void accumulate(Map<Long, BigDecimal> netByAccount, Transaction transaction) {
+        if (transaction.getSourceAccount() != null) {
+            netByAccount.merge(transaction.getSourceAccount().getId(), transaction.getAmount().negate(), BigDecimal::add);
+        }
+        if (transaction.getDestinationAccount() != null) {
+            netByAccount.merge(transaction.getDestinationAccount().getId(), transaction.getDestinationAmount(),
+                    BigDecimal::add);
+        }
+    }
+}
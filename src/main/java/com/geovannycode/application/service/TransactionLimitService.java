@@ -0,0 +1,250 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.exception.TransactionLimitExceededException;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.LimitUsage;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.model.enums.LimitScope;
+import com.geovannycode.domain.port.out.LimitUsagePort;
+import com.geovannycode.infrastructure.util.DayStampedCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Each node enforces the limits with its own counters, seeded from the shared totals at startup and flushed back to
+// them as deltas. With several nodes an account can go over a daily limit by what other nodes accepted since then.
+@Slf4j
+@Service
+public class TransactionLimitService {
+
+    private final LimitUsagePort limitUsagePort;
+    private final ExchangeRateService exchangeRateService;
+    private final Map<AccountType, Limits> accountLimits = new EnumMap<>(AccountType.class);
+    private final long customerDailyWithdrawal;
+    private final long customerDailyTransferOut;
+
+    private final Map<UsageKey, UsageCounters> counters = new ConcurrentHashMap<>();
+    private final Set<UsageKey> dirty = ConcurrentHashMap.newKeySet();
+    private final Map<DayKey, FlushedUsage> flushed = new ConcurrentHashMap<>();
+    private volatile long retainedFromDay;
+
+    public TransactionLimitService(LimitUsagePort limitUsagePort, ExchangeRateService exchangeRateService,
+                                   @Value("${app.limits.savings.max-per-transaction:10000000}") BigDecimal savingsPerTransaction,
+                                   @Value("${app.limits.savings.daily-withdrawal:5000000}") BigDecimal savingsDailyWithdrawal,
+                                   @Value("${app.limits.savings.daily-transfer-out:20000000}") BigDecimal savingsDailyTransferOut,
+                                   @Value("${app.limits.checking.max-per-transaction:50000000}") BigDecimal checkingPerTransaction,
+                                   @Value("${app.limits.checking.daily-withdrawal:10000000}") BigDecimal checkingDailyWithdrawal,
+                                   @Value("${app.limits.checking.daily-transfer-out:100000000}") BigDecimal checkingDailyTransferOut,
+                                   @Value("${app.limits.customer.daily-withdrawal:15000000}") BigDecimal customerDailyWithdrawal,
+                                   @Value("${app.limits.customer.daily-transfer-out:150000000}") BigDecimal customerDailyTransferOut) {
+        this.limitUsagePort = limitUsagePort;
+        this.exchangeRateService = exchangeRateService;
+        accountLimits.put(AccountType.SAVINGS,
+                new Limits(savingsPerTransaction, toMinorUnits(savingsDailyWithdrawal), toMinorUnits(savingsDailyTransferOut)));
+        accountLimits.put(AccountType.CHECKING,
+                new Limits(checkingPerTransaction, toMinorUnits(checkingDailyWithdrawal), toMinorUnits(checkingDailyTransferOut)));
+        this.customerDailyWithdrawal = toMinorUnits(customerDailyWithdrawal);
+        this.customerDailyTransferOut = toMinorUnits(customerDailyTransferOut);
+    }
+
+    public void checkWithdrawal(Account account, BigDecimal amount) {
+        reserve(account, amount, false, LocalDate.now());
+    }
+
+    public void checkTransfer(Account sourceAccount, BigDecimal amount) {
+        reserve(sourceAccount, amount, true, LocalDate.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreUsage() {
+        LocalDate today = LocalDate.now();
+        List<LimitUsage> usage = limitUsagePort.findByBusinessDate(today);
+        for (LimitUsage row : usage) {
+            UsageKey key = new UsageKey(row.getScope(), row.getOwnerId());
+            UsageCounters usageCounters = countersOf(key);
+            long withdrawn = toMinorUnits(row.getWithdrawn());
+            long transferredOut = toMinorUnits(row.getTransferredOut());
+            usageCounters.withdrawn().restore(today.toEpochDay(), withdrawn);
+            usageCounters.transferredOut().restore(today.toEpochDay(), transferredOut);
+            flushed.put(new DayKey(key, today.toEpochDay()), new FlushedUsage(withdrawn, transferredOut));
+        }
+        log.info("Restored {} limit usage counters for {}", usage.size(), today);
+    }
+
+    public synchronized int flushUsage() {
+        List<UsageKey> keys = new ArrayList<>(dirty);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        dirty.removeAll(keys);
+
+        // A counter keeps the day it rolled over from, so each day a key has usage on is flushed against its own
+        // baseline and a rollover before the flush cannot drop the earlier day's delta.
+        Map<DayKey, FlushedUsage> totals = new HashMap<>();
+        List<LimitUsage> deltas = new ArrayList<>(keys.size());
+        for (UsageKey key : keys) {
+            UsageCounters usageCounters = counters.get(key);
+            for (long day : usageCounters.days()) {
+                if (day < retainedFromDay) {
+                    continue;
+                }
+                DayKey dayKey = new DayKey(key, day);
+                FlushedUsage total = usageCounters.total(day);
+                FlushedUsage base = flushed.getOrDefault(dayKey, FlushedUsage.NONE);
+                if (total.equals(base)) {
+                    continue;
+                }
+                totals.put(dayKey, total);
+                deltas.add(LimitUsage.builder()
+                        .scope(key.scope())
+                        .ownerId(key.ownerId())
+                        .businessDate(LocalDate.ofEpochDay(day))
+                        .withdrawn(MinorUnits.toBigDecimal(total.withdrawn() - base.withdrawn()))
+                        .transferredOut(MinorUnits.toBigDecimal(total.transferredOut() - base.transferredOut()))
+                        .build());
+            }
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        try {
+            limitUsagePort.addUsage(deltas);
+        } catch (RuntimeException e) {
+            dirty.addAll(keys);
+            throw e;
+        }
+        flushed.putAll(totals);
+        return deltas.size();
+    }
+
+    public int purgeBefore(LocalDate businessDate) {
+        long day = businessDate.toEpochDay();
+        retainedFromDay = day;
+        counters.entrySet().removeIf(entry -> entry.getValue().day() < day && !dirty.contains(entry.getKey()));
+        flushed.keySet().removeIf(dayKey -> dayKey.day() < day || !counters.containsKey(dayKey.key()));
+        return limitUsagePort.deleteBefore(businessDate);
+    }
+
+    void reserve(Account account, BigDecimal amount, boolean transfer, LocalDate businessDate) {
+        Limits limits = accountLimits.get(account.getAccountType());
+        if (limits == null || account.getId() == null) {
+            return;
+        }
+        // Limits are configured in the base currency and usage of all of a customer's accounts shares them.
+        amount = exchangeRateService.toBase(amount, account.getCurrency());
+        if (amount.compareTo(limits.maxPerTransaction()) > 0) {
+            throw new TransactionLimitExceededException("Amount exceeds the per-transaction limit of "
+                    + limits.maxPerTransaction() + " for account: " + account.getAccountNumber());
+        }
+
+        long day = businessDate.toEpochDay();
+        long minorUnits = toMinorUnits(amount);
+        String operation = transfer ? "transfer" : "withdrawal";
+
+        UsageKey accountKey = new UsageKey(LimitScope.ACCOUNT, account.getId());
+        DayStampedCounter accountCounter = countersOf(accountKey).of(transfer);
+        long accountLimit = transfer ? limits.dailyTransferOut() : limits.dailyWithdrawal();
+        if (!accountCounter.tryAdd(day, minorUnits, accountLimit)) {
+            throw new TransactionLimitExceededException("Daily " + operation + " limit exceeded for account: "
+                    + account.getAccountNumber());
+        }
+        dirty.add(accountKey);
+
+        Long customerId = account.getCustomer() != null ? account.getCustomer().getId() : null;
+        UsageKey customerKey = customerId != null ? new UsageKey(LimitScope.CUSTOMER, customerId) : null;
+        DayStampedCounter customerCounter = customerKey != null ? countersOf(customerKey).of(transfer) : null;
+        if (customerCounter != null) {
+            long customerLimit = transfer ? customerDailyTransferOut : customerDailyWithdrawal;
+            if (!customerCounter.tryAdd(day, minorUnits, customerLimit)) {
+                accountCounter.subtract(day, minorUnits);
+                throw new TransactionLimitExceededException("Daily " + operation + " limit exceeded for customer: "
+                        + customerId);
+            }
+            dirty.add(customerKey);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        accountCounter.subtract(day, minorUnits);
+                        dirty.add(accountKey);
+                        if (customerCounter != null) {
+                            customerCounter.subtract(day, minorUnits);
+                            dirty.add(customerKey);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    long usage(LimitScope scope, long ownerId, boolean transfer, LocalDate businessDate) {
+        UsageCounters usageCounters = counters.get(new UsageKey(scope, ownerId));
+        return usageCounters != null ? usageCounters.of(transfer).get(businessDate.toEpochDay()) : 0;
+    }
+
+    private UsageCounters countersOf(UsageKey key) {
+        UsageCounters usageCounters = counters.get(key);
+        return usageCounters != null ? usageCounters
+                : counters.computeIfAbsent(key, k -> new UsageCounters(new DayStampedCounter(), new DayStampedCounter()));
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return MinorUnits.of(amount.setScale(MinorUnits.SCALE, RoundingMode.HALF_UP));
+    }
+
+    private record Limits(BigDecimal maxPerTransaction, long dailyWithdrawal, long dailyTransferOut) {
+    }
+
+    private record UsageKey(LimitScope scope, Long ownerId) {
+    }
+
+    private record DayKey(UsageKey key, long day) {
+    }
+
+    private record FlushedUsage(long withdrawn, long transferredOut) {
+
+        static final FlushedUsage NONE = new FlushedUsage(0, 0);
+    }
+
+    private record UsageCounters(DayStampedCounter withdrawn, DayStampedCounter transferredOut) {
+
+        DayStampedCounter of(boolean transfer) {
+            return transfer ? transferredOut : withdrawn;
+        }
+
+        long day() {
+            return Math.max(withdrawn.day(), transferredOut.day());
+        }
+
+        Set<Long> days() {
+            Set<Long> days = new TreeSet<>(List.of(withdrawn.closedDay(), withdrawn.day(),
+                    transferredOut.closedDay(), transferredOut.day()));
+            return days;
+        }
+
+        FlushedUsage total(long day) {
+            return new FlushedUsage(withdrawn.get(day) + withdrawn.getClosed(day),
+                    transferredOut.get(day) + transferredOut.getClosed(day));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.port.out.TransactionPartitionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.SortedSet;
+
+@Slf4j
+@Service
+@Profile("!in-memory")
+public class TransactionPartitionService {
+
+    private final TransactionPartitionPort transactionPartitionPort;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public TransactionPartitionService(TransactionPartitionPort transactionPartitionPort,
+                                       @Value("${app.transactions.partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${app.transactions.partitions.retention-months:0}") int retentionMonths) {
+        this.transactionPartitionPort = transactionPartitionPort;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    public void maintain(YearMonth currentMonth) {
+        SortedSet<YearMonth> existing = transactionPartitionPort.findPartitions();
+
+        // There is no default partition, so an insert into a month without one fails.
+        YearMonth horizon = currentMonth.plusMonths(monthsAhead);
+        for (YearMonth month = currentMonth; !month.isAfter(horizon); month = month.plusMonths(1)) {
+            if (!existing.contains(month)) {
+                transactionPartitionPort.createPartition(month);
+                log.info("Created transactions partition for {}", month);
+            }
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+        for (YearMonth month : existing.headSet(oldestKept)) {
+            transactionPartitionPort.detachPartition(month);
+            log.info("Detached transactions partition for {}", month);
+        }
+    }
+}
@@ -3,32 +3,53 @@ package com.geovannycode.application.service;
 import com.geovannycode.application.dto.CreateTransactionDTO;
 import com.geovannycode.application.dto.TransactionDTO;
 import com.geovannycode.application.mapper.TransactionMapper;
+import com.geovannycode.domain.event.TransactionCompletedEvent;
 import com.geovannycode.domain.exception.InvalidAccountOperationException;
 import com.geovannycode.domain.exception.ResourceNotFoundException;
 import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.CurrencyConversion;
 import com.geovannycode.domain.model.Transaction;
 import com.geovannycode.domain.model.enums.AccountStatus;
 import com.geovannycode.domain.model.enums.TransactionType;
 import com.geovannycode.domain.port.in.TransactionUseCase;
 import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.domain.port.out.TransactionArchivePort;
 import com.geovannycode.domain.port.out.TransactionPort;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionService implements TransactionUseCase {
 
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final TransactionPort transactionPort;
     private final AccountPort accountPort;
     private final TransactionMapper transactionMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FraudVelocityService fraudVelocityService;
+    private final TransactionLimitService transactionLimitService;
+    private final ExchangeRateService exchangeRateService;
+    private final TransactionArchivePort transactionArchivePort;
 
     @Override
     @Transactional
@@ -56,10 +77,13 @@ public class TransactionService implements TransactionUseCase {
     @Transactional
     public TransactionDTO createDeposit(String accountNumber, BigDecimal amount) {
 
-        Account account = accountPort.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Account not found: " + accountNumber));
+        Account account = lockAccounts(accountNumber).get(accountNumber);
+        if (account == null) {
+            throw new ResourceNotFoundException("Account not found: " + accountNumber);
+        }
 
         validateAccountIsActive(account);
+        long minorUnits = toMinorUnits(account, amount);
 
         Transaction transaction = Transaction.builder()
                 .transactionType(TransactionType.DEPOSIT)
@@ -67,10 +91,11 @@ public class TransactionService implements TransactionUseCase {
                 .destinationAccount(account)
                 .build();
 
-        account.updateBalance(amount);
+        account.updateBalance(minorUnits);
         accountPort.saveAccount(account);
 
         Transaction savedTransaction = transactionPort.saveTransaction(transaction);
+        eventPublisher.publishEvent(new TransactionCompletedEvent(savedTransaction));
         return transactionMapper.toDTO(savedTransaction);
     }
 
@@ -78,11 +103,16 @@ public class TransactionService implements TransactionUseCase {
     @Transactional
     public TransactionDTO createWithdrawal(String accountNumber, BigDecimal amount) {
 
-        Account account = accountPort.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Account not found: " + accountNumber));
+        Account account = lockAccounts(accountNumber).get(accountNumber);
+        if (account == null) {
+            throw new ResourceNotFoundException("Account not found: " + accountNumber);
+        }
 
         validateAccountIsActive(account);
-        validateSufficientFunds(account, amount);
+        long minorUnits = toMinorUnits(account, amount);
+        validateSufficientFunds(account, minorUnits);
+        fraudVelocityService.checkWithdrawal(account, amount);
+        transactionLimitService.checkWithdrawal(account, amount);
 
         Transaction transaction = Transaction.builder()
                 .transactionType(TransactionType.WITHDRAWAL)
@@ -90,10 +120,11 @@ public class TransactionService implements TransactionUseCase {
                 .sourceAccount(account)
                 .build();
 
-        account.updateBalance(amount.negate());
+        account.updateBalance(-minorUnits);
         accountPort.saveAccount(account);
 
         Transaction savedTransaction = transactionPort.saveTransaction(transaction);
+        eventPublisher.publishEvent(new TransactionCompletedEvent(savedTransaction));
         return transactionMapper.toDTO(savedTransaction);
     }
 
@@ -101,65 +132,119 @@ public class TransactionService implements TransactionUseCase {
     @Transactional
     public TransactionDTO createTransfer(String sourceAccountNumber, String destinationAccountNumber, BigDecimal amount) {
 
-        Account sourceAccount = accountPort.findByAccountNumber(sourceAccountNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Source account not found: " + sourceAccountNumber));
-
-        Account destinationAccount = accountPort.findByAccountNumber(destinationAccountNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Destination account not found: " + destinationAccountNumber));
+        Map<String, Account> accounts = lockAccounts(sourceAccountNumber, destinationAccountNumber);
+        Account sourceAccount = accounts.get(sourceAccountNumber);
+        if (sourceAccount == null) {
+            throw new ResourceNotFoundException("Source account not found: " + sourceAccountNumber);
+        }
+        Account destinationAccount = accounts.get(destinationAccountNumber);
+        if (destinationAccount == null) {
+            throw new ResourceNotFoundException("Destination account not found: " + destinationAccountNumber);
+        }
 
         validateAccountIsActive(sourceAccount);
         validateAccountIsActive(destinationAccount);
-        validateSufficientFunds(sourceAccount, amount);
+        long minorUnits = toMinorUnits(sourceAccount, amount);
+        validateSufficientFunds(sourceAccount, minorUnits);
+        fraudVelocityService.checkTransfer(sourceAccount, amount);
+        transactionLimitService.checkTransfer(sourceAccount, amount);
 
-        Transaction transaction = Transaction.builder()
+        Transaction.TransactionBuilder builder = Transaction.builder()
                 .transactionType(TransactionType.TRANSFER)
                 .amount(amount)
                 .sourceAccount(sourceAccount)
-                .destinationAccount(destinationAccount)
-                .build();
+                .destinationAccount(destinationAccount);
+
+        long creditedMinorUnits = minorUnits;
+        if (!sourceAccount.getCurrency().equals(destinationAccount.getCurrency())) {
+            CurrencyConversion conversion = exchangeRateService.convert(
+                    amount, sourceAccount.getCurrency(), destinationAccount.getCurrency());
+            creditedMinorUnits = MinorUnits.of(conversion.amount());
+            builder.destinationAmount(conversion.amount())
+                    .exchangeRate(conversion.rate())
+                    .rateVersion(conversion.rateVersion());
+        }
+        Transaction transaction = builder.build();
 
-        sourceAccount.updateBalance(amount.negate());
-        destinationAccount.updateBalance(amount);
+        sourceAccount.updateBalance(-minorUnits);
+        destinationAccount.updateBalance(creditedMinorUnits);
 
         accountPort.saveAccount(sourceAccount);
         accountPort.saveAccount(destinationAccount);
 
         Transaction savedTransaction = transactionPort.saveTransaction(transaction);
+        eventPublisher.publishEvent(new TransactionCompletedEvent(savedTransaction));
         return transactionMapper.toDTO(savedTransaction);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Optional<TransactionDTO> findTransactionById(Long id) {
         return transactionPort.findById(id)
                 .map(transactionMapper::toDTO);
     }
 
     @Override
-    @Transactional
-    public List<TransactionDTO> getTransactionsByAccount(String accountNumber) {
+    @Transactional(readOnly = true)
+    public List<TransactionDTO> getTransactionsByAccount(String accountNumber, LocalDateTime from, LocalDateTime to) {
         Optional<Account> accountOpt = accountPort.findByAccountNumber(accountNumber);
-
         if (accountOpt.isEmpty()) {
             return new ArrayList<>();
         }
 
         Account account = accountOpt.get();
-        List<Transaction> transactions = transactionPort.findByAccountId(account.getId());
+        // Without a range the whole history is returned. No transaction predates its account, so the bounds still
+        // keep the monthly partitions before the account's creation out of the query.
+        LocalDateTime end = to != null ? to : LocalDate.now().plusDays(1).atStartOfDay();
+        LocalDateTime start = from != null ? from : historyStart(account);
+        if (!start.isBefore(end)) {
+            return new ArrayList<>();
+        }
+
+        // Rows of a month that was archived but not yet dropped appear in both sources.
+        Map<Long, Transaction> transactions = new LinkedHashMap<>();
+        transactionPort.findByAccountId(account.getId(), start, end)
+                .forEach(transaction -> transactions.put(transaction.getId(), transaction));
+        transactionArchivePort.findByAccountId(account.getId(), start, end)
+                .forEach(transaction -> transactions.putIfAbsent(transaction.getId(), transaction));
 
-        return transactions.stream()
+        return transactions.values().stream()
+                .sorted(Comparator.comparing(Transaction::getTransactionDate).reversed())
                 .map(transactionMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
-    private void validateAccountIsActive(Account account) {
+    private static LocalDateTime historyStart(Account account) {
+        return account.getCreatedAt() != null ? account.getCreatedAt().toLocalDate().atStartOfDay() : EPOCH;
+    }
+
+    // Balances are written back as absolute values, so every mutation holds the rows it changes until commit. The
+    // locks are taken in id order, as group-commit batches do, so concurrent writers cannot deadlock.
+    private Map<String, Account> lockAccounts(String... accountNumbers) {
+        Set<String> numbers = Arrays.stream(accountNumbers).filter(Objects::nonNull).collect(Collectors.toSet());
+        if (numbers.isEmpty()) {
+            return Map.of();
+        }
+        return accountPort.lockByAccountNumbers(numbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity(), (first, second) -> first));
+    }
+
+    static void validateAccountIsActive(Account account) {
         if (account.getStatus() != AccountStatus.ACTIVE) {
             throw new InvalidAccountOperationException("Account is not active: " + account.getAccountNumber());
         }
     }
 
-    private void validateSufficientFunds(Account account, BigDecimal amount) {
-        if (account.getBalance().compareTo(amount) < 0) {
+    static long toMinorUnits(Account account, BigDecimal amount) {
+        if (!MinorUnits.isExact(amount, account.getCurrency())) {
+            throw new InvalidAccountOperationException(
+                    "Amount " + amount.toPlainString() + " is not a valid " + account.getCurrency() + " amount");
+        }
+        return MinorUnits.of(amount);
+    }
+
+    static void validateSufficientFunds(Account account, long minorUnits) {
+        if (account.getBalanceMinorUnits() < minorUnits) {
             throw new InvalidAccountOperationException("Insufficient funds in account: " + account.getAccountNumber());
         }
     }
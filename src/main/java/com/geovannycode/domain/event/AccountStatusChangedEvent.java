@@ -0,0 +1,7 @@
+package com.geovannycode.domain.event;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.enums.AccountStatus;
+
+public record AccountStatusChangedEvent(Account account, AccountStatus previousStatus) {
+}
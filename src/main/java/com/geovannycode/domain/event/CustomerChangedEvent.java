@@ -0,0 +1,6 @@
+package com.geovannycode.domain.event;
+
+import com.geovannycode.domain.model.Customer;
+
+public record CustomerChangedEvent(Customer customer, boolean deleted) {
+}
@@ -0,0 +1,6 @@
+package com.geovannycode.domain.event;
+
+import com.geovannycode.domain.model.Transaction;
+
+public record TransactionCompletedEvent(Transaction transaction) {
+}
@@ -0,0 +1,7 @@
+package com.geovannycode.domain.exception;
+
+public class FraudSuspectedException extends RuntimeException {
+    public FraudSuspectedException(String message) {
+        super(message);
+    }
+}
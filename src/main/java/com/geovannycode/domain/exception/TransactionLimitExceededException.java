@@ -0,0 +1,7 @@
+package com.geovannycode.domain.exception;
+
+public class TransactionLimitExceededException extends RuntimeException {
+    public TransactionLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,7 @@ package com.geovannycode.domain.model;
 import com.geovannycode.domain.model.enums.AccountStatus;
 import com.geovannycode.domain.model.enums.AccountType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -34,9 +35,10 @@ import java.util.List;
 @EqualsAndHashCode(of = {"id", "accountNumber"})
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
 public class Account {
 
+    public static final String DEFAULT_CURRENCY = "COP";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -52,8 +54,13 @@ public class Account {
     @Column(nullable = false)
     private AccountStatus status;
 
+    // Kept in minor units so the transaction hot path adds longs; the column and the API still see a decimal.
+    @Convert(converter = MinorUnitsConverter.class)
     @Column(nullable = false)
-    private BigDecimal balance;
+    private long balance;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
 
     @Column(name = "gmf_exempt")
     private Boolean gmfExempt;
@@ -64,6 +71,10 @@ public class Account {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Bumped on every update so two changes within the timestamp resolution still produce different ETags.
+    @Column(nullable = false)
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
@@ -76,13 +87,14 @@ public class Account {
 
     @Builder
     public Account(Long id, AccountType accountType, String accountNumber,
-                   AccountStatus status, BigDecimal balance, Boolean gmfExempt,
+                   AccountStatus status, BigDecimal balance, String currency, Boolean gmfExempt,
                    Customer customer) {
         this.id = id;
         this.accountType = accountType;
         this.accountNumber = accountNumber;
         this.status = status;
-        this.balance = balance;
+        this.balance = balance != null ? MinorUnits.of(balance) : 0L;
+        this.currency = currency;
         this.gmfExempt = gmfExempt;
         this.customer = customer;
     }
@@ -91,6 +103,9 @@ public class Account {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (currency == null) {
+            currency = DEFAULT_CURRENCY;
+        }
         if (accountType == AccountType.SAVINGS) {
             status = AccountStatus.ACTIVE;
         }
@@ -99,10 +114,23 @@ public class Account {
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        version++;
+    }
+
+    public String getCurrency() {
+        return currency != null ? currency : DEFAULT_CURRENCY;
+    }
+
+    public BigDecimal getBalance() {
+        return MinorUnits.toBigDecimal(balance);
+    }
+
+    public long getBalanceMinorUnits() {
+        return balance;
     }
 
-    public void updateBalance(BigDecimal amount) {
-        this.balance = this.balance.add(amount);
+    public void updateBalance(long minorUnits) {
+        this.balance = MinorUnits.add(this.balance, minorUnits);
     }
 
     public void setStatus(AccountStatus status) {
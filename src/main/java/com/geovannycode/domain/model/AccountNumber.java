@@ -0,0 +1,37 @@
+package com.geovannycode.domain.model;
+
+public final class AccountNumber {
+
+    public static final int LENGTH = 10;
+    public static final long INVALID = -1L;
+
+    private AccountNumber() {
+    }
+
+    public static long pack(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != LENGTH) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char digit = accountNumber.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return INVALID;
+            }
+            packed = packed * 10 + (digit - '0');
+        }
+        return packed;
+    }
+
+    public static String unpack(long packed) {
+        if (packed < 0 || packed > 9_999_999_999L) {
+            throw new IllegalArgumentException("Not a packed account number: " + packed);
+        }
+        char[] digits = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + packed % 10);
+            packed /= 10;
+        }
+        return new String(digits);
+    }
+}
@@ -0,0 +1,6 @@
+package com.geovannycode.domain.model;
+
+import java.math.BigDecimal;
+
+public record CurrencyConversion(BigDecimal amount, BigDecimal rate, long rateVersion) {
+}
@@ -64,6 +64,9 @@ public class Customer {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(nullable = false)
+    private long version;
+
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, orphanRemoval = false)
     private final List<Account> accounts = new ArrayList<>();
 
@@ -88,6 +91,7 @@ public class Customer {
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        version++;
     }
 
     public void updateInfo(String identificationType, String identificationNumber,
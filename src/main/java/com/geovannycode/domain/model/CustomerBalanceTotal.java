@@ -0,0 +1,6 @@
+package com.geovannycode.domain.model;
+
+import com.geovannycode.domain.model.enums.AccountType;
+
+public record CustomerBalanceTotal(AccountType accountType, String currency, long balanceMinorUnits) {
+}
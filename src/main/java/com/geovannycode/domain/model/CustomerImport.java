@@ -0,0 +1,120 @@
+package com.geovannycode.domain.model;
+
+import com.geovannycode.domain.model.enums.ImportFormat;
+import com.geovannycode.domain.model.enums.ImportStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "customer_imports")
+@Getter
+@ToString
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor
+public class CustomerImport {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_path", nullable = false, length = 500)
+    private String sourcePath;
+
+    @Column(name = "rejects_path", nullable = false, length = 500)
+    private String rejectsPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportStatus status;
+
+    @Column(name = "source_offset", nullable = false)
+    private long sourceOffset;
+
+    @Column(name = "rejects_offset", nullable = false)
+    private long rejectsOffset;
+
+    @Column(name = "lines_read", nullable = false)
+    private long linesRead;
+
+    @Column(nullable = false)
+    private long imported;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public CustomerImport(Long id, String sourcePath, String rejectsPath, ImportFormat format) {
+        this.id = id;
+        this.sourcePath = sourcePath;
+        this.rejectsPath = rejectsPath;
+        this.format = format;
+        this.status = ImportStatus.PENDING;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == ImportStatus.COMPLETED || status == ImportStatus.FAILED;
+    }
+
+    public void start() {
+        status = ImportStatus.RUNNING;
+        lastError = null;
+    }
+
+    public void recordBatch(long sourceOffset, long rejectsOffset, long lines, long imported, long rejected) {
+        this.sourceOffset = sourceOffset;
+        this.rejectsOffset = rejectsOffset;
+        this.linesRead += lines;
+        this.imported += imported;
+        this.rejected += rejected;
+    }
+
+    public void complete() {
+        status = ImportStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        status = ImportStatus.FAILED;
+        lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,86 @@
+package com.geovannycode.domain.model;
+
+import com.geovannycode.domain.model.enums.AccountStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "customer_summaries")
+@Getter
+@ToString
+@EqualsAndHashCode(of = "customerId")
+@NoArgsConstructor
+public class CustomerSummary {
+
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(name = "active_accounts", nullable = false)
+    private long activeAccounts;
+
+    @Column(name = "inactive_accounts", nullable = false)
+    private long inactiveAccounts;
+
+    @Column(name = "cancelled_accounts", nullable = false)
+    private long cancelledAccounts;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "month_inflow", nullable = false)
+    private BigDecimal monthInflow = BigDecimal.ZERO;
+
+    @Column(name = "month_outflow", nullable = false)
+    private BigDecimal monthOutflow = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public CustomerSummary(Long customerId, LocalDate monthStart) {
+        this.customerId = customerId;
+        this.monthStart = monthStart;
+    }
+
+    public long accountsWith(AccountStatus status) {
+        return switch (status) {
+            case ACTIVE -> activeAccounts;
+            case INACTIVE -> inactiveAccounts;
+            case CANCELLED -> cancelledAccounts;
+        };
+    }
+
+    public void addAccounts(AccountStatus status, long delta) {
+        switch (status) {
+            case ACTIVE -> activeAccounts += delta;
+            case INACTIVE -> inactiveAccounts += delta;
+            case CANCELLED -> cancelledAccounts += delta;
+        }
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void addFlows(LocalDate monthStart, BigDecimal inflow, BigDecimal outflow) {
+        if (this.monthStart == null || monthStart.isAfter(this.monthStart)) {
+            this.monthStart = monthStart;
+            this.monthInflow = BigDecimal.ZERO;
+            this.monthOutflow = BigDecimal.ZERO;
+        } else if (monthStart.isBefore(this.monthStart)) {
+            return;
+        }
+        this.monthInflow = this.monthInflow.add(inflow);
+        this.monthOutflow = this.monthOutflow.add(outflow);
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,52 @@
+package com.geovannycode.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public final class ExchangeRateSnapshot {
+
+    public static final int RATE_SCALE = 10;
+
+    private final long version;
+    private final Instant loadedAt;
+    private final Map<String, BigDecimal> rates;
+    private final Map<String, Map<String, BigDecimal>> crossRates;
+
+    public ExchangeRateSnapshot(long version, Instant loadedAt, Map<String, BigDecimal> rates) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.rates = Map.copyOf(rates);
+        Map<String, Map<String, BigDecimal>> cross = new HashMap<>();
+        rates.forEach((from, fromRate) -> {
+            Map<String, BigDecimal> row = new HashMap<>();
+            rates.forEach((to, toRate) -> row.put(to, fromRate.divide(toRate, RATE_SCALE, RoundingMode.HALF_EVEN)));
+            cross.put(from, Map.copyOf(row));
+        });
+        this.crossRates = Map.copyOf(cross);
+    }
+
+    public static ExchangeRateSnapshot empty() {
+        return new ExchangeRateSnapshot(0, Instant.EPOCH, Map.of());
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public Map<String, BigDecimal> rates() {
+        return rates;
+    }
+
+    public Optional<BigDecimal> rate(String fromCurrency, String toCurrency) {
+        Map<String, BigDecimal> row = crossRates.get(fromCurrency);
+        return Optional.ofNullable(row != null ? row.get(toCurrency) : null);
+    }
+}
@@ -0,0 +1,87 @@
+package com.geovannycode.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "interest_accrual_checkpoints",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"business_date", "partition_start"}))
+@Getter
+@ToString
+@EqualsAndHashCode(of = {"businessDate", "partitionStart"})
+@NoArgsConstructor
+public class InterestAccrualCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "partition_start", nullable = false)
+    private Long partitionStart;
+
+    @Column(name = "partition_end", nullable = false)
+    private Long partitionEnd;
+
+    @Column(name = "last_account_id", nullable = false)
+    private Long lastAccountId;
+
+    @Column(name = "accounts_processed", nullable = false)
+    private Long accountsProcessed;
+
+    @Column(name = "interest_posted", nullable = false)
+    private BigDecimal interestPosted;
+
+    @Column(nullable = false)
+    private Boolean completed;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public InterestAccrualCheckpoint(Long id, LocalDate businessDate, Long partitionStart, Long partitionEnd) {
+        this.id = id;
+        this.businessDate = businessDate;
+        this.partitionStart = partitionStart;
+        this.partitionEnd = partitionEnd;
+        this.lastAccountId = partitionStart - 1;
+        this.accountsProcessed = 0L;
+        this.interestPosted = BigDecimal.ZERO;
+        this.completed = false;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(long lastAccountId, int accounts, BigDecimal interest, boolean partitionExhausted) {
+        this.lastAccountId = lastAccountId;
+        this.accountsProcessed += accounts;
+        this.interestPosted = this.interestPosted.add(interest);
+        this.completed = partitionExhausted || lastAccountId >= partitionEnd;
+    }
+
+    public boolean isCompleted() {
+        return Boolean.TRUE.equals(completed);
+    }
+}
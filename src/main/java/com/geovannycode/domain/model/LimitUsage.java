@@ -0,0 +1,60 @@
+package com.geovannycode.domain.model;
+
+import com.geovannycode.domain.model.enums.LimitScope;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "limit_usage",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"scope", "owner_id", "business_date"}))
+@Getter
+@ToString
+@EqualsAndHashCode(of = {"scope", "ownerId", "businessDate"})
+@NoArgsConstructor
+public class LimitUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private LimitScope scope;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(nullable = false)
+    private BigDecimal withdrawn;
+
+    @Column(name = "transferred_out", nullable = false)
+    private BigDecimal transferredOut;
+
+    @Builder
+    public LimitUsage(LimitScope scope, Long ownerId, LocalDate businessDate,
+                      BigDecimal withdrawn, BigDecimal transferredOut) {
+        this.scope = scope;
+        this.ownerId = ownerId;
+        this.businessDate = businessDate;
+        this.withdrawn = withdrawn;
+        this.transferredOut = transferredOut;
+    }
+}
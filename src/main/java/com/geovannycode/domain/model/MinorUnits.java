@@ -0,0 +1,53 @@
+package com.geovannycode.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+    public static final int MAX_INTEGER_DIGITS = 16;
+
+    private MinorUnits() {
+    }
+
+    public static boolean isExact(BigDecimal amount) {
+        return amount != null
+                && amount.scale() <= SCALE
+                && amount.precision() - amount.scale() <= MAX_INTEGER_DIGITS;
+    }
+
+    // Balances are stored with SCALE decimals, so only currencies whose minor unit fits in them are supported.
+    public static int fractionDigits(String currency) {
+        int digits = Currency.getInstance(currency).getDefaultFractionDigits();
+        if (digits < 0 || digits > SCALE) {
+            throw new IllegalArgumentException("Currency " + currency + " has no minor unit within " + SCALE + " decimals");
+        }
+        return digits;
+    }
+
+    public static boolean isExact(BigDecimal amount, String currency) {
+        if (!isExact(amount)) {
+            return false;
+        }
+        int digits = fractionDigits(currency);
+        return amount.scale() <= digits || amount.stripTrailingZeros().scale() <= digits;
+    }
+
+    public static long of(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public static long add(long augend, long addend) {
+        return Math.addExact(augend, addend);
+    }
+
+    public static long subtract(long minuend, long subtrahend) {
+        return Math.subtractExact(minuend, subtrahend);
+    }
+}
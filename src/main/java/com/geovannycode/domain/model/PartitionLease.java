@@ -0,0 +1,41 @@
+package com.geovannycode.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "partition_leases",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"workload", "partition_id"}))
+@Getter
+@ToString
+@EqualsAndHashCode(of = {"workload", "partitionId"})
+@NoArgsConstructor
+public class PartitionLease {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String workload;
+
+    @Column(name = "partition_id", nullable = false)
+    private int partitionId;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private Instant leaseUntil;
+}
@@ -0,0 +1,19 @@
+package com.geovannycode.domain.model;
+
+public record RateLimit(int capacity, double refillPerSecond) {
+
+    public RateLimit {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit needs a positive capacity and refill rate");
+        }
+    }
+
+    public long intervalNanos() {
+        return (long) (1_000_000_000L / refillPerSecond);
+    }
+
+    // How far ahead of now the bucket may be booked before it counts as empty.
+    public long toleranceNanos() {
+        return intervalNanos() * capacity;
+    }
+}
@@ -0,0 +1,59 @@
+package com.geovannycode.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reconciliation_discrepancies")
+@Getter
+@ToString
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor
+public class ReconciliationDiscrepancy {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_balance", nullable = false)
+    private BigDecimal accountBalance;
+
+    @Column(name = "transaction_net", nullable = false)
+    private BigDecimal transactionNet;
+
+    @Column(nullable = false)
+    private BigDecimal difference;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+
+    @Builder
+    public ReconciliationDiscrepancy(Long id, Long accountId, BigDecimal accountBalance, BigDecimal transactionNet) {
+        this.id = id;
+        this.accountId = accountId;
+        this.accountBalance = accountBalance;
+        this.transactionNet = transactionNet;
+        this.difference = accountBalance.subtract(transactionNet);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        detectedAt = LocalDateTime.now();
+    }
+}
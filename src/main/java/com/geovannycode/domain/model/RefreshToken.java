@@ -0,0 +1,90 @@
+package com.geovannycode.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * One refresh token of a login session. Every refresh revokes the presented token and issues the next one in the
+ * same family, so presenting an already revoked token means it was copied and the whole family is revoked. Only a
+ * hash of the token is stored.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Getter
+@ToString(exclude = "tokenHash")
+@EqualsAndHashCode(of = {"id", "tokenHash"})
+@NoArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 100)
+    private String username;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    // The access token issued together with this refresh token, revoked with the family.
+    @Column(name = "access_jti", nullable = false, length = 36)
+    private String accessJti;
+
+    @Column(name = "access_expires_at", nullable = false)
+    private LocalDateTime accessExpiresAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public RefreshToken(Long id, String tokenHash, String username, String familyId, String accessJti,
+                        LocalDateTime accessExpiresAt, LocalDateTime expiresAt) {
+        this.id = id;
+        this.tokenHash = tokenHash;
+        this.username = username;
+        this.familyId = familyId;
+        this.accessJti = accessJti;
+        this.accessExpiresAt = accessExpiresAt;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public void revoke(LocalDateTime now) {
+        if (revokedAt == null) {
+            revokedAt = now;
+        }
+    }
+}
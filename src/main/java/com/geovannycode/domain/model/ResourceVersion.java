@@ -0,0 +1,24 @@
+package com.geovannycode.domain.model;
+
+import java.time.LocalDateTime;
+
+public record ResourceVersion(long version, LocalDateTime updatedAt) {
+
+    // An account representation embeds the customer's name, so the customer's changes count too.
+    public static ResourceVersion of(Account account) {
+        ResourceVersion own = new ResourceVersion(account.getVersion(), account.getUpdatedAt());
+        return account.getCustomer() != null ? own.and(of(account.getCustomer())) : own;
+    }
+
+    public static ResourceVersion of(Customer customer) {
+        return new ResourceVersion(customer.getVersion(), customer.getUpdatedAt());
+    }
+
+    // Versions only grow, so the sum changes whenever either part changes.
+    public ResourceVersion and(ResourceVersion other) {
+        LocalDateTime latest = updatedAt == null || (other.updatedAt != null && other.updatedAt.isAfter(updatedAt))
+                ? other.updatedAt
+                : updatedAt;
+        return new ResourceVersion(version + other.version, latest);
+    }
+}
@@ -0,0 +1,7 @@
+package com.geovannycode.domain.model;
+
+import java.time.LocalDateTime;
+
+// An access token id that must be refused until the token would have expired anyway.
+public record RevokedToken(long id, String jti, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+}
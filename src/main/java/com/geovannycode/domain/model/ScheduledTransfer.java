@@ -0,0 +1,139 @@
+package com.geovannycode.domain.model;
+
+import com.geovannycode.domain.model.enums.ScheduledTransferStatus;
+import com.geovannycode.domain.model.enums.TransferFrequency;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduled_transfers",
+        indexes = @Index(name = "idx_scheduled_transfers_due", columnList = "status, partition_id, next_execution"))
+@Getter
+@ToString
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor
+public class ScheduledTransfer {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_account_number", nullable = false, length = 10)
+    private String sourceAccountNumber;
+
+    @Column(name = "destination_account_number", nullable = false, length = 10)
+    private String destinationAccountNumber;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TransferFrequency frequency;
+
+    @Column(name = "first_execution", nullable = false)
+    private LocalDateTime firstExecution;
+
+    @Column(name = "next_execution", nullable = false)
+    private LocalDateTime nextExecution;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "partition_id", nullable = false)
+    private int partitionId;
+
+    @Column(name = "execution_count", nullable = false)
+    private int executionCount;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ScheduledTransferStatus status;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public ScheduledTransfer(Long id, String sourceAccountNumber, String destinationAccountNumber, BigDecimal amount,
+                             TransferFrequency frequency, LocalDateTime firstExecution, LocalDate endDate,
+                             int partitionId) {
+        this.id = id;
+        this.sourceAccountNumber = sourceAccountNumber;
+        this.destinationAccountNumber = destinationAccountNumber;
+        this.amount = amount;
+        this.frequency = frequency;
+        this.firstExecution = firstExecution;
+        this.nextExecution = firstExecution;
+        this.endDate = endDate;
+        this.partitionId = partitionId;
+        this.status = ScheduledTransferStatus.ACTIVE;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isDueAt(LocalDateTime expectedExecution) {
+        return status == ScheduledTransferStatus.ACTIVE && nextExecution.equals(expectedExecution);
+    }
+
+    public void recordSuccess() {
+        executionCount++;
+        attempts = 0;
+        lastError = null;
+        nextExecution = frequency.occurrence(firstExecution, executionCount);
+        if (endDate != null && nextExecution.toLocalDate().isAfter(endDate)) {
+            status = ScheduledTransferStatus.COMPLETED;
+        }
+    }
+
+    public void recordFailure(String error, LocalDateTime retryAt, int maxAttempts) {
+        attempts++;
+        lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            status = ScheduledTransferStatus.FAILED;
+        } else {
+            nextExecution = retryAt;
+        }
+    }
+
+    public void cancel() {
+        status = ScheduledTransferStatus.CANCELLED;
+    }
+}
@@ -43,6 +43,15 @@ public class Transaction {
     @Column(nullable = false)
     private BigDecimal amount;
 
+    @Column(name = "destination_amount")
+    private BigDecimal destinationAmount;
+
+    @Column(name = "exchange_rate", precision = 20, scale = 10)
+    private BigDecimal exchangeRate;
+
+    @Column(name = "rate_version")
+    private Long rateVersion;
+
     @Column(name = "transaction_date", nullable = false)
     private LocalDateTime transactionDate;
 
@@ -56,17 +65,39 @@ public class Transaction {
 
     @Builder
     public Transaction(Long id, TransactionType transactionType, BigDecimal amount,
-                       Account sourceAccount, Account destinationAccount) {
+                       Account sourceAccount, Account destinationAccount,
+                       BigDecimal destinationAmount, BigDecimal exchangeRate, Long rateVersion,
+                       LocalDateTime transactionDate) {
         this.id = id;
         this.transactionType = transactionType;
         this.amount = amount;
+        this.destinationAmount = destinationAmount;
+        this.exchangeRate = exchangeRate;
+        this.rateVersion = rateVersion;
+        this.transactionDate = transactionDate;
         this.sourceAccount = sourceAccount;
         this.destinationAccount = destinationAccount;
     }
 
     @PrePersist
     protected void onCreate() {
-        transactionDate = LocalDateTime.now();
+        if (transactionDate == null) {
+            transactionDate = LocalDateTime.now();
+        }
+    }
+
+    public BigDecimal getDestinationAmount() {
+        return destinationAmount != null ? destinationAmount : amount;
+    }
+
+    // Currency of amount: the debited account's, or the credited account's when nothing is debited.
+    public String getCurrency() {
+        Account account = sourceAccount != null ? sourceAccount : destinationAccount;
+        return account != null ? account.getCurrency() : Account.DEFAULT_CURRENCY;
+    }
+
+    public String getDestinationCurrency() {
+        return destinationAccount != null ? destinationAccount.getCurrency() : getCurrency();
     }
 
 }
@@ -0,0 +1,62 @@
+package com.geovannycode.domain.model;
+
+import com.geovannycode.domain.model.enums.RollupGranularity;
+import com.geovannycode.domain.model.enums.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "transaction_rollups",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"granularity", "bucket_start", "transaction_type"}))
+@Getter
+@ToString
+@EqualsAndHashCode(of = {"granularity", "bucketStart", "transactionType"})
+@NoArgsConstructor
+public class TransactionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount;
+
+    @Builder
+    public TransactionRollup(RollupGranularity granularity, LocalDateTime bucketStart,
+                             TransactionType transactionType, long transactionCount, BigDecimal totalAmount) {
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.transactionType = transactionType;
+        this.transactionCount = transactionCount;
+        this.totalAmount = totalAmount;
+    }
+}
@@ -0,0 +1,7 @@
+package com.geovannycode.domain.model.enums;
+
+public enum FraudAction {
+    REJECT,
+    FLAG,
+    OFF
+}
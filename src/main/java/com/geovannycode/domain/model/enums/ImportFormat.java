@@ -0,0 +1,6 @@
+package com.geovannycode.domain.model.enums;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,8 @@
+package com.geovannycode.domain.model.enums;
+
+public enum ImportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
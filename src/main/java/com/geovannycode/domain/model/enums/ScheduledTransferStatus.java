@@ -0,0 +1,8 @@
+package com.geovannycode.domain.model.enums;
+
+public enum ScheduledTransferStatus {
+    ACTIVE,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -3,5 +3,6 @@ package com.geovannycode.domain.model.enums;
 public enum TransactionType {
     DEPOSIT,
     WITHDRAWAL,
-    TRANSFER
+    TRANSFER,
+    INTEREST
 }
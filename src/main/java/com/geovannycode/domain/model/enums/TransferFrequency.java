@@ -0,0 +1,17 @@
+package com.geovannycode.domain.model.enums;
+
+import java.time.LocalDateTime;
+
+public enum TransferFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    public LocalDateTime occurrence(LocalDateTime first, int index) {
+        return switch (this) {
+            case DAILY -> first.plusDays(index);
+            case WEEKLY -> first.plusWeeks(index);
+            case MONTHLY -> first.plusMonths(index);
+        };
+    }
+}
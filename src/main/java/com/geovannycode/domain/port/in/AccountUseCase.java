@@ -1,6 +1,7 @@
 package com.geovannycode.domain.port.in;
 
 import com.geovannycode.application.dto.AccountDTO;
+import com.geovannycode.domain.model.ResourceVersion;
 import com.geovannycode.domain.model.enums.AccountStatus;
 
 import java.util.List;
@@ -13,4 +14,6 @@ public interface AccountUseCase {
     Optional<AccountDTO> findAccountById(Long id);
     Optional<AccountDTO> findAccountByNumber(String accountNumber);
     List<AccountDTO> getAccountsByCustomerId(Long customerId);
+    Optional<ResourceVersion> findAccountVersionById(Long id);
+    Optional<ResourceVersion> findAccountVersionByNumber(String accountNumber);
 }
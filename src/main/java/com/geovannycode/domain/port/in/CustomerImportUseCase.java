@@ -0,0 +1,11 @@
+package com.geovannycode.domain.port.in;
+
+import com.geovannycode.application.dto.CreateCustomerImportDTO;
+import com.geovannycode.application.dto.CustomerImportDTO;
+
+import java.util.Optional;
+
+public interface CustomerImportUseCase {
+    CustomerImportDTO createImport(CreateCustomerImportDTO customerImportDTO);
+    Optional<CustomerImportDTO> findImportById(Long id);
+}
@@ -0,0 +1,8 @@
+package com.geovannycode.domain.port.in;
+
+import com.geovannycode.application.dto.CustomerSearchResultDTO;
+
+public interface CustomerSearchUseCase {
+
+    CustomerSearchResultDTO searchCustomers(String query, int page, int size);
+}
@@ -0,0 +1,10 @@
+package com.geovannycode.domain.port.in;
+
+import com.geovannycode.application.dto.CustomerSummaryDTO;
+
+import java.util.Optional;
+
+public interface CustomerSummaryUseCase {
+
+    Optional<CustomerSummaryDTO> getCustomerSummary(Long customerId);
+}
@@ -1,6 +1,7 @@
 package com.geovannycode.domain.port.in;
 
 import com.geovannycode.application.dto.CustomerDTO;
+import com.geovannycode.domain.model.ResourceVersion;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +17,6 @@ public interface CustomerUseCase {
     Optional<CustomerDTO> findCustomerById(Long id);
 
     List<CustomerDTO> listCustomers();
+
+    Optional<ResourceVersion> findCustomerVersionById(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.geovannycode.domain.port.in;
+
+import com.geovannycode.application.dto.CreateScheduledTransferDTO;
+import com.geovannycode.application.dto.ScheduledTransferDTO;
+
+import java.util.Optional;
+
+public interface ScheduledTransferUseCase {
+    ScheduledTransferDTO createScheduledTransfer(CreateScheduledTransferDTO scheduledTransferDTO);
+    Optional<ScheduledTransferDTO> findScheduledTransferById(Long id);
+    void cancelScheduledTransfer(Long id);
+}
@@ -0,0 +1,11 @@
+package com.geovannycode.domain.port.in;
+
+import com.geovannycode.application.dto.TransactionVolumeDTO;
+import com.geovannycode.domain.model.enums.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TransactionAnalyticsUseCase {
+    List<TransactionVolumeDTO> getTransactionVolume(LocalDateTime from, LocalDateTime to, RollupGranularity granularity);
+}
@@ -5,6 +5,7 @@ import com.geovannycode.application.dto.TransactionDTO;
 import com.geovannycode.domain.model.Transaction;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +15,5 @@ public interface TransactionUseCase {
     TransactionDTO createWithdrawal(String accountNumber, BigDecimal amount);
     TransactionDTO createTransfer(String sourceAccountNumber, String destinationAccountNumber, BigDecimal amount);
     Optional<TransactionDTO> findTransactionById(Long id);
-    List<TransactionDTO> getTransactionsByAccount(String accountNumber);
+    List<TransactionDTO> getTransactionsByAccount(String accountNumber, LocalDateTime from, LocalDateTime to);
 }
@@ -2,14 +2,21 @@ package com.geovannycode.domain.port.out;
 
 
 import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.ResourceVersion;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AccountPort {
 
     Account saveAccount(Account account);
+    List<Account> saveAccounts(List<Account> accounts);
     Optional<Account> findById(Long id);
     Optional<Account> findByAccountNumber(String accountNumber);
+    List<Account> findByAccountNumbers(Collection<String> accountNumbers);
+    List<Account> lockByAccountNumbers(Collection<String> accountNumbers);
     List<Account> findByCustomerId(Long customerId);
+    Optional<ResourceVersion> findVersionById(Long id);
+    Optional<ResourceVersion> findVersionByAccountNumber(String accountNumber);
 }
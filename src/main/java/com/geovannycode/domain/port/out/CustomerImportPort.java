@@ -0,0 +1,20 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.CustomerImport;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface CustomerImportPort {
+
+    CustomerImport save(CustomerImport customerImport);
+    Optional<CustomerImport> findById(Long id);
+    Optional<CustomerImport> lockById(Long id);
+    Optional<CustomerImport> findNextUnfinished();
+    Set<String> findExistingEmails(Collection<String> emails);
+    Set<String> findExistingIdentificationNumbers(Collection<String> identificationNumbers);
+    boolean[] insertCustomers(List<Customer> customers);
+}
@@ -1,6 +1,7 @@
 package com.geovannycode.domain.port.out;
 
 import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.ResourceVersion;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +15,5 @@ public interface CustomerPort {
     boolean customerHasAccounts(Long id);
     boolean existsByEmail(String email);
     Optional<Customer> findByIdentificationNumber(String identificationNumber);
+    Optional<ResourceVersion> findVersionById(Long id);
 }
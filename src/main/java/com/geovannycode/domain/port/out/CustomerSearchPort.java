@@ -0,0 +1,10 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.Customer;
+
+import java.util.List;
+
+public interface CustomerSearchPort {
+
+    List<Customer> search(String query, int offset, int limit);
+}
@@ -0,0 +1,19 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.CustomerBalanceTotal;
+import com.geovannycode.domain.model.CustomerSummary;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface CustomerSummaryPort {
+    Optional<CustomerSummary> findByCustomerId(Long customerId);
+    List<CustomerBalanceTotal> findBalanceTotals(Long customerId);
+    void recordMovement(Long customerId, AccountType accountType, String currency, long balanceDeltaMinorUnits,
+                        LocalDate monthStart, BigDecimal inflow, BigDecimal outflow);
+    void recordAccountStatus(Long customerId, AccountStatus previousStatus, AccountStatus newStatus);
+}
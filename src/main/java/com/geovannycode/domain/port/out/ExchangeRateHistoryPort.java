@@ -0,0 +1,14 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.ExchangeRateSnapshot;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ExchangeRateHistoryPort {
+    ExchangeRateSnapshot save(Instant loadedAt, Map<String, BigDecimal> rates);
+    Optional<ExchangeRateSnapshot> findLatest();
+    Optional<ExchangeRateSnapshot> findByVersion(long version);
+}
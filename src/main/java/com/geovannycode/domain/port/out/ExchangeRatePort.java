@@ -0,0 +1,9 @@
+package com.geovannycode.domain.port.out;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public interface ExchangeRatePort {
+
+    Map<String, BigDecimal> loadRates();
+}
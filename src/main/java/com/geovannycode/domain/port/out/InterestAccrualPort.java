@@ -0,0 +1,19 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.InterestAccrualCheckpoint;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface InterestAccrualPort {
+    long findMaxSavingsAccountId();
+    List<Account> lockSavingsAccountsForAccrual(long afterAccountId, long lastAccountId, int limit);
+    Map<Long, Long> findNetMovementsSince(long afterAccountId, long lastAccountId, LocalDateTime since);
+    List<InterestAccrualCheckpoint> findCheckpoints(LocalDate businessDate);
+    List<LocalDate> findIncompleteBusinessDates();
+    List<InterestAccrualCheckpoint> saveCheckpoints(List<InterestAccrualCheckpoint> checkpoints);
+    InterestAccrualCheckpoint saveCheckpoint(InterestAccrualCheckpoint checkpoint);
+}
@@ -0,0 +1,13 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.LimitUsage;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LimitUsagePort {
+    List<LimitUsage> findByBusinessDate(LocalDate businessDate);
+    // Adds each row's amounts to the stored totals, so several nodes can flush into the same day.
+    void addUsage(List<LimitUsage> deltas);
+    int deleteBefore(LocalDate businessDate);
+}
@@ -0,0 +1,15 @@
+package com.geovannycode.domain.port.out;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+public interface PartitionLeasePort {
+    void recordHeartbeat(String nodeId, Duration ttl);
+    int countLiveNodes(Duration ttl);
+    void ensurePartitions(String workload, int partitionCount);
+    Set<Integer> renew(String workload, String nodeId, Duration ttl);
+    Set<Integer> acquire(String workload, String nodeId, int maxPartitions, Duration ttl);
+    void release(String workload, String nodeId, Collection<Integer> partitions);
+    void releaseAll(String nodeId);
+}
@@ -0,0 +1,11 @@
+package com.geovannycode.domain.port.out;
+
+import java.util.Set;
+
+public interface PartitionOwnershipPort {
+    Set<Integer> ownedPartitions(String workload, int partitionCount);
+
+    default boolean isLeader(String workload) {
+        return ownedPartitions(workload, 1).contains(0);
+    }
+}
@@ -0,0 +1,11 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.RateLimit;
+
+public interface RateLimitPort {
+
+    // Takes one token from the bucket; returns 0 when granted, otherwise the nanoseconds until one is available.
+    long tryAcquire(String key, RateLimit limit);
+
+    void release(String key, RateLimit limit);
+}
@@ -0,0 +1,27 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.ReconciliationDiscrepancy;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReconciliationPort {
+
+    long streamTransactionMovements(MovementConsumer consumer);
+    long findMaxAccountId();
+    long countAccounts();
+    void forEachAccountBalance(long afterAccountId, long lastAccountId, BalanceConsumer consumer);
+    Optional<ReconciliationDiscrepancy> verifyAccount(long accountId);
+    void saveDiscrepancies(List<ReconciliationDiscrepancy> discrepancies);
+
+    @FunctionalInterface
+    interface MovementConsumer {
+        void accept(long sourceAccountId, long destinationAccountId, long amountMinorUnits,
+                    long destinationAmountMinorUnits);
+    }
+
+    @FunctionalInterface
+    interface BalanceConsumer {
+        void accept(long accountId, long balanceMinorUnits);
+    }
+}
@@ -0,0 +1,17 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+public interface RefreshTokenPort {
+
+    RefreshToken save(RefreshToken refreshToken);
+    // Runs the action while the token is locked, so concurrent uses of one refresh token take turns.
+    <T> T withTokenLocked(String tokenHash, Function<Optional<RefreshToken>, T> action);
+    List<RefreshToken> findByFamilyId(String familyId);
+    int purgeExpired(LocalDateTime now);
+}
@@ -0,0 +1,15 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.ScheduledTransfer;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScheduledTransferPort {
+    ScheduledTransfer save(ScheduledTransfer scheduledTransfer);
+    Optional<ScheduledTransfer> findById(Long id);
+    Optional<ScheduledTransfer> lockById(Long id);
+    List<ScheduledTransfer> findDue(Collection<Integer> partitions, LocalDateTime until, int limit);
+}
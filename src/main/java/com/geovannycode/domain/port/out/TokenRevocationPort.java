@@ -0,0 +1,14 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.RevokedToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationPort {
+
+    void revoke(String jti, LocalDateTime expiresAt);
+    // Revocations ordered by (revokedAt, id) and strictly after that pair, so callers can page through them.
+    List<RevokedToken> findRevokedSince(LocalDateTime revokedAt, long afterId, int limit);
+    int purgeExpired(LocalDateTime now);
+}
@@ -0,0 +1,16 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.function.Consumer;
+
+public interface TransactionArchiveCatalogPort {
+    SortedSet<YearMonth> findArchivedMonths();
+    Map<YearMonth, String> findArchiveLocations();
+    long streamMonth(YearMonth month, Consumer<Transaction> consumer);
+    void completeArchive(YearMonth month, long rowCount, String location, Map<Long, BigDecimal> netByAccount);
+}
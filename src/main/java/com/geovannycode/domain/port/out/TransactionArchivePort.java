@@ -0,0 +1,24 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface TransactionArchivePort {
+    ArchiveWriter openWriter(YearMonth month);
+    long countArchived(YearMonth month);
+    boolean isShared();
+    String locationOf(YearMonth month);
+    List<Transaction> findByAccountId(Long accountId, LocalDateTime from, LocalDateTime to);
+
+    interface ArchiveWriter extends AutoCloseable {
+        void append(Transaction transaction);
+
+        long commit();
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,10 @@
+package com.geovannycode.domain.port.out;
+
+import java.time.YearMonth;
+import java.util.SortedSet;
+
+public interface TransactionPartitionPort {
+    SortedSet<YearMonth> findPartitions();
+    void createPartition(YearMonth month);
+    void detachPartition(YearMonth month);
+}
@@ -2,11 +2,13 @@ package com.geovannycode.domain.port.out;
 
 import com.geovannycode.domain.model.Transaction;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface TransactionPort {
     Transaction saveTransaction(Transaction transaction);
+    List<Transaction> saveTransactions(List<Transaction> transactions);
     Optional<Transaction> findById(Long id);
-    List<Transaction> findByAccountId(Long accountId);
+    List<Transaction> findByAccountId(Long accountId, LocalDateTime from, LocalDateTime to);
 }
@@ -0,0 +1,14 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.TransactionRollup;
+import com.geovannycode.domain.model.enums.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TransactionRollupPort {
+    void addToBuckets(List<TransactionRollup> deltas);
+    List<TransactionRollup> findBuckets(Collection<RollupGranularity> granularities, LocalDateTime from, LocalDateTime to);
+    int compact(RollupGranularity source, RollupGranularity target, LocalDateTime before);
+}
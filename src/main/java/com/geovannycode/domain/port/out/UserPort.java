@@ -0,0 +1,13 @@
+package com.geovannycode.domain.port.out;
+
+import com.geovannycode.domain.model.AppUser;
+
+import java.util.Optional;
+
+public interface UserPort {
+
+    AppUser save(AppUser user);
+    Optional<AppUser> findByUsername(String username);
+    boolean existsByUsername(String username);
+    long count();
+}
@@ -0,0 +1,19 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.AccountEventBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Runs on every node: keeps idle streams open through proxies and surfaces clients that disconnected silently.
+@Component
+@RequiredArgsConstructor
+public class AccountStreamHeartbeatJob {
+
+    private final AccountEventBus accountEventBus;
+
+    @Scheduled(fixedDelayString = "${app.streams.heartbeat-interval:15s}")
+    public void heartbeat() {
+        accountEventBus.heartbeat();
+    }
+}
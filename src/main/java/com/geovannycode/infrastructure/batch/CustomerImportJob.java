@@ -0,0 +1,37 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.CustomerImportService;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class CustomerImportJob {
+
+    private static final String WORKLOAD = "customer-import";
+
+    private final CustomerImportService customerImportService;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+
+    @Scheduled(fixedDelayString = "${app.customer-import.poll-interval:10s}")
+    public void importPending() {
+        if (!partitionOwnershipPort.isLeader(WORKLOAD)) {
+            return;
+        }
+        try {
+            while (customerImportService.runNext()) {
+                if (!partitionOwnershipPort.isLeader(WORKLOAD)) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Customer import failed, it will resume from its last committed batch", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.CustomerSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.customer-search.prefix-index.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CustomerSearchIndexJob {
+
+    private final CustomerSearchService customerSearchService;
+
+    @Scheduled(fixedDelayString = "${app.customer-search.prefix-index.rebuild-interval:1h}",
+            initialDelayString = "${app.customer-search.prefix-index.rebuild-interval:1h}")
+    public void rebuild() {
+        try {
+            customerSearchService.rebuildPrefixIndex();
+        } catch (RuntimeException e) {
+            log.error("Customer prefix index rebuild failed, keeping the current index", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.ExchangeRateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateRefreshJob {
+
+    private final ExchangeRateService exchangeRateService;
+
+    @Scheduled(fixedDelayString = "${app.fx.refresh-interval:5m}", initialDelayString = "${app.fx.refresh-interval:5m}")
+    public void refresh() {
+        try {
+            exchangeRateService.refresh();
+        } catch (RuntimeException e) {
+            log.error("Exchange rate refresh failed, keeping the current rates", e);
+        }
+    }
+}
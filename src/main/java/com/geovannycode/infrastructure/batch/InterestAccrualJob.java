@@ -0,0 +1,48 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.InterestAccrualService;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "app.interest.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InterestAccrualJob {
+
+    private static final String WORKLOAD = "interest-accrual";
+
+    private final InterestAccrualService interestAccrualService;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+
+    @Scheduled(cron = "${app.interest.cron:0 30 0 * * *}")
+    public void accrueInterest() {
+        if (!partitionOwnershipPort.isLeader(WORKLOAD)) {
+            return;
+        }
+        LocalDate businessDate = LocalDate.now().minusDays(1);
+        for (LocalDate pending : interestAccrualService.findIncompleteBusinessDates()) {
+            if (pending.isBefore(businessDate)) {
+                run(pending);
+            }
+        }
+        run(businessDate);
+    }
+
+    private void run(LocalDate businessDate) {
+        try {
+            interestAccrualService.accrue(businessDate);
+        } catch (RuntimeException e) {
+            log.error("Interest accrual for {} failed, it will resume from its checkpoint on the next run",
+                    businessDate, e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.TransactionLimitService;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+public class LimitUsageFlushJob {
+
+    private static final String PURGE_WORKLOAD = "limit-usage-purge";
+
+    private final TransactionLimitService transactionLimitService;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+    private final int retentionDays;
+
+    public LimitUsageFlushJob(TransactionLimitService transactionLimitService,
+                              PartitionOwnershipPort partitionOwnershipPort,
+                              @Value("${app.limits.retention-days:7}") int retentionDays) {
+        this.transactionLimitService = transactionLimitService;
+        this.partitionOwnershipPort = partitionOwnershipPort;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${app.limits.flush-interval:1s}")
+    public void flush() {
+        try {
+            transactionLimitService.flushUsage();
+        } catch (RuntimeException e) {
+            log.warn("Limit usage flush failed, counters will be retried", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.limits.purge-cron:0 15 0 * * *}")
+    public void purge() {
+        if (!partitionOwnershipPort.isLeader(PURGE_WORKLOAD)) {
+            return;
+        }
+        try {
+            int purged = transactionLimitService.purgeBefore(LocalDate.now().minusDays(retentionDays));
+            log.info("Purged {} limit usage rows older than {} days", purged, retentionDays);
+        } catch (RuntimeException e) {
+            log.error("Limit usage purge failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,36 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import com.geovannycode.infrastructure.persistence.adapter.JdbcRateLimitAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "app.rate-limit.mode", havingValue = "shared")
+@RequiredArgsConstructor
+public class RateLimitCleanupJob {
+
+    private static final String WORKLOAD = "rate-limit-cleanup";
+
+    private final JdbcRateLimitAdapter jdbcRateLimitAdapter;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.purge-interval:5m}")
+    public void purge() {
+        if (!partitionOwnershipPort.isLeader(WORKLOAD)) {
+            return;
+        }
+        try {
+            int purged = jdbcRateLimitAdapter.purgeIdle();
+            log.debug("Purged {} idle rate limit buckets", purged);
+        } catch (RuntimeException e) {
+            log.error("Rate limit bucket purge failed", e);
+        }
+    }
+}
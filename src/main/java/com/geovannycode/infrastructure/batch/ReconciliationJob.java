@@ -0,0 +1,35 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.ReconciliationService;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "app.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ReconciliationJob {
+
+    private static final String WORKLOAD = "reconciliation";
+
+    private final ReconciliationService reconciliationService;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+
+    @Scheduled(cron = "${app.reconciliation.cron:0 0 2 * * *}")
+    public void reconcile() {
+        if (!partitionOwnershipPort.isLeader(WORKLOAD)) {
+            return;
+        }
+        try {
+            reconciliationService.reconcile();
+        } catch (RuntimeException e) {
+            log.error("End-of-day reconciliation failed", e);
+        }
+    }
+}
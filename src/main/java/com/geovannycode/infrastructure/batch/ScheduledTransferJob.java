@@ -0,0 +1,39 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.ScheduledTransferService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.scheduled-transfers.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ScheduledTransferJob {
+
+    private final ScheduledTransferService scheduledTransferService;
+
+    @Scheduled(fixedDelayString = "${app.scheduled-transfers.refill-interval:30s}")
+    public void refill() {
+        try {
+            scheduledTransferService.refill(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Loading due scheduled transfers failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.scheduled-transfers.poll-interval:1s}")
+    public void dispatch() {
+        try {
+            while (scheduledTransferService.dispatch(LocalDateTime.now()) > 0) {
+                // keep draining until nothing else is due
+            }
+        } catch (RuntimeException e) {
+            log.error("Dispatching scheduled transfers failed", e);
+        }
+    }
+}
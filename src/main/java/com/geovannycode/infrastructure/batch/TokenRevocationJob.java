@@ -0,0 +1,50 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import com.geovannycode.domain.port.out.RefreshTokenPort;
+import com.geovannycode.domain.port.out.TokenRevocationPort;
+import com.geovannycode.infrastructure.secutiry.RevokedTokenRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationJob {
+
+    private static final String PURGE_WORKLOAD = "token-purge";
+
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final TokenRevocationPort tokenRevocationPort;
+    private final RefreshTokenPort refreshTokenPort;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+
+    // Runs on every node: each keeps its own copy of the revoked ids.
+    @Scheduled(fixedDelayString = "${app.security.revocation.refresh-interval:1s}")
+    public void refresh() {
+        try {
+            revokedTokenRegistry.refresh(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Revoked token refresh failed, retrying on the next run", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.security.revocation.purge-cron:0 20 * * * *}")
+    public void purge() {
+        if (!partitionOwnershipPort.isLeader(PURGE_WORKLOAD)) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int revoked = tokenRevocationPort.purgeExpired(now);
+            int refresh = refreshTokenPort.purgeExpired(now);
+            log.info("Purged {} expired revocations and {} expired refresh tokens", revoked, refresh);
+        } catch (RuntimeException e) {
+            log.error("Token purge failed", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.TransactionArchiveService;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TransactionArchiveJob {
+
+    private static final String WORKLOAD = "transaction-archive";
+
+    private final TransactionArchiveService transactionArchiveService;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}")
+    public void archive() {
+        if (!partitionOwnershipPort.isLeader(WORKLOAD)) {
+            return;
+        }
+        try {
+            transactionArchiveService.archive(LocalDate.now());
+        } catch (RuntimeException e) {
+            log.error("Transaction archival failed, the affected month stays in the database", e);
+        }
+    }
+}
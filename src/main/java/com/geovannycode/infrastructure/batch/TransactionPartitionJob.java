@@ -0,0 +1,35 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.TransactionPartitionService;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Slf4j
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class TransactionPartitionJob {
+
+    private static final String WORKLOAD = "transaction-partitions";
+
+    private final TransactionPartitionService transactionPartitionService;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+
+    @Scheduled(cron = "${app.transactions.partitions.cron:0 45 0 * * *}")
+    public void maintainPartitions() {
+        if (!partitionOwnershipPort.isLeader(WORKLOAD)) {
+            return;
+        }
+        try {
+            transactionPartitionService.maintain(YearMonth.now());
+        } catch (RuntimeException e) {
+            log.error("Transactions partition maintenance failed, it will be retried on the next run", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.geovannycode.infrastructure.batch;
+
+import com.geovannycode.application.service.TransactionAnalyticsService;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionRollupJob {
+
+    private static final String COMPACTION_WORKLOAD = "rollup-compaction";
+
+    private final TransactionAnalyticsService transactionAnalyticsService;
+    private final PartitionOwnershipPort partitionOwnershipPort;
+
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval:1s}")
+    public void flush() {
+        try {
+            transactionAnalyticsService.flushPendingBuckets();
+        } catch (RuntimeException e) {
+            log.warn("Transaction rollup flush failed, buckets will be retried", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.analytics.compaction-cron:0 5 * * * *}")
+    public void compact() {
+        if (!partitionOwnershipPort.isLeader(COMPACTION_WORKLOAD)) {
+            return;
+        }
+        try {
+            transactionAnalyticsService.compact(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Transaction rollup compaction failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
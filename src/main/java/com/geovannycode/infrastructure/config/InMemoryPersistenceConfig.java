@@ -0,0 +1,66 @@
+package com.geovannycode.infrastructure.config;
+
+import com.geovannycode.infrastructure.persistence.memory.InMemoryAccountAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryChangeLog;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryCustomerAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryTransactionAdapter;
+import com.geovannycode.infrastructure.persistence.memory.journal.InMemoryJournal;
+import com.geovannycode.infrastructure.persistence.memory.journal.InMemorySnapshotManager;
+import com.geovannycode.infrastructure.persistence.memory.journal.JournalTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+@Profile("in-memory")
+public class InMemoryPersistenceConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.memory.journal.enabled", havingValue = "false", matchIfMissing = true)
+    public InMemoryChangeLog inMemoryChangeLog() {
+        return InMemoryChangeLog.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.memory.journal.enabled", havingValue = "false", matchIfMissing = true)
+    public TransactionOperations inMemoryTransactionOperations() {
+        return TransactionOperations.withoutTransaction();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "app.memory.journal.enabled", havingValue = "true")
+    static class JournalConfig {
+
+        @Bean(destroyMethod = "close")
+        public InMemoryJournal inMemoryJournal(
+                @Value("${app.memory.journal.directory:data/journal}") Path directory,
+                @Value("${app.memory.journal.segment-size:64MB}") DataSize segmentSize,
+                @Value("${app.memory.journal.flush-interval:5ms}") Duration flushInterval) {
+            return new InMemoryJournal(directory, Math.toIntExact(segmentSize.toBytes()), flushInterval);
+        }
+
+        @Bean
+        public PlatformTransactionManager transactionManager(InMemoryJournal inMemoryJournal) {
+            return new JournalTransactionManager(inMemoryJournal);
+        }
+
+        @Bean(initMethod = "recover", destroyMethod = "close")
+        public InMemorySnapshotManager inMemorySnapshotManager(
+                InMemoryJournal inMemoryJournal,
+                InMemoryCustomerAdapter customerAdapter,
+                InMemoryAccountAdapter accountAdapter,
+                InMemoryTransactionAdapter transactionAdapter,
+                @Value("${app.memory.snapshot.interval:5m}") Duration snapshotInterval) {
+            return new InMemorySnapshotManager(inMemoryJournal, customerAdapter, accountAdapter,
+                    transactionAdapter, snapshotInterval);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.geovannycode.infrastructure.config;
+
+import com.geovannycode.application.service.RateLimitService;
+import com.geovannycode.domain.model.RateLimit;
+import com.geovannycode.domain.port.out.RateLimitPort;
+import com.geovannycode.infrastructure.rest.RateLimitInterceptor;
+import com.geovannycode.infrastructure.rest.TransactionRateLimitAdvice;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true")
+@EnableConfigurationProperties(RateLimitConfig.RateLimitProperties.class)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitService rateLimitService;
+
+    public RateLimitConfig(RateLimitPort rateLimitPort, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimitService = new RateLimitService(rateLimitPort, properties.user(), properties.route(),
+                properties.routes() != null ? properties.routes() : Map.of(), properties.account(), meterRegistry);
+    }
+
+    @Bean
+    public RateLimitService rateLimitService() {
+        return rateLimitService;
+    }
+
+    @Bean
+    public TransactionRateLimitAdvice transactionRateLimitAdvice() {
+        return new TransactionRateLimitAdvice(rateLimitService);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService)).addPathPatterns("/api/**");
+    }
+
+    // Route keys are "METHOD pattern", e.g. "POST /api/transactions"; routes without an entry use the route default.
+    @ConfigurationProperties("app.rate-limit")
+    public record RateLimitProperties(RateLimit user, RateLimit route, RateLimit account, Map<String, RateLimit> routes) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.geovannycode.infrastructure.config;
+
+import com.geovannycode.application.mapper.TransactionMapper;
+import com.geovannycode.application.service.FraudVelocityService;
+import com.geovannycode.application.service.GroupCommitTransactionService;
+import com.geovannycode.application.service.LaneTransactionService;
+import com.geovannycode.application.service.TransactionLimitService;
+import com.geovannycode.application.service.TransactionService;
+import com.geovannycode.domain.port.in.TransactionUseCase;
+import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.domain.port.out.TransactionPort;
+import com.geovannycode.infrastructure.engine.AccountLaneExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class TransactionEngineConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "app.transactions.engine", havingValue = "lanes")
+    static class LaneEngineConfig {
+
+        @Bean(destroyMethod = "close")
+        public AccountLaneExecutor accountLaneExecutor(@Value("${app.transactions.lanes.count:8}") int laneCount) {
+            return new AccountLaneExecutor(laneCount);
+        }
+
+        @Bean
+        @Primary
+        public TransactionUseCase laneTransactionUseCase(TransactionService transactionService,
+                                                         AccountLaneExecutor accountLaneExecutor) {
+            return new LaneTransactionService(transactionService, accountLaneExecutor);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "app.transactions.engine", havingValue = "group-commit")
+    static class GroupCommitEngineConfig {
+
+        @Bean(destroyMethod = "close")
+        @Primary
+        public GroupCommitTransactionService groupCommitTransactionUseCase(
+                TransactionService transactionService,
+                AccountPort accountPort,
+                TransactionPort transactionPort,
+                TransactionMapper transactionMapper,
+                TransactionTemplate transactionTemplate,
+                ApplicationEventPublisher eventPublisher,
+                FraudVelocityService fraudVelocityService,
+                TransactionLimitService transactionLimitService,
+                @Value("${app.transactions.group-commit.window:2ms}") Duration window,
+                @Value("${app.transactions.group-commit.max-batch-size:256}") int maxBatchSize) {
+            return new GroupCommitTransactionService(transactionService, accountPort, transactionPort,
+                    transactionMapper, transactionTemplate, eventPublisher, fraudVelocityService, transactionLimitService,
+                    window, maxBatchSize);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.geovannycode.infrastructure.engine;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class AccountLaneExecutor implements AutoCloseable {
+
+    private final ExecutorService[] lanes;
+
+    public AccountLaneExecutor(int laneCount) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("Lane count must be at least 1");
+        }
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("account-lane-" + i).factory());
+        }
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    public int laneOf(String accountNumber) {
+        if (accountNumber == null) {
+            return 0;
+        }
+        return Math.floorMod(accountNumber.hashCode(), lanes.length);
+    }
+
+    public <T> T execute(String accountNumber, Supplier<T> task) {
+        return await(lanes[laneOf(accountNumber)].submit(task::get));
+    }
+
+    /**
+     * Runs a task that touches two accounts. When both accounts live on the same lane the task simply runs there;
+     * otherwise the lower lane is parked first (phase one) and the task is handed off to the higher lane (phase two),
+     * so neither lane can accept another operation on those accounts until the task completes. Lanes are always
+     * acquired in ascending order, which rules out cycles between concurrent two-lane tasks.
+     */
+    public <T> T execute(String firstAccountNumber, String secondAccountNumber, Supplier<T> task) {
+        int first = laneOf(firstAccountNumber);
+        int second = laneOf(secondAccountNumber);
+        if (first == second) {
+            return await(lanes[first].submit(task::get));
+        }
+
+        ExecutorService lower = lanes[Math.min(first, second)];
+        ExecutorService higher = lanes[Math.max(first, second)];
+        return await(lower.submit(() -> await(higher.submit(task::get))));
+    }
+
+    @Override
+    public void close() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            try {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                lane.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for account lane", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
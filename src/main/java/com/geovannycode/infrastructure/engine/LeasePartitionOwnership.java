@@ -0,0 +1,153 @@
+package com.geovannycode.infrastructure.engine;
+
+import com.geovannycode.domain.port.out.PartitionLeasePort;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@Primary
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "app.leases.enabled", havingValue = "true", matchIfMissing = true)
+public class LeasePartitionOwnership implements PartitionOwnershipPort, AutoCloseable {
+
+    private final PartitionLeasePort partitionLeasePort;
+    private final String nodeId;
+    private final Duration ttl;
+    private final Duration renewInterval;
+    private final Map<String, WorkloadLeases> workloads = new ConcurrentHashMap<>();
+    private ScheduledExecutorService heartbeat;
+
+    public LeasePartitionOwnership(PartitionLeasePort partitionLeasePort,
+                                   @Value("${app.leases.node-id:}") String nodeId,
+                                   @Value("${app.leases.ttl:30s}") Duration ttl,
+                                   @Value("${app.leases.renew-interval:10s}") Duration renewInterval) {
+        if (!renewInterval.isZero() && renewInterval.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("Lease renew interval must be shorter than its ttl");
+        }
+        this.partitionLeasePort = partitionLeasePort;
+        this.nodeId = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        this.ttl = ttl;
+        this.renewInterval = renewInterval;
+        if (!renewInterval.isZero()) {
+            heartbeat = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("lease-heartbeat").daemon().factory());
+            long interval = renewInterval.toMillis();
+            heartbeat.scheduleWithFixedDelay(this::scheduledHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Set<Integer> ownedPartitions(String workload, int partitionCount) {
+        WorkloadLeases leases = workloads.computeIfAbsent(workload, key -> {
+            WorkloadLeases registered = new WorkloadLeases(partitionCount);
+            try {
+                partitionLeasePort.ensurePartitions(key, partitionCount);
+                partitionLeasePort.recordHeartbeat(nodeId, ttl);
+                rebalance(key, registered, Math.max(1, partitionLeasePort.countLiveNodes(ttl)));
+            } catch (RuntimeException e) {
+                log.warn("Could not acquire leases for {}, retrying on the next heartbeat", key, e);
+            }
+            return registered;
+        });
+        if (leases.partitionCount != partitionCount) {
+            throw new IllegalArgumentException("Workload " + workload + " is registered with "
+                    + leases.partitionCount + " partitions, not " + partitionCount);
+        }
+        return leases.current();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void heartbeat() {
+        partitionLeasePort.recordHeartbeat(nodeId, ttl);
+        int liveNodes = Math.max(1, partitionLeasePort.countLiveNodes(ttl));
+        workloads.forEach((workload, leases) -> rebalance(workload, leases, liveNodes));
+    }
+
+    @Override
+    public void close() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        workloads.values().forEach(WorkloadLeases::revoke);
+        try {
+            partitionLeasePort.releaseAll(nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Could not release leases of {}, they will expire in {}", nodeId, ttl, e);
+        }
+    }
+
+    private void scheduledHeartbeat() {
+        try {
+            heartbeat();
+        } catch (RuntimeException e) {
+            log.error("Lease heartbeat failed", e);
+        }
+    }
+
+    private void rebalance(String workload, WorkloadLeases leases, int liveNodes) {
+        synchronized (leases) {
+            long started = System.nanoTime();
+            int target = Math.ceilDiv(leases.partitionCount, liveNodes);
+            TreeSet<Integer> owned = new TreeSet<>(partitionLeasePort.renew(workload, nodeId, ttl));
+
+            if (owned.size() > target) {
+                List<Integer> surplus = owned.descendingSet().stream().limit(owned.size() - target).toList();
+                partitionLeasePort.release(workload, nodeId, surplus);
+                surplus.forEach(owned::remove);
+            } else if (owned.size() < target) {
+                owned.addAll(partitionLeasePort.acquire(workload, nodeId, target - owned.size(), ttl));
+            }
+
+            // Stop trusting the leases one renew interval before they actually expire in the database.
+            Duration validity = renewInterval.isZero() ? ttl : ttl.minus(renewInterval);
+            leases.update(Set.copyOf(owned), started + validity.toNanos());
+            if (!owned.equals(leases.lastLogged)) {
+                log.info("Node {} owns partitions {} of {} ({} live nodes)", nodeId, owned, workload, liveNodes);
+                leases.lastLogged = Set.copyOf(owned);
+            }
+        }
+    }
+
+    private static final class WorkloadLeases {
+        private final int partitionCount;
+        private volatile Set<Integer> owned = Set.of();
+        private volatile long validUntilNanos = System.nanoTime();
+        private Set<Integer> lastLogged = Set.of();
+
+        private WorkloadLeases(int partitionCount) {
+            this.partitionCount = partitionCount;
+        }
+
+        private void update(Set<Integer> owned, long validUntilNanos) {
+            this.owned = owned;
+            this.validUntilNanos = validUntilNanos;
+        }
+
+        private void revoke() {
+            owned = Set.of();
+        }
+
+        private Set<Integer> current() {
+            return System.nanoTime() - validUntilNanos < 0 ? owned : Set.of();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.geovannycode.infrastructure.engine;
+
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Component
+public class LocalPartitionOwnership implements PartitionOwnershipPort {
+
+    @Override
+    public Set<Integer> ownedPartitions(String workload, int partitionCount) {
+        return IntStream.range(0, partitionCount).boxed().collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -1,9 +1,18 @@
 package com.geovannycode.infrastructure.persistence;
 
 import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.ResourceVersion;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +20,39 @@ import java.util.Optional;
 public interface AccountRepository extends JpaRepository<Account, Long> {
     List<Account> findByCustomerId(Long customerId);
     Optional<Account> findByAccountNumber(String accountNumber);
+    List<Account> findByAccountNumberIn(Collection<String> accountNumbers);
+
+    // Locks in id order so overlapping batches cannot deadlock.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.accountNumber in :accountNumbers order by a.id")
+    List<Account> lockByAccountNumberIn(Collection<String> accountNumbers);
+
+    @Query("select coalesce(max(a.id), 0) from Account a where a.accountType = :accountType")
+    long findMaxIdByAccountType(AccountType accountType);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.accountType = :accountType and a.status = :status"
+            + " and a.id > :afterId and a.id <= :lastId order by a.id")
+    List<Account> lockByAccountTypeAndStatusInIdRange(AccountType accountType, AccountStatus status,
+                                                      long afterId, long lastId, Limit limit);
+
+    @Query("select a.version as version, a.updatedAt as updatedAt, c.version as customerVersion,"
+            + " c.updatedAt as customerUpdatedAt from Account a join a.customer c where a.id = :id")
+    Optional<AccountVersionView> findVersionById(Long id);
+
+    @Query("select a.version as version, a.updatedAt as updatedAt, c.version as customerVersion,"
+            + " c.updatedAt as customerUpdatedAt from Account a join a.customer c where a.accountNumber = :accountNumber")
+    Optional<AccountVersionView> findVersionByAccountNumber(String accountNumber);
+
+    interface AccountVersionView {
+        long getVersion();
+        LocalDateTime getUpdatedAt();
+        long getCustomerVersion();
+        LocalDateTime getCustomerUpdatedAt();
+
+        default ResourceVersion toResourceVersion() {
+            return new ResourceVersion(getVersion(), getUpdatedAt())
+                    .and(new ResourceVersion(getCustomerVersion(), getCustomerUpdatedAt()));
+        }
+    }
 }
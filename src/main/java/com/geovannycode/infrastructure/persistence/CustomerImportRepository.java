@@ -0,0 +1,22 @@
+package com.geovannycode.infrastructure.persistence;
+
+import com.geovannycode.domain.model.CustomerImport;
+import com.geovannycode.domain.model.enums.ImportStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface CustomerImportRepository extends JpaRepository<CustomerImport, Long> {
+
+    Optional<CustomerImport> findFirstByStatusInOrderById(Collection<ImportStatus> statuses);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CustomerImport c where c.id = :id")
+    Optional<CustomerImport> lockById(Long id);
+}
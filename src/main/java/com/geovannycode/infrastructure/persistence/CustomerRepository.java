@@ -1,7 +1,9 @@
 package com.geovannycode.infrastructure.persistence;
 
 import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +12,7 @@ import java.util.Optional;
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByIdentificationNumber(String identificationNumber);
     boolean existsByEmail(String email);
+
+    @Query("select new com.geovannycode.domain.model.ResourceVersion(c.version, c.updatedAt) from Customer c where c.id = :id")
+    Optional<ResourceVersion> findVersionById(Long id);
 }
@@ -0,0 +1,17 @@
+package com.geovannycode.infrastructure.persistence;
+
+import com.geovannycode.domain.model.InterestAccrualCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface InterestAccrualCheckpointRepository extends JpaRepository<InterestAccrualCheckpoint, Long> {
+    List<InterestAccrualCheckpoint> findByBusinessDateOrderByPartitionStart(LocalDate businessDate);
+
+    @Query("select distinct c.businessDate from InterestAccrualCheckpoint c where c.completed = false order by c.businessDate")
+    List<LocalDate> findIncompleteBusinessDates();
+}
@@ -0,0 +1,19 @@
+package com.geovannycode.infrastructure.persistence;
+
+import com.geovannycode.domain.model.LimitUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface LimitUsageRepository extends JpaRepository<LimitUsage, Long> {
+    List<LimitUsage> findByBusinessDate(LocalDate businessDate);
+
+    @Modifying
+    @Query("delete from LimitUsage u where u.businessDate < :businessDate")
+    int deleteByBusinessDateBefore(LocalDate businessDate);
+}
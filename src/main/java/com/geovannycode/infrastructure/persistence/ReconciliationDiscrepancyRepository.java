@@ -0,0 +1,9 @@
+package com.geovannycode.infrastructure.persistence;
+
+import com.geovannycode.domain.model.ReconciliationDiscrepancy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReconciliationDiscrepancyRepository extends JpaRepository<ReconciliationDiscrepancy, Long> {
+}
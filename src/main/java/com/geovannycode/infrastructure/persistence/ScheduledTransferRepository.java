@@ -0,0 +1,28 @@
+package com.geovannycode.infrastructure.persistence;
+
+import com.geovannycode.domain.model.ScheduledTransfer;
+import com.geovannycode.domain.model.enums.ScheduledTransferStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransfer, Long> {
+
+    @Query("select s from ScheduledTransfer s where s.status = :status and s.partitionId in :partitions"
+            + " and s.nextExecution < :until order by s.nextExecution")
+    List<ScheduledTransfer> findDue(ScheduledTransferStatus status, Collection<Integer> partitions,
+                                    LocalDateTime until, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ScheduledTransfer s where s.id = :id")
+    Optional<ScheduledTransfer> lockById(Long id);
+}
@@ -4,10 +4,13 @@ import com.geovannycode.domain.model.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    List<Transaction> findBySourceAccountId(Long accountId);
-    List<Transaction> findByDestinationAccountId(Long accountId);
+    List<Transaction> findBySourceAccountIdAndTransactionDateGreaterThanEqualAndTransactionDateLessThan(
+            Long accountId, LocalDateTime from, LocalDateTime to);
+    List<Transaction> findByDestinationAccountIdAndTransactionDateGreaterThanEqualAndTransactionDateLessThan(
+            Long accountId, LocalDateTime from, LocalDateTime to);
 }
@@ -0,0 +1,16 @@
+package com.geovannycode.infrastructure.persistence;
+
+import com.geovannycode.domain.model.TransactionRollup;
+import com.geovannycode.domain.model.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TransactionRollupRepository extends JpaRepository<TransactionRollup, Long> {
+    List<TransactionRollup> findByGranularityInAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+            Collection<RollupGranularity> granularities, LocalDateTime from, LocalDateTime to);
+}
@@ -1,15 +1,19 @@
 package com.geovannycode.infrastructure.persistence.adapter;
 
 import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.ResourceVersion;
 import com.geovannycode.domain.port.out.AccountPort;
 import com.geovannycode.infrastructure.persistence.AccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!in-memory")
 @RequiredArgsConstructor
 public class AccountAdapter implements AccountPort {
 
@@ -20,6 +24,11 @@ public class AccountAdapter implements AccountPort {
         return accountRepository.save(account);
     }
 
+    @Override
+    public List<Account> saveAccounts(List<Account> accounts) {
+        return accountRepository.saveAll(accounts);
+    }
+
     @Override
     public Optional<Account> findById(Long id) {
         return accountRepository.findById(id);
@@ -30,8 +39,29 @@ public class AccountAdapter implements AccountPort {
         return accountRepository.findByAccountNumber(accountNumber);
     }
 
+    @Override
+    public List<Account> findByAccountNumbers(Collection<String> accountNumbers) {
+        return accountRepository.findByAccountNumberIn(accountNumbers);
+    }
+
+    @Override
+    public List<Account> lockByAccountNumbers(Collection<String> accountNumbers) {
+        return accountRepository.lockByAccountNumberIn(accountNumbers);
+    }
+
     @Override
     public List<Account> findByCustomerId(Long customerId) {
         return accountRepository.findByCustomerId(customerId);
     }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return accountRepository.findVersionById(id).map(AccountRepository.AccountVersionView::toResourceVersion);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionByAccountNumber(String accountNumber) {
+        return accountRepository.findVersionByAccountNumber(accountNumber)
+                .map(AccountRepository.AccountVersionView::toResourceVersion);
+    }
 }
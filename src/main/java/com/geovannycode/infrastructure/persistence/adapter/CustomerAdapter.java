@@ -1,16 +1,19 @@
 package com.geovannycode.infrastructure.persistence.adapter;
 
 import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.ResourceVersion;
 import com.geovannycode.domain.port.out.CustomerPort;
 import com.geovannycode.infrastructure.persistence.AccountRepository;
 import com.geovannycode.infrastructure.persistence.CustomerRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!in-memory")
 @RequiredArgsConstructor
 public class CustomerAdapter implements CustomerPort {
 
@@ -51,4 +54,9 @@ public class CustomerAdapter implements CustomerPort {
     public Optional<Customer> findByIdentificationNumber(String identificationNumber) {
         return customerRepository.findByIdentificationNumber(identificationNumber);
     }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return customerRepository.findVersionById(id);
+    }
 }
@@ -0,0 +1,103 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.CustomerImport;
+import com.geovannycode.domain.model.enums.ImportStatus;
+import com.geovannycode.domain.port.out.CustomerImportPort;
+import com.geovannycode.infrastructure.persistence.CustomerImportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class CustomerImportAdapter implements CustomerImportPort {
+
+    private static final String EXISTING_EMAILS = "select email from customers where email = any(?)";
+    private static final String EXISTING_IDENTIFICATION_NUMBERS =
+            "select identification_number from customers where identification_number = any(?)";
+    private static final String INSERT_CUSTOMER = """
+            insert into customers (identification_type, identification_number, first_name, last_name, email,
+                                   birth_date, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, now(), now())
+            on conflict do nothing
+            """;
+
+    private final CustomerImportRepository customerImportRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public CustomerImport save(CustomerImport customerImport) {
+        return customerImportRepository.save(customerImport);
+    }
+
+    @Override
+    public Optional<CustomerImport> findById(Long id) {
+        return customerImportRepository.findById(id);
+    }
+
+    @Override
+    public Optional<CustomerImport> lockById(Long id) {
+        return customerImportRepository.lockById(id);
+    }
+
+    @Override
+    public Optional<CustomerImport> findNextUnfinished() {
+        return customerImportRepository.findFirstByStatusInOrderById(List.of(ImportStatus.PENDING, ImportStatus.RUNNING));
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return findExisting(EXISTING_EMAILS, emails);
+    }
+
+    @Override
+    public Set<String> findExistingIdentificationNumbers(Collection<String> identificationNumbers) {
+        return findExisting(EXISTING_IDENTIFICATION_NUMBERS, identificationNumbers);
+    }
+
+    @Override
+    public boolean[] insertCustomers(List<Customer> customers) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_CUSTOMER, customers, customers.size(), (statement, customer) -> {
+            statement.setString(1, customer.getIdentificationType());
+            statement.setString(2, customer.getIdentificationNumber());
+            statement.setString(3, customer.getFirstName());
+            statement.setString(4, customer.getLastName());
+            statement.setString(5, customer.getEmail());
+            statement.setDate(6, Date.valueOf(customer.getBirthDate()));
+        });
+        boolean[] inserted = new boolean[customers.size()];
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted[index++] = count != 0;
+            }
+        }
+        return inserted;
+    }
+
+    private Set<String> findExisting(String sql, Collection<String> values) {
+        Set<String> existing = new HashSet<>();
+        if (values.isEmpty()) {
+            return existing;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("varchar", values.toArray()));
+            return statement;
+        }, resultSet -> {
+            existing.add(resultSet.getString(1));
+        });
+        return existing;
+    }
+}
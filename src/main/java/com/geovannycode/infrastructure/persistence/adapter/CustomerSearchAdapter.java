@@ -0,0 +1,46 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.port.out.CustomerSearchPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class CustomerSearchAdapter implements CustomerSearchPort {
+
+    // Must match the idx_customers_search_trgm expression exactly for the planner to use it.
+    private static final String SEARCH_TEXT =
+            "lower(first_name || ' ' || last_name || ' ' || email || ' ' || identification_number)";
+    private static final String SEARCH = """
+            select id, identification_type, identification_number, first_name, last_name, email, birth_date
+            from customers
+            where %1$s like ? escape '\\'
+            order by identification_number = ? desc, lower(email) = ? desc, word_similarity(?, %1$s) desc, id
+            limit ? offset ?
+            """.formatted(SEARCH_TEXT);
+    private static final RowMapper<Customer> CUSTOMER_ROW = (resultSet, row) -> Customer.builder()
+            .id(resultSet.getLong("id"))
+            .identificationType(resultSet.getString("identification_type"))
+            .identificationNumber(resultSet.getString("identification_number"))
+            .firstName(resultSet.getString("first_name"))
+            .lastName(resultSet.getString("last_name"))
+            .email(resultSet.getString("email"))
+            .birthDate(resultSet.getObject("birth_date", LocalDate.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Customer> search(String query, int offset, int limit) {
+        String pattern = "%" + query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return jdbcTemplate.query(SEARCH, CUSTOMER_ROW, pattern, query, query, query, limit, offset);
+    }
+}
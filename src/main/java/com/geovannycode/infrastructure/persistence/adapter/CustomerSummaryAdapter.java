@@ -0,0 +1,147 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.CustomerBalanceTotal;
+import com.geovannycode.domain.model.CustomerSummary;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.port.out.CustomerSummaryPort;
+import com.geovannycode.infrastructure.persistence.CustomerSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class CustomerSummaryAdapter implements CustomerSummaryPort {
+
+    private static final String UPSERT = """
+            insert into customer_summaries (customer_id, active_accounts, inactive_accounts, cancelled_accounts,
+                                            month_start, month_inflow, month_outflow, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, now())
+            on conflict (customer_id) do update set
+                active_accounts = customer_summaries.active_accounts + excluded.active_accounts,
+                inactive_accounts = customer_summaries.inactive_accounts + excluded.inactive_accounts,
+                cancelled_accounts = customer_summaries.cancelled_accounts + excluded.cancelled_accounts,
+                month_inflow = case
+                    when excluded.month_start > customer_summaries.month_start then excluded.month_inflow
+                    when excluded.month_start = customer_summaries.month_start
+                        then customer_summaries.month_inflow + excluded.month_inflow
+                    else customer_summaries.month_inflow end,
+                month_outflow = case
+                    when excluded.month_start > customer_summaries.month_start then excluded.month_outflow
+                    when excluded.month_start = customer_summaries.month_start
+                        then customer_summaries.month_outflow + excluded.month_outflow
+                    else customer_summaries.month_outflow end,
+                month_start = greatest(customer_summaries.month_start, excluded.month_start),
+                updated_at = excluded.updated_at
+            """;
+
+    private static final String UPSERT_BALANCE = """
+            insert into customer_balance_totals (customer_id, account_type, currency, balance_minor_units)
+            values (?, ?, ?, ?)
+            on conflict (customer_id, account_type, currency) do update set
+                balance_minor_units = customer_balance_totals.balance_minor_units + excluded.balance_minor_units
+            """;
+
+    private static final String FIND_BALANCES = """
+            select account_type, currency, balance_minor_units from customer_balance_totals where customer_id = ?
+            """;
+
+    private static final String CLEAR_BALANCES = """
+            delete from customer_balance_totals t
+            where not exists (select 1 from customer_summaries s where s.customer_id = t.customer_id and s.backfilled)
+            """;
+
+    private static final String BACKFILL_BALANCES = """
+            insert into customer_balance_totals (customer_id, account_type, currency, balance_minor_units)
+            select a.customer_id, a.account_type, a.currency, sum(cast(a.balance * 100 as bigint))
+            from accounts a
+            where not exists (select 1 from customer_summaries s where s.customer_id = a.customer_id and s.backfilled)
+            group by a.customer_id, a.account_type, a.currency
+            """;
+
+    private static final String BACKFILL = """
+            insert into customer_summaries (customer_id, active_accounts, inactive_accounts, cancelled_accounts,
+                                            month_start, month_inflow, month_outflow, backfilled, updated_at)
+            select a.customer_id,
+                   count(*) filter (where a.status = 'ACTIVE'),
+                   count(*) filter (where a.status = 'INACTIVE'),
+                   count(*) filter (where a.status = 'CANCELLED'),
+                   cast(date_trunc('month', current_date) as date),
+                   0, 0, true, now()
+            from accounts a
+            where not exists (select 1 from customer_summaries s where s.customer_id = a.customer_id and s.backfilled)
+            group by a.customer_id
+            on conflict (customer_id) do update set
+                active_accounts = excluded.active_accounts,
+                inactive_accounts = excluded.inactive_accounts,
+                cancelled_accounts = excluded.cancelled_accounts,
+                backfilled = true,
+                updated_at = excluded.updated_at
+            """;
+
+    private final CustomerSummaryRepository customerSummaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<CustomerSummary> findByCustomerId(Long customerId) {
+        return customerSummaryRepository.findById(customerId);
+    }
+
+    @Override
+    public List<CustomerBalanceTotal> findBalanceTotals(Long customerId) {
+        return jdbcTemplate.query(FIND_BALANCES, (rs, rowNum) -> new CustomerBalanceTotal(
+                AccountType.valueOf(rs.getString("account_type")), rs.getString("currency"),
+                rs.getLong("balance_minor_units")), customerId);
+    }
+
+    // The summary row goes first: the backfill locks that table before the totals, so both take the same order.
+    @Override
+    public void recordMovement(Long customerId, AccountType accountType, String currency, long balanceDeltaMinorUnits,
+                               LocalDate monthStart, BigDecimal inflow, BigDecimal outflow) {
+        jdbcTemplate.update(UPSERT, customerId, 0, 0, 0, Date.valueOf(monthStart), inflow, outflow);
+        jdbcTemplate.update(UPSERT_BALANCE, customerId, accountType.name(), currency, balanceDeltaMinorUnits);
+    }
+
+    @Override
+    public void recordAccountStatus(Long customerId, AccountStatus previousStatus, AccountStatus newStatus) {
+        jdbcTemplate.update(UPSERT, customerId,
+                countDelta(AccountStatus.ACTIVE, previousStatus, newStatus),
+                countDelta(AccountStatus.INACTIVE, previousStatus, newStatus),
+                countDelta(AccountStatus.CANCELLED, previousStatus, newStatus),
+                Date.valueOf(LocalDate.now().withDayOfMonth(1)), BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    // Movements are recorded in the transaction that changes the accounts, so holding the table lock while reading
+    // the accounts keeps every committed movement either inside the recomputed row or queued behind it.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillMissingSummaries() {
+        jdbcTemplate.execute("lock table customer_summaries in share row exclusive mode");
+        jdbcTemplate.execute("lock table customer_balance_totals in share row exclusive mode");
+        // Totals are replaced before the summaries are flagged as backfilled, which is what selects them.
+        jdbcTemplate.update(CLEAR_BALANCES);
+        jdbcTemplate.update(BACKFILL_BALANCES);
+        int backfilled = jdbcTemplate.update(BACKFILL);
+        if (backfilled > 0) {
+            log.info("Backfilled {} customer summaries from existing accounts", backfilled);
+        }
+    }
+
+    private static int countDelta(AccountStatus status, AccountStatus previousStatus, AccountStatus newStatus) {
+        return (status == newStatus ? 1 : 0) - (status == previousStatus ? 1 : 0);
+    }
+}
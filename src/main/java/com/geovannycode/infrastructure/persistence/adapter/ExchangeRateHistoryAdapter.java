@@ -0,0 +1,62 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.ExchangeRateSnapshot;
+import com.geovannycode.domain.port.out.ExchangeRateHistoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class ExchangeRateHistoryAdapter implements ExchangeRateHistoryPort {
+
+    private static final String INSERT_SNAPSHOT =
+            "insert into fx_rate_snapshots (loaded_at) values (?) returning version";
+    private static final String INSERT_RATE = "insert into fx_rates (version, currency, rate) values (?, ?, ?)";
+    private static final String FIND_LATEST_VERSION = "select max(version) from fx_rate_snapshots";
+    private static final String FIND_LOADED_AT = "select loaded_at from fx_rate_snapshots where version = ?";
+    private static final String FIND_RATES = "select currency, rate from fx_rates where version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public ExchangeRateSnapshot save(Instant loadedAt, Map<String, BigDecimal> rates) {
+        Long version = jdbcTemplate.queryForObject(INSERT_SNAPSHOT, Long.class, Timestamp.from(loadedAt));
+        List<Object[]> rows = rates.entrySet().stream()
+                .map(rate -> new Object[]{version, rate.getKey(), rate.getValue()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_RATE, rows);
+        return new ExchangeRateSnapshot(version, loadedAt, rates);
+    }
+
+    @Override
+    public Optional<ExchangeRateSnapshot> findLatest() {
+        Long version = jdbcTemplate.queryForObject(FIND_LATEST_VERSION, Long.class);
+        return version != null ? findByVersion(version) : Optional.empty();
+    }
+
+    @Override
+    public Optional<ExchangeRateSnapshot> findByVersion(long version) {
+        List<Timestamp> loadedAt = jdbcTemplate.queryForList(FIND_LOADED_AT, Timestamp.class, version);
+        if (loadedAt.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, BigDecimal> rates = new HashMap<>();
+        jdbcTemplate.query(FIND_RATES, resultSet -> {
+            rates.put(resultSet.getString("currency"), resultSet.getBigDecimal("rate"));
+        }, version);
+        return Optional.of(new ExchangeRateSnapshot(version, loadedAt.get(0).toInstant(), rates));
+    }
+}
@@ -0,0 +1,55 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.port.out.ExchangeRatePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class FileExchangeRateAdapter implements ExchangeRatePort {
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+
+    public FileExchangeRateAdapter(ResourceLoader resourceLoader,
+                                   @Value("${app.fx.rates-location:classpath:fx-rates.csv}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+    }
+
+    @Override
+    public Map<String, BigDecimal> loadRates() {
+        Resource resource = resourceLoader.getResource(location);
+        Map<String, BigDecimal> rates = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length != 2) {
+                    throw new IllegalStateException("Malformed exchange rate at " + location + ":" + lineNumber);
+                }
+                rates.put(fields[0].strip().toUpperCase(), new BigDecimal(fields[1].strip()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read exchange rates from " + location, e);
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,147 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.port.out.TransactionArchiveCatalogPort;
+import com.geovannycode.domain.port.out.TransactionArchivePort;
+import com.geovannycode.infrastructure.persistence.archive.TransactionArchiveReader;
+import com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Not bound to a profile: archived history stays readable even when the application runs without a database.
+// Partitions are dropped for the whole cluster once a month is catalogued, so the directory must be storage every node
+// mounts at the same path (app.archive.shared-storage); a catalogued month whose file is missing is an error.
+@Component
+public class FileTransactionArchiveAdapter implements TransactionArchivePort {
+
+    private static final DateTimeFormatter FILE_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final Path directory;
+    private final int rowGroupSize;
+    private final boolean sharedStorage;
+    private final Supplier<TransactionArchiveCatalogPort> catalog;
+
+    @Autowired
+    public FileTransactionArchiveAdapter(@Value("${app.archive.directory:archive}") Path directory,
+                                         @Value("${app.archive.row-group-size:8192}") int rowGroupSize,
+                                         @Value("${app.archive.shared-storage:false}") boolean sharedStorage,
+                                         ObjectProvider<TransactionArchiveCatalogPort> catalog) {
+        this(directory, rowGroupSize, sharedStorage, catalog::getIfAvailable);
+    }
+
+    public FileTransactionArchiveAdapter(Path directory, int rowGroupSize) {
+        this(directory, rowGroupSize, false, () -> null);
+    }
+
+    FileTransactionArchiveAdapter(Path directory, int rowGroupSize, boolean sharedStorage,
+                                  Supplier<TransactionArchiveCatalogPort> catalog) {
+        this.directory = directory;
+        this.rowGroupSize = rowGroupSize;
+        this.sharedStorage = sharedStorage;
+        this.catalog = catalog;
+    }
+
+    @Override
+    public boolean isShared() {
+        return sharedStorage;
+    }
+
+    @Override
+    public String locationOf(YearMonth month) {
+        return file(month).toAbsolutePath().toString();
+    }
+
+    @Override
+    public ArchiveWriter openWriter(YearMonth month) {
+        try {
+            Files.createDirectories(directory);
+            TransactionArchiveWriter writer = new TransactionArchiveWriter(file(month), rowGroupSize);
+            return new ArchiveWriter() {
+                @Override
+                public void append(Transaction transaction) {
+                    writer.append(transaction);
+                }
+
+                @Override
+                public long commit() {
+                    try {
+                        return writer.commit();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Cannot commit archive for " + month, e);
+                    }
+                }
+
+                @Override
+                public void close() {
+                    try {
+                        writer.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Cannot close archive for " + month, e);
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create archive for " + month, e);
+        }
+    }
+
+    @Override
+    public long countArchived(YearMonth month) {
+        Path file = file(month);
+        if (!Files.exists(file)) {
+            return -1;
+        }
+        try (TransactionArchiveReader reader = new TransactionArchiveReader(file)) {
+            return reader.rowCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read archive " + file, e);
+        }
+    }
+
+    @Override
+    public List<Transaction> findByAccountId(Long accountId, LocalDateTime from, LocalDateTime to) {
+        List<Transaction> transactions = new ArrayList<>();
+        Map<YearMonth, String> catalogued = cataloguedLocations();
+        YearMonth last = YearMonth.from(to.minusNanos(1));
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(last); month = month.plusMonths(1)) {
+            String location = catalogued.get(month);
+            Path file = location != null ? Path.of(location) : file(month);
+            if (!Files.exists(file)) {
+                if (location != null) {
+                    throw new IllegalStateException("Archive of " + month + " is catalogued at " + location
+                            + " but the file is missing; its partition was already dropped");
+                }
+                continue;
+            }
+            try (TransactionArchiveReader reader = new TransactionArchiveReader(file)) {
+                transactions.addAll(reader.findByAccount(accountId, from, to));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read archive " + file, e);
+            }
+        }
+        return transactions;
+    }
+
+    private Map<YearMonth, String> cataloguedLocations() {
+        TransactionArchiveCatalogPort catalogPort = catalog.get();
+        return catalogPort != null ? catalogPort.findArchiveLocations() : Map.of();
+    }
+
+    private Path file(YearMonth month) {
+        return directory.resolve("transactions-" + month.format(FILE_MONTH) + ".txa");
+    }
+}
@@ -0,0 +1,86 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.InterestAccrualCheckpoint;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.port.out.InterestAccrualPort;
+import com.geovannycode.infrastructure.persistence.AccountRepository;
+import com.geovannycode.infrastructure.persistence.InterestAccrualCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class InterestAccrualAdapter implements InterestAccrualPort {
+
+    private static final String NET_MOVEMENTS_SINCE = """
+            select account_id, sum(delta) from (
+                select destination_account_id as account_id,
+                       cast(coalesce(destination_amount, amount) * 100 as bigint) as delta
+                from transactions
+                where transaction_date >= ? and destination_account_id > ? and destination_account_id <= ?
+                union all
+                select source_account_id, -cast(amount * 100 as bigint)
+                from transactions
+                where transaction_date >= ? and source_account_id > ? and source_account_id <= ?
+            ) movements
+            group by account_id
+            """;
+
+    private final AccountRepository accountRepository;
+    private final InterestAccrualCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long findMaxSavingsAccountId() {
+        return accountRepository.findMaxIdByAccountType(AccountType.SAVINGS);
+    }
+
+    @Override
+    public List<Account> lockSavingsAccountsForAccrual(long afterAccountId, long lastAccountId, int limit) {
+        return accountRepository.lockByAccountTypeAndStatusInIdRange(AccountType.SAVINGS, AccountStatus.ACTIVE,
+                afterAccountId, lastAccountId, Limit.of(limit));
+    }
+
+    @Override
+    public Map<Long, Long> findNetMovementsSince(long afterAccountId, long lastAccountId, LocalDateTime since) {
+        Timestamp from = Timestamp.valueOf(since);
+        Map<Long, Long> movements = new HashMap<>();
+        jdbcTemplate.query(NET_MOVEMENTS_SINCE, (RowCallbackHandler) rs -> movements.put(rs.getLong(1), rs.getLong(2)),
+                from, afterAccountId, lastAccountId, from, afterAccountId, lastAccountId);
+        return movements;
+    }
+
+    @Override
+    public List<InterestAccrualCheckpoint> findCheckpoints(LocalDate businessDate) {
+        return checkpointRepository.findByBusinessDateOrderByPartitionStart(businessDate);
+    }
+
+    @Override
+    public List<LocalDate> findIncompleteBusinessDates() {
+        return checkpointRepository.findIncompleteBusinessDates();
+    }
+
+    @Override
+    public List<InterestAccrualCheckpoint> saveCheckpoints(List<InterestAccrualCheckpoint> checkpoints) {
+        return checkpointRepository.saveAll(checkpoints);
+    }
+
+    @Override
+    public InterestAccrualCheckpoint saveCheckpoint(InterestAccrualCheckpoint checkpoint) {
+        return checkpointRepository.save(checkpoint);
+    }
+}
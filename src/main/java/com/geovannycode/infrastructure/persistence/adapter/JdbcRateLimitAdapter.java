@@ -0,0 +1,60 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.RateLimit;
+import com.geovannycode.domain.port.out.RateLimitPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Cluster-wide buckets: the same booking scheme as LocalRateLimitAdapter, in microseconds of the database clock
+// so every node agrees on the time.
+@Component
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "app.rate-limit.mode", havingValue = "shared")
+@RequiredArgsConstructor
+public class JdbcRateLimitAdapter implements RateLimitPort {
+
+    private static final String NOW = "(extract(epoch from clock_timestamp()) * 1000000)::bigint";
+
+    private static final String ACQUIRE = """
+            with clock as (select %s as now)
+            insert into rate_limit_buckets as b (bucket_key, booked_until)
+            select ?, now + ? from clock
+            on conflict (bucket_key) do update
+                set booked_until = greatest(b.booked_until, (select now from clock)) + ?
+                where greatest(b.booked_until, (select now from clock)) + ? - (select now from clock) <= ?
+            returning booked_until
+            """.formatted(NOW);
+
+    private static final String WAIT = """
+            select greatest(booked_until, %1$s) + ? - %1$s - ? from rate_limit_buckets where bucket_key = ?
+            """.formatted(NOW);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long tryAcquire(String key, RateLimit limit) {
+        long interval = limit.intervalNanos() / 1_000;
+        long tolerance = limit.toleranceNanos() / 1_000;
+        if (!jdbcTemplate.queryForList(ACQUIRE, Long.class, key, interval, interval, interval, tolerance).isEmpty()) {
+            return 0;
+        }
+        // The row may have been purged or refilled in between; the caller just retries after the wait.
+        List<Long> wait = jdbcTemplate.queryForList(WAIT, Long.class, interval, tolerance, key);
+        return Math.max(1, wait.isEmpty() ? limit.intervalNanos() : wait.getFirst() * 1_000);
+    }
+
+    @Override
+    public void release(String key, RateLimit limit) {
+        jdbcTemplate.update("update rate_limit_buckets set booked_until = booked_until - ? where bucket_key = ?",
+                limit.intervalNanos() / 1_000, key);
+    }
+
+    public int purgeIdle() {
+        return jdbcTemplate.update("delete from rate_limit_buckets where booked_until < " + NOW);
+    }
+}
@@ -0,0 +1,54 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.LimitUsage;
+import com.geovannycode.domain.port.out.LimitUsagePort;
+import com.geovannycode.infrastructure.persistence.LimitUsageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class LimitUsageAdapter implements LimitUsagePort {
+
+    private static final String ADD_USAGE = """
+            insert into limit_usage (scope, owner_id, business_date, withdrawn, transferred_out)
+            values (?, ?, ?, ?, ?)
+            on conflict (scope, owner_id, business_date) do update set
+                withdrawn = limit_usage.withdrawn + excluded.withdrawn,
+                transferred_out = limit_usage.transferred_out + excluded.transferred_out
+            """;
+
+    private final LimitUsageRepository limitUsageRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<LimitUsage> findByBusinessDate(LocalDate businessDate) {
+        return limitUsageRepository.findByBusinessDate(businessDate);
+    }
+
+    @Override
+    @Transactional
+    public void addUsage(List<LimitUsage> deltas) {
+        jdbcTemplate.batchUpdate(ADD_USAGE, deltas, deltas.size(), (statement, row) -> {
+            statement.setString(1, row.getScope().name());
+            statement.setLong(2, row.getOwnerId());
+            statement.setDate(3, Date.valueOf(row.getBusinessDate()));
+            statement.setBigDecimal(4, row.getWithdrawn());
+            statement.setBigDecimal(5, row.getTransferredOut());
+        });
+    }
+
+    @Override
+    @Transactional
+    public int deleteBefore(LocalDate businessDate) {
+        return limitUsageRepository.deleteByBusinessDateBefore(businessDate);
+    }
+}
@@ -0,0 +1,107 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.RateLimit;
+import com.geovannycode.domain.port.out.RateLimitPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets kept as the time at which the bucket is booked up to (generic cell rate algorithm), so a bucket is
+ * a single {@link AtomicLong} updated by compare-and-set. A bucket booked up to the past is full and behaves
+ * exactly like a missing one, which makes idle buckets free to evict. When every tracked key is active and the map
+ * is at capacity, new keys share one overflow bucket per limit instead of starting with a full bucket of their own.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitAdapter implements RateLimitPort {
+
+    private static final long FULL = Long.MIN_VALUE;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final Map<RateLimit, AtomicLong> overflow = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxKeys;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LocalRateLimitAdapter(@Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        this(maxKeys, System::nanoTime);
+    }
+
+    LocalRateLimitAdapter(int maxKeys, LongSupplier clock) {
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimit limit) {
+        AtomicLong bucket = bucket(key, limit);
+        long interval = limit.intervalNanos();
+        long tolerance = limit.toleranceNanos();
+        while (true) {
+            long now = clock.getAsLong();
+            long bookedUntil = bucket.get();
+            long next = Math.max(bookedUntil, now) + interval;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(bookedUntil, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    public void release(String key, RateLimit limit) {
+        // A key without a bucket of its own was charged to the overflow bucket of its limit.
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = overflow.get(limit);
+        }
+        if (bucket != null) {
+            long interval = limit.intervalNanos();
+            bucket.updateAndGet(bookedUntil -> bookedUntil == FULL ? FULL : bookedUntil - interval);
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key, RateLimit limit) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            evictIdle();
+            if (buckets.size() >= maxKeys) {
+                return overflow.computeIfAbsent(limit, ignored -> new AtomicLong(FULL));
+            }
+        }
+        return buckets.computeIfAbsent(key, ignored -> new AtomicLong(FULL));
+    }
+
+    // A request racing with eviction may book a token on a bucket that was just dropped; that key then gets one
+    // token more than its limit, once.
+    private void evictIdle() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            buckets.values().removeIf(bucket -> bucket.get() <= now);
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.port.out.PartitionLeasePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class PartitionLeaseAdapter implements PartitionLeasePort {
+
+    // Every timestamp comes from the database clock so nodes with skewed clocks still agree on expiry.
+    private static final String RECORD_HEARTBEAT = """
+            insert into lease_nodes (node_id, heartbeat_at) values (?, now())
+            on conflict (node_id) do update set heartbeat_at = excluded.heartbeat_at
+            """;
+
+    private static final String DELETE_DEAD_NODES = """
+            delete from lease_nodes where heartbeat_at < now() - make_interval(secs => ?)
+            """;
+
+    private static final String COUNT_LIVE_NODES = """
+            select count(*) from lease_nodes where heartbeat_at > now() - make_interval(secs => ?)
+            """;
+
+    private static final String ENSURE_PARTITIONS = """
+            insert into partition_leases (workload, partition_id, lease_until)
+            select ?, partition_id, to_timestamp(0) from generate_series(0, ? - 1) as partition_id
+            on conflict (workload, partition_id) do nothing
+            """;
+
+    private static final String RENEW = """
+            update partition_leases set lease_until = now() + make_interval(secs => ?)
+            where workload = ? and owner = ? and lease_until > now()
+            returning partition_id
+            """;
+
+    private static final String ACQUIRE = """
+            update partition_leases set owner = ?, lease_until = now() + make_interval(secs => ?)
+            where id in (
+                select id from partition_leases
+                where workload = ? and (owner is null or lease_until <= now())
+                order by partition_id
+                limit ?
+                for update skip locked)
+            returning partition_id
+            """;
+
+    private static final String RELEASE = """
+            update partition_leases set owner = null, lease_until = now()
+            where workload = ? and owner = ? and partition_id = ?
+            """;
+
+    private static final String RELEASE_ALL = """
+            update partition_leases set owner = null, lease_until = now() where owner = ?
+            """;
+
+    private static final String DELETE_NODE = "delete from lease_nodes where node_id = ?";
+
+    private static final int DEAD_NODE_RETENTION_FACTOR = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void recordHeartbeat(String nodeId, Duration ttl) {
+        jdbcTemplate.update(RECORD_HEARTBEAT, nodeId);
+        jdbcTemplate.update(DELETE_DEAD_NODES, seconds(ttl.multipliedBy(DEAD_NODE_RETENTION_FACTOR)));
+    }
+
+    @Override
+    public int countLiveNodes(Duration ttl) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_LIVE_NODES, Integer.class, seconds(ttl));
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public void ensurePartitions(String workload, int partitionCount) {
+        jdbcTemplate.update(ENSURE_PARTITIONS, workload, partitionCount);
+    }
+
+    @Override
+    public Set<Integer> renew(String workload, String nodeId, Duration ttl) {
+        return new HashSet<>(jdbcTemplate.queryForList(RENEW, Integer.class, seconds(ttl), workload, nodeId));
+    }
+
+    @Override
+    public Set<Integer> acquire(String workload, String nodeId, int maxPartitions, Duration ttl) {
+        return new HashSet<>(jdbcTemplate.queryForList(ACQUIRE, Integer.class,
+                nodeId, seconds(ttl), workload, maxPartitions));
+    }
+
+    @Override
+    public void release(String workload, String nodeId, Collection<Integer> partitions) {
+        List<Object[]> arguments = partitions.stream()
+                .map(partition -> new Object[]{workload, nodeId, partition})
+                .toList();
+        jdbcTemplate.batchUpdate(RELEASE, arguments);
+    }
+
+    @Override
+    public void releaseAll(String nodeId) {
+        jdbcTemplate.update(RELEASE_ALL, nodeId);
+        jdbcTemplate.update(DELETE_NODE, nodeId);
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
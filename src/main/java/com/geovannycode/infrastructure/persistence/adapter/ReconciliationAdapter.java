@@ -0,0 +1,122 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.ReconciliationDiscrepancy;
+import com.geovannycode.domain.port.out.ReconciliationPort;
+import com.geovannycode.infrastructure.persistence.ReconciliationDiscrepancyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+@Profile("!in-memory")
+public class ReconciliationAdapter implements ReconciliationPort {
+
+    private static final String TRANSACTION_MOVEMENTS =
+            """
+            select source_account_id, destination_account_id, cast(amount * 100 as bigint),
+                   cast(coalesce(destination_amount, amount) * 100 as bigint)
+            from transactions
+            union all
+            select 0, account_id, 0, cast(net_amount * 100 as bigint)
+            from archived_account_totals
+            """;
+    private static final String ACCOUNT_BALANCES =
+            "select id, cast(balance * 100 as bigint) from accounts where id > ? and id <= ? order by id";
+    private static final String MAX_ACCOUNT_ID = "select coalesce(max(id), 0) from accounts";
+    private static final String COUNT_ACCOUNTS = "select count(*) from accounts";
+    private static final String VERIFY_ACCOUNT = """
+            select a.balance,
+                   coalesce((select sum(coalesce(t.destination_amount, t.amount)) from transactions t
+                             where t.destination_account_id = a.id), 0)
+                 - coalesce((select sum(t.amount) from transactions t where t.source_account_id = a.id), 0)
+                 + coalesce((select sum(z.net_amount) from archived_account_totals z where z.account_id = a.id), 0)
+            from accounts a
+            where a.id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReconciliationDiscrepancyRepository discrepancyRepository;
+    private final int fetchSize;
+
+    public ReconciliationAdapter(JdbcTemplate jdbcTemplate,
+                                 ReconciliationDiscrepancyRepository discrepancyRepository,
+                                 @Value("${app.reconciliation.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.discrepancyRepository = discrepancyRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional
+    public long streamTransactionMovements(MovementConsumer consumer) {
+        long[] rows = new long[1];
+        jdbcTemplate.query(connection -> streamingStatement(connection, TRANSACTION_MOVEMENTS), (RowCallbackHandler) resultSet -> {
+            consumer.accept(resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3), resultSet.getLong(4));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    @Override
+    public long findMaxAccountId() {
+        Long maxId = jdbcTemplate.queryForObject(MAX_ACCOUNT_ID, Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    @Override
+    public long countAccounts() {
+        Long count = jdbcTemplate.queryForObject(COUNT_ACCOUNTS, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    @Transactional
+    public void forEachAccountBalance(long afterAccountId, long lastAccountId, BalanceConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = streamingStatement(connection, ACCOUNT_BALANCES);
+            statement.setLong(1, afterAccountId);
+            statement.setLong(2, lastAccountId);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getLong(1), resultSet.getLong(2)));
+    }
+
+    @Override
+    public Optional<ReconciliationDiscrepancy> verifyAccount(long accountId) {
+        List<ReconciliationDiscrepancy> found = jdbcTemplate.query(VERIFY_ACCOUNT, (resultSet, row) -> {
+            BigDecimal balance = resultSet.getBigDecimal(1);
+            BigDecimal net = resultSet.getBigDecimal(2);
+            if (balance.compareTo(net) == 0) {
+                return null;
+            }
+            return ReconciliationDiscrepancy.builder()
+                    .accountId(accountId)
+                    .accountBalance(balance)
+                    .transactionNet(net)
+                    .build();
+        }, accountId);
+        return found.stream().filter(Objects::nonNull).findFirst();
+    }
+
+    @Override
+    public void saveDiscrepancies(List<ReconciliationDiscrepancy> discrepancies) {
+        discrepancyRepository.saveAll(discrepancies);
+    }
+
+    private PreparedStatement streamingStatement(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        return statement;
+    }
+}
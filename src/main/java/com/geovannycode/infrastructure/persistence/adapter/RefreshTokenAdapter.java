@@ -0,0 +1,44 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.RefreshToken;
+import com.geovannycode.domain.port.out.RefreshTokenPort;
+import com.geovannycode.infrastructure.persistence.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class RefreshTokenAdapter implements RefreshTokenPort {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        return refreshTokenRepository.save(refreshToken);
+    }
+
+    // The row lock is held until the caller's transaction ends.
+    @Override
+    public <T> T withTokenLocked(String tokenHash, Function<Optional<RefreshToken>, T> action) {
+        return action.apply(refreshTokenRepository.lockByTokenHash(tokenHash));
+    }
+
+    @Override
+    public List<RefreshToken> findByFamilyId(String familyId) {
+        return refreshTokenRepository.findByFamilyId(familyId);
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(LocalDateTime now) {
+        return refreshTokenRepository.deleteExpired(now);
+    }
+}
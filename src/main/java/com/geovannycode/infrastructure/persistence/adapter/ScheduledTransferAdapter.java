@@ -0,0 +1,46 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.ScheduledTransfer;
+import com.geovannycode.domain.model.enums.ScheduledTransferStatus;
+import com.geovannycode.domain.port.out.ScheduledTransferPort;
+import com.geovannycode.infrastructure.persistence.ScheduledTransferRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class ScheduledTransferAdapter implements ScheduledTransferPort {
+
+    private final ScheduledTransferRepository scheduledTransferRepository;
+
+    @Override
+    public ScheduledTransfer save(ScheduledTransfer scheduledTransfer) {
+        return scheduledTransferRepository.save(scheduledTransfer);
+    }
+
+    @Override
+    public Optional<ScheduledTransfer> findById(Long id) {
+        return scheduledTransferRepository.findById(id);
+    }
+
+    @Override
+    public Optional<ScheduledTransfer> lockById(Long id) {
+        return scheduledTransferRepository.lockById(id);
+    }
+
+    @Override
+    public List<ScheduledTransfer> findDue(Collection<Integer> partitions, LocalDateTime until, int limit) {
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+        return scheduledTransferRepository.findDue(ScheduledTransferStatus.ACTIVE, partitions, until, Limit.of(limit));
+    }
+}
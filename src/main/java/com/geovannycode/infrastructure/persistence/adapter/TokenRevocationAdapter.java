@@ -0,0 +1,51 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.RevokedToken;
+import com.geovannycode.domain.port.out.TokenRevocationPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class TokenRevocationAdapter implements TokenRevocationPort {
+
+    private static final String REVOKE = """
+            insert into revoked_tokens (jti, expires_at, revoked_at)
+            values (?, ?, now())
+            on conflict (jti) do nothing
+            """;
+    private static final String REVOKED_SINCE = """
+            select id, jti, expires_at, revoked_at from revoked_tokens
+            where (revoked_at, id) > (?, ?)
+            order by revoked_at, id
+            limit ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void revoke(String jti, LocalDateTime expiresAt) {
+        jdbcTemplate.update(REVOKE, jti, Timestamp.valueOf(expiresAt));
+    }
+
+    @Override
+    public List<RevokedToken> findRevokedSince(LocalDateTime revokedAt, long afterId, int limit) {
+        return jdbcTemplate.query(REVOKED_SINCE, (resultSet, row) -> new RevokedToken(
+                resultSet.getLong("id"),
+                resultSet.getString("jti"),
+                resultSet.getTimestamp("expires_at").toLocalDateTime(),
+                resultSet.getTimestamp("revoked_at").toLocalDateTime()), Timestamp.valueOf(revokedAt), afterId, limit);
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now) {
+        return jdbcTemplate.update("delete from revoked_tokens where expires_at < ?", Timestamp.valueOf(now));
+    }
+}
@@ -4,14 +4,18 @@ import com.geovannycode.domain.model.Transaction;
 import com.geovannycode.domain.port.out.TransactionPort;
 import com.geovannycode.infrastructure.persistence.TransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Component
+@Profile("!in-memory")
 @RequiredArgsConstructor
 public class TransactionAdapter implements TransactionPort {
 
@@ -22,18 +26,27 @@ public class TransactionAdapter implements TransactionPort {
         return transactionRepository.save(transaction);
     }
 
+    @Override
+    public List<Transaction> saveTransactions(List<Transaction> transactions) {
+        return transactionRepository.saveAll(transactions);
+    }
+
     @Override
     public Optional<Transaction> findById(Long id) {
         return transactionRepository.findById(id);
     }
 
     @Override
-    public List<Transaction> findByAccountId(Long accountId) {
-        List<Transaction> sourceTransactions = transactionRepository.findBySourceAccountId(accountId);
-        List<Transaction> destinationTransactions = transactionRepository.findByDestinationAccountId(accountId);
+    public List<Transaction> findByAccountId(Long accountId, LocalDateTime from, LocalDateTime to) {
+        // The date bounds let Postgres prune the monthly transactions partitions outside the range.
+        List<Transaction> sourceTransactions = transactionRepository
+                .findBySourceAccountIdAndTransactionDateGreaterThanEqualAndTransactionDateLessThan(accountId, from, to);
+        List<Transaction> destinationTransactions = transactionRepository
+                .findByDestinationAccountIdAndTransactionDateGreaterThanEqualAndTransactionDateLessThan(accountId, from, to);
 
         return Stream.concat(sourceTransactions.stream(), destinationTransactions.stream())
                 .distinct()
+                .sorted(Comparator.comparing(Transaction::getTransactionDate).reversed())
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,144 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.out.TransactionArchiveCatalogPort;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryEntities;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+@Component
+@Profile("!in-memory")
+public class TransactionArchiveCatalogAdapter implements TransactionArchiveCatalogPort {
+
+    private static final String FIND_ARCHIVED_MONTHS = "select month from transaction_archives";
+
+    private static final String FIND_ARCHIVE_LOCATIONS =
+            "select month, location from transaction_archives where location is not null";
+
+    private static final String STREAM_MONTH = """
+            select t.id, t.transaction_type, t.amount, t.destination_amount, t.exchange_rate, t.rate_version,
+                   t.transaction_date,
+                   t.source_account_id, source.account_number, source.currency,
+                   t.destination_account_id, destination.account_number, destination.currency
+            from transactions t
+            left join accounts source on source.id = t.source_account_id
+            left join accounts destination on destination.id = t.destination_account_id
+            where t.transaction_date >= ? and t.transaction_date < ?
+            order by t.transaction_date, t.id
+            """;
+
+    private static final String INSERT_TOTAL = """
+            insert into archived_account_totals (account_id, month, net_amount) values (?, ?, ?)
+            on conflict (account_id, month) do update set net_amount = excluded.net_amount
+            """;
+
+    private static final String INSERT_ARCHIVE = """
+            insert into transaction_archives (month, row_count, location, archived_at) values (?, ?, ?, now())
+            on conflict (month) do update set row_count = excluded.row_count, location = excluded.location,
+                archived_at = excluded.archived_at
+            """;
+
+    private static final String DROP_PARTITION = "drop table if exists %s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public TransactionArchiveCatalogAdapter(JdbcTemplate jdbcTemplate,
+                                            @Value("${app.archive.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public SortedSet<YearMonth> findArchivedMonths() {
+        return new TreeSet<>(jdbcTemplate.query(FIND_ARCHIVED_MONTHS,
+                (resultSet, row) -> YearMonth.from(resultSet.getObject(1, LocalDate.class))));
+    }
+
+    @Override
+    public Map<YearMonth, String> findArchiveLocations() {
+        Map<YearMonth, String> locations = new HashMap<>();
+        jdbcTemplate.query(FIND_ARCHIVE_LOCATIONS, (RowCallbackHandler) resultSet -> locations.put(
+                YearMonth.from(resultSet.getObject(1, LocalDate.class)), resultSet.getString(2)));
+        return locations;
+    }
+
+    @Override
+    @Transactional
+    public long streamMonth(YearMonth month, Consumer<Transaction> consumer) {
+        long[] rows = new long[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(STREAM_MONTH,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setTimestamp(1, Timestamp.valueOf(month.atDay(1).atStartOfDay()));
+            statement.setTimestamp(2, Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()));
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            consumer.accept(toTransaction(resultSet));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    @Override
+    @Transactional
+    public void completeArchive(YearMonth month, long rowCount, String location, Map<Long, BigDecimal> netByAccount) {
+        Date monthStart = Date.valueOf(month.atDay(1));
+        jdbcTemplate.batchUpdate(INSERT_TOTAL, new ArrayList<>(netByAccount.entrySet()), 1000, (statement, total) -> {
+            statement.setLong(1, total.getKey());
+            statement.setDate(2, monthStart);
+            statement.setBigDecimal(3, total.getValue());
+        });
+        jdbcTemplate.update(INSERT_ARCHIVE, monthStart, rowCount, location);
+        jdbcTemplate.execute(DROP_PARTITION.formatted(TransactionPartitionAdapter.partitionName(month)));
+    }
+
+    private static Transaction toTransaction(ResultSet resultSet) throws SQLException {
+        Transaction transaction = Transaction.builder()
+                .id(resultSet.getLong(1))
+                .transactionType(TransactionType.valueOf(resultSet.getString(2)))
+                .amount(resultSet.getBigDecimal(3))
+                .destinationAmount(resultSet.getBigDecimal(4))
+                .exchangeRate(resultSet.getBigDecimal(5))
+                .rateVersion(resultSet.getObject(6, Long.class))
+                .sourceAccount(account(resultSet, 8))
+                .destinationAccount(account(resultSet, 11))
+                .build();
+        InMemoryEntities.setField(transaction, "transactionDate", resultSet.getTimestamp(7).toLocalDateTime());
+        return transaction;
+    }
+
+    private static Account account(ResultSet resultSet, int column) throws SQLException {
+        long id = resultSet.getLong(column);
+        if (resultSet.wasNull()) {
+            return null;
+        }
+        return Account.builder()
+                .id(id)
+                .accountNumber(resultSet.getString(column + 1))
+                .currency(resultSet.getString(column + 2))
+                .build();
+    }
+}
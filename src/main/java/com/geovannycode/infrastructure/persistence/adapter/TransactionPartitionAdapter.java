@@ -0,0 +1,63 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.port.out.TransactionPartitionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class TransactionPartitionAdapter implements TransactionPartitionPort {
+
+    private static final String PREFIX = "transactions_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String FIND_PARTITIONS = """
+            select child.relname
+            from pg_inherits
+            join pg_class child on child.oid = pg_inherits.inhrelid
+            where pg_inherits.inhparent = 'transactions'::regclass
+            """;
+
+    private static final String CREATE = """
+            create table if not exists %s partition of transactions
+            for values from ('%s') to ('%s')
+            """;
+
+    // CONCURRENTLY keeps reads and writes on other partitions running; it must not run inside a transaction.
+    private static final String DETACH = "alter table transactions detach partition %s concurrently";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public SortedSet<YearMonth> findPartitions() {
+        SortedSet<YearMonth> months = new TreeSet<>();
+        for (String name : jdbcTemplate.queryForList(FIND_PARTITIONS, String.class)) {
+            if (name.startsWith(PREFIX)) {
+                months.add(YearMonth.parse(name.substring(PREFIX.length()), SUFFIX));
+            }
+        }
+        return months;
+    }
+
+    @Override
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute(CREATE.formatted(partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    @Override
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute(DETACH.formatted(partitionName(month)));
+    }
+
+    static String partitionName(YearMonth month) {
+        return PREFIX + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,75 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.TransactionRollup;
+import com.geovannycode.domain.model.enums.RollupGranularity;
+import com.geovannycode.domain.port.out.TransactionRollupPort;
+import com.geovannycode.infrastructure.persistence.TransactionRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class TransactionRollupAdapter implements TransactionRollupPort {
+
+    private static final String ADD_TO_BUCKET = """
+            insert into transaction_rollups (granularity, bucket_start, transaction_type, transaction_count, total_amount)
+            values (?, ?, ?, ?, ?)
+            on conflict (granularity, bucket_start, transaction_type) do update set
+                transaction_count = transaction_rollups.transaction_count + excluded.transaction_count,
+                total_amount = transaction_rollups.total_amount + excluded.total_amount
+            """;
+
+    private static final String COMPACT = """
+            with moved as (
+                delete from transaction_rollups
+                where granularity = ? and bucket_start < ?
+                returning bucket_start, transaction_type, transaction_count, total_amount
+            )
+            insert into transaction_rollups (granularity, bucket_start, transaction_type, transaction_count, total_amount)
+            select ?, date_trunc(?, bucket_start), transaction_type, sum(transaction_count), sum(total_amount)
+            from moved
+            group by date_trunc(?, bucket_start), transaction_type
+            on conflict (granularity, bucket_start, transaction_type) do update set
+                transaction_count = transaction_rollups.transaction_count + excluded.transaction_count,
+                total_amount = transaction_rollups.total_amount + excluded.total_amount
+            """;
+
+    private final TransactionRollupRepository transactionRollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void addToBuckets(List<TransactionRollup> deltas) {
+        jdbcTemplate.batchUpdate(ADD_TO_BUCKET, deltas, deltas.size(), (statement, delta) -> {
+            statement.setString(1, delta.getGranularity().name());
+            statement.setTimestamp(2, Timestamp.valueOf(delta.getBucketStart()));
+            statement.setString(3, delta.getTransactionType().name());
+            statement.setLong(4, delta.getTransactionCount());
+            statement.setBigDecimal(5, delta.getTotalAmount());
+        });
+    }
+
+    @Override
+    public List<TransactionRollup> findBuckets(Collection<RollupGranularity> granularities,
+                                               LocalDateTime from, LocalDateTime to) {
+        return transactionRollupRepository
+                .findByGranularityInAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+                        granularities, from, to);
+    }
+
+    @Override
+    @Transactional
+    public int compact(RollupGranularity source, RollupGranularity target, LocalDateTime before) {
+        String unit = target.name().toLowerCase();
+        return jdbcTemplate.update(COMPACT, source.name(), Timestamp.valueOf(before), target.name(), unit, unit);
+    }
+}
@@ -0,0 +1,38 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.AppUser;
+import com.geovannycode.domain.port.out.UserPort;
+import com.geovannycode.infrastructure.persistence.AppUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class UserAdapter implements UserPort {
+
+    private final AppUserRepository appUserRepository;
+
+    @Override
+    public AppUser save(AppUser user) {
+        return appUserRepository.save(user);
+    }
+
+    @Override
+    public Optional<AppUser> findByUsername(String username) {
+        return appUserRepository.findByUsername(username);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return appUserRepository.existsByUsername(username);
+    }
+
+    @Override
+    public long count() {
+        return appUserRepository.count();
+    }
+}
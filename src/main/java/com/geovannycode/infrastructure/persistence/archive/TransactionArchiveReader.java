@@ -0,0 +1,282 @@
+package com.geovannycode.infrastructure.persistence.archive;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryEntities;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongFunction;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPInputStream;
+
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.ACCOUNT_ENTRY_SIZE;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.AMOUNT;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.COLUMNS;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.DATE;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.DESTINATION;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.DESTINATION_AMOUNT;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.EXCHANGE_RATE;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.FOOTER_SIZE;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.ID;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.MAGIC;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.RATE_VERSION;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.ROW_GROUP_ENTRY_SIZE;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.SOURCE;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.TYPE;
+import static com.geovannycode.infrastructure.persistence.archive.TransactionArchiveWriter.VERSION;
+
+public class TransactionArchiveReader implements Closeable {
+
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int rowGroupSize;
+    private final long accountDirectoryOffset;
+    private final int accountCount;
+    private final long rowCount;
+    private final ByteBuffer rowGroupDirectory;
+
+    public TransactionArchiveReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < FOOTER_SIZE) {
+                throw new IOException("Archive " + path + " is truncated");
+            }
+            ByteBuffer footer = read(size - FOOTER_SIZE, FOOTER_SIZE);
+            long rowGroupDirectoryOffset = footer.getLong();
+            int rowGroups = footer.getInt();
+            this.rowGroupSize = footer.getInt();
+            this.accountDirectoryOffset = footer.getLong();
+            this.accountCount = footer.getInt();
+            this.rowCount = footer.getLong();
+            footer.getLong();
+            footer.getLong();
+            int version = footer.getInt();
+            if (footer.getInt() != MAGIC || version != VERSION) {
+                throw new IOException("Archive " + path + " has an unknown format");
+            }
+            this.rowGroupDirectory = read(rowGroupDirectoryOffset, rowGroups * ROW_GROUP_ENTRY_SIZE);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    public List<Transaction> findByAccount(long accountId, LocalDateTime from, LocalDateTime to) throws IOException {
+        int entry = findAccountEntry(accountId);
+        if (entry < 0) {
+            return List.of();
+        }
+        DataInputStream postings = accountEntry(entry);
+        postings.readUTF();
+        postings.readUTF();
+        int count = (int) readVarLong(postings);
+        Map<Integer, List<Integer>> rowsByGroup = new TreeMap<>();
+        int ordinal = 0;
+        for (int i = 0; i < count; i++) {
+            ordinal += (int) readVarLong(postings);
+            rowsByGroup.computeIfAbsent(ordinal / rowGroupSize, group -> new ArrayList<>()).add(ordinal % rowGroupSize);
+        }
+
+        long fromMicros = TransactionArchiveWriter.toMicros(from);
+        long toMicros = TransactionArchiveWriter.toMicros(to);
+        Map<Long, Account> accounts = new HashMap<>();
+        List<Transaction> transactions = new ArrayList<>();
+        for (Map.Entry<Integer, List<Integer>> group : rowsByGroup.entrySet()) {
+            int directoryOffset = group.getKey() * ROW_GROUP_ENTRY_SIZE;
+            int rows = rowGroupDirectory.getInt(directoryOffset);
+            long groupMin = rowGroupDirectory.getLong(directoryOffset + 4);
+            long groupMax = rowGroupDirectory.getLong(directoryOffset + 12);
+            if (groupMax < fromMicros || groupMin >= toMicros) {
+                continue;
+            }
+            RowGroup decoded = decodeRowGroup(directoryOffset, rows);
+            for (int row : group.getValue()) {
+                long micros = decoded.dates[row];
+                if (micros >= fromMicros && micros < toMicros) {
+                    transactions.add(decoded.toTransaction(row, id -> account(id, accounts)));
+                }
+            }
+        }
+        return transactions;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int findAccountEntry(long accountId) throws IOException {
+        int low = 0;
+        int high = accountCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long candidate = read(accountDirectoryOffset + (long) middle * ACCOUNT_ENTRY_SIZE, Long.BYTES).getLong();
+            if (candidate < accountId) {
+                low = middle + 1;
+            } else if (candidate > accountId) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private DataInputStream accountEntry(int entry) throws IOException {
+        long entryOffset = accountDirectoryOffset + (long) entry * ACCOUNT_ENTRY_SIZE;
+        long start = read(entryOffset + Long.BYTES, Long.BYTES).getLong();
+        long end = entry + 1 < accountCount
+                ? read(entryOffset + ACCOUNT_ENTRY_SIZE + Long.BYTES, Long.BYTES).getLong()
+                : accountDirectoryOffset;
+        ByteBuffer bytes = read(start, Math.toIntExact(end - start));
+        return new DataInputStream(new ByteArrayInputStream(bytes.array()));
+    }
+
+    private Account account(long accountId, Map<Long, Account> cache) {
+        if (accountId == 0) {
+            return null;
+        }
+        return cache.computeIfAbsent(accountId, id -> {
+            try {
+                int entry = findAccountEntry(id);
+                if (entry < 0) {
+                    throw new IOException("Archive " + path + " does not index account " + id);
+                }
+                DataInputStream in = accountEntry(entry);
+                return Account.builder()
+                        .id(id)
+                        .accountNumber(in.readUTF())
+                        .currency(in.readUTF())
+                        .build();
+            } catch (IOException e) {
+                throw new IllegalStateException("Corrupt archive " + path, e);
+            }
+        });
+    }
+
+    private RowGroup decodeRowGroup(int directoryOffset, int rows) throws IOException {
+        RowGroup group = new RowGroup(rows);
+        for (int column = 0; column < COLUMNS; column++) {
+            int chunkEntry = directoryOffset + 20 + column * 16;
+            long offset = rowGroupDirectory.getLong(chunkEntry);
+            int length = rowGroupDirectory.getInt(chunkEntry + 8);
+            int expectedCrc = rowGroupDirectory.getInt(chunkEntry + 12);
+            byte[] chunk = read(offset, length).array();
+            CRC32C crc = new CRC32C();
+            crc.update(chunk);
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("Archive " + path + " has a corrupt column chunk at " + offset);
+            }
+            try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(chunk)))) {
+                group.decode(column, in);
+            }
+        }
+        return group;
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Archive " + path + " is truncated");
+            }
+        }
+        return buffer.flip();
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        long zigZag = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte next = in.readByte();
+            zigZag |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+    }
+
+    private static final class RowGroup {
+        private final int rows;
+        private final long[] ids;
+        private final byte[] types;
+        private final long[] amounts;
+        private final Long[] destinationAmounts;
+        private final BigDecimal[] exchangeRates;
+        private final Long[] rateVersions;
+        private final long[] dates;
+        private final long[] sources;
+        private final long[] destinations;
+
+        private RowGroup(int rows) {
+            this.rows = rows;
+            this.ids = new long[rows];
+            this.types = new byte[rows];
+            this.amounts = new long[rows];
+            this.destinationAmounts = new Long[rows];
+            this.exchangeRates = new BigDecimal[rows];
+            this.rateVersions = new Long[rows];
+            this.dates = new long[rows];
+            this.sources = new long[rows];
+            this.destinations = new long[rows];
+        }
+
+        private void decode(int column, DataInputStream in) throws IOException {
+            long previous = 0;
+            for (int row = 0; row < rows; row++) {
+                switch (column) {
+                    case ID -> ids[row] = previous += readVarLong(in);
+                    case TYPE -> types[row] = in.readByte();
+                    case AMOUNT -> amounts[row] = readVarLong(in);
+                    case DESTINATION_AMOUNT -> destinationAmounts[row] = in.readBoolean() ? readVarLong(in) : null;
+                    case EXCHANGE_RATE -> exchangeRates[row] = in.readBoolean() ? new BigDecimal(in.readUTF()) : null;
+                    case RATE_VERSION -> rateVersions[row] = in.readBoolean() ? readVarLong(in) : null;
+                    case DATE -> dates[row] = previous += readVarLong(in);
+                    case SOURCE -> sources[row] = readVarLong(in);
+                    case DESTINATION -> destinations[row] = readVarLong(in);
+                    default -> throw new IOException("Unknown column " + column);
+                }
+            }
+        }
+
+        private Transaction toTransaction(int row, LongFunction<Account> accounts) {
+            Transaction transaction = Transaction.builder()
+                    .id(ids[row])
+                    .transactionType(TRANSACTION_TYPES[types[row]])
+                    .amount(BigDecimal.valueOf(amounts[row], 2))
+                    .destinationAmount(destinationAmounts[row] != null ? BigDecimal.valueOf(destinationAmounts[row], 2) : null)
+                    .exchangeRate(exchangeRates[row])
+                    .rateVersion(rateVersions[row])
+                    .sourceAccount(accounts.apply(sources[row]))
+                    .destinationAccount(accounts.apply(destinations[row]))
+                    .build();
+            long micros = dates[row];
+            InMemoryEntities.setField(transaction, "transactionDate", LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC));
+            return transaction;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.geovannycode.infrastructure.persistence.archive;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Transaction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes one archive file: rows are split into row groups, every column of a row group is gzip-compressed
+ * on its own, and a footer indexes the row ordinals of each account so a statement only decodes the row
+ * groups that contain it.
+ */
+public class TransactionArchiveWriter implements Closeable {
+
+    static final int MAGIC = 0x54584152;
+    static final int VERSION = 1;
+    static final int FOOTER_SIZE = 60;
+    static final int ACCOUNT_ENTRY_SIZE = 16;
+
+    static final int ID = 0;
+    static final int TYPE = 1;
+    static final int AMOUNT = 2;
+    static final int DESTINATION_AMOUNT = 3;
+    static final int EXCHANGE_RATE = 4;
+    static final int RATE_VERSION = 5;
+    static final int DATE = 6;
+    static final int SOURCE = 7;
+    static final int DESTINATION = 8;
+    static final int COLUMNS = 9;
+    static final int ROW_GROUP_ENTRY_SIZE = 20 + COLUMNS * 16;
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final int rowGroupSize;
+    private final List<Transaction> rowGroup;
+    private final ByteArrayOutputStream rowGroupDirectory = new ByteArrayOutputStream();
+    private final Map<Long, Postings> postings = new TreeMap<>();
+
+    private long position;
+    private long rowCount;
+    private int rowGroups;
+    private long minMicros = Long.MAX_VALUE;
+    private long maxMicros = Long.MIN_VALUE;
+    private boolean finished;
+
+    public TransactionArchiveWriter(Path target, int rowGroupSize) throws IOException {
+        this.target = target;
+        this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        this.rowGroupSize = rowGroupSize;
+        this.rowGroup = new ArrayList<>(rowGroupSize);
+        this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    public void append(Transaction transaction) {
+        long ordinal = rowCount++;
+        if (ordinal > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Archive file exceeds " + Integer.MAX_VALUE + " rows");
+        }
+        index(transaction.getSourceAccount(), (int) ordinal);
+        index(transaction.getDestinationAccount(), (int) ordinal);
+        rowGroup.add(transaction);
+        if (rowGroup.size() == rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    public long commit() throws IOException {
+        flushRowGroup();
+        long rowGroupDirectoryOffset = position;
+        write(rowGroupDirectory.toByteArray());
+
+        ByteArrayOutputStream accountDirectory = new ByteArrayOutputStream(postings.size() * ACCOUNT_ENTRY_SIZE);
+        DataOutputStream directory = new DataOutputStream(accountDirectory);
+        for (Map.Entry<Long, Postings> entry : postings.entrySet()) {
+            directory.writeLong(entry.getKey());
+            directory.writeLong(position);
+            write(entry.getValue().encode());
+        }
+        long accountDirectoryOffset = position;
+        write(accountDirectory.toByteArray());
+
+        ByteBuffer footer = ByteBuffer.allocate(FOOTER_SIZE)
+                .putLong(rowGroupDirectoryOffset)
+                .putInt(rowGroups)
+                .putInt(rowGroupSize)
+                .putLong(accountDirectoryOffset)
+                .putInt(postings.size())
+                .putLong(rowCount)
+                .putLong(rowCount == 0 ? 0 : minMicros)
+                .putLong(rowCount == 0 ? 0 : maxMicros)
+                .putInt(VERSION)
+                .putInt(MAGIC)
+                .flip();
+        write(footer);
+
+        channel.force(true);
+        channel.close();
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        finished = true;
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            finished = true;
+            channel.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void index(Account account, int ordinal) {
+        if (account != null) {
+            postings.computeIfAbsent(account.getId(), id -> new Postings(account)).add(ordinal);
+        }
+    }
+
+    private void flushRowGroup() {
+        if (rowGroup.isEmpty()) {
+            return;
+        }
+        try {
+            long groupMin = Long.MAX_VALUE;
+            long groupMax = Long.MIN_VALUE;
+            for (Transaction transaction : rowGroup) {
+                long micros = toMicros(transaction.getTransactionDate());
+                groupMin = Math.min(groupMin, micros);
+                groupMax = Math.max(groupMax, micros);
+            }
+            minMicros = Math.min(minMicros, groupMin);
+            maxMicros = Math.max(maxMicros, groupMax);
+
+            DataOutputStream directory = new DataOutputStream(rowGroupDirectory);
+            directory.writeInt(rowGroup.size());
+            directory.writeLong(groupMin);
+            directory.writeLong(groupMax);
+            for (int column = 0; column < COLUMNS; column++) {
+                byte[] chunk = encodeColumn(column);
+                CRC32C crc = new CRC32C();
+                crc.update(chunk);
+                directory.writeLong(position);
+                directory.writeInt(chunk.length);
+                directory.writeInt((int) crc.getValue());
+                write(chunk);
+            }
+            rowGroups++;
+            rowGroup.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write archive " + target, e);
+        }
+    }
+
+    private byte[] encodeColumn(int column) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes, 1 << 16))) {
+            long previous = 0;
+            for (Transaction transaction : rowGroup) {
+                switch (column) {
+                    case ID -> {
+                        writeVarLong(out, transaction.getId() - previous);
+                        previous = transaction.getId();
+                    }
+                    case TYPE -> out.writeByte(transaction.getTransactionType().ordinal());
+                    case AMOUNT -> writeVarLong(out, toMinorUnits(transaction.getAmount()));
+                    case DESTINATION_AMOUNT -> {
+                        boolean converted = transaction.getExchangeRate() != null;
+                        out.writeBoolean(converted);
+                        if (converted) {
+                            writeVarLong(out, toMinorUnits(transaction.getDestinationAmount()));
+                        }
+                    }
+                    case EXCHANGE_RATE -> {
+                        BigDecimal rate = transaction.getExchangeRate();
+                        out.writeBoolean(rate != null);
+                        if (rate != null) {
+                            out.writeUTF(rate.toPlainString());
+                        }
+                    }
+                    case RATE_VERSION -> {
+                        Long version = transaction.getRateVersion();
+                        out.writeBoolean(version != null);
+                        if (version != null) {
+                            writeVarLong(out, version);
+                        }
+                    }
+                    case DATE -> {
+                        long micros = toMicros(transaction.getTransactionDate());
+                        writeVarLong(out, micros - previous);
+                        previous = micros;
+                    }
+                    case SOURCE -> writeVarLong(out, accountId(transaction.getSourceAccount()));
+                    case DESTINATION -> writeVarLong(out, accountId(transaction.getDestinationAccount()));
+                    default -> throw new IllegalArgumentException("Unknown column " + column);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        write(ByteBuffer.wrap(bytes));
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+    }
+
+    private static long accountId(Account account) {
+        return account != null ? account.getId() : 0L;
+    }
+
+    static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int) zigZag);
+    }
+
+    private static final class Postings {
+        private final String accountNumber;
+        private final String currency;
+        private int[] rows = new int[4];
+        private int size;
+
+        private Postings(Account account) {
+            this.accountNumber = account.getAccountNumber();
+            this.currency = account.getCurrency();
+        }
+
+        private void add(int ordinal) {
+            // A transfer between the same account would otherwise be listed twice.
+            if (size > 0 && rows[size - 1] == ordinal) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = ordinal;
+        }
+
+        private byte[] encode() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + size * 2);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeUTF(accountNumber);
+            out.writeUTF(currency);
+            writeVarLong(out, size);
+            int previous = 0;
+            for (int i = 0; i < size; i++) {
+                writeVarLong(out, rows[i] - previous);
+                previous = rows[i];
+            }
+            return bytes.toByteArray();
+        }
+    }
+}
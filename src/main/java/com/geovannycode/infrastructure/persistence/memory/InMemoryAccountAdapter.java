@@ -0,0 +1,230 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.AccountNumber;
+import com.geovannycode.domain.model.ResourceVersion;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.infrastructure.util.LongLongHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+@Component
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryAccountAdapter implements AccountPort {
+
+    private final InMemoryChangeLog changeLog;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Account> accountsById = new ConcurrentHashMap<>();
+    // Packed account number to id. Lookups read optimistically and only take the read lock if a writer interfered;
+    // "0000000000" packs to the map's reserved empty key and is never issued.
+    private final LongLongHashMap idsByAccountNumber = new LongLongHashMap(1024);
+    private final StampedLock accountNumberLock = new StampedLock();
+    private final Map<Long, Set<Long>> idsByCustomer = new ConcurrentHashMap<>();
+    private final Map<Long, AccountState> committed = new ConcurrentHashMap<>();
+
+    @Override
+    public Account saveAccount(Account account) {
+        if (account.getAccountNumber() == null || account.getCustomer() == null) {
+            throw new DataIntegrityViolationException("Account number and customer are required");
+        }
+        if (account.getId() == null) {
+            long id = sequence.incrementAndGet();
+            reserveAccountNumber(account.getAccountNumber(), id);
+            InMemoryEntities.persist(account, id);
+            index(account);
+            changeLog.onRollback(() -> unindex(account));
+        } else {
+            InMemoryEntities.update(account);
+            accountsById.put(account.getId(), account);
+            changeLog.onRollback(() -> revert(account));
+        }
+        changeLog.accountSaved(account);
+        changeLog.onCommit(() -> committed.put(account.getId(), AccountState.of(account)));
+        return account;
+    }
+
+    @Override
+    public List<Account> saveAccounts(List<Account> accounts) {
+        List<Account> saved = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            saved.add(saveAccount(account));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        Account account = accountsById.get(id);
+        if (account == null) {
+            return Optional.empty();
+        }
+        // Callers mutate the returned entity before saving it, and may fail before they get to save.
+        changeLog.onRollback(() -> revert(account));
+        return Optional.of(account);
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        long packed = AccountNumber.pack(accountNumber);
+        if (packed == AccountNumber.INVALID || packed == 0) {
+            return Optional.empty();
+        }
+        long id = idOf(packed);
+        return id == 0 ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public List<Account> findByAccountNumbers(Collection<String> accountNumbers) {
+        return accountNumbers.stream()
+                .map(this::findByAccountNumber)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+    }
+
+    // The in-memory store has no row locks to take.
+    @Override
+    public List<Account> lockByAccountNumbers(Collection<String> accountNumbers) {
+        return findByAccountNumbers(accountNumbers);
+    }
+
+    @Override
+    public List<Account> findByCustomerId(Long customerId) {
+        Set<Long> ids = idsByCustomer.get(customerId);
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        return ids.stream()
+                .map(accountsById::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(Account::getId))
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return findById(id).map(ResourceVersion::of);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionByAccountNumber(String accountNumber) {
+        return findByAccountNumber(accountNumber).map(ResourceVersion::of);
+    }
+
+    public List<Account> findAll() {
+        return accountsById.values().stream()
+                .sorted(Comparator.comparing(Account::getId))
+                .toList();
+    }
+
+    public void restore(Account account) {
+        Account existing = accountsById.get(account.getId());
+        if (existing == null) {
+            reserveAccountNumber(account.getAccountNumber(), account.getId());
+            index(account);
+            sequence.accumulateAndGet(account.getId(), Math::max);
+            committed.put(account.getId(), AccountState.of(account));
+            return;
+        }
+        AccountState state = new AccountState(account.getStatus(), account.getBalanceMinorUnits(),
+                account.getUpdatedAt(), existing.getVersion());
+        state.applyTo(existing);
+        committed.put(existing.getId(), state);
+    }
+
+    private long idOf(long packed) {
+        long stamp = accountNumberLock.tryOptimisticRead();
+        long id = idsByAccountNumber.get(packed);
+        if (accountNumberLock.validate(stamp)) {
+            return id;
+        }
+        stamp = accountNumberLock.readLock();
+        try {
+            return idsByAccountNumber.get(packed);
+        } finally {
+            accountNumberLock.unlockRead(stamp);
+        }
+    }
+
+    private void revert(Account account) {
+        AccountState state = committed.get(account.getId());
+        if (state != null) {
+            state.applyTo(account);
+        }
+    }
+
+    private void unindex(Account account) {
+        Long id = account.getId();
+        accountsById.remove(id);
+        long packed = AccountNumber.pack(account.getAccountNumber());
+        long stamp = accountNumberLock.writeLock();
+        try {
+            if (idsByAccountNumber.get(packed) == id) {
+                idsByAccountNumber.remove(packed);
+            }
+        } finally {
+            accountNumberLock.unlockWrite(stamp);
+        }
+        Set<Long> customerIds = idsByCustomer.get(account.getCustomer().getId());
+        if (customerIds != null) {
+            customerIds.remove(id);
+        }
+        committed.remove(id);
+    }
+
+    private void reserveAccountNumber(String accountNumber, long id) {
+        long packed = AccountNumber.pack(accountNumber);
+        if (packed == AccountNumber.INVALID || packed == 0) {
+            throw new DataIntegrityViolationException("Invalid account number: " + accountNumber);
+        }
+        long existing;
+        long stamp = accountNumberLock.writeLock();
+        try {
+            existing = idsByAccountNumber.putIfAbsent(packed, id);
+        } finally {
+            accountNumberLock.unlockWrite(stamp);
+        }
+        if (existing != 0) {
+            throw new DataIntegrityViolationException("Duplicate account number: " + accountNumber);
+        }
+    }
+
+    private void index(Account account) {
+        accountsById.put(account.getId(), account);
+        idsByCustomer.computeIfAbsent(account.getCustomer().getId(), key -> ConcurrentHashMap.newKeySet())
+                .add(account.getId());
+    }
+
+    private record AccountState(AccountStatus status, long balance, LocalDateTime updatedAt, long version) {
+
+        static AccountState of(Account account) {
+            return new AccountState(account.getStatus(), account.getBalanceMinorUnits(), account.getUpdatedAt(),
+                    account.getVersion());
+        }
+
+        void applyTo(Account account) {
+            account.setStatus(status);
+            InMemoryEntities.setField(account, "balance", balance);
+            InMemoryEntities.setField(account, "updatedAt", updatedAt);
+            InMemoryEntities.setField(account, "version", version);
+        }
+    }
+}
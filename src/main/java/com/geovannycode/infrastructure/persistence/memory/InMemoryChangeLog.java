@@ -0,0 +1,32 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.Transaction;
+
+public interface InMemoryChangeLog {
+
+    InMemoryChangeLog NONE = new InMemoryChangeLog() {
+    };
+
+    default void customerSaved(Customer customer) {
+    }
+
+    default void customerDeleted(Long id) {
+    }
+
+    default void accountSaved(Account account) {
+    }
+
+    default void transactionSaved(Transaction transaction) {
+    }
+
+    // Adapters change entities in place, so they register how to take a change back if the surrounding
+    // transaction rolls back, and what to remember once it commits. Without a transaction both run as commits.
+    default void onRollback(Runnable undo) {
+    }
+
+    default void onCommit(Runnable action) {
+        action.run();
+    }
+}
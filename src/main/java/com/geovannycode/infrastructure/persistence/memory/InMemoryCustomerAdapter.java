@@ -0,0 +1,193 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.ResourceVersion;
+import com.geovannycode.domain.port.out.CustomerPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryCustomerAdapter implements CustomerPort {
+
+    private final InMemoryAccountAdapter accountAdapter;
+    private final InMemoryChangeLog changeLog;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Customer> customersById = new ConcurrentHashMap<>();
+    private final Map<Long, UniqueKeys> keysById = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByEmail = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByIdentificationNumber = new ConcurrentHashMap<>();
+    private final Map<Long, CustomerState> committed = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized Customer saveCustomer(Customer customer) {
+        if (customer.getEmail() == null || customer.getIdentificationNumber() == null) {
+            throw new DataIntegrityViolationException("Email and identification number are required");
+        }
+        long id = customer.getId() != null ? customer.getId() : sequence.get() + 1;
+        ensureAvailable(idsByEmail, customer.getEmail(), id, "email");
+        ensureAvailable(idsByIdentificationNumber, customer.getIdentificationNumber(), id, "identification number");
+
+        if (customer.getId() == null) {
+            InMemoryEntities.persist(customer, sequence.incrementAndGet());
+            changeLog.onRollback(() -> unindex(customer.getId()));
+        } else {
+            InMemoryEntities.update(customer);
+            changeLog.onRollback(() -> revert(customer));
+        }
+        index(customer);
+        changeLog.customerSaved(customer);
+        changeLog.onCommit(() -> committed.put(customer.getId(), CustomerState.of(customer)));
+        return customer;
+    }
+
+    @Override
+    public Optional<Customer> findById(Long id) {
+        Customer customer = customersById.get(id);
+        if (customer == null) {
+            return Optional.empty();
+        }
+        changeLog.onRollback(() -> revert(customer));
+        return Optional.of(customer);
+    }
+
+    @Override
+    public synchronized void deleteCustomer(Long id) {
+        Customer customer = customersById.get(id);
+        if (remove(id)) {
+            changeLog.onRollback(() -> reindex(customer));
+            changeLog.customerDeleted(id);
+            changeLog.onCommit(() -> committed.remove(id));
+        }
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return customersById.values().stream()
+                .sorted(Comparator.comparing(Customer::getId))
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+
+    @Override
+    public boolean customerHasAccounts(Long id) {
+        return !accountAdapter.findByCustomerId(id).isEmpty();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return email != null && idsByEmail.containsKey(email);
+    }
+
+    @Override
+    public Optional<Customer> findByIdentificationNumber(String identificationNumber) {
+        if (identificationNumber == null) {
+            return Optional.empty();
+        }
+        Long id = idsByIdentificationNumber.get(identificationNumber);
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return findById(id).map(ResourceVersion::of);
+    }
+
+    public synchronized void restore(Customer customer) {
+        Customer existing = customersById.get(customer.getId());
+        if (existing == null) {
+            sequence.accumulateAndGet(customer.getId(), Math::max);
+            index(customer);
+            committed.put(customer.getId(), CustomerState.of(customer));
+            return;
+        }
+        CustomerState state = CustomerState.of(customer);
+        state.applyTo(existing);
+        index(existing);
+        committed.put(existing.getId(), state);
+    }
+
+    public synchronized void restoreDeleted(Long id) {
+        remove(id);
+        committed.remove(id);
+    }
+
+    private synchronized void revert(Customer customer) {
+        CustomerState state = committed.get(customer.getId());
+        if (state != null && customersById.get(customer.getId()) == customer) {
+            state.applyTo(customer);
+            index(customer);
+        }
+    }
+
+    private synchronized void reindex(Customer customer) {
+        index(customer);
+        revert(customer);
+    }
+
+    private synchronized void unindex(Long id) {
+        remove(id);
+        committed.remove(id);
+    }
+
+    private void index(Customer customer) {
+        Long id = customer.getId();
+        UniqueKeys previous = keysById.put(id, new UniqueKeys(customer.getEmail(), customer.getIdentificationNumber()));
+        if (previous != null) {
+            idsByEmail.remove(previous.email(), id);
+            idsByIdentificationNumber.remove(previous.identificationNumber(), id);
+        }
+        idsByEmail.put(customer.getEmail(), id);
+        idsByIdentificationNumber.put(customer.getIdentificationNumber(), id);
+        customersById.put(id, customer);
+    }
+
+    private boolean remove(Long id) {
+        Customer removed = customersById.remove(id);
+        UniqueKeys keys = keysById.remove(id);
+        if (keys != null) {
+            idsByEmail.remove(keys.email(), id);
+            idsByIdentificationNumber.remove(keys.identificationNumber(), id);
+        }
+        return removed != null;
+    }
+
+    private void ensureAvailable(Map<String, Long> index, String key, long id, String field) {
+        Long owner = index.get(key);
+        if (owner != null && !Objects.equals(owner, id)) {
+            throw new DataIntegrityViolationException("Duplicate customer " + field + ": " + key);
+        }
+    }
+
+    private record CustomerState(String identificationType, String identificationNumber, String firstName,
+                                 String lastName, String email, LocalDate birthDate, LocalDateTime updatedAt) {
+
+        static CustomerState of(Customer customer) {
+            return new CustomerState(customer.getIdentificationType(), customer.getIdentificationNumber(),
+                    customer.getFirstName(), customer.getLastName(), customer.getEmail(), customer.getBirthDate(),
+                    customer.getUpdatedAt());
+        }
+
+        void applyTo(Customer customer) {
+            customer.updateInfo(identificationType, identificationNumber, firstName, lastName, email, birthDate);
+            InMemoryEntities.setField(customer, "updatedAt", updatedAt);
+        }
+    }
+
+    private record UniqueKeys(String email, String identificationNumber) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.port.out.CustomerSearchPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+@Component
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryCustomerSearchAdapter implements CustomerSearchPort {
+
+    private final InMemoryCustomerAdapter customerAdapter;
+
+    @Override
+    public List<Customer> search(String query, int offset, int limit) {
+        return customerAdapter.findAll().stream()
+                .map(customer -> new Match(customer, searchText(customer).indexOf(query)))
+                .filter(match -> match.position() >= 0)
+                .sorted(Comparator.comparing((Match match) -> !query.equals(match.customer().getIdentificationNumber()))
+                        .thenComparing(match -> !query.equalsIgnoreCase(match.customer().getEmail()))
+                        .thenComparingInt(Match::position)
+                        .thenComparing(match -> match.customer().getId()))
+                .skip(offset)
+                .limit(limit)
+                .map(Match::customer)
+                .toList();
+    }
+
+    private static String searchText(Customer customer) {
+        return (customer.getFirstName() + " " + customer.getLastName() + " " + customer.getEmail() + " "
+                + customer.getIdentificationNumber()).toLowerCase(Locale.ROOT);
+    }
+
+    private record Match(Customer customer, int position) {
+    }
+}
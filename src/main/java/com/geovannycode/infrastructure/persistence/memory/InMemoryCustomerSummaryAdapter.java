@@ -0,0 +1,123 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.application.service.ExchangeRateService;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.CustomerBalanceTotal;
+import com.geovannycode.domain.model.CustomerSummary;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.port.out.CustomerSummaryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryCustomerSummaryAdapter implements CustomerSummaryPort {
+
+    private final InMemoryAccountAdapter accountAdapter;
+    private final InMemoryTransactionAdapter transactionAdapter;
+    private final ExchangeRateService exchangeRateService;
+    private final InMemoryChangeLog changeLog;
+
+    private final Map<Long, CustomerSummary> summaries = new ConcurrentHashMap<>();
+    private final Map<Long, Map<BalanceKey, Long>> balances = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<CustomerSummary> findByCustomerId(Long customerId) {
+        return Optional.ofNullable(summaries.get(customerId));
+    }
+
+    @Override
+    public List<CustomerBalanceTotal> findBalanceTotals(Long customerId) {
+        return balances.getOrDefault(customerId, Map.of()).entrySet().stream()
+                .map(entry -> new CustomerBalanceTotal(entry.getKey().accountType(), entry.getKey().currency(),
+                        entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public void recordMovement(Long customerId, AccountType accountType, String currency, long balanceDeltaMinorUnits,
+                               LocalDate monthStart, BigDecimal inflow, BigDecimal outflow) {
+        // Summaries are only ever added to, so they wait for the commit instead of being undone on rollback.
+        changeLog.onCommit(() -> {
+            summaries.compute(customerId, (id, summary) -> {
+                CustomerSummary updated = summary != null ? summary : newSummary(id, monthStart);
+                updated.addFlows(monthStart, inflow, outflow);
+                return updated;
+            });
+            balances.computeIfAbsent(customerId, id -> new ConcurrentHashMap<>())
+                    .merge(new BalanceKey(accountType, currency), balanceDeltaMinorUnits, MinorUnits::add);
+        });
+    }
+
+    @Override
+    public void recordAccountStatus(Long customerId, AccountStatus previousStatus, AccountStatus newStatus) {
+        changeLog.onCommit(() -> summaries.compute(customerId, (id, summary) -> {
+            CustomerSummary updated = summary != null ? summary : newSummary(id, LocalDate.now().withDayOfMonth(1));
+            if (previousStatus != null) {
+                updated.addAccounts(previousStatus, -1);
+            }
+            updated.addAccounts(newStatus, 1);
+            return updated;
+        }));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        summaries.clear();
+        balances.clear();
+        LocalDate monthStart = LocalDate.now().withDayOfMonth(1);
+        for (Account account : accountAdapter.findAll()) {
+            recordAccountStatus(account.getCustomer().getId(), null, account.getStatus());
+            recordMovement(account.getCustomer().getId(), account.getAccountType(), account.getCurrency(),
+                    account.getBalanceMinorUnits(), monthStart, BigDecimal.ZERO, BigDecimal.ZERO);
+        }
+        for (Transaction transaction : transactionAdapter.findAll()) {
+            if (transaction.getTransactionDate() == null
+                    || transaction.getTransactionDate().toLocalDate().isBefore(monthStart)) {
+                continue;
+            }
+            Account source = transaction.getSourceAccount();
+            Account destination = transaction.getDestinationAccount();
+            Long sourceCustomerId = source != null ? source.getCustomer().getId() : null;
+            Long destinationCustomerId = destination != null ? destination.getCustomer().getId() : null;
+            if (Objects.equals(sourceCustomerId, destinationCustomerId)) {
+                continue;
+            }
+            if (sourceCustomerId != null) {
+                recordMovement(sourceCustomerId, source.getAccountType(), source.getCurrency(), 0L, monthStart,
+                        BigDecimal.ZERO, exchangeRateService.toBase(transaction.getAmount(), transaction.getCurrency(),
+                                transaction.getRateVersion()));
+            }
+            if (destinationCustomerId != null) {
+                recordMovement(destinationCustomerId, destination.getAccountType(), destination.getCurrency(), 0L,
+                        monthStart, exchangeRateService.toBase(transaction.getDestinationAmount(),
+                                transaction.getDestinationCurrency(), transaction.getRateVersion()), BigDecimal.ZERO);
+            }
+        }
+    }
+
+    private static CustomerSummary newSummary(Long customerId, LocalDate monthStart) {
+        return CustomerSummary.builder()
+                .customerId(customerId)
+                .monthStart(monthStart)
+                .build();
+    }
+
+    private record BalanceKey(AccountType accountType, String currency) {
+    }
+}
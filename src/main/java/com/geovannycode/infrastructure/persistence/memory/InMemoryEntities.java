@@ -0,0 +1,54 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class InMemoryEntities {
+
+    private static final Map<String, Field> FIELDS = new ConcurrentHashMap<>();
+    private static final Map<String, Optional<Method>> METHODS = new ConcurrentHashMap<>();
+
+    private InMemoryEntities() {
+    }
+
+    static void persist(Object entity, long id) {
+        setField(entity, "id", id);
+        invoke(entity, "onCreate");
+    }
+
+    static void update(Object entity) {
+        method(entity.getClass(), "onUpdate")
+                .ifPresent(onUpdate -> ReflectionUtils.invokeMethod(onUpdate, entity));
+    }
+
+    public static void setField(Object entity, String name, Object value) {
+        Field field = FIELDS.computeIfAbsent(entity.getClass().getName() + "#" + name, key -> {
+            Field found = ReflectionUtils.findField(entity.getClass(), name);
+            if (found == null) {
+                throw new IllegalArgumentException("Unknown field " + key);
+            }
+            ReflectionUtils.makeAccessible(found);
+            return found;
+        });
+        ReflectionUtils.setField(field, entity, value);
+    }
+
+    private static void invoke(Object entity, String name) {
+        ReflectionUtils.invokeMethod(method(entity.getClass(), name).orElseThrow(), entity);
+    }
+
+    private static Optional<Method> method(Class<?> type, String name) {
+        return METHODS.computeIfAbsent(type.getName() + "#" + name, key -> {
+            Method found = ReflectionUtils.findMethod(type, name);
+            if (found != null) {
+                ReflectionUtils.makeAccessible(found);
+            }
+            return Optional.ofNullable(found);
+        });
+    }
+}
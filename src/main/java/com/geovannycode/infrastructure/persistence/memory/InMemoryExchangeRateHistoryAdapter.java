@@ -0,0 +1,38 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.ExchangeRateSnapshot;
+import com.geovannycode.domain.port.out.ExchangeRateHistoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+// Not durable: after a restart the versions start again at 1, like the rest of the in-memory store.
+@Component
+@Profile("in-memory")
+public class InMemoryExchangeRateHistoryAdapter implements ExchangeRateHistoryPort {
+
+    private final TreeMap<Long, ExchangeRateSnapshot> snapshots = new TreeMap<>();
+
+    @Override
+    public synchronized ExchangeRateSnapshot save(Instant loadedAt, Map<String, BigDecimal> rates) {
+        long version = snapshots.isEmpty() ? 1 : snapshots.lastKey() + 1;
+        ExchangeRateSnapshot snapshot = new ExchangeRateSnapshot(version, loadedAt, rates);
+        snapshots.put(version, snapshot);
+        return snapshot;
+    }
+
+    @Override
+    public synchronized Optional<ExchangeRateSnapshot> findLatest() {
+        return Optional.ofNullable(snapshots.lastEntry()).map(Map.Entry::getValue);
+    }
+
+    @Override
+    public synchronized Optional<ExchangeRateSnapshot> findByVersion(long version) {
+        return Optional.ofNullable(snapshots.get(version));
+    }
+}
@@ -0,0 +1,50 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.LimitUsage;
+import com.geovannycode.domain.model.enums.LimitScope;
+import com.geovannycode.domain.port.out.LimitUsagePort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Profile("in-memory")
+public class InMemoryLimitUsageAdapter implements LimitUsagePort {
+
+    private final Map<UsageKey, LimitUsage> usage = new HashMap<>();
+
+    @Override
+    public synchronized List<LimitUsage> findByBusinessDate(LocalDate businessDate) {
+        return usage.values().stream()
+                .filter(row -> row.getBusinessDate().equals(businessDate))
+                .toList();
+    }
+
+    @Override
+    public synchronized void addUsage(List<LimitUsage> deltas) {
+        for (LimitUsage delta : deltas) {
+            usage.merge(new UsageKey(delta.getScope(), delta.getOwnerId(), delta.getBusinessDate()), delta,
+                    (stored, added) -> LimitUsage.builder()
+                            .scope(stored.getScope())
+                            .ownerId(stored.getOwnerId())
+                            .businessDate(stored.getBusinessDate())
+                            .withdrawn(stored.getWithdrawn().add(added.getWithdrawn()))
+                            .transferredOut(stored.getTransferredOut().add(added.getTransferredOut()))
+                            .build());
+        }
+    }
+
+    @Override
+    public synchronized int deleteBefore(LocalDate businessDate) {
+        int before = usage.size();
+        usage.keySet().removeIf(key -> key.businessDate().isBefore(businessDate));
+        return before - usage.size();
+    }
+
+    private record UsageKey(LimitScope scope, Long ownerId, LocalDate businessDate) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.RefreshToken;
+import com.geovannycode.domain.port.out.RefreshTokenPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// Sessions are not journaled; a restart logs everyone out once their access token expires.
+@Component
+@Profile("in-memory")
+public class InMemoryRefreshTokenAdapter implements RefreshTokenPort {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, RefreshToken> tokensByHash = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public InMemoryRefreshTokenAdapter() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        if (refreshToken.getId() == null) {
+            InMemoryEntities.persist(refreshToken, sequence.incrementAndGet());
+        }
+        tokensByHash.put(refreshToken.getTokenHash(), refreshToken);
+        return refreshToken;
+    }
+
+    // Stands in for the row lock: tokens are changed in place, so holding the stripe for the whole action is enough.
+    @Override
+    public <T> T withTokenLocked(String tokenHash, Function<Optional<RefreshToken>, T> action) {
+        ReentrantLock lock = locks[Math.floorMod(tokenHash.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            return action.apply(Optional.ofNullable(tokensByHash.get(tokenHash)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<RefreshToken> findByFamilyId(String familyId) {
+        return tokensByHash.values().stream()
+                .filter(token -> token.getFamilyId().equals(familyId))
+                .toList();
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now) {
+        int before = tokensByHash.size();
+        tokensByHash.values().removeIf(token -> token.isExpired(now));
+        return before - tokensByHash.size();
+    }
+}
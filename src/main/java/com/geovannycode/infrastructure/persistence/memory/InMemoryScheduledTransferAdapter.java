@@ -0,0 +1,56 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.ScheduledTransfer;
+import com.geovannycode.domain.model.enums.ScheduledTransferStatus;
+import com.geovannycode.domain.port.out.ScheduledTransferPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Profile("in-memory")
+public class InMemoryScheduledTransferAdapter implements ScheduledTransferPort {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, ScheduledTransfer> transfersById = new ConcurrentHashMap<>();
+
+    @Override
+    public ScheduledTransfer save(ScheduledTransfer scheduledTransfer) {
+        if (scheduledTransfer.getId() == null) {
+            InMemoryEntities.persist(scheduledTransfer, sequence.incrementAndGet());
+        } else {
+            InMemoryEntities.update(scheduledTransfer);
+        }
+        transfersById.put(scheduledTransfer.getId(), scheduledTransfer);
+        return scheduledTransfer;
+    }
+
+    @Override
+    public Optional<ScheduledTransfer> findById(Long id) {
+        return Optional.ofNullable(transfersById.get(id));
+    }
+
+    @Override
+    public Optional<ScheduledTransfer> lockById(Long id) {
+        return findById(id);
+    }
+
+    @Override
+    public List<ScheduledTransfer> findDue(Collection<Integer> partitions, LocalDateTime until, int limit) {
+        return transfersById.values().stream()
+                .filter(transfer -> transfer.getStatus() == ScheduledTransferStatus.ACTIVE)
+                .filter(transfer -> partitions.contains(transfer.getPartitionId()))
+                .filter(transfer -> transfer.getNextExecution().isBefore(until))
+                .sorted(Comparator.comparing(ScheduledTransfer::getNextExecution))
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,52 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.RevokedToken;
+import com.geovannycode.domain.port.out.TokenRevocationPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@Profile("in-memory")
+public class InMemoryTokenRevocationAdapter implements TokenRevocationPort {
+
+    private final List<RevokedToken> revoked = new ArrayList<>();
+    private final Set<String> jtis = new HashSet<>();
+    private long sequence;
+
+    @Override
+    public synchronized void revoke(String jti, LocalDateTime expiresAt) {
+        if (jtis.add(jti)) {
+            revoked.add(new RevokedToken(++sequence, jti, expiresAt, LocalDateTime.now()));
+        }
+    }
+
+    @Override
+    public synchronized List<RevokedToken> findRevokedSince(LocalDateTime revokedAt, long afterId, int limit) {
+        return revoked.stream()
+                .filter(token -> token.revokedAt().isAfter(revokedAt)
+                        || token.revokedAt().isEqual(revokedAt) && token.id() > afterId)
+                .sorted(Comparator.comparing(RevokedToken::revokedAt).thenComparingLong(RevokedToken::id))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public synchronized int purgeExpired(LocalDateTime now) {
+        List<RevokedToken> expired = new ArrayList<>();
+        for (RevokedToken token : revoked) {
+            if (token.expiresAt().isBefore(now)) {
+                expired.add(token);
+            }
+        }
+        revoked.removeAll(expired);
+        expired.forEach(token -> jtis.remove(token.jti()));
+        return expired.size();
+    }
+}
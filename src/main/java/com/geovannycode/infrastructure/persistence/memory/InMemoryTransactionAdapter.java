@@ -0,0 +1,114 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.port.out.TransactionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryTransactionAdapter implements TransactionPort {
+
+    private final InMemoryChangeLog changeLog;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Transaction> transactionsById = new ConcurrentHashMap<>();
+    private final Map<Long, Queue<Transaction>> transactionsByAccount = new ConcurrentHashMap<>();
+
+    @Override
+    public Transaction saveTransaction(Transaction transaction) {
+        if (transaction.getId() == null) {
+            InMemoryEntities.persist(transaction, sequence.incrementAndGet());
+            index(transaction);
+            changeLog.onRollback(() -> unindex(transaction));
+        } else {
+            transactionsById.put(transaction.getId(), transaction);
+        }
+        changeLog.transactionSaved(transaction);
+        return transaction;
+    }
+
+    @Override
+    public List<Transaction> saveTransactions(List<Transaction> transactions) {
+        List<Transaction> saved = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            saved.add(saveTransaction(transaction));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Transaction> findById(Long id) {
+        return Optional.ofNullable(transactionsById.get(id));
+    }
+
+    @Override
+    public List<Transaction> findByAccountId(Long accountId, LocalDateTime from, LocalDateTime to) {
+        Queue<Transaction> transactions = transactionsByAccount.get(accountId);
+        if (transactions == null) {
+            return new ArrayList<>();
+        }
+        return transactions.stream()
+                .filter(transaction -> !transaction.getTransactionDate().isBefore(from)
+                        && transaction.getTransactionDate().isBefore(to))
+                .distinct()
+                .sorted(Comparator.comparing(Transaction::getTransactionDate).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public List<Transaction> findAll() {
+        return transactionsById.values().stream()
+                .sorted(Comparator.comparing(Transaction::getId))
+                .toList();
+    }
+
+    public void restore(Transaction transaction) {
+        if (transactionsById.containsKey(transaction.getId())) {
+            return;
+        }
+        sequence.accumulateAndGet(transaction.getId(), Math::max);
+        index(transaction);
+    }
+
+    private void index(Transaction transaction) {
+        transactionsById.put(transaction.getId(), transaction);
+        index(transaction.getSourceAccount(), transaction);
+        index(transaction.getDestinationAccount(), transaction);
+    }
+
+    private void unindex(Transaction transaction) {
+        transactionsById.remove(transaction.getId());
+        unindex(transaction.getSourceAccount(), transaction);
+        unindex(transaction.getDestinationAccount(), transaction);
+    }
+
+    private void unindex(Account account, Transaction transaction) {
+        if (account != null && account.getId() != null) {
+            Queue<Transaction> transactions = transactionsByAccount.get(account.getId());
+            if (transactions != null) {
+                transactions.remove(transaction);
+            }
+        }
+    }
+
+    private void index(Account account, Transaction transaction) {
+        if (account != null && account.getId() != null) {
+            transactionsByAccount.computeIfAbsent(account.getId(), key -> new ConcurrentLinkedQueue<>()).add(transaction);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.TransactionRollup;
+import com.geovannycode.domain.model.enums.RollupGranularity;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.out.TransactionRollupPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryTransactionRollupAdapter implements TransactionRollupPort {
+
+    private final InMemoryTransactionAdapter transactionAdapter;
+
+    private final Map<RollupKey, TransactionRollup> rollups = new HashMap<>();
+
+    @Override
+    public synchronized void addToBuckets(List<TransactionRollup> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    @Override
+    public synchronized List<TransactionRollup> findBuckets(Collection<RollupGranularity> granularities,
+                                                            LocalDateTime from, LocalDateTime to) {
+        return rollups.values().stream()
+                .filter(rollup -> granularities.contains(rollup.getGranularity()))
+                .filter(rollup -> !rollup.getBucketStart().isBefore(from) && rollup.getBucketStart().isBefore(to))
+                .sorted(Comparator.comparing(TransactionRollup::getBucketStart))
+                .toList();
+    }
+
+    @Override
+    public synchronized int compact(RollupGranularity source, RollupGranularity target, LocalDateTime before) {
+        List<TransactionRollup> moved = new ArrayList<>();
+        rollups.values().removeIf(rollup -> {
+            boolean compacted = rollup.getGranularity() == source && rollup.getBucketStart().isBefore(before);
+            if (compacted) {
+                moved.add(rollup);
+            }
+            return compacted;
+        });
+        Set<RollupKey> targets = new HashSet<>();
+        for (TransactionRollup rollup : moved) {
+            TransactionRollup compacted = TransactionRollup.builder()
+                    .granularity(target)
+                    .bucketStart(target.truncate(rollup.getBucketStart()))
+                    .transactionType(rollup.getTransactionType())
+                    .transactionCount(rollup.getTransactionCount())
+                    .totalAmount(rollup.getTotalAmount())
+                    .build();
+            targets.add(add(compacted));
+        }
+        return targets.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        rollups.clear();
+        for (Transaction transaction : transactionAdapter.findAll()) {
+            if (transaction.getTransactionDate() != null) {
+                add(TransactionRollup.builder()
+                        .granularity(RollupGranularity.MINUTE)
+                        .bucketStart(RollupGranularity.MINUTE.truncate(transaction.getTransactionDate()))
+                        .transactionType(transaction.getTransactionType())
+                        .transactionCount(1)
+                        .totalAmount(transaction.getAmount())
+                        .build());
+            }
+        }
+    }
+
+    private RollupKey add(TransactionRollup delta) {
+        RollupKey key = new RollupKey(delta.getGranularity(), delta.getBucketStart(), delta.getTransactionType());
+        rollups.merge(key, delta,
+                (current, added) -> TransactionRollup.builder()
+                        .granularity(current.getGranularity())
+                        .bucketStart(current.getBucketStart())
+                        .transactionType(current.getTransactionType())
+                        .transactionCount(current.getTransactionCount() + added.getTransactionCount())
+                        .totalAmount(current.getTotalAmount().add(added.getTotalAmount()))
+                        .build());
+        return key;
+    }
+
+    private record RollupKey(RollupGranularity granularity, LocalDateTime bucketStart, TransactionType transactionType) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.AppUser;
+import com.geovannycode.domain.port.out.UserPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Users are not journaled; the bootstrap administrator is recreated on every start.
+@Component
+@Profile("in-memory")
+public class InMemoryUserAdapter implements UserPort {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, AppUser> usersByUsername = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized AppUser save(AppUser user) {
+        if (user.getId() == null) {
+            if (usersByUsername.containsKey(user.getUsername())) {
+                throw new DataIntegrityViolationException("Username already exists: " + user.getUsername());
+            }
+            InMemoryEntities.persist(user, sequence.incrementAndGet());
+        } else {
+            InMemoryEntities.update(user);
+        }
+        usersByUsername.put(user.getUsername(), user);
+        return user;
+    }
+
+    @Override
+    public Optional<AppUser> findByUsername(String username) {
+        return Optional.ofNullable(usersByUsername.get(username));
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return usersByUsername.containsKey(username);
+    }
+
+    @Override
+    public long count() {
+        return usersByUsername.size();
+    }
+}
@@ -0,0 +1,215 @@
+package com.geovannycode.infrastructure.persistence.memory.journal;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryChangeLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Slf4j
+public class InMemoryJournal implements InMemoryChangeLog, AutoCloseable {
+
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final ScheduledExecutorService flusher;
+
+    private JournalSegment segment;
+    private long generation;
+    private volatile boolean dirty;
+
+    public InMemoryJournal(Path directory, int segmentCapacity, Duration flushInterval) {
+        this.directory = directory;
+        this.segmentCapacity = segmentCapacity;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal directory " + directory, e);
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("journal-flusher").daemon().factory());
+        long interval = Math.max(1, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void customerSaved(Customer customer) {
+        record(out -> JournalCodec.writeCustomer(out, customer));
+    }
+
+    @Override
+    public void customerDeleted(Long id) {
+        record(out -> JournalCodec.writeCustomerDeleted(out, id));
+    }
+
+    @Override
+    public void accountSaved(Account account) {
+        record(out -> JournalCodec.writeAccount(out, account));
+    }
+
+    @Override
+    public void transactionSaved(Transaction transaction) {
+        record(out -> JournalCodec.writeTransaction(out, transaction));
+    }
+
+    @Override
+    public void onRollback(Runnable undo) {
+        JournalBatch batch = (JournalBatch) TransactionSynchronizationManager.getResource(this);
+        if (batch != null) {
+            batch.onRollback(undo);
+        }
+    }
+
+    @Override
+    public void onCommit(Runnable action) {
+        JournalBatch batch = (JournalBatch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            action.run();
+        } else {
+            batch.onCommit(action);
+        }
+    }
+
+    synchronized void open(long generation) {
+        if (segment != null) {
+            throw new IllegalStateException("Journal is already open");
+        }
+        this.generation = generation;
+        this.segment = new JournalSegment(segmentPath(generation), segmentCapacity);
+    }
+
+    synchronized long rotate() {
+        requireOpen();
+        segment.close();
+        generation++;
+        segment = new JournalSegment(segmentPath(generation), segmentCapacity);
+        dirty = false;
+        return generation;
+    }
+
+    void commit(JournalBatch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        byte[] payload = batch.toByteArray();
+        synchronized (this) {
+            requireOpen();
+            if (!segment.append(payload, payload.length)) {
+                rotate();
+                if (!segment.append(payload, payload.length)) {
+                    throw new IllegalStateException("Journal frame of " + payload.length
+                            + " bytes exceeds segment capacity " + segmentCapacity);
+                }
+            }
+        }
+        dirty = true;
+    }
+
+    List<Path> segmentsFrom(long firstGeneration) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> generationOf(path, SEGMENT_PREFIX, SEGMENT_SUFFIX) >= firstGeneration)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    void deleteSegmentsBefore(long generation) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                long segmentGeneration = generationOf(path, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+                if (segmentGeneration >= 0 && segmentGeneration < generation) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    public void flush() {
+        JournalSegment current;
+        synchronized (this) {
+            if (!dirty || segment == null) {
+                return;
+            }
+            dirty = false;
+            current = segment;
+        }
+        try {
+            current.force();
+        } catch (RuntimeException e) {
+            dirty = true;
+            log.error("Journal flush failed", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdownNow();
+        synchronized (this) {
+            if (segment != null) {
+                segment.close();
+                segment = null;
+            }
+        }
+    }
+
+    static long generationOf(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(prefix) || !name.endsWith(suffix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void record(RecordWriter writer) {
+        JournalBatch batch = (JournalBatch) TransactionSynchronizationManager.getResource(this);
+        boolean standalone = batch == null;
+        if (standalone) {
+            batch = new JournalBatch();
+        }
+        try {
+            writer.write(batch.out());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (standalone) {
+            commit(batch);
+        }
+    }
+
+    private void requireOpen() {
+        if (segment == null) {
+            throw new IllegalStateException("Journal is not open");
+        }
+    }
+
+    private Path segmentPath(long generation) {
+        return directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, generation, SEGMENT_SUFFIX));
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutput out) throws IOException;
+    }
+}
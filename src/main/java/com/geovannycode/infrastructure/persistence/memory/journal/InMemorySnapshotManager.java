@@ -0,0 +1,246 @@
+package com.geovannycode.infrastructure.persistence.memory.journal;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryAccountAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryCustomerAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryTransactionAdapter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+@Slf4j
+public class InMemorySnapshotManager implements AutoCloseable {
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final int SNAPSHOT_MAGIC = 0x42414e4b;
+    private static final byte END_OF_SNAPSHOT = 0;
+
+    private final InMemoryJournal journal;
+    private final InMemoryCustomerAdapter customerAdapter;
+    private final InMemoryAccountAdapter accountAdapter;
+    private final InMemoryTransactionAdapter transactionAdapter;
+    private final Duration snapshotInterval;
+    private ScheduledExecutorService scheduler;
+
+    public InMemorySnapshotManager(InMemoryJournal journal, InMemoryCustomerAdapter customerAdapter,
+                                   InMemoryAccountAdapter accountAdapter,
+                                   InMemoryTransactionAdapter transactionAdapter, Duration snapshotInterval) {
+        this.journal = journal;
+        this.customerAdapter = customerAdapter;
+        this.accountAdapter = accountAdapter;
+        this.transactionAdapter = transactionAdapter;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public void recover() throws IOException {
+        long firstGeneration = 0;
+        Optional<Path> snapshot = latestValidSnapshot();
+        if (snapshot.isPresent()) {
+            firstGeneration = InMemoryJournal.generationOf(snapshot.get(), SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+            loadSnapshot(snapshot.get());
+        }
+
+        long lastGeneration = firstGeneration;
+        int frames = 0;
+        for (Path segment : journal.segmentsFrom(firstGeneration)) {
+            frames += JournalSegment.replay(segment, this::replayFrame);
+            lastGeneration = Math.max(lastGeneration, InMemoryJournal.generationOf(segment,
+                    InMemoryJournal.SEGMENT_PREFIX, InMemoryJournal.SEGMENT_SUFFIX));
+        }
+        log.info("Recovered in-memory state from {} and {} journal frames",
+                snapshot.map(Path::getFileName).map(Path::toString).orElse("no snapshot"), frames);
+
+        journal.open(lastGeneration + 1);
+        snapshot();
+
+        if (!snapshotInterval.isZero()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("snapshot").daemon().factory());
+            long interval = snapshotInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::scheduledSnapshot, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void snapshot() throws IOException {
+        long generation = journal.rotate();
+        Path target = snapshotPath(generation);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+
+        CRC32C crc = new CRC32C();
+        try (OutputStream file = Files.newOutputStream(temporary);
+             CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), crc);
+             DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(generation);
+            for (Customer customer : customerAdapter.findAll()) {
+                JournalCodec.writeCustomer(out, customer);
+            }
+            for (Account account : accountAdapter.findAll()) {
+                JournalCodec.writeAccount(out, account);
+            }
+            for (Transaction transaction : transactionAdapter.findAll()) {
+                JournalCodec.writeTransaction(out, transaction);
+            }
+            out.writeByte(END_OF_SNAPSHOT);
+            out.flush();
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+
+        deleteSnapshotsBefore(generation);
+        journal.deleteSegmentsBefore(generation);
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Final snapshot failed, state will be rebuilt from the journal", e);
+        }
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Snapshot failed", e);
+        }
+    }
+
+    private void replayFrame(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            while (in.available() > 0) {
+                JournalCodec.read(in, in.readByte(), replayer());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt journal frame", e);
+        }
+    }
+
+    private void loadSnapshot(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            in.readInt();
+            in.readLong();
+            JournalCodec.Replayer replayer = replayer();
+            for (byte type = in.readByte(); type != END_OF_SNAPSHOT; type = in.readByte()) {
+                JournalCodec.read(in, type, replayer);
+            }
+        }
+    }
+
+    private Optional<Path> latestValidSnapshot() throws IOException {
+        List<Path> snapshots;
+        try (Stream<Path> files = Files.list(journal.directory())) {
+            snapshots = files.filter(path -> InMemoryJournal.generationOf(path, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) >= 0)
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        }
+        for (Path snapshot : snapshots) {
+            if (isValid(snapshot)) {
+                return Optional.of(snapshot);
+            }
+            log.warn("Ignoring corrupt snapshot {}", snapshot);
+        }
+        return Optional.empty();
+    }
+
+    private boolean isValid(Path snapshot) throws IOException {
+        long size = Files.size(snapshot);
+        if (size < Integer.BYTES * 2 + Long.BYTES) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        try (InputStream file = Files.newInputStream(snapshot);
+             CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file, 1 << 16), crc)) {
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                return false;
+            }
+            checked.skipNBytes(size - Integer.BYTES * 2);
+            int expected = (int) crc.getValue();
+            return in.readInt() == expected;
+        }
+    }
+
+    private void deleteSnapshotsBefore(long generation) throws IOException {
+        try (Stream<Path> files = Files.list(journal.directory())) {
+            for (Path path : files.toList()) {
+                long snapshotGeneration = InMemoryJournal.generationOf(path, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+                if (snapshotGeneration >= 0 && snapshotGeneration < generation) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private Path snapshotPath(long generation) {
+        return journal.directory().resolve(String.format("%s%012d%s", SNAPSHOT_PREFIX, generation, SNAPSHOT_SUFFIX));
+    }
+
+    private JournalCodec.Replayer replayer() {
+        return new JournalCodec.Replayer() {
+            @Override
+            public void customerSaved(Customer customer) {
+                customerAdapter.restore(customer);
+            }
+
+            @Override
+            public void customerDeleted(long id) {
+                customerAdapter.restoreDeleted(id);
+            }
+
+            @Override
+            public void accountSaved(Account account) {
+                accountAdapter.restore(account);
+            }
+
+            @Override
+            public void transactionSaved(Transaction transaction) {
+                transactionAdapter.restore(transaction);
+            }
+
+            @Override
+            public Customer customer(long id) {
+                return customerAdapter.findById(id).orElse(null);
+            }
+
+            @Override
+            public Account account(long id) {
+                return accountAdapter.findById(id).orElse(null);
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.geovannycode.infrastructure.persistence.memory.journal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+final class JournalBatch {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private final Deque<Runnable> undo = new ArrayDeque<>();
+    private final List<Runnable> commitActions = new ArrayList<>();
+    private boolean rollbackOnly;
+
+    DataOutputStream out() {
+        return out;
+    }
+
+    boolean isEmpty() {
+        return bytes.size() == 0;
+    }
+
+    byte[] toByteArray() {
+        return bytes.toByteArray();
+    }
+
+    void onRollback(Runnable action) {
+        undo.push(action);
+    }
+
+    void onCommit(Runnable action) {
+        commitActions.add(action);
+    }
+
+    void committed() {
+        commitActions.forEach(Runnable::run);
+        undo.clear();
+    }
+
+    void rolledBack() {
+        while (!undo.isEmpty()) {
+            undo.pop().run();
+        }
+        commitActions.clear();
+    }
+
+    boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    void setRollbackOnly() {
+        this.rollbackOnly = true;
+    }
+}
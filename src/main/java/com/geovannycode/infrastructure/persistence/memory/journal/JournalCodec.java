@@ -0,0 +1,230 @@
+package com.geovannycode.infrastructure.persistence.memory.journal;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.AccountNumber;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryEntities;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.LongFunction;
+
+final class JournalCodec {
+
+    static final byte CUSTOMER_SAVED = 1;
+    static final byte CUSTOMER_DELETED = 2;
+    static final byte ACCOUNT_SAVED = 3;
+    static final byte TRANSACTION_SAVED = 4;
+    static final byte ACCOUNT_SAVED_V2 = 5;
+    static final byte TRANSACTION_SAVED_V2 = 6;
+
+    private static final long NO_VALUE = Long.MIN_VALUE;
+    private static final byte AMOUNT_MINOR_UNITS = 0;
+    private static final byte AMOUNT_DECIMAL = 1;
+
+    private JournalCodec() {
+    }
+
+    interface Replayer {
+        void customerSaved(Customer customer);
+        void customerDeleted(long id);
+        void accountSaved(Account account);
+        void transactionSaved(Transaction transaction);
+        Customer customer(long id);
+        Account account(long id);
+    }
+
+    static void writeCustomer(DataOutput out, Customer customer) throws IOException {
+        out.writeByte(CUSTOMER_SAVED);
+        out.writeLong(customer.getId());
+        writeString(out, customer.getIdentificationType());
+        writeString(out, customer.getIdentificationNumber());
+        writeString(out, customer.getFirstName());
+        writeString(out, customer.getLastName());
+        writeString(out, customer.getEmail());
+        out.writeLong(customer.getBirthDate() != null ? customer.getBirthDate().toEpochDay() : NO_VALUE);
+        writeDateTime(out, customer.getCreatedAt());
+        writeDateTime(out, customer.getUpdatedAt());
+    }
+
+    static void writeCustomerDeleted(DataOutput out, Long id) throws IOException {
+        out.writeByte(CUSTOMER_DELETED);
+        out.writeLong(id);
+    }
+
+    static void writeAccount(DataOutput out, Account account) throws IOException {
+        out.writeByte(ACCOUNT_SAVED_V2);
+        out.writeLong(account.getId());
+        out.writeByte(account.getAccountType() != null ? account.getAccountType().ordinal() : -1);
+        out.writeLong(AccountNumber.pack(account.getAccountNumber()));
+        out.writeByte(account.getStatus() != null ? account.getStatus().ordinal() : -1);
+        out.writeByte(AMOUNT_MINOR_UNITS);
+        out.writeLong(account.getBalanceMinorUnits());
+        out.writeByte(account.getGmfExempt() == null ? -1 : account.getGmfExempt() ? 1 : 0);
+        out.writeLong(account.getCustomer().getId());
+        writeDateTime(out, account.getCreatedAt());
+        writeDateTime(out, account.getUpdatedAt());
+        out.writeUTF(account.getCurrency());
+    }
+
+    static void writeTransaction(DataOutput out, Transaction transaction) throws IOException {
+        out.writeByte(TRANSACTION_SAVED_V2);
+        out.writeLong(transaction.getId());
+        out.writeByte(transaction.getTransactionType().ordinal());
+        writeAmount(out, transaction.getAmount());
+        writeDateTime(out, transaction.getTransactionDate());
+        out.writeLong(transaction.getSourceAccount() != null ? transaction.getSourceAccount().getId() : NO_VALUE);
+        out.writeLong(transaction.getDestinationAccount() != null ? transaction.getDestinationAccount().getId() : NO_VALUE);
+        out.writeBoolean(transaction.getExchangeRate() != null);
+        if (transaction.getExchangeRate() != null) {
+            writeAmount(out, transaction.getDestinationAmount());
+            writeAmount(out, transaction.getExchangeRate());
+            out.writeLong(transaction.getRateVersion());
+        }
+    }
+
+    static void read(DataInput in, byte type, Replayer replayer) throws IOException {
+        switch (type) {
+            case CUSTOMER_SAVED -> replayer.customerSaved(readCustomer(in));
+            case CUSTOMER_DELETED -> replayer.customerDeleted(in.readLong());
+            case ACCOUNT_SAVED -> replayer.accountSaved(readAccount(in, replayer::customer, false));
+            case TRANSACTION_SAVED -> replayer.transactionSaved(readTransaction(in, replayer::account, false));
+            case ACCOUNT_SAVED_V2 -> replayer.accountSaved(readAccount(in, replayer::customer, true));
+            case TRANSACTION_SAVED_V2 -> replayer.transactionSaved(readTransaction(in, replayer::account, true));
+            default -> throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    private static Customer readCustomer(DataInput in) throws IOException {
+        long id = in.readLong();
+        Customer customer = Customer.builder()
+                .id(id)
+                .identificationType(readString(in))
+                .identificationNumber(readString(in))
+                .firstName(readString(in))
+                .lastName(readString(in))
+                .email(readString(in))
+                .birthDate(readDate(in))
+                .build();
+        InMemoryEntities.setField(customer, "createdAt", readDateTime(in));
+        InMemoryEntities.setField(customer, "updatedAt", readDateTime(in));
+        return customer;
+    }
+
+    private static Account readAccount(DataInput in, LongFunction<Customer> customers,
+                                       boolean withCurrency) throws IOException {
+        long id = in.readLong();
+        byte accountType = in.readByte();
+        String accountNumber = AccountNumber.unpack(in.readLong());
+        byte status = in.readByte();
+        BigDecimal balance = readAmount(in);
+        byte gmfExempt = in.readByte();
+        Customer customer = customers.apply(in.readLong());
+        LocalDateTime createdAt = readDateTime(in);
+        LocalDateTime updatedAt = readDateTime(in);
+        Account account = Account.builder()
+                .id(id)
+                .accountType(accountType >= 0 ? AccountType.values()[accountType] : null)
+                .accountNumber(accountNumber)
+                .status(status >= 0 ? AccountStatus.values()[status] : null)
+                .balance(balance)
+                .currency(withCurrency ? in.readUTF() : null)
+                .gmfExempt(gmfExempt < 0 ? null : gmfExempt == 1)
+                .customer(customer)
+                .build();
+        InMemoryEntities.setField(account, "createdAt", createdAt);
+        InMemoryEntities.setField(account, "updatedAt", updatedAt);
+        return account;
+    }
+
+    private static Transaction readTransaction(DataInput in, LongFunction<Account> accounts,
+                                               boolean withConversion) throws IOException {
+        long id = in.readLong();
+        TransactionType type = TransactionType.values()[in.readByte()];
+        BigDecimal amount = readAmount(in);
+        LocalDateTime date = readDateTime(in);
+        long sourceId = in.readLong();
+        long destinationId = in.readLong();
+        Transaction.TransactionBuilder builder = Transaction.builder()
+                .id(id)
+                .transactionType(type)
+                .amount(amount)
+                .sourceAccount(sourceId != NO_VALUE ? accounts.apply(sourceId) : null)
+                .destinationAccount(destinationId != NO_VALUE ? accounts.apply(destinationId) : null);
+        if (withConversion && in.readBoolean()) {
+            builder.destinationAmount(readAmount(in))
+                    .exchangeRate(readAmount(in))
+                    .rateVersion(in.readLong());
+        }
+        Transaction transaction = builder.build();
+        InMemoryEntities.setField(transaction, "transactionDate", date);
+        return transaction;
+    }
+
+    private static void writeAmount(DataOutput out, BigDecimal amount) throws IOException {
+        if (MinorUnits.isExact(amount)) {
+            out.writeByte(AMOUNT_MINOR_UNITS);
+            out.writeLong(MinorUnits.of(amount));
+            return;
+        }
+        out.writeByte(AMOUNT_DECIMAL);
+        byte[] unscaled = amount.unscaledValue().toByteArray();
+        out.writeInt(amount.scale());
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readAmount(DataInput in) throws IOException {
+        if (in.readByte() == AMOUNT_MINOR_UNITS) {
+            return MinorUnits.toBigDecimal(in.readLong());
+        }
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedByte()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeLong(NO_VALUE);
+            return;
+        }
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        long seconds = in.readLong();
+        if (seconds == NO_VALUE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(seconds, in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static LocalDate readDate(DataInput in) throws IOException {
+        long epochDay = in.readLong();
+        return epochDay == NO_VALUE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
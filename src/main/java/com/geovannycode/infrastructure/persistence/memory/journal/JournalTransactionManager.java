@@ -0,0 +1,86 @@
+package com.geovannycode.infrastructure.persistence.memory.journal;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class JournalTransactionManager extends AbstractPlatformTransactionManager {
+
+    private final InMemoryJournal journal;
+
+    public JournalTransactionManager(InMemoryJournal journal) {
+        this.journal = journal;
+        setNestedTransactionAllowed(false);
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        return new JournalTransactionObject((JournalBatch) TransactionSynchronizationManager.getResource(journal));
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((JournalTransactionObject) transaction).batch != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        JournalTransactionObject journalTransaction = (JournalTransactionObject) transaction;
+        journalTransaction.batch = new JournalBatch();
+        TransactionSynchronizationManager.bindResource(journal, journalTransaction.batch);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        ((JournalTransactionObject) transaction).batch = null;
+        return TransactionSynchronizationManager.unbindResource(journal);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(journal, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        JournalBatch batch = ((JournalTransactionObject) status.getTransaction()).batch;
+        journal.commit(batch);
+        batch.committed();
+    }
+
+    // Also reached when the journal append in doCommit fails, so nothing the journal lacks stays in memory.
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        ((JournalTransactionObject) status.getTransaction()).batch.rolledBack();
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((JournalTransactionObject) status.getTransaction()).batch.setRollbackOnly();
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(journal);
+    }
+
+    private static final class JournalTransactionObject implements SmartTransactionObject {
+
+        private JournalBatch batch;
+
+        private JournalTransactionObject(JournalBatch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return batch != null && batch.isRollbackOnly();
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.geovannycode.infrastructure.persistence.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+// Registered after the security chain so the client is known. Writes are recorded per request rather than per
+// database transaction because the lane and group-commit engines run mutations on their own threads. The cookie
+// carries the stickiness to whichever node serves the client's next read; it is set before the handler runs
+// because the response may already be committed afterwards.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String STICKY_COOKIE = "rw-sticky-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        readYourWritesTracker.startRequest();
+        if (write) {
+            Cookie cookie = new Cookie(STICKY_COOKIE, Long.toString(readYourWritesTracker.stickyUntilMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, readYourWritesTracker.stickyWindow().toSeconds()));
+            response.addCookie(cookie);
+        } else {
+            pinFromCookie(request);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.clearCurrentRequest();
+            if (write) {
+                readYourWritesTracker.recordWrite(ReadYourWritesTracker.currentClient());
+            }
+        }
+    }
+
+    private void pinFromCookie(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (STICKY_COOKIE.equals(cookie.getName())) {
+                try {
+                    readYourWritesTracker.pinCurrentRequest(Long.parseLong(cookie.getValue()));
+                } catch (NumberFormatException ignored) {
+                    // A malformed cookie only means the read may go to the replica.
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.geovannycode.infrastructure.persistence.replica;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers when each authenticated client last changed data so its reads stay on the primary until the replica
+ * has had time to catch up. The map only covers writes taken by this node; a write taken by another node is
+ * known from the wall-clock deadline the client sends back, which pins the current request. A request that has
+ * read from the primary also stays there, so its later reads never see an older state than its earlier ones.
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    // Unset outside a request, false inside one that may still use the replica.
+    private final ThreadLocal<Boolean> requestPinned = new ThreadLocal<>();
+    private final long stickyNanos;
+    private final LongSupplier clock;
+    private final LongSupplier wallClock;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this(stickyWindow, System::nanoTime, System::currentTimeMillis);
+    }
+
+    ReadYourWritesTracker(Duration stickyWindow, LongSupplier clock) {
+        this(stickyWindow, clock, System::currentTimeMillis);
+    }
+
+    ReadYourWritesTracker(Duration stickyWindow, LongSupplier clock, LongSupplier wallClock) {
+        this.stickyNanos = stickyWindow.toNanos();
+        this.clock = clock;
+        this.wallClock = wallClock;
+    }
+
+    public void recordWrite(String client) {
+        if (client != null) {
+            lastWrites.put(client, clock.getAsLong());
+        }
+    }
+
+    public Duration stickyWindow() {
+        return Duration.ofNanos(stickyNanos);
+    }
+
+    public long stickyUntilMillis() {
+        return wallClock.getAsLong() + stickyNanos / 1_000_000;
+    }
+
+    // Deadlines further out than one window did not come from this tracker and are ignored.
+    public void pinCurrentRequest(long stickyUntilMillis) {
+        long remaining = stickyUntilMillis - wallClock.getAsLong();
+        if (remaining > 0 && remaining * 1_000_000 <= stickyNanos) {
+            requestPinned.set(Boolean.TRUE);
+        }
+    }
+
+    public void startRequest() {
+        requestPinned.set(Boolean.FALSE);
+    }
+
+    public void keepCurrentRequestOnPrimary() {
+        if (requestPinned.get() != null) {
+            requestPinned.set(Boolean.TRUE);
+        }
+    }
+
+    public void clearCurrentRequest() {
+        requestPinned.remove();
+    }
+
+    public boolean isPinnedToPrimary(String client) {
+        if (Boolean.TRUE.equals(requestPinned.get())) {
+            return true;
+        }
+        if (client == null) {
+            return false;
+        }
+        Long lastWrite = lastWrites.get(client);
+        return lastWrite != null && clock.getAsLong() - lastWrite < stickyNanos;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= stickyNanos);
+    }
+
+    static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,54 @@
+package com.geovannycode.infrastructure.persistence.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // A replica that has replayed everything it received is current even if the primary has been idle for a while.
+    private static final String REPLICATION_LAG = """
+            select case
+                       when not pg_is_in_recovery() or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                       else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   end::bigint
+            """;
+
+    private static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private volatile long lagMillis = UNKNOWN;
+
+    public ReplicaLagMonitor(JdbcTemplate replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis == UNKNOWN ? Double.NaN : monitor.lagMillis / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    // Until the first successful check, and whenever the replica cannot be reached, every read stays on the primary.
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:1s}")
+    public void refresh() {
+        try {
+            Long lag = replica.queryForObject(REPLICATION_LAG, Long.class);
+            lagMillis = lag != null ? lag : UNKNOWN;
+        } catch (DataAccessException e) {
+            if (lagMillis != UNKNOWN) {
+                log.warn("Replica unreachable, routing reads to the primary: {}", e.getMessage());
+            }
+            lagMillis = UNKNOWN;
+        }
+    }
+
+    public boolean isWithinTolerance() {
+        return lagMillis <= maxLagMillis;
+    }
+}
@@ -0,0 +1,42 @@
+package com.geovannycode.infrastructure.persistence.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections of read-only transactions to the replica while it is within the staleness tolerance and
+ * the calling client has no recent write. Once a request has used the primary its later connections stay there.
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the read-only flag is bound only after the transaction
+ * manager has asked for its connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor replicaLagMonitor,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaLagMonitor.isWithinTolerance()
+                && !readYourWritesTracker.isPinnedToPrimary(ReadYourWritesTracker.currentClient())) {
+            return Target.REPLICA;
+        }
+        readYourWritesTracker.keepCurrentRequestOnPrimary();
+        return Target.PRIMARY;
+    }
+}
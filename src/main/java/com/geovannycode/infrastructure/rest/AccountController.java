@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -48,17 +49,15 @@ public class AccountController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AccountDTO> getAccountById(@PathVariable Long id) {
-        return accountUseCase.findAccountById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<AccountDTO> getAccountById(@PathVariable Long id, WebRequest request) {
+        return ConditionalGet.respond(request, accountUseCase.findAccountVersionById(id),
+                () -> accountUseCase.findAccountById(id));
     }
 
     @GetMapping("/number/{accountNumber}")
-    public ResponseEntity<AccountDTO> getAccountByNumber(@PathVariable String accountNumber) {
-        return accountUseCase.findAccountByNumber(accountNumber)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<AccountDTO> getAccountByNumber(@PathVariable String accountNumber, WebRequest request) {
+        return ConditionalGet.respond(request, accountUseCase.findAccountVersionByNumber(accountNumber),
+                () -> accountUseCase.findAccountByNumber(accountNumber));
     }
 
     @GetMapping("/customers/{customerId}")
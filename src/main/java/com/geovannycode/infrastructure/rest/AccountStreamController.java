@@ -0,0 +1,109 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.application.dto.AccountDTO;
+import com.geovannycode.application.dto.AccountEventDTO;
+import com.geovannycode.application.service.AccountEventBus;
+import com.geovannycode.domain.model.ResourceVersion;
+import com.geovannycode.domain.port.in.AccountUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/accounts/stream")
+public class AccountStreamController {
+
+    private final AccountUseCase accountUseCase;
+    private final AccountEventBus accountEventBus;
+    private final int maxAccounts;
+    private final Duration timeout;
+
+    public AccountStreamController(AccountUseCase accountUseCase,
+                                   AccountEventBus accountEventBus,
+                                   @Value("${app.streams.max-accounts:20}") int maxAccounts,
+                                   @Value("${app.streams.timeout:30m}") Duration timeout) {
+        this.accountUseCase = accountUseCase;
+        this.accountEventBus = accountEventBus;
+        this.maxAccounts = maxAccounts;
+        this.timeout = timeout;
+    }
+
+    // Every stream opens with a "balance" snapshot per account; "transaction" events follow. Events are ordered by
+    // the account's ETag version and then by transaction id, because transactions committed in one batch share a
+    // version; a snapshot sorts before the transactions of its version. The SSE id carries that key, so a client can
+    // drop anything at or below what it already shows.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@RequestParam("accounts") Set<String> accountNumbers) {
+        if (accountNumbers.isEmpty() || accountNumbers.size() > maxAccounts) {
+            return ResponseEntity.badRequest().build();
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        // Subscribing before reading the snapshots means no change can fall between the two.
+        Optional<AccountEventBus.Subscription> subscription = accountEventBus.subscribe(accountNumbers, new EmitterSink(emitter));
+        if (subscription.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        List<AccountEventDTO> snapshots = new ArrayList<>(accountNumbers.size());
+        for (String accountNumber : accountNumbers) {
+            Optional<ResourceVersion> version = accountUseCase.findAccountVersionByNumber(accountNumber);
+            Optional<AccountDTO> account = version.flatMap(ignored -> accountUseCase.findAccountByNumber(accountNumber));
+            if (account.isEmpty()) {
+                subscription.get().close();
+                return ResponseEntity.notFound().build();
+            }
+            snapshots.add(AccountEventDTO.builder()
+                    .accountNumber(accountNumber)
+                    .balance(account.get().getBalance())
+                    .currency(account.get().getCurrency())
+                    .version(version.get().version())
+                    .occurredAt(LocalDateTime.now())
+                    .build());
+        }
+
+        emitter.onCompletion(subscription.get()::close);
+        emitter.onTimeout(subscription.get()::close);
+        emitter.onError(error -> subscription.get().close());
+        snapshots.forEach(subscription.get()::offer);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements AccountEventBus.Sink {
+
+        @Override
+        public void send(AccountEventDTO event) throws IOException {
+            long transactionId = event.getTransactionId() != null ? event.getTransactionId() : 0;
+            emitter.send(SseEmitter.event()
+                    .id(event.getVersion() + "-" + transactionId)
+                    .name(event.getTransactionId() == null ? "balance" : "transaction")
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
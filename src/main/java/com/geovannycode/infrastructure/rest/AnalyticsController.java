@@ -0,0 +1,34 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.application.dto.TransactionVolumeDTO;
+import com.geovannycode.domain.model.enums.RollupGranularity;
+import com.geovannycode.domain.port.in.TransactionAnalyticsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final TransactionAnalyticsUseCase transactionAnalyticsUseCase;
+
+    @GetMapping("/transactions")
+    public ResponseEntity<List<TransactionVolumeDTO>> getTransactionVolume(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) RollupGranularity granularity) {
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(transactionAnalyticsUseCase.getTransactionVolume(from, to, granularity));
+    }
+}
@@ -2,15 +2,22 @@ package com.geovannycode.infrastructure.rest;
 
 import com.geovannycode.application.dto.AuthRequestDTO;
 import com.geovannycode.application.dto.AuthResponseDTO;
+import com.geovannycode.application.dto.RefreshTokenRequestDTO;
+import com.geovannycode.infrastructure.secutiry.AuthTokenService;
 import com.geovannycode.infrastructure.secutiry.JwtTokenProvider;
+import com.geovannycode.infrastructure.secutiry.PasswordHashingSaturatedException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,21 +27,57 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AuthenticationController {
 
+    private static final String BEARER = "Bearer ";
+
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AuthTokenService authTokenService;
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponseDTO> login(@RequestBody AuthRequestDTO loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsername(),
-                        loginRequest.getPassword()
-                )
-        );
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            loginRequest.getUsername(),
+                            loginRequest.getPassword()
+                    )
+            );
+        } catch (PasswordHashingSaturatedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = jwtTokenProvider.generateToken(loginRequest.getUsername());
+        AuthTokenService.TokenPair tokens = authTokenService.issue(authentication.getName(),
+                authentication.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList());
+
+        return ResponseEntity.ok(toResponse(tokens));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDTO> refresh(@RequestBody RefreshTokenRequestDTO refreshRequest) {
+        if (refreshRequest.getRefreshToken() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return authTokenService.refresh(refreshRequest.getRefreshToken())
+                .map(tokens -> ResponseEntity.ok(toResponse(tokens)))
+                .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequestDTO logoutRequest) {
+        authTokenService.logout(
+                authorization != null && authorization.startsWith(BEARER)
+                        ? jwtTokenProvider.parse(authorization.substring(BEARER.length()))
+                        : null,
+                logoutRequest != null ? logoutRequest.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
 
-        return ResponseEntity.ok(new AuthResponseDTO(jwt));
+    private static AuthResponseDTO toResponse(AuthTokenService.TokenPair tokens) {
+        return new AuthResponseDTO(tokens.accessToken(), tokens.refreshToken(), tokens.expiresIn());
     }
 }
@@ -0,0 +1,45 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.domain.model.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Answers If-None-Match from the version lookup alone; the resource is only loaded and serialized when it changed.
+ * The version is read before the body, so a concurrent update can only make the ETag older than the body, which
+ * costs the client one extra download. That holds across the two read-only transactions because a request that
+ * read the version from the primary loads the body from it too, never from a replica that may be behind.
+ */
+final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(WebRequest request, Optional<ResourceVersion> version,
+                                         Supplier<Optional<T>> loader) {
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String eTag = eTag(version.get());
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
+        }
+        return loader.get()
+                .map(body -> ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(body))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    static String eTag(ResourceVersion version) {
+        long updatedAt = version.updatedAt() == null ? 0
+                : version.updatedAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000L + version.updatedAt().getNano() / 1_000;
+        return "\"" + Long.toString(version.version(), 36) + "-" + Long.toString(updatedAt, 36) + "\"";
+    }
+}
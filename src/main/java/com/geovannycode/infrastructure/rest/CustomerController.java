@@ -1,9 +1,13 @@
 package com.geovannycode.infrastructure.rest;
 
 import com.geovannycode.application.dto.CustomerDTO;
+import com.geovannycode.application.dto.CustomerSearchResultDTO;
+import com.geovannycode.application.dto.CustomerSummaryDTO;
 import com.geovannycode.domain.exception.CustomerHasAccountsException;
 import com.geovannycode.domain.exception.UnderageCustomerException;
 import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.port.in.CustomerSearchUseCase;
+import com.geovannycode.domain.port.in.CustomerSummaryUseCase;
 import com.geovannycode.domain.port.in.CustomerUseCase;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +20,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,6 +32,8 @@ import java.util.List;
 public class CustomerController {
 
     private final CustomerUseCase customerUseCase;
+    private final CustomerSummaryUseCase customerSummaryUseCase;
+    private final CustomerSearchUseCase customerSearchUseCase;
 
     @PostMapping
     public ResponseEntity<CustomerDTO> createCustomer(@Valid @RequestBody CustomerDTO customerDTO) {
@@ -45,9 +53,23 @@ public class CustomerController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<CustomerSearchResultDTO> searchCustomers(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(customerSearchUseCase.searchCustomers(query, page, size));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerDTO> getCustomerById(@PathVariable Long id) {
-        return customerUseCase.findCustomerById(id)
+    public ResponseEntity<CustomerDTO> getCustomerById(@PathVariable Long id, WebRequest request) {
+        return ConditionalGet.respond(request, customerUseCase.findCustomerVersionById(id),
+                () -> customerUseCase.findCustomerById(id));
+    }
+
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<CustomerSummaryDTO> getCustomerSummary(@PathVariable Long id) {
+        return customerSummaryUseCase.getCustomerSummary(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -0,0 +1,37 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.application.dto.CreateCustomerImportDTO;
+import com.geovannycode.application.dto.CustomerImportDTO;
+import com.geovannycode.domain.port.in.CustomerImportUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/customers/imports")
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class CustomerImportController {
+
+    private final CustomerImportUseCase customerImportUseCase;
+
+    @PostMapping
+    public ResponseEntity<CustomerImportDTO> createImport(@Valid @RequestBody CreateCustomerImportDTO customerImportDTO) {
+        return new ResponseEntity<>(customerImportUseCase.createImport(customerImportDTO), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CustomerImportDTO> getImportById(@PathVariable Long id) {
+        return customerImportUseCase.findImportById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,82 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.application.service.RateLimitService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+
+// Runs after the JWT filter so the subject is known; anonymous calls such as login are limited per client address,
+// which Tomcat takes from X-Forwarded-For when the connection comes from a trusted proxy (server.tomcat.remoteip).
+// The account scope is shared by every caller, so only mutations are charged to it; reads would let any client
+// exhaust another customer's account bucket.
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String SCOPE_HEADER = "X-RateLimit-Scope";
+
+    private final RateLimitService rateLimitService;
+
+    public RateLimitInterceptor(RateLimitService rateLimitService) {
+        this.rateLimitService = rateLimitService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        Optional<RateLimitService.Rejection> rejection = rateLimitService.checkRequest(subject(request), route(request));
+        if (rejection.isEmpty() && isMutation(request)) {
+            rejection = accountNumber(request).flatMap(rateLimitService::checkAccount);
+        }
+        rejection.ifPresent(rejected -> reject(response, rejected));
+        return rejection.isEmpty();
+    }
+
+    static HttpHeaders headers(RateLimitService.Rejection rejection) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(rejection.retryAfterSeconds()));
+        headers.set(SCOPE_HEADER, rejection.scope());
+        return headers;
+    }
+
+    private static void reject(HttpServletResponse response, RateLimitService.Rejection rejection) {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        headers(rejection).forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+    }
+
+    private static String subject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && authentication.getName() != null
+                && !"anonymousUser".equals(authentication.getName())) {
+            return authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static boolean isMutation(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return !HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method) && !HttpMethod.OPTIONS.equals(method);
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<String> accountNumber(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return Optional.ofNullable(variables != null ? variables.get("accountNumber") : null);
+    }
+}
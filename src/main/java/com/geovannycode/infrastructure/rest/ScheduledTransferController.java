@@ -0,0 +1,44 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.application.dto.CreateScheduledTransferDTO;
+import com.geovannycode.application.dto.ScheduledTransferDTO;
+import com.geovannycode.domain.port.in.ScheduledTransferUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/scheduled-transfers")
+@RequiredArgsConstructor
+public class ScheduledTransferController {
+
+    private final ScheduledTransferUseCase scheduledTransferUseCase;
+
+    @PostMapping
+    public ResponseEntity<ScheduledTransferDTO> createScheduledTransfer(
+            @Valid @RequestBody CreateScheduledTransferDTO scheduledTransferDTO) {
+        return new ResponseEntity<>(scheduledTransferUseCase.createScheduledTransfer(scheduledTransferDTO),
+                HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ScheduledTransferDTO> getScheduledTransferById(@PathVariable Long id) {
+        return scheduledTransferUseCase.findScheduledTransferById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelScheduledTransfer(@PathVariable Long id) {
+        scheduledTransferUseCase.cancelScheduledTransfer(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.application.dto.CreateTransactionDTO;
+import com.geovannycode.application.service.RateLimitService;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+// The account of a new transaction is only known once the body is read, so it is checked here rather than in
+// RateLimitInterceptor. The source account is the one being drained; deposits fall back to the destination.
+@ControllerAdvice
+public class TransactionRateLimitAdvice extends RequestBodyAdviceAdapter {
+
+    private final RateLimitService rateLimitService;
+
+    public TransactionRateLimitAdvice(RateLimitService rateLimitService) {
+        this.rateLimitService = rateLimitService;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return CreateTransactionDTO.class.equals(methodParameter.getParameterType());
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        CreateTransactionDTO transaction = (CreateTransactionDTO) body;
+        String accountNumber = transaction.getSourceAccountNumber() != null
+                ? transaction.getSourceAccountNumber()
+                : transaction.getDestinationAccountNumber();
+        if (accountNumber != null) {
+            rateLimitService.checkAccount(accountNumber).ifPresent(rejection -> {
+                ErrorResponseException exception = new ErrorResponseException(HttpStatus.TOO_MANY_REQUESTS);
+                exception.getHeaders().addAll(RateLimitInterceptor.headers(rejection));
+                throw exception;
+            });
+        }
+        return body;
+    }
+}
@@ -0,0 +1,53 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import com.geovannycode.domain.model.AppUser;
+import com.geovannycode.domain.model.enums.UserRole;
+import com.geovannycode.domain.port.out.UserPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+
+// Creates the first administrator when the user store is empty, replacing the former hardcoded in-memory user.
+@Slf4j
+@Component
+public class AdminUserInitializer implements ApplicationRunner {
+
+    private final UserPort userPort;
+    private final PasswordEncoder passwordEncoder;
+    private final String username;
+    private final String password;
+
+    public AdminUserInitializer(UserPort userPort, PasswordEncoder passwordEncoder,
+                                @Value("${app.security.admin.username:admin}") String username,
+                                @Value("${app.security.admin.password}") String password) {
+        this.userPort = userPort;
+        this.passwordEncoder = passwordEncoder;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (userPort.count() > 0) {
+            return;
+        }
+        // Nodes starting together can all see an empty store; the unique username lets only one of them create it.
+        try {
+            userPort.save(AppUser.builder()
+                    .username(username)
+                    .passwordHash(passwordEncoder.encode(password))
+                    .roles(EnumSet.of(UserRole.ADMIN, UserRole.USER))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.info("Administrator '{}' was created by another node", username);
+            return;
+        }
+        log.info("Created administrator '{}' in the empty user store", username);
+    }
+}
@@ -0,0 +1,151 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import com.geovannycode.domain.model.RefreshToken;
+import com.geovannycode.domain.port.out.RefreshTokenPort;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class AuthTokenService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenPort refreshTokenPort;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final UserDetailsService userDetailsService;
+    private final Duration refreshExpiration;
+    private final SecureRandom random = new SecureRandom();
+
+    public AuthTokenService(JwtTokenProvider jwtTokenProvider,
+                            RefreshTokenPort refreshTokenPort,
+                            RevokedTokenRegistry revokedTokenRegistry,
+                            UserDetailsService userDetailsService,
+                            @Value("${app.security.jwt.refresh-expiration:30d}") Duration refreshExpiration) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenPort = refreshTokenPort;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.userDetailsService = userDetailsService;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    @Transactional
+    public TokenPair issue(String username, Collection<String> roles) {
+        return issue(username, roles, UUID.randomUUID().toString());
+    }
+
+    // Holds the refresh token's lock (a row lock until commit with a database), so two refreshes with the same
+    // token cannot both rotate it.
+    @Transactional
+    public Optional<TokenPair> refresh(String refreshToken) {
+        return refreshTokenPort.withTokenLocked(hash(refreshToken), stored -> rotate(stored, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void logout(Claims accessClaims, String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        if (accessClaims != null && accessClaims.getId() != null) {
+            revokedTokenRegistry.revoke(accessClaims.getId(),
+                    JwtTokenProvider.toLocalDateTime(accessClaims.getExpiration()));
+        }
+        if (refreshToken != null) {
+            refreshTokenPort.withTokenLocked(hash(refreshToken), stored -> {
+                stored.ifPresent(token -> revokeFamily(token.getFamilyId(), now));
+                return stored;
+            });
+        }
+    }
+
+    private Optional<TokenPair> rotate(Optional<RefreshToken> stored, LocalDateTime now) {
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        RefreshToken current = stored.get();
+        if (current.isRevoked()) {
+            log.warn("Refresh token reused for user '{}', revoking its session", current.getUsername());
+            revokeFamily(current.getFamilyId(), now);
+            return Optional.empty();
+        }
+        if (current.isExpired(now)) {
+            return Optional.empty();
+        }
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(current.getUsername());
+        } catch (UsernameNotFoundException e) {
+            revokeFamily(current.getFamilyId(), now);
+            return Optional.empty();
+        }
+        if (!user.isEnabled()) {
+            revokeFamily(current.getFamilyId(), now);
+            return Optional.empty();
+        }
+        current.revoke(now);
+        refreshTokenPort.save(current);
+        List<String> roles = user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+        return Optional.of(issue(user.getUsername(), roles, current.getFamilyId()));
+    }
+
+    private TokenPair issue(String username, Collection<String> roles, String familyId) {
+        JwtTokenProvider.AccessToken accessToken = jwtTokenProvider.issueAccessToken(username, roles);
+        String refreshToken = newRefreshToken();
+        refreshTokenPort.save(RefreshToken.builder()
+                .tokenHash(hash(refreshToken))
+                .username(username)
+                .familyId(familyId)
+                .accessJti(accessToken.jti())
+                .accessExpiresAt(accessToken.expiresAt())
+                .expiresAt(LocalDateTime.now().plus(refreshExpiration))
+                .build());
+        return new TokenPair(accessToken.token(), refreshToken, accessToken.expiresInSeconds());
+    }
+
+    private void revokeFamily(String familyId, LocalDateTime now) {
+        for (RefreshToken token : refreshTokenPort.findByFamilyId(familyId)) {
+            if (token.getAccessExpiresAt().isAfter(now)) {
+                revokedTokenRegistry.revoke(token.getAccessJti(), token.getAccessExpiresAt());
+            }
+            if (!token.isRevoked()) {
+                token.revoke(now);
+                refreshTokenPort.save(token);
+            }
+        }
+    }
+
+    private String newRefreshToken() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record TokenPair(String accessToken, String refreshToken, long expiresIn) {
+    }
+}
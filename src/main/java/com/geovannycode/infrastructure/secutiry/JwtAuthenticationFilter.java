@@ -1,5 +1,6 @@
 package com.geovannycode.infrastructure.secutiry;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,9 +14,11 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, RevokedTokenRegistry revokedTokenRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.revokedTokenRegistry = revokedTokenRegistry;
     }
 
     @Override
@@ -25,8 +28,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = getJwtFromRequest(request);
 
         try {
-            if (token != null && !token.isEmpty() && jwtTokenProvider.validateToken(token)) {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
+            Claims claims = token != null && !token.isEmpty() ? jwtTokenProvider.parse(token) : null;
+            if (claims != null && !revokedTokenRegistry.isRevoked(claims.getId())) {
+                Authentication auth = jwtTokenProvider.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
         } catch (Exception e) {
@@ -1,6 +1,7 @@
 package com.geovannycode.infrastructure.secutiry;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -13,13 +14,20 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String ROLES_CLAIM = "roles";
+
     @Value("${app.security.jwt.secret}")
     private String jwtSecret;
 
@@ -27,33 +35,55 @@ public class JwtTokenProvider {
     private long jwtExpiration;
 
     private Key key;
+    private JwtParser parser;
 
     @PostConstruct
     protected void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String generateToken(String username) {
+        return generateToken(username, List.of("ROLE_USER"));
+    }
+
+    public String generateToken(String username, Collection<String> roles) {
+        return issueAccessToken(username, roles).token();
+    }
+
+    public AccessToken issueAccessToken(String username, Collection<String> roles) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
+        String jti = UUID.randomUUID().toString();
 
-        return Jwts.builder()
+        String token = Jwts.builder()
+                .setId(jti)
                 .setSubject(username)
+                .claim(ROLES_CLAIM, roles)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
+        return new AccessToken(token, jti, toLocalDateTime(expiryDate), jwtExpiration / 1000);
     }
 
     public boolean validateToken(String token) {
+        return parse(token) != null;
+    }
+
+    // Verifies the signature and expiry once; null when the token is not valid.
+    public Claims parse(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (Exception e) {
-            return false;
+            return null;
         }
     }
 
+    public static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -68,11 +98,7 @@ public class JwtTokenProvider {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     private Boolean isTokenExpired(String token) {
@@ -80,9 +106,17 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        String username = extractUsername(token);
-        return new UsernamePasswordAuthenticationToken(
-                username, null,
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        return getAuthentication(extractAllClaims(token));
+    }
+
+    public Authentication getAuthentication(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        List<SimpleGrantedAuthority> authorities = roles == null
+                ? Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                : roles.stream().map(role -> new SimpleGrantedAuthority(role.toString())).toList();
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
+    }
+
+    public record AccessToken(String token, String jti, LocalDateTime expiresAt, long expiresInSeconds) {
     }
 }
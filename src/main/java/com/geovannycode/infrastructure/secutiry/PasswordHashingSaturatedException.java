@@ -0,0 +1,11 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+// An internal authentication error so the provider manager reports it at once instead of trying other providers.
+public class PasswordHashingSaturatedException extends InternalAuthenticationServiceException {
+
+    public PasswordHashingSaturatedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import com.geovannycode.domain.model.AppUser;
+import com.geovannycode.domain.port.out.UserPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+// Also a UserDetailsPasswordService: after a successful login with a hash weaker than the configured BCrypt
+// strength, Spring Security re-encodes the password and stores it here.
+@RequiredArgsConstructor
+public class PersistentUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private final UserPort userPort;
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        return userPort.findByUsername(username)
+                .map(PersistentUserDetailsService::toUserDetails)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AppUser appUser = userPort.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + user.getUsername()));
+        appUser.changePassword(newPassword);
+        return toUserDetails(userPort.save(appUser));
+    }
+
+    private static UserDetails toUserDetails(AppUser user) {
+        return User.withUsername(user.getUsername())
+                .password(user.getPasswordHash())
+                .disabled(!user.isEnabled())
+                .roles(user.getRoles().stream().map(Enum::name).toArray(String[]::new))
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import com.geovannycode.domain.model.RevokedToken;
+import com.geovannycode.domain.port.out.TokenRevocationPort;
+import com.geovannycode.infrastructure.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local copy of the revoked access token ids, so the check on every request never reaches the database.
+ * A Bloom filter answers the common "not revoked" case; its rare positives are confirmed against the exact set.
+ * Revocations are polled incrementally by revocation time and dropped once the token has expired, and the filter
+ * is rebuilt when enough of its entries have gone stale.
+ */
+@Component
+public class RevokedTokenRegistry {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TokenRevocationPort tokenRevocationPort;
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+    private final Duration commitLag;
+    private final Map<String, LocalDateTime> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+    private int filterEntries;
+    private int staleEntries;
+    private LocalDateTime lastRevokedAt = EPOCH;
+
+    public RevokedTokenRegistry(TokenRevocationPort tokenRevocationPort, MeterRegistry meterRegistry,
+                                @Value("${app.security.revocation.expected-tokens:100000}") int expectedTokens,
+                                @Value("${app.security.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                @Value("${app.security.revocation.commit-lag:30s}") Duration commitLag) {
+        this.tokenRevocationPort = tokenRevocationPort;
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.commitLag = commitLag;
+        this.filter = new BloomFilter(expectedTokens, falsePositiveRate);
+        Gauge.builder("auth.tokens.revoked", revoked, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        refresh(LocalDateTime.now());
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    public void revoke(String jti, LocalDateTime expiresAt) {
+        tokenRevocationPort.revoke(jti, expiresAt);
+        add(jti, expiresAt);
+    }
+
+    public synchronized void refresh(LocalDateTime now) {
+        // revoked_at is stamped when the revoking transaction starts but becomes visible at commit, so every poll
+        // reads again the window a transaction may still be committing into. Both bounds come from the database clock.
+        List<RevokedToken> batch;
+        LocalDateTime fromRevokedAt = lastRevokedAt.isAfter(EPOCH.plus(commitLag)) ? lastRevokedAt.minus(commitLag) : EPOCH;
+        long fromId = 0;
+        do {
+            batch = tokenRevocationPort.findRevokedSince(fromRevokedAt, fromId, BATCH_SIZE);
+            for (RevokedToken token : batch) {
+                if (token.expiresAt().isAfter(now)) {
+                    add(token.jti(), token.expiresAt());
+                }
+                fromRevokedAt = token.revokedAt();
+                fromId = token.id();
+                if (token.revokedAt().isAfter(lastRevokedAt)) {
+                    lastRevokedAt = token.revokedAt();
+                }
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        staleEntries += before - revoked.size();
+        if (staleEntries > revoked.size() || filterEntries > expectedTokens) {
+            rebuild();
+        }
+    }
+
+    private synchronized void add(String jti, LocalDateTime expiresAt) {
+        if (revoked.putIfAbsent(jti, expiresAt) == null) {
+            filter.add(jti);
+            filterEntries++;
+        }
+    }
+
+    private void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        filterEntries = revoked.size();
+        staleEntries = 0;
+    }
+}
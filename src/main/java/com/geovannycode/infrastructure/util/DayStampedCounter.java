@@ -0,0 +1,96 @@
+package com.geovannycode.infrastructure.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DayStampedCounter {
+
+    private static final int DAY_SHIFT = 48;
+    public static final long MAX_VALUE = (1L << DAY_SHIFT) - 1;
+
+    // Epoch day in the high 16 bits and the running total in the low 48, so a single CAS both
+    // resets the counter at the day boundary and applies the increment.
+    private final AtomicLong state = new AtomicLong();
+    // The day the counter last rolled over from, with its final total, so usage not yet persisted can still be read.
+    private final AtomicLong closed = new AtomicLong();
+
+    public boolean tryAdd(long epochDay, long amount, long limit) {
+        long cap = Math.min(limit, MAX_VALUE);
+        while (true) {
+            long current = state.get();
+            long day = Math.max(dayOf(current), epochDay);
+            long used = dayOf(current) == day ? valueOf(current) : 0;
+            if (amount > cap - used) {
+                return false;
+            }
+            if (state.compareAndSet(current, pack(day, used + amount))) {
+                if (dayOf(current) < day && valueOf(current) > 0) {
+                    closed.accumulateAndGet(current, (previous, rolled) -> dayOf(rolled) >= dayOf(previous) ? rolled : previous);
+                }
+                return true;
+            }
+        }
+    }
+
+    public void subtract(long epochDay, long amount) {
+        while (true) {
+            long current = state.get();
+            if (dayOf(current) == epochDay) {
+                if (state.compareAndSet(current, pack(epochDay, Math.max(0, valueOf(current) - amount)))) {
+                    return;
+                }
+                continue;
+            }
+            long previous = closed.get();
+            if (dayOf(previous) != epochDay) {
+                return;
+            }
+            if (closed.compareAndSet(previous, pack(epochDay, Math.max(0, valueOf(previous) - amount)))) {
+                return;
+            }
+        }
+    }
+
+    public void restore(long epochDay, long value) {
+        while (true) {
+            long current = state.get();
+            if (dayOf(current) > epochDay) {
+                return;
+            }
+            long used = dayOf(current) == epochDay ? valueOf(current) : 0;
+            long next = pack(epochDay, Math.min(MAX_VALUE, Math.max(used, value)));
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    public long get(long epochDay) {
+        long current = state.get();
+        return dayOf(current) == epochDay ? valueOf(current) : 0;
+    }
+
+    public long day() {
+        return dayOf(state.get());
+    }
+
+    public long closedDay() {
+        return dayOf(closed.get());
+    }
+
+    public long getClosed(long epochDay) {
+        long current = closed.get();
+        return dayOf(current) == epochDay ? valueOf(current) : 0;
+    }
+
+    private static long pack(long epochDay, long value) {
+        return epochDay << DAY_SHIFT | value;
+    }
+
+    private static long dayOf(long state) {
+        return state >>> DAY_SHIFT;
+    }
+
+    private static long valueOf(long state) {
+        return state & MAX_VALUE;
+    }
+}
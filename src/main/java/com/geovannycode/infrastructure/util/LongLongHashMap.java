@@ -0,0 +1,135 @@
+package com.geovannycode.infrastructure.util;
+
+// Open-addressing map from long to long without boxing; key 0 marks an empty slot and cannot be stored. Keys and
+// values share one array and a writer grows the table before it can fill up, so get() on a table that is being
+// written may return a stale value but always terminates: callers can read optimistically and validate afterwards.
+public class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.75f;
+    // Two slots per entry and arrays are indexed by int, so the table stops at 2^30 longs.
+    private static final int MAX_CAPACITY = 1 << 29;
+    public static final int MAX_SIZE = (int) (MAX_CAPACITY * LOAD_FACTOR);
+
+    private long[] table;
+    private int size;
+    private int resizeThreshold;
+
+    public LongLongHashMap(int expectedSize) {
+        if (expectedSize > MAX_SIZE) {
+            throw new IllegalArgumentException("Expected size " + expectedSize + " exceeds " + MAX_SIZE);
+        }
+        long needed = Math.max(4L, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+        allocate(Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    public long get(long key) {
+        long[] entries = table;
+        int index = find(entries, key);
+        return entries[index] == EMPTY ? 0L : entries[index + 1];
+    }
+
+    public boolean containsKey(long key) {
+        long[] entries = table;
+        return entries[find(entries, key)] != EMPTY;
+    }
+
+    public long addTo(long key, long delta) {
+        int index = find(table, key);
+        if (table[index] == EMPTY) {
+            insert(key, delta);
+            return delta;
+        }
+        table[index + 1] = Math.addExact(table[index + 1], delta);
+        return table[index + 1];
+    }
+
+    // Returns the value already mapped to the key, or 0 when the key was absent and the value was stored.
+    public long putIfAbsent(long key, long value) {
+        int index = find(table, key);
+        if (table[index] != EMPTY) {
+            return table[index + 1];
+        }
+        insert(key, value);
+        return 0L;
+    }
+
+    public long remove(long key) {
+        long[] entries = table;
+        int index = find(entries, key);
+        if (entries[index] == EMPTY) {
+            return 0L;
+        }
+        long removed = entries[index + 1];
+        int mask = entries.length - 1;
+        // Backward-shift deletion keeps every probe chain unbroken without tombstones.
+        int gap = index;
+        int next = (gap + 2) & mask;
+        while (entries[next] != EMPTY) {
+            int home = (mix(entries[next]) << 1) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                entries[gap] = entries[next];
+                entries[gap + 1] = entries[next + 1];
+                gap = next;
+            }
+            next = (next + 2) & mask;
+        }
+        entries[gap] = EMPTY;
+        entries[gap + 1] = 0L;
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void insert(long key, long value) {
+        if (size >= resizeThreshold) {
+            if (table.length > MAX_CAPACITY) {
+                throw new IllegalStateException("Map cannot hold more than " + MAX_SIZE + " entries");
+            }
+            rehash(table.length);
+        }
+        int index = find(table, key);
+        table[index + 1] = value;
+        table[index] = key;
+        size++;
+    }
+
+    private static int find(long[] entries, long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int mask = entries.length - 1;
+        int index = (mix(key) << 1) & mask;
+        while (entries[index] != EMPTY && entries[index] != key) {
+            index = (index + 2) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldTable = table;
+        long[] newTable = new long[capacity << 1];
+        for (int i = 0; i < oldTable.length; i += 2) {
+            if (oldTable[i] != EMPTY) {
+                int index = find(newTable, oldTable[i]);
+                newTable[index] = oldTable[i];
+                newTable[index + 1] = oldTable[i + 1];
+            }
+        }
+        table = newTable;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity << 1];
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
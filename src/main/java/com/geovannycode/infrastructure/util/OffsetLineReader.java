@@ -0,0 +1,57 @@
+package com.geovannycode.infrastructure.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class OffsetLineReader implements Closeable {
+
+    private final InputStream in;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+    private long offset;
+
+    public OffsetLineReader(Path path, long offset) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(offset);
+        this.in = new BufferedInputStream(Channels.newInputStream(channel), 1 << 16);
+        this.offset = offset;
+    }
+
+    public String readLine() throws IOException {
+        line.reset();
+        int next;
+        while ((next = in.read()) != -1) {
+            offset++;
+            if (next == '\n') {
+                return decode();
+            }
+            line.write(next);
+        }
+        return line.size() > 0 ? decode() : null;
+    }
+
+    public long offset() {
+        return offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private String decode() {
+        int length = line.size();
+        byte[] bytes = line.toByteArray();
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+package com.geovannycode.infrastructure.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class PrefixIndex<V> {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final Comparator<Rank> RANK_ORDER = Comparator.comparing((Rank rank) -> !rank.exact())
+            .thenComparingInt(Rank::tokenLength)
+            .thenComparingLong(Rank::id);
+
+    private final NavigableMap<String, Long> tokens = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public void put(long id, V value, Set<String> keys) {
+        entries.compute(id, (key, previous) -> {
+            if (previous != null) {
+                previous.keys().forEach(token -> tokens.remove(token + SEPARATOR + id));
+            }
+            keys.forEach(token -> tokens.put(token + SEPARATOR + id, id));
+            return new Entry<>(value, Set.copyOf(keys));
+        });
+    }
+
+    public void remove(long id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            previous.keys().forEach(token -> tokens.remove(token + SEPARATOR + id));
+            return null;
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Ranks exact token matches first, then shorter tokens, then lower ids. Scans at most maxCandidates keys.
+    public List<V> search(String prefix, int offset, int limit, int maxCandidates) {
+        Map<Long, Rank> ranks = new HashMap<>();
+        int scanned = 0;
+        for (Map.Entry<String, Long> match : tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, true).entrySet()) {
+            if (++scanned > maxCandidates) {
+                break;
+            }
+            String key = match.getKey();
+            int tokenLength = key.lastIndexOf(SEPARATOR);
+            Rank rank = new Rank(match.getValue(), tokenLength == prefix.length(), tokenLength);
+            ranks.merge(rank.id(), rank, (left, right) -> RANK_ORDER.compare(left, right) <= 0 ? left : right);
+        }
+
+        List<Rank> ordered = new ArrayList<>(ranks.values());
+        ordered.sort(RANK_ORDER);
+        List<V> page = new ArrayList<>(Math.min(limit, Math.max(0, ordered.size() - offset)));
+        for (int i = offset; i < ordered.size() && page.size() < limit; i++) {
+            Entry<V> entry = entries.get(ordered.get(i).id());
+            if (entry != null) {
+                page.add(entry.value());
+            }
+        }
+        return page;
+    }
+
+    private record Entry<V>(V value, Set<String> keys) {
+    }
+
+    private record Rank(long id, boolean exact, int tokenLength) {
+    }
+}
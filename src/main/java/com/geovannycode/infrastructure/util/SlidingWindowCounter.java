@@ -0,0 +1,86 @@
+package com.geovannycode.infrastructure.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray sums;
+
+    public SlidingWindowCounter(Duration window, int buckets) {
+        if (buckets <= 0 || window.toMillis() < buckets) {
+            throw new IllegalArgumentException("Window " + window + " cannot be split into " + buckets + " buckets");
+        }
+        this.bucketMillis = window.toMillis() / buckets;
+        this.buckets = buckets;
+        this.epochs = new AtomicLongArray(buckets);
+        this.counts = new AtomicLongArray(buckets);
+        this.sums = new AtomicLongArray(buckets);
+    }
+
+    public void add(long nowMillis, long amount) {
+        long epoch = nowMillis / bucketMillis;
+        int index = (int) Math.floorMod(epoch, buckets);
+        while (true) {
+            long current = epochs.get(index);
+            if (current == epoch) {
+                counts.incrementAndGet(index);
+                sums.addAndGet(index, amount);
+                return;
+            }
+            if (current > epoch) {
+                return;
+            }
+            // The winner of the roll-over resets the slot; an increment racing with it may be lost,
+            // which only ever undercounts by a few events at a bucket boundary.
+            if (epochs.compareAndSet(index, current, epoch)) {
+                counts.set(index, 1);
+                sums.set(index, amount);
+                return;
+            }
+        }
+    }
+
+    // Takes back an amount added at addedAtMillis, unless its bucket has already rolled over.
+    public void remove(long addedAtMillis, long amount) {
+        long epoch = addedAtMillis / bucketMillis;
+        int index = (int) Math.floorMod(epoch, buckets);
+        if (epochs.get(index) == epoch) {
+            counts.decrementAndGet(index);
+            sums.addAndGet(index, -amount);
+        }
+    }
+
+    public long count(long nowMillis) {
+        return total(counts, nowMillis);
+    }
+
+    public long sum(long nowMillis) {
+        return total(sums, nowMillis);
+    }
+
+    public boolean isIdle(long nowMillis) {
+        long oldest = nowMillis / bucketMillis - buckets;
+        for (int i = 0; i < buckets; i++) {
+            if (epochs.get(i) > oldest) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long total(AtomicLongArray values, long nowMillis) {
+        long oldest = nowMillis / bucketMillis - buckets;
+        long total = 0;
+        for (int i = 0; i < buckets; i++) {
+            if (epochs.get(i) > oldest) {
+                total += values.get(i);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,2 @@
+-- Where the archive file of each month lives, so readers use the catalogued copy and fail when it is missing.
+alter table transaction_archives add column location varchar(1024);
@@ -0,0 +1,13 @@
+-- Versioned exchange rate tables: transactions record the version they were converted at, so aggregates and
+-- restarted nodes can convert again at that exact rate. Rates are the value of one unit in the base currency.
+create table fx_rate_snapshots (
+    version   bigint generated by default as identity primary key,
+    loaded_at timestamp(6) not null
+);
+
+create table fx_rates (
+    version  bigint         not null references fx_rate_snapshots (version),
+    currency varchar(3)     not null,
+    rate     numeric(38, 18) not null,
+    primary key (version, currency)
+);
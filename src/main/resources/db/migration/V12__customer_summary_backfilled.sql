@@ -0,0 +1,2 @@
+-- Rows created by a movement before the backfill saw the customer hold only deltas; the backfill recomputes them once.
+alter table customer_summaries add column backfilled boolean not null default false;
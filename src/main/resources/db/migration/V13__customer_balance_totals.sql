@@ -0,0 +1,13 @@
+-- Balances are totalled per currency in minor units and converted to the base currency when read, so a summary
+-- matches its accounts at the current rates. Summaries are backfilled again to fill the new table.
+create table customer_balance_totals (
+    customer_id         bigint       not null,
+    account_type        varchar(255) not null,
+    currency            varchar(3)   not null,
+    balance_minor_units bigint       not null,
+    constraint pk_customer_balance_totals primary key (customer_id, account_type, currency)
+);
+
+alter table customer_summaries drop column savings_balance, drop column checking_balance;
+
+update customer_summaries set backfilled = false;
@@ -0,0 +1,2 @@
+-- Nodes poll revocations by (revoked_at, id) instead of by id alone.
+create index idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at, id);
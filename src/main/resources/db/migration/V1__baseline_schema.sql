@@ -0,0 +1,149 @@
+-- Schema as previously generated by Hibernate; existing databases are baselined at this version.
+
+create table customers (
+    id                    bigint generated by default as identity primary key,
+    identification_type   varchar(255) not null,
+    identification_number varchar(255) not null,
+    first_name            varchar(255) not null,
+    last_name             varchar(255) not null,
+    email                 varchar(255) not null,
+    birth_date            date         not null,
+    created_at            timestamp(6) not null,
+    updated_at            timestamp(6),
+    constraint uk_customers_identification_number unique (identification_number),
+    constraint uk_customers_email unique (email)
+);
+
+create table accounts (
+    id             bigint generated by default as identity primary key,
+    account_type   varchar(255)   not null,
+    account_number varchar(10)    not null,
+    status         varchar(255)   not null,
+    balance        numeric(38, 2) not null,
+    currency       varchar(3)     not null,
+    gmf_exempt     boolean,
+    created_at     timestamp(6)   not null,
+    updated_at     timestamp(6),
+    customer_id    bigint         not null,
+    constraint uk_accounts_account_number unique (account_number),
+    constraint fk_accounts_customer foreign key (customer_id) references customers (id)
+);
+
+create table transactions (
+    id                     bigint generated by default as identity primary key,
+    transaction_type       varchar(255)   not null,
+    amount                 numeric(38, 2) not null,
+    destination_amount     numeric(38, 2),
+    exchange_rate          numeric(20, 10),
+    rate_version           bigint,
+    transaction_date       timestamp(6)   not null,
+    source_account_id      bigint,
+    destination_account_id bigint,
+    constraint fk_transactions_source_account foreign key (source_account_id) references accounts (id),
+    constraint fk_transactions_destination_account foreign key (destination_account_id) references accounts (id)
+);
+
+create table customer_summaries (
+    customer_id        bigint primary key,
+    savings_balance    numeric(38, 2) not null,
+    checking_balance   numeric(38, 2) not null,
+    active_accounts    bigint         not null,
+    inactive_accounts  bigint         not null,
+    cancelled_accounts bigint         not null,
+    month_start        date           not null,
+    month_inflow       numeric(38, 2) not null,
+    month_outflow      numeric(38, 2) not null,
+    updated_at         timestamp(6)
+);
+
+create table transaction_rollups (
+    id                bigint generated by default as identity primary key,
+    granularity       varchar(10)    not null,
+    bucket_start      timestamp(6)   not null,
+    transaction_type  varchar(255)   not null,
+    transaction_count bigint         not null,
+    total_amount      numeric(38, 2) not null,
+    constraint uk_transaction_rollups_bucket unique (granularity, bucket_start, transaction_type)
+);
+
+create table reconciliation_discrepancies (
+    id              bigint generated by default as identity primary key,
+    account_id      bigint         not null,
+    account_balance numeric(38, 2) not null,
+    transaction_net numeric(38, 2) not null,
+    difference      numeric(38, 2) not null,
+    detected_at     timestamp(6)   not null
+);
+
+create table interest_accrual_checkpoints (
+    id                 bigint generated by default as identity primary key,
+    business_date      date           not null,
+    partition_start    bigint         not null,
+    partition_end      bigint         not null,
+    last_account_id    bigint         not null,
+    accounts_processed bigint         not null,
+    interest_posted    numeric(38, 2) not null,
+    completed          boolean        not null,
+    updated_at         timestamp(6),
+    constraint uk_interest_accrual_checkpoints_partition unique (business_date, partition_start)
+);
+
+create table limit_usage (
+    id              bigint generated by default as identity primary key,
+    scope           varchar(10)    not null,
+    owner_id        bigint         not null,
+    business_date   date           not null,
+    withdrawn       numeric(38, 2) not null,
+    transferred_out numeric(38, 2) not null,
+    constraint uk_limit_usage_owner_day unique (scope, owner_id, business_date)
+);
+
+create table scheduled_transfers (
+    id                         bigint generated by default as identity primary key,
+    source_account_number      varchar(10)    not null,
+    destination_account_number varchar(10)    not null,
+    amount                     numeric(38, 2) not null,
+    frequency                  varchar(10)    not null,
+    first_execution            timestamp(6)   not null,
+    next_execution             timestamp(6)   not null,
+    end_date                   date,
+    partition_id               integer        not null,
+    execution_count            integer        not null,
+    attempts                   integer        not null,
+    status                     varchar(10)    not null,
+    last_error                 varchar(500),
+    created_at                 timestamp(6)   not null,
+    updated_at                 timestamp(6)
+);
+
+create index idx_scheduled_transfers_due on scheduled_transfers (status, partition_id, next_execution);
+
+create table partition_leases (
+    id           bigint generated by default as identity primary key,
+    workload     varchar(50)                 not null,
+    partition_id integer                     not null,
+    owner        varchar(100),
+    lease_until  timestamp(6) with time zone not null,
+    constraint uk_partition_leases_partition unique (workload, partition_id)
+);
+
+create table lease_nodes (
+    node_id      varchar(100) primary key,
+    heartbeat_at timestamp(6) with time zone not null
+);
+
+create table customer_imports (
+    id             bigint generated by default as identity primary key,
+    source_path    varchar(500) not null,
+    rejects_path   varchar(500) not null,
+    format         varchar(10)  not null,
+    status         varchar(10)  not null,
+    source_offset  bigint       not null,
+    rejects_offset bigint       not null,
+    lines_read     bigint       not null,
+    imported       bigint       not null,
+    rejected       bigint       not null,
+    last_error     varchar(500),
+    created_at     timestamp(6) not null,
+    updated_at     timestamp(6)
+);
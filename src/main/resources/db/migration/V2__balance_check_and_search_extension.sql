@@ -0,0 +1,5 @@
+-- NOT VALID adds the constraint without a full-table lock; VALIDATE then scans while writes continue.
+alter table accounts add constraint chk_accounts_balance_non_negative check (balance >= 0) not valid;
+alter table accounts validate constraint chk_accounts_balance_non_negative;
+
+create extension if not exists pg_trgm;
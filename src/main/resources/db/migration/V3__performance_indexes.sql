@@ -0,0 +1,18 @@
+-- Built concurrently so existing tables keep accepting writes; Flyway runs this script outside a transaction.
+
+-- AccountRepository.findByCustomerId and the customer summary rebuild.
+create index concurrently if not exists idx_accounts_customer_id on accounts (customer_id);
+
+-- Interest accrual walks active accounts of one type in id order.
+create index concurrently if not exists idx_accounts_type_status_id on accounts (account_type, status, id);
+
+-- TransactionRepository.findBySourceAccountId / findByDestinationAccountId and reconciliation,
+-- with transaction_date second so per-account history ranges are served from the index.
+create index concurrently if not exists idx_transactions_source_account_date
+    on transactions (source_account_id, transaction_date);
+create index concurrently if not exists idx_transactions_destination_account_date
+    on transactions (destination_account_id, transaction_date);
+
+-- Expression must match CustomerSearchAdapter.SEARCH_TEXT exactly.
+create index concurrently if not exists idx_customers_search_trgm
+    on customers using gin ((lower(first_name || ' ' || last_name || ' ' || email || ' ' || identification_number)) gin_trgm_ops);
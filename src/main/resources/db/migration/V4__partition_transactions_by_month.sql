@@ -0,0 +1,51 @@
+-- Monthly range partitions on transaction_date. Partitioned tables cannot carry an identity column
+-- on every supported Postgres version, so ids move to a plain sequence continuing the old values.
+
+alter table transactions rename to transactions_unpartitioned;
+alter table transactions_unpartitioned alter column id drop identity;
+
+create sequence transactions_id_seq as bigint;
+
+create table transactions (
+    id                     bigint         not null default nextval('transactions_id_seq'),
+    transaction_type       varchar(255)   not null,
+    amount                 numeric(38, 2) not null,
+    destination_amount     numeric(38, 2),
+    exchange_rate          numeric(20, 10),
+    rate_version           bigint,
+    transaction_date       timestamp(6)   not null,
+    source_account_id      bigint,
+    destination_account_id bigint,
+    constraint fk_transactions_source_account foreign key (source_account_id) references accounts (id),
+    constraint fk_transactions_destination_account foreign key (destination_account_id) references accounts (id)
+) partition by range (transaction_date);
+
+alter sequence transactions_id_seq owned by transactions.id;
+
+-- Covers every month with existing rows plus three ahead; TransactionPartitionJob keeps extending it.
+do $$
+declare
+    month date := date_trunc('month', coalesce((select min(transaction_date) from transactions_unpartitioned), now()));
+    last_month date := date_trunc('month', now()) + interval '3 months';
+begin
+    while month <= last_month loop
+        execute format('create table %I partition of transactions for values from (%L) to (%L)',
+                       'transactions_p' || to_char(month, 'YYYYMM'), month, (month + interval '1 month')::date);
+        month := (month + interval '1 month')::date;
+    end loop;
+end $$;
+
+insert into transactions (id, transaction_type, amount, destination_amount, exchange_rate, rate_version,
+                          transaction_date, source_account_id, destination_account_id)
+select id, transaction_type, amount, destination_amount, exchange_rate, rate_version,
+       transaction_date, source_account_id, destination_account_id
+from transactions_unpartitioned;
+
+select setval('transactions_id_seq', coalesce(max(id), 0) + 1, false) from transactions;
+
+drop table transactions_unpartitioned;
+
+-- The primary key of a partitioned table must include the partition key.
+alter table transactions add constraint transactions_pkey primary key (id, transaction_date);
+create index idx_transactions_source_account_date on transactions (source_account_id, transaction_date);
+create index idx_transactions_destination_account_date on transactions (destination_account_id, transaction_date);
@@ -0,0 +1,14 @@
+-- Months moved to archive files; their partitions are dropped in the same transaction.
+create table transaction_archives (
+    month       date         primary key,
+    row_count   bigint       not null,
+    archived_at timestamp(6) not null
+);
+
+-- Per-account net of every archived month so reconciliation still balances without the rows.
+create table archived_account_totals (
+    account_id bigint         not null,
+    month      date           not null,
+    net_amount numeric(38, 2) not null,
+    primary key (account_id, month)
+);
@@ -0,0 +1,3 @@
+-- Incremented on every update; combined with updated_at it backs the ETags of account and customer reads.
+alter table accounts add column version bigint not null default 0;
+alter table customers add column version bigint not null default 0;
@@ -0,0 +1,5 @@
+-- Shared rate limit state (app.rate-limit.mode: shared). Unlogged: losing it on a crash only refills the buckets.
+create unlogged table rate_limit_buckets (
+    bucket_key   varchar(255) not null primary key,
+    booked_until bigint       not null
+);
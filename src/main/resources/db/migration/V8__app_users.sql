@@ -0,0 +1,22 @@
+-- Login accounts, optionally linked to the customer they belong to. The first administrator is created at
+-- startup from app.security.admin so no password hash is kept in the migrations.
+create table app_users (
+    id            bigint generated by default as identity primary key,
+    username      varchar(100) not null,
+    password_hash varchar(100) not null,
+    enabled       boolean      not null,
+    customer_id   bigint,
+    created_at    timestamp(6) not null,
+    updated_at    timestamp(6),
+    constraint uk_app_users_username unique (username),
+    constraint fk_app_users_customer foreign key (customer_id) references customers (id)
+);
+
+create index idx_app_users_customer_id on app_users (customer_id);
+
+create table app_user_roles (
+    user_id bigint      not null,
+    role    varchar(20) not null,
+    constraint pk_app_user_roles primary key (user_id, role),
+    constraint fk_app_user_roles_user foreign key (user_id) references app_users (id) on delete cascade
+);
@@ -0,0 +1,27 @@
+-- Rotating refresh tokens, stored as SHA-256 hashes and grouped by login session (family).
+create table refresh_tokens (
+    id                bigint generated by default as identity primary key,
+    token_hash        varchar(64)  not null,
+    username          varchar(100) not null,
+    family_id         varchar(36)  not null,
+    access_jti        varchar(36)  not null,
+    access_expires_at timestamp(6) not null,
+    expires_at        timestamp(6) not null,
+    revoked_at        timestamp(6),
+    created_at        timestamp(6) not null,
+    constraint uk_refresh_tokens_token_hash unique (token_hash)
+);
+
+create index idx_refresh_tokens_family_id on refresh_tokens (family_id);
+create index idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
+
+-- Revoked access token ids, polled by id on every node; rows are purged once the token has expired.
+create table revoked_tokens (
+    id         bigint generated by default as identity primary key,
+    jti        varchar(36)  not null,
+    expires_at timestamp(6) not null,
+    revoked_at timestamp(6) not null,
+    constraint uk_revoked_tokens_jti unique (jti)
+);
+
+create index idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
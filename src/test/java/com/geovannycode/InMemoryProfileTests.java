@@ -0,0 +1,70 @@
+package com.geovannycode;
+
+import com.geovannycode.application.dto.AccountDTO;
+import com.geovannycode.application.dto.CustomerDTO;
+import com.geovannycode.application.dto.CustomerSummaryDTO;
+import com.geovannycode.application.dto.TransactionDTO;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.port.in.AccountUseCase;
+import com.geovannycode.domain.port.in.CustomerSummaryUseCase;
+import com.geovannycode.domain.port.in.CustomerUseCase;
+import com.geovannycode.domain.port.in.TransactionUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("in-memory")
+class InMemoryProfileTests {
+
+    @Autowired
+    private CustomerUseCase customerUseCase;
+
+    @Autowired
+    private AccountUseCase accountUseCase;
+
+    @Autowired
+    private TransactionUseCase transactionUseCase;
+
+    @Autowired
+    private CustomerSummaryUseCase customerSummaryUseCase;
+
+    @Test
+    void transferBetweenAccounts() {
+        CustomerDTO customer = customerUseCase.createCustomer(CustomerDTO.builder()
+                .identificationType("CC")
+                .identificationNumber("123456789")
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .birthDate(LocalDate.of(1990, 1, 15))
+                .build());
+        AccountDTO savings = accountUseCase.createAccount(
+                AccountDTO.builder().accountType(AccountType.SAVINGS).build(), customer.getId());
+        AccountDTO checking = accountUseCase.createAccount(
+                AccountDTO.builder().accountType(AccountType.CHECKING).build(), customer.getId());
+
+        transactionUseCase.createDeposit(savings.getAccountNumber(), new BigDecimal("100.00"));
+        TransactionDTO transfer = transactionUseCase.createTransfer(
+                savings.getAccountNumber(), checking.getAccountNumber(), new BigDecimal("40.00"));
+
+        assertEquals(checking.getAccountNumber(), transfer.getDestinationAccountNumber());
+        assertEquals(new BigDecimal("60.00"),
+                accountUseCase.findAccountById(savings.getId()).orElseThrow().getBalance());
+        assertEquals(2, transactionUseCase.getTransactionsByAccount(savings.getAccountNumber(), null, null).size());
+
+        CustomerSummaryDTO summary = customerSummaryUseCase.getCustomerSummary(customer.getId()).orElseThrow();
+        assertEquals(new BigDecimal("60.00"), summary.getBalanceByAccountType().get(AccountType.SAVINGS));
+        assertEquals(new BigDecimal("40.00"), summary.getBalanceByAccountType().get(AccountType.CHECKING));
+        assertEquals(2L, summary.getAccountsByStatus().get(AccountStatus.ACTIVE));
+        assertEquals(new BigDecimal("100.00"), summary.getMonthToDateInflow());
+        assertEquals(BigDecimal.ZERO, summary.getMonthToDateOutflow());
+    }
+}
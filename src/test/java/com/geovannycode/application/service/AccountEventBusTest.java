@@ -0,0 +1,137 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.AccountEventDTO;
+import com.geovannycode.domain.event.TransactionCompletedEvent;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AccountEventBusTest {
+
+    private final Account source = Account.builder().id(1L).accountNumber("5312345678")
+            .balance(new BigDecimal("900.00")).build();
+    private final Account destination = Account.builder().id(2L).accountNumber("3312345678")
+            .balance(new BigDecimal("600.00")).build();
+
+    private final AccountEventBus bus = new AccountEventBus(new SimpleMeterRegistry(), 2, 4);
+
+    @AfterEach
+    void tearDown() {
+        bus.close();
+    }
+
+    @Test
+    void transfer_IsDeliveredToSubscribersOfBothAccounts() throws InterruptedException {
+        // Given
+        RecordingSink sourceSink = new RecordingSink();
+        RecordingSink destinationSink = new RecordingSink();
+        bus.subscribe(Set.of("5312345678"), sourceSink);
+        bus.subscribe(Set.of("3312345678"), destinationSink);
+
+        // When
+        bus.onTransactionCompleted(new TransactionCompletedEvent(transfer(10L)));
+
+        // Then
+        AccountEventDTO debit = sourceSink.events.poll(5, TimeUnit.SECONDS);
+        AccountEventDTO credit = destinationSink.events.poll(5, TimeUnit.SECONDS);
+        assertEquals(new BigDecimal("-100.00"), debit.getAmount());
+        assertEquals(new BigDecimal("900.00"), debit.getBalance());
+        assertEquals(new BigDecimal("100.00"), credit.getAmount());
+        assertEquals(new BigDecimal("600.00"), credit.getBalance());
+        assertEquals(10L, credit.getTransactionId());
+        assertNull(sourceSink.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void subscribe_BeyondLimit_IsRejected() {
+        // Given
+        bus.subscribe(Set.of("5312345678"), new RecordingSink());
+        Optional<AccountEventBus.Subscription> second = bus.subscribe(Set.of("5312345678"), new RecordingSink());
+
+        // When
+        Optional<AccountEventBus.Subscription> third = bus.subscribe(Set.of("3312345678"), new RecordingSink());
+
+        // Then
+        assertTrue(second.isPresent());
+        assertTrue(third.isEmpty());
+        second.get().close();
+        assertTrue(bus.subscribe(Set.of("3312345678"), new RecordingSink()).isPresent());
+    }
+
+    @Test
+    void slowSubscriber_IsEvictedWhenBufferOverflows() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink() {
+            @Override
+            public void send(AccountEventDTO event) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(event);
+            }
+        };
+        RecordingSink fast = new RecordingSink();
+        bus.subscribe(Set.of("5312345678"), slow);
+        bus.subscribe(Set.of("5312345678"), fast);
+
+        // When
+        for (long id = 1; id <= 10; id++) {
+            bus.onTransactionCompleted(new TransactionCompletedEvent(transfer(id)));
+            fast.events.poll(5, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, bus.subscriberCount());
+        assertEquals(1, fast.closed.getCount());
+        release.countDown();
+    }
+
+    private Transaction transfer(long id) {
+        return Transaction.builder()
+                .id(id)
+                .transactionType(TransactionType.TRANSFER)
+                .amount(new BigDecimal("100.00"))
+                .sourceAccount(source)
+                .destinationAccount(destination)
+                .build();
+    }
+
+    private static class RecordingSink implements AccountEventBus.Sink {
+        final BlockingQueue<AccountEventDTO> events = new LinkedBlockingQueue<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void send(AccountEventDTO event) throws IOException {
+            events.add(event);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
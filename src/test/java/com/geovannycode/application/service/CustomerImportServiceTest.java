@@ -0,0 +1,214 @@
+package com.geovannycode.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geovannycode.application.dto.CreateCustomerImportDTO;
+import com.geovannycode.application.mapper.CustomerImportMapper;
+import com.geovannycode.application.mapper.CustomerMapper;
+import com.geovannycode.domain.exception.InvalidImportFileException;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.CustomerImport;
+import com.geovannycode.domain.model.enums.ImportFormat;
+import com.geovannycode.domain.model.enums.ImportStatus;
+import com.geovannycode.domain.port.out.CustomerImportPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class CustomerImportServiceTest {
+
+    private static final String CSV_HEADER = "identification_type,identification_number,first_name,last_name,email,birth_date";
+
+    @Mock
+    private CustomerImportPort customerImportPort;
+
+    @TempDir
+    private Path directory;
+
+    private CustomerImportService customerImportService;
+    private final List<Customer> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(customerImportPort.save(any(CustomerImport.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(customerImportPort.findExistingEmails(any())).thenAnswer(invocation -> inserted.stream()
+                .map(Customer::getEmail)
+                .filter(invocation.<Collection<String>>getArgument(0)::contains)
+                .collect(Collectors.toSet()));
+        when(customerImportPort.findExistingIdentificationNumbers(any())).thenReturn(Set.of());
+        when(customerImportPort.insertCustomers(anyList())).thenAnswer(invocation -> {
+            List<Customer> customers = invocation.getArgument(0);
+            inserted.addAll(customers);
+            boolean[] result = new boolean[customers.size()];
+            Arrays.fill(result, true);
+            return result;
+        });
+        customerImportService = service(2);
+    }
+
+    @Test
+    void run_Csv_ImportsValidRowsAndWritesRejects() throws IOException {
+        // Given
+        when(customerImportPort.findExistingIdentificationNumbers(any())).thenReturn(Set.of("555"));
+        customerImportService = service(10);
+        CustomerImport customerImport = givenImport(ImportFormat.CSV, CSV_HEADER,
+                "CC,111,John,Doe,john@example.com,1990-01-15",
+                "CC,222,Young,Kid,kid@example.com," + LocalDate.now().minusYears(10),
+                "CC,333,Bad,Mail,not-an-email,1985-03-02",
+                "CC,444,Jane,\"Doe, Jr\",john@example.com,1991-02-01",
+                "CC,555,Known,Customer,known@example.com,1980-06-30");
+
+        // When
+        customerImportService.run(customerImport.getId());
+
+        // Then
+        assertEquals(ImportStatus.COMPLETED, customerImport.getStatus());
+        assertEquals(1, customerImport.getImported());
+        assertEquals(4, customerImport.getRejected());
+        assertEquals(6, customerImport.getLinesRead());
+        assertEquals(List.of("111"), inserted.stream().map(Customer::getIdentificationNumber).toList());
+
+        List<String> rejects = Files.readAllLines(Path.of(customerImport.getRejectsPath()));
+        assertEquals(5, rejects.size());
+        assertEquals("line_number,reason,record", rejects.get(0));
+        assertTrue(rejects.get(1).startsWith("3,\"Cannot register an underage customer\""));
+        assertTrue(rejects.get(2).startsWith("4,\"Must be a valid email address\""));
+        assertTrue(rejects.get(3).startsWith("5,\"Duplicate email in file\",\"CC,444,Jane,\"\"Doe, Jr\"\""));
+        assertTrue(rejects.get(4).startsWith("6,\"A customer with this identification number already exists\""));
+    }
+
+    @Test
+    void run_Ndjson_RejectsMalformedRecords() throws IOException {
+        // Given
+        CustomerImport customerImport = givenImport(ImportFormat.NDJSON,
+                "{\"identificationType\":\"CC\",\"identificationNumber\":\"111\",\"firstName\":\"John\","
+                        + "\"lastName\":\"Doe\",\"email\":\"john@example.com\",\"birthDate\":\"1990-01-15\"}",
+                "",
+                "{\"identificationType\":\"CC\",");
+
+        // When
+        customerImportService.run(customerImport.getId());
+
+        // Then
+        assertEquals(ImportStatus.COMPLETED, customerImport.getStatus());
+        assertEquals(1, customerImport.getImported());
+        assertEquals(1, customerImport.getRejected());
+        assertTrue(Files.readAllLines(Path.of(customerImport.getRejectsPath())).get(1)
+                .startsWith("3,\"Malformed JSON record\""));
+    }
+
+    @Test
+    void run_WhenBatchFails_RecordsFailureAndResumesFromLastCommittedBatch() throws IOException {
+        // Given
+        CustomerImport customerImport = givenImport(ImportFormat.CSV, CSV_HEADER,
+                "CC,111,Ana,Perez,ana@example.com,1990-01-15",
+                "CC,222,Luis,Gomez,bad-email,1990-01-15",
+                "CC,333,Eva,Ruiz,eva@example.com,1990-01-15",
+                "CC,444,Juan,Diaz,juan@example.com,1990-01-15");
+        when(customerImportPort.insertCustomers(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Customer> customers = invocation.getArgument(0);
+                    inserted.addAll(customers);
+                    return new boolean[]{true};
+                })
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenAnswer(invocation -> {
+                    List<Customer> customers = invocation.getArgument(0);
+                    inserted.addAll(customers);
+                    return new boolean[]{true, true};
+                });
+
+        // When
+        customerImportService.run(customerImport.getId());
+
+        // Then
+        assertEquals(ImportStatus.FAILED, customerImport.getStatus());
+        assertEquals("database unavailable", customerImport.getLastError());
+        assertEquals(1, customerImport.getImported());
+        assertEquals(3, customerImport.getLinesRead());
+
+        // When
+        customerImport.start();
+        customerImportService.run(customerImport.getId());
+
+        // Then
+        assertEquals(ImportStatus.COMPLETED, customerImport.getStatus());
+        assertEquals(3, customerImport.getImported());
+        assertEquals(1, customerImport.getRejected());
+        assertEquals(List.of("111", "333", "444"), inserted.stream().map(Customer::getIdentificationNumber).toList());
+        assertEquals(2, Files.readAllLines(Path.of(customerImport.getRejectsPath())).size());
+    }
+
+    @Test
+    void run_CsvWithoutRequiredColumn_FailsImport() throws IOException {
+        // Given
+        CustomerImport customerImport = givenImport(ImportFormat.CSV, "identification_number,email",
+                "111,john@example.com");
+
+        // When
+        customerImportService.run(customerImport.getId());
+
+        // Then
+        assertEquals(ImportStatus.FAILED, customerImport.getStatus());
+        assertEquals("Missing CSV column: identification_type", customerImport.getLastError());
+    }
+
+    @Test
+    void createImport_OutsideImportDirectory_ThrowsException() {
+        // Given
+        CreateCustomerImportDTO customerImportDTO = CreateCustomerImportDTO.builder()
+                .sourcePath("../etc/passwd")
+                .format(ImportFormat.CSV)
+                .build();
+
+        // When & Then
+        assertThrows(InvalidImportFileException.class, () -> customerImportService.createImport(customerImportDTO));
+    }
+
+    private CustomerImport givenImport(ImportFormat format, String... lines) throws IOException {
+        Path source = Files.write(directory.resolve("customers." + format.name().toLowerCase()), List.of(lines));
+        CustomerImport customerImport = CustomerImport.builder()
+                .id(1L)
+                .sourcePath(source.toString())
+                .rejectsPath(source + ".rejects.csv")
+                .format(format)
+                .build();
+        when(customerImportPort.findById(1L)).thenReturn(Optional.of(customerImport));
+        when(customerImportPort.lockById(1L)).thenReturn(Optional.of(customerImport));
+        return customerImport;
+    }
+
+    private CustomerImportService service(int batchSize) {
+        return new CustomerImportService(customerImportPort, new CustomerImportMapper(), new CustomerMapper(),
+                new ObjectMapper().findAndRegisterModules(), Validation.buildDefaultValidatorFactory().getValidator(),
+                TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), directory, batchSize);
+    }
+}
@@ -0,0 +1,127 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.CustomerDTO;
+import com.geovannycode.application.dto.CustomerSearchResultDTO;
+import com.geovannycode.application.mapper.CustomerMapper;
+import com.geovannycode.domain.event.CustomerChangedEvent;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.port.out.CustomerPort;
+import com.geovannycode.domain.port.out.CustomerSearchPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CustomerSearchServiceTest {
+
+    @Mock
+    private CustomerSearchPort customerSearchPort;
+
+    @Mock
+    private CustomerPort customerPort;
+
+    private final CustomerMapper customerMapper = new CustomerMapper();
+
+    @Test
+    void searchCustomers_WithoutPrefixIndex_UsesPortAndDetectsMorePages() {
+        // Given
+        CustomerSearchService service = service(false);
+        when(customerSearchPort.search("gar", 0, 3)).thenReturn(List.of(
+                customer(1L, "Ana", "Garcia"), customer(2L, "Luis", "Garces"), customer(3L, "Eva", "Garzon")));
+
+        // When
+        CustomerSearchResultDTO result = service.searchCustomers("  GAR ", 0, 2);
+
+        // Then
+        assertEquals(2, result.getCustomers().size());
+        assertTrue(result.isHasMore());
+        assertEquals(2, result.getSize());
+    }
+
+    @Test
+    void searchCustomers_WithShortQueryAndNoIndex_ReturnsEmptyWithoutQuerying() {
+        // Given
+        CustomerSearchService service = service(false);
+
+        // When
+        CustomerSearchResultDTO result = service.searchCustomers("ga", 0, 20);
+
+        // Then
+        assertTrue(result.getCustomers().isEmpty());
+        assertFalse(result.isHasMore());
+        verify(customerSearchPort, never()).search(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchCustomers_WithPrefixIndex_AnswersFromMemoryAndFollowsChanges() {
+        // Given
+        CustomerSearchService service = service(true);
+        when(customerPort.findAll()).thenReturn(List.of(
+                customer(1L, "Ana", "Garcia"), customer(2L, "Andres", "Lopez")));
+        service.rebuildPrefixIndex();
+
+        // When
+        service.onCustomerChanged(new CustomerChangedEvent(customer(3L, "An", "Ruiz"), false));
+        service.onCustomerChanged(new CustomerChangedEvent(customer(2L, "Andres", "Lopez"), true));
+        List<CustomerDTO> customers = service.searchCustomers("an", 0, 10).getCustomers();
+
+        // Then
+        assertEquals(List.of(3L, 1L), customers.stream().map(CustomerDTO::getId).toList());
+        verifyNoInteractions(customerSearchPort);
+    }
+
+    @Test
+    void searchCustomers_WithPrefixIndexAndLongQuery_UsesPort() {
+        // Given
+        CustomerSearchService service = service(true);
+        when(customerPort.findAll()).thenReturn(List.of(customer(1L, "Ana", "Garcia")));
+        service.rebuildPrefixIndex();
+        when(customerSearchPort.search("arci", 0, 11)).thenReturn(List.of(customer(1L, "Ana", "Garcia")));
+
+        // When
+        List<CustomerDTO> customers = service.searchCustomers("arci", 0, 10).getCustomers();
+
+        // Then
+        assertEquals(List.of(1L), customers.stream().map(CustomerDTO::getId).toList());
+        verify(customerSearchPort).search("arci", 0, 11);
+    }
+
+    @Test
+    void tokens_IncludesFullNameAndEmailLocalPart() {
+        // Given
+        Customer customer = customer(1L, "Ana", "Garcia");
+
+        // When / Then
+        assertTrue(CustomerSearchService.tokens(customer).containsAll(
+                List.of("ana", "garcia", "ana garcia", "ana.garcia", "ana.garcia@example.com", "id-1")));
+    }
+
+    private CustomerSearchService service(boolean prefixIndexEnabled) {
+        return new CustomerSearchService(customerSearchPort, customerPort, customerMapper,
+                prefixIndexEnabled, 10_000, 3, 100);
+    }
+
+    private Customer customer(Long id, String firstName, String lastName) {
+        return Customer.builder()
+                .id(id)
+                .identificationType("CC")
+                .identificationNumber("ID-" + id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email((firstName + "." + lastName + "@example.com").toLowerCase())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.geovannycode.application.service;
 
 import com.geovannycode.application.dto.CustomerDTO;
 import com.geovannycode.application.mapper.CustomerMapper;
+import com.geovannycode.domain.event.CustomerChangedEvent;
 import com.geovannycode.domain.exception.CustomerHasAccountsException;
 import com.geovannycode.domain.exception.ResourceNotFoundException;
 import com.geovannycode.domain.exception.UnderageCustomerException;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -38,6 +40,9 @@ public class CustomerServiceTest {
     @Mock
     private CustomerMapper customerMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -138,6 +143,7 @@ public class CustomerServiceTest {
 
         // Then
         verify(customerPort).deleteCustomer(1L);
+        verify(eventPublisher).publishEvent(any(CustomerChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,215 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.CustomerSummaryDTO;
+import com.geovannycode.application.mapper.CustomerSummaryMapper;
+import com.geovannycode.domain.event.AccountStatusChangedEvent;
+import com.geovannycode.domain.event.TransactionCompletedEvent;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.CustomerBalanceTotal;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.out.CustomerPort;
+import com.geovannycode.domain.port.out.CustomerSummaryPort;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryExchangeRateHistoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CustomerSummaryServiceTest {
+
+    @Mock
+    private CustomerSummaryPort customerSummaryPort;
+
+    @Mock
+    private CustomerPort customerPort;
+
+    private CustomerSummaryService customerSummaryService;
+    private LocalDate monthStart;
+
+    @BeforeEach
+    void setUp() {
+        customerSummaryService = new CustomerSummaryService(customerSummaryPort, customerPort, new CustomerSummaryMapper(),
+                new ExchangeRateService(() -> Map.of("USD", new BigDecimal("4000")),
+                        new InMemoryExchangeRateHistoryAdapter(), new SimpleMeterRegistry(), "COP"));
+        monthStart = LocalDate.now().withDayOfMonth(1);
+    }
+
+    @Test
+    void onTransactionCompleted_TransferBetweenCustomers_RecordsFlowsInCustomerOrder() {
+        // Given
+        Account source = account(10L, AccountType.SAVINGS, 7L);
+        Account destination = account(20L, AccountType.CHECKING, 3L);
+        BigDecimal amount = new BigDecimal("40.00");
+
+        // When
+        customerSummaryService.onTransactionCompleted(new TransactionCompletedEvent(
+                transaction(TransactionType.TRANSFER, amount, source, destination)));
+
+        // Then
+        InOrder order = inOrder(customerSummaryPort);
+        order.verify(customerSummaryPort).recordMovement(3L, AccountType.CHECKING, "COP", 4000L, monthStart,
+                amount, BigDecimal.ZERO);
+        order.verify(customerSummaryPort).recordMovement(7L, AccountType.SAVINGS, "COP", -4000L, monthStart,
+                BigDecimal.ZERO, amount);
+    }
+
+    @Test
+    void onTransactionCompleted_TransferBetweenOwnAccounts_OnlyMovesBalances() {
+        // Given
+        Account source = account(10L, AccountType.SAVINGS, 7L);
+        Account destination = account(11L, AccountType.CHECKING, 7L);
+        BigDecimal amount = new BigDecimal("40.00");
+
+        // When
+        customerSummaryService.onTransactionCompleted(new TransactionCompletedEvent(
+                transaction(TransactionType.TRANSFER, amount, source, destination)));
+
+        // Then
+        verify(customerSummaryPort).recordMovement(7L, AccountType.SAVINGS, "COP", -4000L, monthStart,
+                BigDecimal.ZERO, BigDecimal.ZERO);
+        verify(customerSummaryPort).recordMovement(7L, AccountType.CHECKING, "COP", 4000L, monthStart,
+                BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Test
+    void onTransactionCompleted_CrossCurrencyTransfer_RecordsBalancesNativeAndFlowsInBaseCurrency() {
+        // Given
+        Account source = Account.builder().id(10L).accountType(AccountType.SAVINGS).currency("USD")
+                .customer(Customer.builder().id(7L).build()).build();
+        Account destination = account(20L, AccountType.CHECKING, 3L);
+        Transaction transaction = Transaction.builder()
+                .transactionType(TransactionType.TRANSFER)
+                .amount(new BigDecimal("10.00"))
+                .destinationAmount(new BigDecimal("40000.00"))
+                .sourceAccount(source)
+                .destinationAccount(destination)
+                .build();
+
+        // When
+        customerSummaryService.onTransactionCompleted(new TransactionCompletedEvent(transaction));
+
+        // Then
+        BigDecimal inBase = new BigDecimal("40000.00");
+        verify(customerSummaryPort).recordMovement(3L, AccountType.CHECKING, "COP", 4_000_000L, monthStart,
+                inBase, BigDecimal.ZERO);
+        verify(customerSummaryPort).recordMovement(7L, AccountType.SAVINGS, "USD", -1000L, monthStart,
+                BigDecimal.ZERO, inBase);
+    }
+
+    @Test
+    void onTransactionCompleted_Deposit_RecordsInflow() {
+        // Given
+        Account destination = account(10L, AccountType.SAVINGS, 7L);
+        BigDecimal amount = new BigDecimal("100.00");
+
+        // When
+        customerSummaryService.onTransactionCompleted(new TransactionCompletedEvent(
+                transaction(TransactionType.DEPOSIT, amount, null, destination)));
+
+        // Then
+        verify(customerSummaryPort).recordMovement(7L, AccountType.SAVINGS, "COP", 10_000L, monthStart,
+                amount, BigDecimal.ZERO);
+    }
+
+    @Test
+    void onAccountStatusChanged_RecordsStatusTransition() {
+        // Given
+        Account account = account(10L, AccountType.SAVINGS, 7L);
+        account.setStatus(AccountStatus.INACTIVE);
+
+        // When
+        customerSummaryService.onAccountStatusChanged(new AccountStatusChangedEvent(account, AccountStatus.ACTIVE));
+        customerSummaryService.onAccountStatusChanged(new AccountStatusChangedEvent(account, AccountStatus.INACTIVE));
+
+        // Then
+        verify(customerSummaryPort).recordAccountStatus(7L, AccountStatus.ACTIVE, AccountStatus.INACTIVE);
+        verify(customerSummaryPort, never()).recordAccountStatus(anyLong(), eq(AccountStatus.INACTIVE), any());
+    }
+
+    @Test
+    void getCustomerSummary_WithoutAggregate_ReturnsZeros() {
+        // Given
+        when(customerPort.findById(7L)).thenReturn(Optional.of(Customer.builder().id(7L).build()));
+        when(customerSummaryPort.findByCustomerId(7L)).thenReturn(Optional.empty());
+
+        // When
+        Optional<CustomerSummaryDTO> result = customerSummaryService.getCustomerSummary(7L);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(BigDecimal.ZERO, result.get().getBalanceByAccountType().get(AccountType.SAVINGS));
+        assertEquals(0L, result.get().getAccountsByStatus().get(AccountStatus.ACTIVE));
+        assertEquals(BigDecimal.ZERO, result.get().getMonthToDateInflow());
+    }
+
+    @Test
+    void getCustomerSummary_ConvertsNativeTotalsAtCurrentRates() {
+        // Given
+        when(customerPort.findById(7L)).thenReturn(Optional.of(Customer.builder().id(7L).build()));
+        when(customerSummaryPort.findByCustomerId(7L)).thenReturn(Optional.empty());
+        when(customerSummaryPort.findBalanceTotals(7L)).thenReturn(List.of(
+                new CustomerBalanceTotal(AccountType.SAVINGS, "USD", 1000L),
+                new CustomerBalanceTotal(AccountType.SAVINGS, "COP", 50_000L)));
+
+        // When
+        CustomerSummaryDTO result = customerSummaryService.getCustomerSummary(7L).orElseThrow();
+
+        // Then
+        assertEquals(new BigDecimal("40500.00"), result.getBalanceByAccountType().get(AccountType.SAVINGS));
+        assertEquals(BigDecimal.ZERO, result.getBalanceByAccountType().get(AccountType.CHECKING));
+    }
+
+    @Test
+    void getCustomerSummary_WhenCustomerMissing_ReturnsEmpty() {
+        // Given
+        when(customerPort.findById(99L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertTrue(customerSummaryService.getCustomerSummary(99L).isEmpty());
+        verify(customerSummaryPort, never()).findByCustomerId(anyLong());
+    }
+
+    private Account account(Long id, AccountType accountType, Long customerId) {
+        return Account.builder()
+                .id(id)
+                .accountType(accountType)
+                .accountNumber(String.format("53%08d", id))
+                .status(AccountStatus.ACTIVE)
+                .balance(new BigDecimal("500.00"))
+                .customer(Customer.builder().id(customerId).build())
+                .build();
+    }
+
+    private Transaction transaction(TransactionType type, BigDecimal amount, Account source, Account destination) {
+        return Transaction.builder()
+                .transactionType(type)
+                .amount(amount)
+                .sourceAccount(source)
+                .destinationAccount(destination)
+                .build();
+    }
+}
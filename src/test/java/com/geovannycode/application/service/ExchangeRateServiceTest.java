@@ -0,0 +1,167 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.exception.InvalidAccountOperationException;
+import com.geovannycode.domain.model.CurrencyConversion;
+import com.geovannycode.domain.port.out.ExchangeRatePort;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryExchangeRateHistoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ExchangeRateServiceTest {
+
+    @Mock
+    private ExchangeRatePort exchangeRatePort;
+
+    private final InMemoryExchangeRateHistoryAdapter history = new InMemoryExchangeRateHistoryAdapter();
+
+    private ExchangeRateService exchangeRateService;
+
+    @BeforeEach
+    void setUp() {
+        when(exchangeRatePort.loadRates()).thenReturn(Map.of(
+                "USD", new BigDecimal("4000"),
+                "EUR", new BigDecimal("4400")));
+        exchangeRateService = newService();
+    }
+
+    @Test
+    void convert_UsesCrossRateAndRecordsVersion() {
+        // When
+        CurrencyConversion conversion = exchangeRateService.convert(new BigDecimal("100.00"), "EUR", "USD");
+
+        // Then
+        assertEquals(new BigDecimal("110.00"), conversion.amount());
+        assertEquals(new BigDecimal("1.1000000000"), conversion.rate());
+        assertEquals(exchangeRateService.currentRates().version(), conversion.rateVersion());
+    }
+
+    @Test
+    void convert_ToBaseCurrency_Success() {
+        // When
+        CurrencyConversion conversion = exchangeRateService.convert(new BigDecimal("2.50"), "USD", "COP");
+
+        // Then
+        assertEquals(new BigDecimal("10000.00"), conversion.amount());
+    }
+
+    @Test
+    void convert_UnknownCurrency_ThrowsException() {
+        // When & Then
+        assertThrows(InvalidAccountOperationException.class, () ->
+                exchangeRateService.convert(BigDecimal.TEN, "USD", "JPY"));
+    }
+
+    @Test
+    void refresh_WithChangedRates_SwapsSnapshotAndBumpsVersion() {
+        // Given
+        long previousVersion = exchangeRateService.currentRates().version();
+        when(exchangeRatePort.loadRates()).thenReturn(Map.of(
+                "USD", new BigDecimal("4100"),
+                "EUR", new BigDecimal("4400")));
+
+        // When
+        boolean changed = exchangeRateService.refresh();
+
+        // Then
+        assertTrue(changed);
+        assertTrue(exchangeRateService.currentRates().version() > previousVersion);
+        assertEquals(new BigDecimal("41000.00"),
+                exchangeRateService.convert(BigDecimal.TEN, "USD", "COP").amount());
+    }
+
+    @Test
+    void refresh_WithSameRates_KeepsVersion() {
+        // Given
+        long previousVersion = exchangeRateService.currentRates().version();
+
+        // When
+        boolean changed = exchangeRateService.refresh();
+
+        // Then
+        assertFalse(changed);
+        assertEquals(previousVersion, exchangeRateService.currentRates().version());
+    }
+
+    @Test
+    void refresh_WithInvalidRate_KeepsCurrentSnapshot() {
+        // Given
+        long previousVersion = exchangeRateService.currentRates().version();
+        when(exchangeRatePort.loadRates()).thenReturn(Map.of("USD", BigDecimal.ZERO));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> exchangeRateService.refresh());
+        assertEquals(previousVersion, exchangeRateService.currentRates().version());
+    }
+
+    @Test
+    void refresh_WithRatesStoredByAnotherNode_AdoptsTheirVersion() {
+        // Given
+        when(exchangeRatePort.loadRates()).thenReturn(Map.of(
+                "USD", new BigDecimal("4100.0"),
+                "EUR", new BigDecimal("4400")));
+        exchangeRateService.refresh();
+        long storedVersion = exchangeRateService.currentRates().version();
+        when(exchangeRatePort.loadRates()).thenReturn(Map.of(
+                "USD", new BigDecimal("4100"),
+                "EUR", new BigDecimal("4400.00")));
+
+        // When
+        ExchangeRateService restarted = newService();
+
+        // Then
+        assertEquals(storedVersion, restarted.currentRates().version());
+        assertEquals(2, history.findLatest().orElseThrow().version());
+    }
+
+    @Test
+    void toBase_WithRecordedVersion_ConvertsAtThatRate() {
+        // Given
+        long recordedVersion = exchangeRateService.currentRates().version();
+        when(exchangeRatePort.loadRates()).thenReturn(Map.of(
+                "USD", new BigDecimal("4100"),
+                "EUR", new BigDecimal("4400")));
+        exchangeRateService.refresh();
+
+        // When
+        BigDecimal recorded = exchangeRateService.toBase(BigDecimal.TEN, "USD", recordedVersion);
+        BigDecimal current = exchangeRateService.toBase(BigDecimal.TEN, "USD");
+
+        // Then
+        assertEquals(new BigDecimal("40000.00"), recorded);
+        assertEquals(new BigDecimal("41000.00"), current);
+        assertEquals(BigDecimal.TEN, exchangeRateService.toBase(BigDecimal.TEN, "COP", recordedVersion));
+    }
+
+    @Test
+    void convert_ToCurrencyWithoutMinorUnit_RoundsToWholeUnits() {
+        // Given
+        when(exchangeRatePort.loadRates()).thenReturn(Map.of(
+                "USD", new BigDecimal("4000"),
+                "JPY", new BigDecimal("27")));
+        exchangeRateService.refresh();
+
+        // When
+        CurrencyConversion conversion = exchangeRateService.convert(new BigDecimal("1.00"), "USD", "JPY");
+
+        // Then
+        assertEquals(new BigDecimal("148"), conversion.amount());
+    }
+
+    private ExchangeRateService newService() {
+        return new ExchangeRateService(exchangeRatePort, history, new SimpleMeterRegistry(), "COP");
+    }
+}
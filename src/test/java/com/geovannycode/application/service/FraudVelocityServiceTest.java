@@ -0,0 +1,167 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.exception.FraudSuspectedException;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.FraudAction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FraudVelocityServiceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long MINUTE = 60_000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        account = Account.builder()
+                .id(1L)
+                .accountNumber("5312345678")
+                .status(AccountStatus.ACTIVE)
+                .balance(new BigDecimal("10000.00"))
+                .build();
+    }
+
+    @Test
+    void checkWithdrawal_WhenTooManyInWindow_RejectsTransaction() {
+        // Given
+        FraudVelocityService service = service(FraudAction.REJECT, FraudAction.FLAG, 2);
+        service.checkWithdrawal(account, new BigDecimal("10.00"), NOW - 5 * MINUTE);
+        service.checkWithdrawal(account, new BigDecimal("10.00"), NOW - MINUTE);
+
+        // When & Then
+        assertThrows(FraudSuspectedException.class, () ->
+                service.checkWithdrawal(account, new BigDecimal("10.00"), NOW));
+        assertDoesNotThrow(() -> service.checkWithdrawal(account, new BigDecimal("10.00"), NOW + 6 * MINUTE));
+        assertEquals(1.0, meterRegistry.get("fraud.velocity.hits")
+                .tag("rule", FraudVelocityService.WITHDRAWAL_VELOCITY).counter().count());
+    }
+
+    @Test
+    void checkWithdrawal_WhenRuleFlags_AllowsTransaction() {
+        // Given
+        FraudVelocityService service = service(FraudAction.FLAG, FraudAction.FLAG, 1);
+        service.checkWithdrawal(account, new BigDecimal("10.00"), NOW);
+
+        // When
+        service.checkWithdrawal(account, new BigDecimal("10.00"), NOW);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("fraud.velocity.hits").tag("action", "flag").counter().count());
+    }
+
+    @Test
+    void checkTransfer_WhenAmountFarAboveAverage_RejectsTransaction() {
+        // Given
+        FraudVelocityService service = service(FraudAction.REJECT, FraudAction.REJECT, 5);
+        for (int day = 1; day <= 3; day++) {
+            service.checkTransfer(account, new BigDecimal("100.00"), NOW - day * 24 * 60 * MINUTE);
+        }
+
+        // When & Then
+        assertThrows(FraudSuspectedException.class, () ->
+                service.checkTransfer(account, new BigDecimal("1000.01"), NOW));
+        assertDoesNotThrow(() -> service.checkTransfer(account, new BigDecimal("1000.00"), NOW));
+    }
+
+    @Test
+    void checkTransfer_WithoutEnoughHistory_AllowsTransaction() {
+        // Given
+        FraudVelocityService service = service(FraudAction.REJECT, FraudAction.REJECT, 5);
+        service.checkTransfer(account, new BigDecimal("1.00"), NOW - MINUTE);
+
+        // When & Then
+        assertDoesNotThrow(() -> service.checkTransfer(account, new BigDecimal("5000.00"), NOW));
+    }
+
+    @Test
+    void checkWithdrawal_AtCapacity_EvictsLeastRecentlyCheckedAccount() {
+        // Given
+        FraudVelocityService service = new FraudVelocityService(meterRegistry, true, 1,
+                FraudAction.REJECT, 5, Duration.ofMinutes(10), 10,
+                FraudAction.REJECT, 10, Duration.ofDays(30), 30, 3);
+
+        // When
+        for (long id = 1; id <= 100; id++) {
+            service.checkWithdrawal(Account.builder().id(id).accountNumber("53" + id).build(),
+                    new BigDecimal("10.00"), NOW);
+        }
+
+        // Then
+        assertTrue(service.trackedAccounts() <= 16);
+        assertTrue(meterRegistry.get("fraud.velocity.evicted").counter().count() >= 84);
+    }
+
+    @Test
+    void checkWithdrawal_ConcurrentBurst_PassesOnlyUpToLimit() throws Exception {
+        // Given
+        FraudVelocityService service = service(FraudAction.REJECT, FraudAction.FLAG, 5);
+        AtomicInteger passed = new AtomicInteger();
+        List<Callable<Void>> withdrawals = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            withdrawals.add(() -> {
+                try {
+                    service.checkWithdrawal(account, new BigDecimal("10.00"), NOW);
+                    passed.incrementAndGet();
+                } catch (FraudSuspectedException ignored) {
+                    // expected once the window is full
+                }
+                return null;
+            });
+        }
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            executor.invokeAll(withdrawals);
+        }
+
+        // Then
+        assertEquals(5, passed.get());
+    }
+
+    @Test
+    void checkWithdrawal_WhenTransactionRollsBack_ReleasesReservation() {
+        // Given
+        FraudVelocityService service = service(FraudAction.REJECT, FraudAction.FLAG, 1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.checkWithdrawal(account, new BigDecimal("10.00"), NOW);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertDoesNotThrow(() -> service.checkWithdrawal(account, new BigDecimal("10.00"), NOW));
+    }
+
+    private FraudVelocityService service(FraudAction withdrawalAction, FraudAction transferAction, int maxWithdrawals) {
+        return new FraudVelocityService(meterRegistry, true, 1000,
+                withdrawalAction, maxWithdrawals, Duration.ofMinutes(10), 10,
+                transferAction, 10, Duration.ofDays(30), 30, 3);
+    }
+}
@@ -0,0 +1,343 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.TransactionDTO;
+import com.geovannycode.application.mapper.TransactionMapper;
+import com.geovannycode.domain.exception.InvalidAccountOperationException;
+import com.geovannycode.domain.exception.ResourceNotFoundException;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.MinorUnits;
+import com.geovannycode.domain.model.ResourceVersion;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.in.TransactionUseCase;
+import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.domain.port.out.TransactionArchivePort;
+import com.geovannycode.domain.port.out.TransactionPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class GroupCommitTransactionServiceTest {
+
+    @Mock
+    private TransactionUseCase delegate;
+
+    @Mock
+    private AccountPort accountPort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @Mock
+    private TransactionMapper transactionMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FraudVelocityService fraudVelocityService;
+
+    @Mock
+    private TransactionLimitService transactionLimitService;
+
+    private GroupCommitTransactionService groupCommitService;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = Account.builder()
+                .id(1L)
+                .accountType(AccountType.SAVINGS)
+                .accountNumber("5312345678")
+                .status(AccountStatus.ACTIVE)
+                .balance(new BigDecimal("100.00"))
+                .gmfExempt(false)
+                .build();
+
+        when(accountPort.lockByAccountNumbers(any())).thenReturn(List.of(account));
+        when(transactionPort.saveTransactions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionMapper.toDTO(any(Transaction.class))).thenAnswer(invocation -> {
+            Transaction transaction = invocation.getArgument(0);
+            return TransactionDTO.builder()
+                    .transactionType(transaction.getTransactionType())
+                    .amount(transaction.getAmount())
+                    .build();
+        });
+
+        groupCommitService = new GroupCommitTransactionService(delegate, accountPort, transactionPort,
+                transactionMapper, new TransactionTemplate(transactionManager), eventPublisher, fraudVelocityService,
+                transactionLimitService, Duration.ofMillis(50), 256);
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupCommitService.close();
+    }
+
+    @Test
+    void concurrentDeposits_AreCommittedTogether() throws Exception {
+        // When
+        List<CompletableFuture<TransactionDTO>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(CompletableFuture.supplyAsync(() ->
+                    groupCommitService.createDeposit("5312345678", new BigDecimal("10.00"))));
+        }
+        for (CompletableFuture<TransactionDTO> future : futures) {
+            assertEquals(TransactionType.DEPOSIT, future.get(5, TimeUnit.SECONDS).getTransactionType());
+        }
+
+        // Then
+        assertEquals(new BigDecimal("200.00"), account.getBalance());
+        verify(accountPort, atMost(10)).saveAccounts(anyList());
+    }
+
+    @Test
+    void failingItem_DoesNotPoisonBatch() {
+        // Given
+        CompletableFuture<TransactionDTO> withdrawal = CompletableFuture.supplyAsync(() ->
+                groupCommitService.createWithdrawal("5312345678", new BigDecimal("500.00")));
+        CompletableFuture<TransactionDTO> missing = CompletableFuture.supplyAsync(() ->
+                groupCommitService.createDeposit("9999999999", new BigDecimal("10.00")));
+        CompletableFuture<TransactionDTO> deposit = CompletableFuture.supplyAsync(() ->
+                groupCommitService.createDeposit("5312345678", new BigDecimal("10.00")));
+
+        // When & Then
+        CompletionException insufficient = assertThrows(CompletionException.class, withdrawal::join);
+        assertInstanceOf(InvalidAccountOperationException.class, insufficient.getCause());
+        CompletionException notFound = assertThrows(CompletionException.class, missing::join);
+        assertInstanceOf(ResourceNotFoundException.class, notFound.getCause());
+        assertNotNull(deposit.join());
+    }
+
+    @Test
+    void limitRejection_ReleasesFraudReservation() {
+        // Given
+        AtomicInteger released = new AtomicInteger();
+        when(fraudVelocityService.checkWithdrawal(any(Account.class), any(BigDecimal.class)))
+                .thenReturn(new FraudVelocityService.Reservation(released::incrementAndGet));
+        doThrow(new InvalidAccountOperationException("Daily limit exceeded"))
+                .when(transactionLimitService).checkWithdrawal(any(Account.class), any(BigDecimal.class));
+
+        // When
+        assertThrows(InvalidAccountOperationException.class,
+                () -> groupCommitService.createWithdrawal("5312345678", new BigDecimal("10.00")));
+
+        // Then
+        assertEquals(1, released.get());
+        assertEquals(new BigDecimal("100.00"), account.getBalance());
+    }
+
+    @Test
+    void commitFailure_FallsBackToIndividualExecution() {
+        // Given
+        TransactionDTO fallback = TransactionDTO.builder().id(7L).transactionType(TransactionType.DEPOSIT).build();
+        when(transactionPort.saveTransactions(anyList())).thenThrow(new IllegalStateException("commit failed"));
+        when(delegate.createDeposit("5312345678", new BigDecimal("10.00"))).thenReturn(fallback);
+
+        // When
+        TransactionDTO result = groupCommitService.createDeposit("5312345678", new BigDecimal("10.00"));
+
+        // Then
+        assertEquals(7L, result.getId());
+        verify(delegate).createDeposit("5312345678", new BigDecimal("10.00"));
+    }
+
+    @Test
+    void transferThroughDelegate_ConcurrentWithBatch_LosesNoUpdates() throws Exception {
+        // Given
+        RowLockingAccountPort accounts = new RowLockingAccountPort();
+        accounts.add(1L, "5312345678", 100_000L);
+        accounts.add(2L, "3312345678", 100_000L);
+        PlatformTransactionManager rowLockManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                accounts.releaseLocks();
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                accounts.releaseLocks();
+            }
+        };
+        when(transactionPort.saveTransaction(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        TransactionService transactionService = new TransactionService(transactionPort, accounts, transactionMapper,
+                eventPublisher, fraudVelocityService, transactionLimitService, mock(ExchangeRateService.class),
+                mock(TransactionArchivePort.class));
+        ProxyFactory proxyFactory = new ProxyFactory(transactionService);
+        proxyFactory.addAdvice(new TransactionInterceptor((TransactionManager) rowLockManager,
+                new AnnotationTransactionAttributeSource()));
+        TransactionUseCase transactionalDelegate = (TransactionUseCase) proxyFactory.getProxy();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When
+        try (GroupCommitTransactionService service = new GroupCommitTransactionService(transactionalDelegate,
+                accounts, transactionPort, transactionMapper, new TransactionTemplate(rowLockManager), eventPublisher,
+                fraudVelocityService, transactionLimitService, Duration.ofMillis(2), 256)) {
+            List<Future<TransactionDTO>> results = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> service.createDeposit("5312345678", new BigDecimal("1.00"))));
+                results.add(executor.submit(() ->
+                        service.createTransfer("3312345678", "5312345678", new BigDecimal("1.00"))));
+            }
+            for (Future<TransactionDTO> result : results) {
+                assertNotNull(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertEquals(110_000L, accounts.balanceOf("5312345678"));
+        assertEquals(95_000L, accounts.balanceOf("3312345678"));
+    }
+
+    // Hands out a fresh copy of each row per read, as separate persistence contexts do, and holds row locks until
+    // the transaction ends, so an unlocked read-modify-write would lose concurrent updates.
+    private static final class RowLockingAccountPort implements AccountPort {
+
+        private final Map<String, Long> ids = new ConcurrentHashMap<>();
+        private final Map<String, Long> balances = new ConcurrentHashMap<>();
+        private final Map<String, ReentrantLock> rowLocks = new ConcurrentHashMap<>();
+        private final ThreadLocal<List<ReentrantLock>> held = ThreadLocal.withInitial(ArrayList::new);
+
+        void add(long id, String accountNumber, long balanceMinorUnits) {
+            ids.put(accountNumber, id);
+            balances.put(accountNumber, balanceMinorUnits);
+            rowLocks.put(accountNumber, new ReentrantLock());
+        }
+
+        long balanceOf(String accountNumber) {
+            return balances.get(accountNumber);
+        }
+
+        void releaseLocks() {
+            held.get().forEach(ReentrantLock::unlock);
+            held.get().clear();
+        }
+
+        @Override
+        public List<Account> lockByAccountNumbers(Collection<String> accountNumbers) {
+            List<String> ordered = accountNumbers.stream()
+                    .filter(ids::containsKey)
+                    .distinct()
+                    .sorted(Comparator.comparing(ids::get))
+                    .toList();
+            for (String accountNumber : ordered) {
+                ReentrantLock lock = rowLocks.get(accountNumber);
+                lock.lock();
+                held.get().add(lock);
+            }
+            return ordered.stream().map(this::read).toList();
+        }
+
+        @Override
+        public Optional<Account> findByAccountNumber(String accountNumber) {
+            return ids.containsKey(accountNumber) ? Optional.of(read(accountNumber)) : Optional.empty();
+        }
+
+        @Override
+        public Account saveAccount(Account account) {
+            balances.put(account.getAccountNumber(), account.getBalanceMinorUnits());
+            return account;
+        }
+
+        @Override
+        public List<Account> saveAccounts(List<Account> accounts) {
+            accounts.forEach(this::saveAccount);
+            return accounts;
+        }
+
+        @Override
+        public Optional<Account> findById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Account> findByAccountNumbers(Collection<String> accountNumbers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Account> findByCustomerId(Long customerId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ResourceVersion> findVersionById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ResourceVersion> findVersionByAccountNumber(String accountNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        private Account read(String accountNumber) {
+            return Account.builder()
+                    .id(ids.get(accountNumber))
+                    .accountType(AccountType.SAVINGS)
+                    .accountNumber(accountNumber)
+                    .status(AccountStatus.ACTIVE)
+                    .balance(MinorUnits.toBigDecimal(balances.get(accountNumber)))
+                    .gmfExempt(false)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.InterestAccrualCheckpoint;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.domain.port.out.InterestAccrualPort;
+import com.geovannycode.domain.port.out.TransactionPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class InterestAccrualServiceTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private InterestAccrualPort interestAccrualPort;
+
+    @Mock
+    private AccountPort accountPort;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InterestAccrualService interestAccrualService;
+    private List<Account> accounts;
+    private List<Transaction> postings;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interestAccrualService = new InterestAccrualService(interestAccrualPort, accountPort, transactionPort,
+                new TransactionTemplate(transactionManager), eventPublisher, meterRegistry, new BigDecimal("0.0365"), 2, 2);
+
+        accounts = List.of(account(1L, "1000.00"), account(2L, "2000.00"), account(3L, "0.00"),
+                account(4L, "3000.00"), account(5L, "4000.00"));
+        postings = new CopyOnWriteArrayList<>();
+
+        when(interestAccrualPort.findMaxSavingsAccountId()).thenReturn(5L);
+        when(interestAccrualPort.lockSavingsAccountsForAccrual(anyLong(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            long lastId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return accounts.stream()
+                    .filter(account -> account.getId() > afterId && account.getId() <= lastId)
+                    .limit(limit)
+                    .toList();
+        });
+        when(interestAccrualPort.saveCheckpoints(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(interestAccrualPort.saveCheckpoint(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionPort.saveTransactions(anyList())).thenAnswer(invocation -> {
+            List<Transaction> saved = invocation.getArgument(0);
+            postings.addAll(saved);
+            return saved;
+        });
+    }
+
+    @Test
+    void accrue_PostsDailyInterestForEveryPartition() {
+        // When
+        List<InterestAccrualCheckpoint> checkpoints = interestAccrualService.accrue(BUSINESS_DATE);
+
+        // Then
+        assertEquals(2, checkpoints.size());
+        assertTrue(checkpoints.stream().allMatch(InterestAccrualCheckpoint::isCompleted));
+        assertEquals(5L, checkpoints.stream().mapToLong(InterestAccrualCheckpoint::getAccountsProcessed).sum());
+
+        assertEquals(new BigDecimal("1000.10"), accounts.get(0).getBalance());
+        assertEquals(new BigDecimal("0.00"), accounts.get(2).getBalance());
+        assertEquals(new BigDecimal("4000.40"), accounts.get(4).getBalance());
+        assertEquals(4, postings.size());
+        assertTrue(postings.stream().allMatch(posting -> posting.getTransactionType() == TransactionType.INTEREST));
+        assertEquals(5.0, meterRegistry.counter("interest.accrual.accounts").count());
+        assertEquals(1.0, meterRegistry.counter("interest.accrual.amount").count(), 1e-9);
+    }
+
+    @Test
+    void accrue_ResumesFromExistingCheckpoints() {
+        // Given
+        InterestAccrualCheckpoint done = checkpoint(1L, 3L);
+        done.advance(3L, 3, new BigDecimal("0.30"), false);
+        InterestAccrualCheckpoint partial = checkpoint(4L, 5L);
+        partial.advance(4L, 1, new BigDecimal("0.30"), false);
+        when(interestAccrualPort.findCheckpoints(BUSINESS_DATE)).thenReturn(List.of(done, partial));
+
+        // When
+        interestAccrualService.accrue(BUSINESS_DATE);
+
+        // Then
+        verify(interestAccrualPort, never()).saveCheckpoints(anyList());
+        verify(interestAccrualPort, never()).lockSavingsAccountsForAccrual(eq(0L), anyLong(), anyInt());
+        assertEquals(new BigDecimal("1000.00"), accounts.get(0).getBalance());
+        assertEquals(new BigDecimal("3000.00"), accounts.get(3).getBalance());
+        assertEquals(new BigDecimal("4000.40"), accounts.get(4).getBalance());
+        assertEquals(new BigDecimal("0.70"), partial.getInterestPosted());
+        assertTrue(partial.isCompleted());
+    }
+
+    @Test
+    void accrue_CatchUpRun_UsesClosingBalanceAndStampsBusinessDate() {
+        // Given
+        when(interestAccrualPort.findNetMovementsSince(0L, 2L, BUSINESS_DATE.plusDays(1).atStartOfDay()))
+                .thenReturn(Map.of(1L, 50000L, 2L, -100000L));
+
+        // When
+        interestAccrualService.accrue(BUSINESS_DATE);
+
+        // Then
+        assertEquals(new BigDecimal("1000.05"), accounts.get(0).getBalance());
+        assertEquals(new BigDecimal("2000.30"), accounts.get(1).getBalance());
+        assertTrue(postings.stream().allMatch(posting -> posting.getTransactionDate().toLocalDate().equals(BUSINESS_DATE)));
+    }
+
+    @Test
+    void dailyInterest_RoundsToCents() {
+        // When / Then
+        assertEquals(new BigDecimal("0.01"), interestAccrualService.dailyInterest(new BigDecimal("100.00"), "COP"));
+        assertEquals(new BigDecimal("0.00"), interestAccrualService.dailyInterest(new BigDecimal("49.99"), "COP"));
+    }
+
+    @Test
+    void dailyInterest_RoundsToTheCurrencyMinorUnit() {
+        // When / Then
+        assertEquals(new BigDecimal("5.00"), interestAccrualService.dailyInterest(new BigDecimal("49949.00"), "JPY"));
+        assertEquals(new BigDecimal("4.99"), interestAccrualService.dailyInterest(new BigDecimal("49949.00"), "USD"));
+    }
+
+    private InterestAccrualCheckpoint checkpoint(long start, long end) {
+        return InterestAccrualCheckpoint.builder()
+                .businessDate(BUSINESS_DATE)
+                .partitionStart(start)
+                .partitionEnd(end)
+                .build();
+    }
+
+    private Account account(long id, String balance) {
+        return Account.builder()
+                .id(id)
+                .accountType(AccountType.SAVINGS)
+                .accountNumber(String.format("53%08d", id))
+                .status(AccountStatus.ACTIVE)
+                .balance(new BigDecimal(balance))
+                .gmfExempt(false)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.CreateTransactionDTO;
+import com.geovannycode.application.dto.TransactionDTO;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.in.TransactionUseCase;
+import com.geovannycode.infrastructure.engine.AccountLaneExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LaneTransactionServiceTest {
+
+    @Mock
+    private TransactionUseCase delegate;
+
+    private AccountLaneExecutor laneExecutor;
+    private LaneTransactionService laneTransactionService;
+    private TransactionDTO transactionDTO;
+
+    @BeforeEach
+    void setUp() {
+        laneExecutor = new AccountLaneExecutor(4);
+        laneTransactionService = new LaneTransactionService(delegate, laneExecutor);
+        transactionDTO = TransactionDTO.builder()
+                .id(1L)
+                .transactionType(TransactionType.TRANSFER)
+                .amount(new BigDecimal("100.00"))
+                .sourceAccountNumber("5312345678")
+                .destinationAccountNumber("3312345678")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        laneExecutor.close();
+    }
+
+    @Test
+    void createDeposit_RunsOnAccountLane() {
+        // Given
+        String[] thread = new String[1];
+        when(delegate.createDeposit(eq("3312345678"), any())).thenAnswer(invocation -> {
+            thread[0] = Thread.currentThread().getName();
+            return transactionDTO;
+        });
+
+        // When
+        TransactionDTO result = laneTransactionService.createDeposit("3312345678", new BigDecimal("100.00"));
+
+        // Then
+        assertSame(transactionDTO, result);
+        assertEquals("account-lane-" + laneExecutor.laneOf("3312345678"), thread[0]);
+    }
+
+    @Test
+    void createTransaction_Transfer_DelegatesThroughLanes() {
+        // Given
+        CreateTransactionDTO request = CreateTransactionDTO.builder()
+                .transactionType(TransactionType.TRANSFER)
+                .amount(new BigDecimal("100.00"))
+                .sourceAccountNumber("5312345678")
+                .destinationAccountNumber("3312345678")
+                .build();
+        when(delegate.createTransfer("5312345678", "3312345678", new BigDecimal("100.00")))
+                .thenReturn(transactionDTO);
+
+        // When
+        TransactionDTO result = laneTransactionService.createTransaction(request);
+
+        // Then
+        assertSame(transactionDTO, result);
+        verify(delegate).createTransfer("5312345678", "3312345678", new BigDecimal("100.00"));
+    }
+}
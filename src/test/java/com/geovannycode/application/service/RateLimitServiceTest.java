@@ -0,0 +1,97 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.model.RateLimit;
+import com.geovannycode.domain.port.out.RateLimitPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitServiceTest {
+
+    private static final RateLimit USER = new RateLimit(200, 50);
+    private static final RateLimit ROUTE = new RateLimit(60, 20);
+    private static final RateLimit TRANSACTIONS = new RateLimit(20, 5);
+    private static final RateLimit ACCOUNT = new RateLimit(30, 10);
+
+    @Mock
+    private RateLimitPort rateLimitPort;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitService = new RateLimitService(rateLimitPort, USER, ROUTE,
+                Map.of("POST /api/transactions", TRANSACTIONS), ACCOUNT, meterRegistry);
+    }
+
+    @Test
+    void checkRequest_UsesRouteOverride() {
+        // Given
+        when(rateLimitPort.tryAcquire("user:admin", USER)).thenReturn(0L);
+        when(rateLimitPort.tryAcquire("route:admin:POST /api/transactions", TRANSACTIONS)).thenReturn(0L);
+
+        // When
+        Optional<RateLimitService.Rejection> rejection = rateLimitService.checkRequest("admin", "POST /api/transactions");
+
+        // Then
+        assertTrue(rejection.isEmpty());
+        assertEquals(1, meterRegistry.timer("rate.limit.check").count());
+    }
+
+    @Test
+    void checkRequest_WhenRouteRejects_ReleasesUserToken() {
+        // Given
+        when(rateLimitPort.tryAcquire("user:admin", USER)).thenReturn(0L);
+        when(rateLimitPort.tryAcquire("route:admin:GET /api/accounts/{id}", ROUTE)).thenReturn(1_500_000_000L);
+
+        // When
+        Optional<RateLimitService.Rejection> rejection = rateLimitService.checkRequest("admin", "GET /api/accounts/{id}");
+
+        // Then
+        assertEquals(RateLimitService.ROUTE, rejection.orElseThrow().scope());
+        assertEquals(2, rejection.orElseThrow().retryAfterSeconds());
+        verify(rateLimitPort).release("user:admin", USER);
+        assertEquals(1, meterRegistry.counter("rate.limit.rejected", "scope", RateLimitService.ROUTE).count());
+    }
+
+    @Test
+    void checkRequest_WhenUserRejects_SkipsRoute() {
+        // Given
+        when(rateLimitPort.tryAcquire("user:admin", USER)).thenReturn(1L);
+
+        // When
+        Optional<RateLimitService.Rejection> rejection = rateLimitService.checkRequest("admin", "GET /api/accounts/{id}");
+
+        // Then
+        assertEquals(RateLimitService.USER, rejection.orElseThrow().scope());
+        assertEquals(1, rejection.orElseThrow().retryAfterSeconds());
+        verify(rateLimitPort, never()).release("user:admin", USER);
+    }
+
+    @Test
+    void checkAccount_UsesSharedAccountBucket() {
+        // Given
+        when(rateLimitPort.tryAcquire("account:1234567890", ACCOUNT)).thenReturn(100_000_000L);
+
+        // When
+        Optional<RateLimitService.Rejection> rejection = rateLimitService.checkAccount("1234567890");
+
+        // Then
+        assertEquals(RateLimitService.ACCOUNT, rejection.orElseThrow().scope());
+    }
+}
@@ -0,0 +1,106 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.model.ReconciliationDiscrepancy;
+import com.geovannycode.domain.port.out.ReconciliationPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReconciliationServiceTest {
+
+    @Mock
+    private ReconciliationPort reconciliationPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReconciliationService reconciliationService;
+    private Map<Long, Long> balances;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciliationService = new ReconciliationService(reconciliationPort, meterRegistry, 3);
+
+        when(reconciliationPort.findMaxAccountId()).thenReturn(4L);
+        when(reconciliationPort.countAccounts()).thenReturn(3L);
+        when(reconciliationPort.streamTransactionMovements(any())).thenAnswer(invocation -> {
+            ReconciliationPort.MovementConsumer consumer = invocation.getArgument(0);
+            consumer.accept(0, 1, 10_000, 10_000);
+            consumer.accept(1, 2, 2_500, 2_500);
+            consumer.accept(2, 0, 500, 500);
+            consumer.accept(0, 3, 7_000, 7_000);
+            return 4L;
+        });
+        doAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            long lastId = invocation.getArgument(1);
+            ReconciliationPort.BalanceConsumer consumer = invocation.getArgument(2);
+            balances.forEach((id, balance) -> {
+                if (id > afterId && id <= lastId) {
+                    consumer.accept(id, balance);
+                }
+            });
+            return null;
+        }).when(reconciliationPort).forEachAccountBalance(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void reconcile_WhenBalancesMatch_ReportsNothing() {
+        // Given
+        balances = Map.of(1L, 7_500L, 2L, 2_000L, 3L, 7_000L, 4L, 0L);
+
+        // When
+        List<ReconciliationDiscrepancy> result = reconciliationService.reconcile();
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(reconciliationPort, never()).verifyAccount(anyLong());
+        verify(reconciliationPort, never()).saveDiscrepancies(anyList());
+        assertEquals(0.0, meterRegistry.get("reconciliation.discrepancies").gauge().value());
+        assertEquals(4.0, meterRegistry.get("reconciliation.transactions.scanned").gauge().value());
+    }
+
+    @Test
+    void reconcile_WhenBalanceDiffers_RecordsConfirmedDiscrepancies() {
+        // Given
+        balances = Map.of(1L, 7_500L, 2L, 2_100L, 3L, 7_000L, 4L, 50L);
+        ReconciliationDiscrepancy discrepancy = ReconciliationDiscrepancy.builder()
+                .accountId(2L)
+                .accountBalance(new BigDecimal("21.00"))
+                .transactionNet(new BigDecimal("20.00"))
+                .build();
+        when(reconciliationPort.verifyAccount(2L)).thenReturn(Optional.of(discrepancy));
+        when(reconciliationPort.verifyAccount(4L)).thenReturn(Optional.empty());
+
+        // When
+        List<ReconciliationDiscrepancy> result = reconciliationService.reconcile();
+
+        // Then
+        assertEquals(List.of(discrepancy), result);
+        assertEquals(new BigDecimal("1.00"), discrepancy.getDifference());
+        verify(reconciliationPort).verifyAccount(4L);
+        verify(reconciliationPort).saveDiscrepancies(List.of(discrepancy));
+        assertEquals(1.0, meterRegistry.get("reconciliation.discrepancies").gauge().value());
+    }
+}
@@ -0,0 +1,266 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.CreateScheduledTransferDTO;
+import com.geovannycode.application.dto.ScheduledTransferDTO;
+import com.geovannycode.application.mapper.ScheduledTransferMapper;
+import com.geovannycode.domain.exception.InvalidAccountOperationException;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.ScheduledTransfer;
+import com.geovannycode.domain.model.enums.ScheduledTransferStatus;
+import com.geovannycode.domain.model.enums.TransferFrequency;
+import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.domain.port.out.PartitionOwnershipPort;
+import com.geovannycode.domain.port.out.ScheduledTransferPort;
+import com.geovannycode.infrastructure.engine.AccountLaneExecutor;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryEntities;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ScheduledTransferServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 9, 0);
+    private static final int PARTITIONS = 4;
+
+    @Mock
+    private ScheduledTransferPort scheduledTransferPort;
+
+    @Mock
+    private AccountPort accountPort;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private PartitionOwnershipPort partitionOwnershipPort;
+
+    private ScheduledTransferService scheduledTransferService;
+    private final Map<Long, ScheduledTransfer> store = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        scheduledTransferService = service(new StaticListableBeanFactory());
+        when(partitionOwnershipPort.ownedPartitions(ScheduledTransferService.WORKLOAD, PARTITIONS))
+                .thenReturn(Set.of(0, 1, 2, 3));
+        when(scheduledTransferPort.lockById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(store.get(invocation.<Long>getArgument(0))));
+        when(scheduledTransferPort.save(any(ScheduledTransfer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createScheduledTransfer_DueSoon_IsQueuedImmediately() {
+        // Given
+        when(accountPort.findByAccountNumber(anyString())).thenReturn(Optional.of(Account.builder().build()));
+        when(scheduledTransferPort.save(any(ScheduledTransfer.class))).thenAnswer(invocation -> {
+            ScheduledTransfer transfer = invocation.getArgument(0);
+            InMemoryEntities.setField(transfer, "id", 1L);
+            return transfer;
+        });
+
+        // When
+        ScheduledTransferDTO result = scheduledTransferService.createScheduledTransfer(CreateScheduledTransferDTO.builder()
+                .sourceAccountNumber("5312345678")
+                .destinationAccountNumber("3312345678")
+                .amount(new BigDecimal("150.00"))
+                .frequency(TransferFrequency.MONTHLY)
+                .firstExecution(LocalDateTime.now().plusSeconds(10))
+                .build());
+
+        // Then
+        assertEquals(ScheduledTransferStatus.ACTIVE, result.getStatus());
+        assertEquals(1, scheduledTransferService.queuedSize());
+    }
+
+    @Test
+    void createScheduledTransfer_SameAccounts_ThrowsException() {
+        // When & Then
+        assertThrows(InvalidAccountOperationException.class, () ->
+                scheduledTransferService.createScheduledTransfer(CreateScheduledTransferDTO.builder()
+                        .sourceAccountNumber("5312345678")
+                        .destinationAccountNumber("5312345678")
+                        .amount(new BigDecimal("150.00"))
+                        .frequency(TransferFrequency.DAILY)
+                        .firstExecution(NOW.plusDays(1))
+                        .build()));
+        verify(scheduledTransferPort, never()).save(any());
+    }
+
+    @Test
+    void dispatch_ExecutesDueTransfersInTimeOrderAndAdvancesSchedule() {
+        // Given
+        ScheduledTransfer later = scheduled(1L, "5300000001", NOW.minusMinutes(1), TransferFrequency.MONTHLY);
+        ScheduledTransfer earlier = scheduled(2L, "5300000001", NOW.minusMinutes(5), TransferFrequency.DAILY);
+        ScheduledTransfer notYetDue = scheduled(3L, "5300000002", NOW.plusSeconds(30), TransferFrequency.DAILY);
+        when(scheduledTransferPort.findDue(any(), eq(NOW.plusMinutes(1)), anyInt()))
+                .thenReturn(List.of(earlier, later, notYetDue));
+
+        // When
+        int queued = scheduledTransferService.refill(NOW);
+        int dispatched = scheduledTransferService.dispatch(NOW);
+
+        // Then
+        assertEquals(3, queued);
+        assertEquals(2, dispatched);
+        InOrder order = inOrder(transactionService);
+        order.verify(transactionService).createTransfer("5300000001", "3300000001", new BigDecimal("2.00"));
+        order.verify(transactionService).createTransfer("5300000001", "3300000001", new BigDecimal("1.00"));
+        assertEquals(NOW.minusMinutes(1).plusMonths(1), later.getNextExecution());
+        assertEquals(NOW.minusMinutes(5).plusDays(1), earlier.getNextExecution());
+        assertEquals(1, later.getExecutionCount());
+        assertEquals(1, scheduledTransferService.queuedSize());
+    }
+
+    @Test
+    void dispatch_WhenTransferFails_RetriesThenMarksFailed() {
+        // Given
+        ScheduledTransfer transfer = scheduled(1L, "5300000001", NOW, TransferFrequency.DAILY);
+        when(transactionService.createTransfer(anyString(), anyString(), any()))
+                .thenThrow(new InvalidAccountOperationException("Insufficient funds"));
+
+        // When
+        scheduledTransferService.execute(new ScheduledTransferService.DueTransfer(1L, NOW, "5300000001", "3300000001", 0), NOW);
+
+        // Then
+        assertEquals(ScheduledTransferStatus.ACTIVE, transfer.getStatus());
+        assertEquals(NOW.plusMinutes(15), transfer.getNextExecution());
+        assertEquals("Insufficient funds", transfer.getLastError());
+
+        // When
+        scheduledTransferService.execute(
+                new ScheduledTransferService.DueTransfer(1L, NOW.plusMinutes(15), "5300000001", "3300000001", 0), NOW.plusMinutes(15));
+
+        // Then
+        assertEquals(ScheduledTransferStatus.FAILED, transfer.getStatus());
+        assertEquals(2, transfer.getAttempts());
+    }
+
+    @Test
+    void execute_WithLaneEngine_RunsOnTheAccountsLane() {
+        // Given
+        scheduled(1L, "5300000001", NOW, TransferFrequency.DAILY);
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(transactionService.createTransfer(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return null;
+        });
+
+        // When
+        try (AccountLaneExecutor lanes = new AccountLaneExecutor(1)) {
+            service(new StaticListableBeanFactory(Map.of("accountLaneExecutor", lanes))).execute(
+                    new ScheduledTransferService.DueTransfer(1L, NOW, "5300000001", "3300000001", 0), NOW);
+        }
+
+        // Then
+        assertEquals("account-lane-0", thread.get());
+    }
+
+    @Test
+    void execute_WhenScheduleChangedSinceQueued_SkipsTransfer() {
+        // Given
+        ScheduledTransfer transfer = scheduled(1L, "5300000001", NOW, TransferFrequency.DAILY);
+        transfer.cancel();
+
+        // When
+        scheduledTransferService.execute(new ScheduledTransferService.DueTransfer(1L, NOW, "5300000001", "3300000001", 0), NOW);
+
+        // Then
+        verify(transactionService, never()).createTransfer(anyString(), anyString(), any());
+        assertNull(transfer.getLastError());
+    }
+
+    @Test
+    void recordSuccess_AfterEndDate_CompletesSchedule() {
+        // Given
+        ScheduledTransfer transfer = ScheduledTransfer.builder()
+                .sourceAccountNumber("5300000001")
+                .destinationAccountNumber("3300000001")
+                .amount(BigDecimal.ONE)
+                .frequency(TransferFrequency.MONTHLY)
+                .firstExecution(LocalDateTime.of(2024, 1, 31, 8, 0))
+                .endDate(LocalDate.of(2024, 3, 31))
+                .build();
+
+        // When
+        transfer.recordSuccess();
+        LocalDateTime february = transfer.getNextExecution();
+        transfer.recordSuccess();
+        LocalDateTime march = transfer.getNextExecution();
+        transfer.recordSuccess();
+
+        // Then
+        assertEquals(LocalDateTime.of(2024, 2, 29, 8, 0), february);
+        assertEquals(LocalDateTime.of(2024, 3, 31, 8, 0), march);
+        assertEquals(ScheduledTransferStatus.COMPLETED, transfer.getStatus());
+    }
+
+    @Test
+    void refill_DropsPartitionsNoLongerOwned() {
+        // Given
+        ScheduledTransfer transfer = scheduled(1L, "5300000001", NOW, TransferFrequency.DAILY);
+        when(scheduledTransferPort.findDue(any(), any(), anyInt())).thenReturn(List.of(transfer));
+        scheduledTransferService.refill(NOW);
+        when(partitionOwnershipPort.ownedPartitions(ScheduledTransferService.WORKLOAD, PARTITIONS)).thenReturn(Set.of());
+
+        // When
+        scheduledTransferService.refill(NOW);
+
+        // Then
+        assertEquals(0, scheduledTransferService.queuedSize());
+        assertEquals(0, scheduledTransferService.dispatch(NOW));
+    }
+
+    private ScheduledTransfer scheduled(Long id, String source, LocalDateTime firstExecution, TransferFrequency frequency) {
+        ScheduledTransfer transfer = ScheduledTransfer.builder()
+                .id(id)
+                .sourceAccountNumber(source)
+                .destinationAccountNumber("3300000001")
+                .amount(new BigDecimal(id + ".00"))
+                .frequency(frequency)
+                .firstExecution(firstExecution)
+                .partitionId(ScheduledTransferService.partitionOf(source, PARTITIONS))
+                .build();
+        store.put(id, transfer);
+        return transfer;
+    }
+
+    private ScheduledTransferService service(StaticListableBeanFactory beanFactory) {
+        return new ScheduledTransferService(scheduledTransferPort, accountPort, transactionService,
+                beanFactory.getBeanProvider(AccountLaneExecutor.class), new ScheduledTransferMapper(),
+                TransactionOperations.withoutTransaction(), partitionOwnershipPort, new SimpleMeterRegistry(),
+                PARTITIONS, 10, Duration.ofMinutes(1), 1000, 2, Duration.ofMinutes(15));
+    }
+}
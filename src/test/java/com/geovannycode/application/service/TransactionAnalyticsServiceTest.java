@@ -0,0 +1,170 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.application.dto.TransactionVolumeDTO;
+import com.geovannycode.domain.event.TransactionCompletedEvent;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.TransactionRollup;
+import com.geovannycode.domain.model.enums.RollupGranularity;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.out.TransactionRollupPort;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryEntities;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryExchangeRateHistoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionAnalyticsServiceTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 15, 12, 0);
+
+    @Mock
+    private TransactionRollupPort transactionRollupPort;
+
+    private TransactionAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new TransactionAnalyticsService(transactionRollupPort,
+                new ExchangeRateService(() -> Map.of("USD", new BigDecimal("4000")),
+                        new InMemoryExchangeRateHistoryAdapter(), new SimpleMeterRegistry(), "COP"),
+                Duration.ofHours(48), Duration.ofDays(90));
+    }
+
+    @Test
+    void flushPendingBuckets_AggregatesEventsPerMinuteAndType() {
+        // Given
+        analyticsService.onTransactionCompleted(event(TransactionType.DEPOSIT, "10.00", NOON.plusSeconds(5)));
+        analyticsService.onTransactionCompleted(event(TransactionType.DEPOSIT, "2.50", NOON.plusSeconds(40)));
+        analyticsService.onTransactionCompleted(event(TransactionType.WITHDRAWAL, "1.00", NOON.plusSeconds(50)));
+        analyticsService.onTransactionCompleted(event(TransactionType.DEPOSIT, "5.00", NOON.plusMinutes(1)));
+
+        // When
+        int flushed = analyticsService.flushPendingBuckets();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransactionRollup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRollupPort).addToBuckets(captor.capture());
+        List<TransactionRollup> deltas = captor.getValue().stream()
+                .sorted(Comparator.comparing(TransactionRollup::getBucketStart)
+                        .thenComparing(TransactionRollup::getTransactionType))
+                .toList();
+        assertEquals(3, flushed);
+        assertEquals(NOON, deltas.get(0).getBucketStart());
+        assertEquals(2L, deltas.get(0).getTransactionCount());
+        assertEquals(new BigDecimal("12.50"), deltas.get(0).getTotalAmount());
+        assertEquals(TransactionType.WITHDRAWAL, deltas.get(1).getTransactionType());
+        assertEquals(NOON.plusMinutes(1), deltas.get(2).getBucketStart());
+        assertEquals(0, analyticsService.flushPendingBuckets());
+    }
+
+    @Test
+    void flushPendingBuckets_WhenStoreFails_KeepsBucketsForRetry() {
+        // Given
+        analyticsService.onTransactionCompleted(event(TransactionType.DEPOSIT, "10.00", NOON));
+        doThrow(new IllegalStateException("database down"))
+                .doNothing()
+                .when(transactionRollupPort).addToBuckets(anyList());
+
+        // When
+        assertThrows(IllegalStateException.class, () -> analyticsService.flushPendingBuckets());
+        int flushed = analyticsService.flushPendingBuckets();
+
+        // Then
+        assertEquals(1, flushed);
+        verify(transactionRollupPort, times(2)).addToBuckets(anyList());
+    }
+
+    @Test
+    void compact_UsesRetentionCutoffs() {
+        // When
+        analyticsService.compact(NOON.plusMinutes(30));
+
+        // Then
+        verify(transactionRollupPort).compact(RollupGranularity.MINUTE, RollupGranularity.HOUR,
+                LocalDateTime.of(2024, 3, 13, 12, 0));
+        verify(transactionRollupPort).compact(RollupGranularity.HOUR, RollupGranularity.DAY,
+                LocalDateTime.of(2023, 12, 16, 0, 0));
+    }
+
+    @Test
+    void effectiveGranularity_PicksFromRangeAndRetention() {
+        // When / Then
+        assertEquals(RollupGranularity.MINUTE,
+                analyticsService.effectiveGranularity(NOON.minusHours(1), NOON, null, NOON));
+        assertEquals(RollupGranularity.HOUR,
+                analyticsService.effectiveGranularity(NOON.minusDays(2).plusHours(1), NOON, null, NOON));
+        assertEquals(RollupGranularity.DAY,
+                analyticsService.effectiveGranularity(NOON.minusDays(30), NOON, null, NOON));
+        assertEquals(RollupGranularity.HOUR,
+                analyticsService.effectiveGranularity(NOON.minusDays(3), NOON.minusDays(3).plusHours(1),
+                        RollupGranularity.MINUTE, NOON));
+        assertEquals(RollupGranularity.DAY,
+                analyticsService.effectiveGranularity(NOON.minusDays(120), NOON.minusDays(119),
+                        RollupGranularity.HOUR, NOON));
+    }
+
+    @Test
+    void getTransactionVolume_MergesFinerBucketsIntoRequestedGranularity() {
+        // Given
+        LocalDateTime from = LocalDateTime.now().minusHours(3).withMinute(0).withSecond(0).withNano(0);
+        when(transactionRollupPort.findBuckets(eq(List.of(RollupGranularity.MINUTE, RollupGranularity.HOUR)),
+                eq(from), any())).thenReturn(List.of(
+                rollup(RollupGranularity.MINUTE, from.plusMinutes(1), 2, "20.00"),
+                rollup(RollupGranularity.MINUTE, from.plusMinutes(59), 1, "5.00"),
+                rollup(RollupGranularity.MINUTE, from.plusMinutes(60), 1, "1.00")));
+
+        // When
+        List<TransactionVolumeDTO> volumes = analyticsService.getTransactionVolume(from, from.plusHours(2),
+                RollupGranularity.HOUR);
+
+        // Then
+        assertEquals(2, volumes.size());
+        assertEquals(from, volumes.get(0).getBucketStart());
+        assertEquals(3L, volumes.get(0).getTransactionCount());
+        assertEquals(new BigDecimal("25.00"), volumes.get(0).getTotalAmount());
+        assertEquals(RollupGranularity.HOUR, volumes.get(1).getGranularity());
+        assertEquals(from.plusHours(1), volumes.get(1).getBucketStart());
+    }
+
+    private TransactionCompletedEvent event(TransactionType type, String amount, LocalDateTime time) {
+        Transaction transaction = Transaction.builder()
+                .transactionType(type)
+                .amount(new BigDecimal(amount))
+                .build();
+        InMemoryEntities.setField(transaction, "transactionDate", time);
+        return new TransactionCompletedEvent(transaction);
+    }
+
+    private TransactionRollup rollup(RollupGranularity granularity, LocalDateTime bucketStart, long count, String amount) {
+        return TransactionRollup.builder()
+                .granularity(granularity)
+                .bucketStart(bucketStart)
+                .transactionType(TransactionType.DEPOSIT)
+                .transactionCount(count)
+                .totalAmount(new BigDecimal(amount))
+                .build();
+    }
+}
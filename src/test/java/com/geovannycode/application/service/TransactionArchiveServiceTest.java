@@ -0,0 +1,122 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.out.TransactionArchiveCatalogPort;
+import com.geovannycode.domain.port.out.TransactionArchivePort;
+import com.geovannycode.domain.port.out.TransactionPartitionPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionArchiveServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 11, 15);
+    private static final YearMonth JULY = YearMonth.of(2024, 7);
+
+    @Mock
+    private TransactionArchivePort transactionArchivePort;
+
+    @Mock
+    private TransactionArchiveCatalogPort transactionArchiveCatalogPort;
+
+    @Mock
+    private TransactionPartitionPort transactionPartitionPort;
+
+    @Mock
+    private TransactionArchivePort.ArchiveWriter writer;
+
+    private TransactionArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TransactionArchiveService(transactionArchivePort, transactionArchiveCatalogPort,
+                transactionPartitionPort, new SimpleMeterRegistry(), 90);
+    }
+
+    @Test
+    void archive_ArchivesOnlyMonthsOutsideHotWindowAndNotYetArchived() {
+        // Given
+        Account source = Account.builder().id(1L).build();
+        Account destination = Account.builder().id(2L).build();
+        Transaction transfer = Transaction.builder().id(10L).transactionType(TransactionType.TRANSFER)
+                .amount(new BigDecimal("30.00")).sourceAccount(source).destinationAccount(destination).build();
+        Transaction deposit = Transaction.builder().id(11L).transactionType(TransactionType.DEPOSIT)
+                .amount(new BigDecimal("5.00")).destinationAccount(source).build();
+        when(transactionArchivePort.isShared()).thenReturn(true);
+        when(transactionArchivePort.locationOf(JULY)).thenReturn("/mnt/archive/transactions-202407.txa");
+        when(transactionArchiveCatalogPort.findArchivedMonths()).thenReturn(new TreeSet<>(List.of(YearMonth.of(2024, 6))));
+        when(transactionPartitionPort.findPartitions()).thenReturn(new TreeSet<>(List.of(
+                YearMonth.of(2024, 6), JULY, YearMonth.of(2024, 8), YearMonth.of(2024, 9), YearMonth.of(2024, 10))));
+        when(transactionArchivePort.openWriter(JULY)).thenReturn(writer);
+        when(transactionArchiveCatalogPort.streamMonth(any(), any())).thenAnswer(invocation -> {
+            Consumer<Transaction> consumer = invocation.getArgument(1);
+            consumer.accept(transfer);
+            consumer.accept(deposit);
+            return 2L;
+        });
+        when(writer.commit()).thenReturn(2L);
+        when(transactionArchivePort.countArchived(JULY)).thenReturn(2L);
+
+        // When
+        int months = service.archive(TODAY);
+
+        // Then
+        assertEquals(1, months);
+        verify(writer).append(transfer);
+        verify(writer).append(deposit);
+        verify(writer).close();
+        verify(transactionArchiveCatalogPort).completeArchive(JULY, 2L, "/mnt/archive/transactions-202407.txa",
+                Map.of(1L, new BigDecimal("-25.00"), 2L, new BigDecimal("30.00")));
+        verify(transactionArchivePort, never()).openWriter(YearMonth.of(2024, 8));
+    }
+
+    @Test
+    void archive_CountMismatch_KeepsPartition() {
+        // Given
+        when(transactionArchivePort.isShared()).thenReturn(true);
+        when(transactionArchiveCatalogPort.findArchivedMonths()).thenReturn(new TreeSet<>());
+        when(transactionPartitionPort.findPartitions()).thenReturn(new TreeSet<>(List.of(JULY)));
+        when(transactionArchivePort.openWriter(JULY)).thenReturn(writer);
+        when(transactionArchiveCatalogPort.streamMonth(any(), any())).thenReturn(3L);
+        when(writer.commit()).thenReturn(3L);
+        when(transactionArchivePort.countArchived(JULY)).thenReturn(2L);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> service.archive(TODAY));
+        verify(transactionArchiveCatalogPort, never()).completeArchive(any(), anyLong(), any(), anyMap());
+    }
+
+    @Test
+    void archive_NodeLocalStorage_KeepsPartitions() {
+        // Given
+        when(transactionArchivePort.isShared()).thenReturn(false);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> service.archive(TODAY));
+        verify(transactionArchivePort, never()).openWriter(any());
+        verify(transactionArchiveCatalogPort, never()).completeArchive(any(), anyLong(), any(), anyMap());
+    }
+}
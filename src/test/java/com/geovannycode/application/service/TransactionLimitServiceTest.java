@@ -0,0 +1,257 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.exception.TransactionLimitExceededException;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.LimitUsage;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.model.enums.LimitScope;
+import com.geovannycode.domain.port.out.LimitUsagePort;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryExchangeRateHistoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionLimitServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private LimitUsagePort limitUsagePort;
+
+    private TransactionLimitService limitService;
+    private Account savings;
+    private Account checking;
+
+    @BeforeEach
+    void setUp() {
+        limitService = new TransactionLimitService(limitUsagePort,
+                new ExchangeRateService(() -> Map.of("USD", new BigDecimal("4000")),
+                        new InMemoryExchangeRateHistoryAdapter(), new SimpleMeterRegistry(), "COP"),
+                new BigDecimal("1000.00"), new BigDecimal("1500.00"), new BigDecimal("3000.00"),
+                new BigDecimal("5000.00"), new BigDecimal("5000.00"), new BigDecimal("9000.00"),
+                new BigDecimal("2000.00"), new BigDecimal("10000.00"));
+        Customer customer = Customer.builder().id(7L).build();
+        savings = Account.builder().id(1L).accountNumber("5312345678")
+                .accountType(AccountType.SAVINGS).customer(customer).build();
+        checking = Account.builder().id(2L).accountNumber("3312345678")
+                .accountType(AccountType.CHECKING).customer(customer).build();
+    }
+
+    @Test
+    void reserve_AboveMaxPerTransaction_ThrowsException() {
+        // When & Then
+        assertThrows(TransactionLimitExceededException.class, () ->
+                limitService.reserve(savings, new BigDecimal("1000.01"), false, TODAY));
+        assertEquals(0, limitService.usage(LimitScope.ACCOUNT, 1L, false, TODAY));
+    }
+
+    @Test
+    void reserve_ForeignCurrencyAccount_ChecksLimitsInBaseCurrency() {
+        // Given
+        Account dollars = Account.builder().id(3L).accountNumber("5387654321").accountType(AccountType.SAVINGS)
+                .currency("USD").customer(Customer.builder().id(8L).build()).build();
+
+        // When
+        limitService.reserve(dollars, new BigDecimal("0.25"), false, TODAY);
+
+        // Then
+        assertEquals(100000, limitService.usage(LimitScope.ACCOUNT, 3L, false, TODAY));
+        assertThrows(TransactionLimitExceededException.class, () ->
+                limitService.reserve(dollars, new BigDecimal("0.26"), true, TODAY));
+    }
+
+    @Test
+    void reserve_AboveDailyAccountLimit_ThrowsException() {
+        // Given
+        limitService.reserve(savings, new BigDecimal("1000.00"), false, TODAY);
+
+        // When & Then
+        assertThrows(TransactionLimitExceededException.class, () ->
+                limitService.reserve(savings, new BigDecimal("600.00"), false, TODAY));
+        limitService.reserve(savings, new BigDecimal("500.00"), false, TODAY);
+        assertEquals(150000, limitService.usage(LimitScope.ACCOUNT, 1L, false, TODAY));
+        limitService.reserve(savings, new BigDecimal("1000.00"), false, TODAY.plusDays(1));
+        assertEquals(100000, limitService.usage(LimitScope.ACCOUNT, 1L, false, TODAY.plusDays(1)));
+    }
+
+    @Test
+    void reserve_AboveDailyCustomerLimit_ReleasesAccountUsage() {
+        // Given
+        limitService.reserve(savings, new BigDecimal("1000.00"), false, TODAY);
+        limitService.reserve(checking, new BigDecimal("900.00"), false, TODAY);
+
+        // When & Then
+        assertThrows(TransactionLimitExceededException.class, () ->
+                limitService.reserve(checking, new BigDecimal("200.00"), false, TODAY));
+        assertEquals(90000, limitService.usage(LimitScope.ACCOUNT, 2L, false, TODAY));
+        assertEquals(190000, limitService.usage(LimitScope.CUSTOMER, 7L, false, TODAY));
+    }
+
+    @Test
+    void reserve_TransfersAndWithdrawalsAreTrackedSeparately() {
+        // When
+        limitService.reserve(savings, new BigDecimal("1000.00"), false, TODAY);
+        limitService.reserve(savings, new BigDecimal("1000.00"), true, TODAY);
+
+        // Then
+        assertEquals(100000, limitService.usage(LimitScope.ACCOUNT, 1L, false, TODAY));
+        assertEquals(100000, limitService.usage(LimitScope.ACCOUNT, 1L, true, TODAY));
+    }
+
+    @Test
+    void reserve_WhenTransactionRollsBack_ReleasesUsage() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            limitService.reserve(savings, new BigDecimal("400.00"), false, TODAY);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(0, limitService.usage(LimitScope.ACCOUNT, 1L, false, TODAY));
+        assertEquals(0, limitService.usage(LimitScope.CUSTOMER, 7L, false, TODAY));
+    }
+
+    @Test
+    void flushUsage_WritesDirtyCountersOnce() {
+        // Given
+        limitService.reserve(savings, new BigDecimal("250.00"), false, TODAY);
+
+        // When
+        int flushed = limitService.flushUsage();
+        int flushedAgain = limitService.flushUsage();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LimitUsage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(limitUsagePort).addUsage(captor.capture());
+        assertEquals(2, flushed);
+        assertEquals(0, flushedAgain);
+        LimitUsage accountUsage = captor.getValue().stream()
+                .filter(usage -> usage.getScope() == LimitScope.ACCOUNT)
+                .findFirst().orElseThrow();
+        assertEquals(TODAY, accountUsage.getBusinessDate());
+        assertEquals(new BigDecimal("250.00"), accountUsage.getWithdrawn());
+        assertEquals(new BigDecimal("0.00"), accountUsage.getTransferredOut());
+    }
+
+    @Test
+    void flushUsage_WhenStoreFails_RetriesOnNextFlush() {
+        // Given
+        limitService.reserve(savings, new BigDecimal("250.00"), false, TODAY);
+        doThrow(new IllegalStateException("database down"))
+                .doNothing()
+                .when(limitUsagePort).addUsage(anyList());
+
+        // When
+        assertThrows(IllegalStateException.class, () -> limitService.flushUsage());
+        int flushed = limitService.flushUsage();
+
+        // Then
+        assertEquals(2, flushed);
+    }
+
+    @Test
+    void restoreUsage_LoadsTodaysCounters() {
+        // Given
+        LocalDate today = LocalDate.now();
+        when(limitUsagePort.findByBusinessDate(today)).thenReturn(List.of(LimitUsage.builder()
+                .scope(LimitScope.ACCOUNT)
+                .ownerId(1L)
+                .businessDate(today)
+                .withdrawn(new BigDecimal("1400.00"))
+                .transferredOut(BigDecimal.ZERO)
+                .build()));
+
+        // When
+        limitService.restoreUsage();
+
+        // Then
+        assertThrows(TransactionLimitExceededException.class, () ->
+                limitService.reserve(savings, new BigDecimal("200.00"), false, today));
+        verify(limitUsagePort, never()).addUsage(anyList());
+    }
+
+    @Test
+    void flushUsage_AfterRestore_WritesOnlyUsageAddedByThisNode() {
+        // Given
+        LocalDate today = LocalDate.now();
+        when(limitUsagePort.findByBusinessDate(today)).thenReturn(List.of(LimitUsage.builder()
+                .scope(LimitScope.ACCOUNT)
+                .ownerId(1L)
+                .businessDate(today)
+                .withdrawn(new BigDecimal("400.00"))
+                .transferredOut(BigDecimal.ZERO)
+                .build()));
+        limitService.restoreUsage();
+        limitService.reserve(savings, new BigDecimal("100.00"), false, today);
+        limitService.flushUsage();
+        limitService.reserve(savings, new BigDecimal("50.00"), false, today);
+
+        // When
+        limitService.flushUsage();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LimitUsage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(limitUsagePort, times(2)).addUsage(captor.capture());
+        List<BigDecimal> accountDeltas = captor.getAllValues().stream()
+                .map(deltas -> deltas.stream()
+                        .filter(usage -> usage.getScope() == LimitScope.ACCOUNT)
+                        .findFirst().orElseThrow().getWithdrawn())
+                .toList();
+        assertEquals(List.of(new BigDecimal("100.00"), new BigDecimal("50.00")), accountDeltas);
+    }
+
+    @Test
+    void flushUsage_AfterDayRollover_WritesEachDaysDelta() {
+        // Given
+        limitService.reserve(savings, new BigDecimal("250.00"), false, TODAY);
+        limitService.reserve(savings, new BigDecimal("100.00"), true, TODAY);
+        limitService.reserve(savings, new BigDecimal("40.00"), false, TODAY.plusDays(1));
+
+        // When
+        limitService.flushUsage();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LimitUsage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(limitUsagePort).addUsage(captor.capture());
+        Map<LocalDate, LimitUsage> accountUsage = captor.getValue().stream()
+                .filter(usage -> usage.getScope() == LimitScope.ACCOUNT)
+                .collect(Collectors.toMap(LimitUsage::getBusinessDate, Function.identity()));
+        assertEquals(new BigDecimal("250.00"), accountUsage.get(TODAY).getWithdrawn());
+        assertEquals(new BigDecimal("100.00"), accountUsage.get(TODAY).getTransferredOut());
+        assertEquals(new BigDecimal("40.00"), accountUsage.get(TODAY.plusDays(1)).getWithdrawn());
+        assertEquals(new BigDecimal("0.00"), accountUsage.get(TODAY.plusDays(1)).getTransferredOut());
+    }
+}
@@ -0,0 +1,60 @@
+package com.geovannycode.application.service;
+
+import com.geovannycode.domain.port.out.TransactionPartitionPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionPartitionServiceTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2024, 11);
+
+    @Mock
+    private TransactionPartitionPort transactionPartitionPort;
+
+    @Test
+    void maintain_CreatesMissingPartitionsUpToHorizon() {
+        // Given
+        TransactionPartitionService service = new TransactionPartitionService(transactionPartitionPort, 3, 0);
+        when(transactionPartitionPort.findPartitions())
+                .thenReturn(new TreeSet<>(List.of(YearMonth.of(2024, 10), CURRENT, YearMonth.of(2024, 12))));
+
+        // When
+        service.maintain(CURRENT);
+
+        // Then
+        verify(transactionPartitionPort).createPartition(YearMonth.of(2025, 1));
+        verify(transactionPartitionPort).createPartition(YearMonth.of(2025, 2));
+        verify(transactionPartitionPort, never()).createPartition(CURRENT);
+        verify(transactionPartitionPort, never()).createPartition(YearMonth.of(2025, 3));
+        verify(transactionPartitionPort, never()).detachPartition(any());
+    }
+
+    @Test
+    void maintain_WithRetention_DetachesPartitionsOlderThanRetention() {
+        // Given
+        TransactionPartitionService service = new TransactionPartitionService(transactionPartitionPort, 0, 2);
+        when(transactionPartitionPort.findPartitions()).thenReturn(new TreeSet<>(List.of(
+                YearMonth.of(2024, 7), YearMonth.of(2024, 8), YearMonth.of(2024, 9), YearMonth.of(2024, 10), CURRENT)));
+
+        // When
+        service.maintain(CURRENT);
+
+        // Then
+        verify(transactionPartitionPort).detachPartition(YearMonth.of(2024, 7));
+        verify(transactionPartitionPort).detachPartition(YearMonth.of(2024, 8));
+        verify(transactionPartitionPort, never()).detachPartition(YearMonth.of(2024, 9));
+        verify(transactionPartitionPort, never()).createPartition(any());
+    }
+}
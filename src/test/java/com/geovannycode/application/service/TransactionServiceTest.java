@@ -3,26 +3,33 @@ package com.geovannycode.application.service;
 import com.geovannycode.application.dto.CreateTransactionDTO;
 import com.geovannycode.application.dto.TransactionDTO;
 import com.geovannycode.application.mapper.TransactionMapper;
+import com.geovannycode.domain.exception.FraudSuspectedException;
 import com.geovannycode.domain.exception.InvalidAccountOperationException;
 import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.CurrencyConversion;
 import com.geovannycode.domain.model.Transaction;
 import com.geovannycode.domain.model.enums.AccountStatus;
 import com.geovannycode.domain.model.enums.AccountType;
 import com.geovannycode.domain.model.enums.TransactionType;
 import com.geovannycode.domain.port.out.AccountPort;
+import com.geovannycode.domain.port.out.TransactionArchivePort;
 import com.geovannycode.domain.port.out.TransactionPort;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryEntities;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -30,6 +37,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -45,6 +54,21 @@ public class TransactionServiceTest {
     @Mock
     private TransactionMapper transactionMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FraudVelocityService fraudVelocityService;
+
+    @Mock
+    private TransactionLimitService transactionLimitService;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    @Mock
+    private TransactionArchivePort transactionArchivePort;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -103,8 +127,7 @@ public class TransactionServiceTest {
     @Test
     void createTransaction_Transfer_Success() {
         // Given
-        when(accountPort.findByAccountNumber("5312345678")).thenReturn(Optional.of(sourceAccount));
-        when(accountPort.findByAccountNumber("3312345678")).thenReturn(Optional.of(destinationAccount));
+        when(accountPort.lockByAccountNumbers(any())).thenReturn(List.of(sourceAccount, destinationAccount));
         when(transactionPort.saveTransaction(any(Transaction.class))).thenReturn(transaction);
         when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
 
@@ -121,7 +144,7 @@ public class TransactionServiceTest {
     @Test
     void createDeposit_Success() {
         // Given
-        when(accountPort.findByAccountNumber(any())).thenReturn(Optional.of(destinationAccount));
+        when(accountPort.lockByAccountNumbers(any())).thenReturn(List.of(destinationAccount));
         when(transactionPort.saveTransaction(any(Transaction.class))).thenReturn(transaction);
         when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
 
@@ -137,7 +160,7 @@ public class TransactionServiceTest {
     @Test
     void createWithdrawal_Success() {
         // Given
-        when(accountPort.findByAccountNumber(any())).thenReturn(Optional.of(sourceAccount));
+        when(accountPort.lockByAccountNumbers(any())).thenReturn(List.of(sourceAccount));
         when(transactionPort.saveTransaction(any(Transaction.class))).thenReturn(transaction);
         when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
 
@@ -153,8 +176,7 @@ public class TransactionServiceTest {
     @Test
     void createTransfer_Success() {
         // Given
-        when(accountPort.findByAccountNumber("5312345678")).thenReturn(Optional.of(sourceAccount));
-        when(accountPort.findByAccountNumber("3312345678")).thenReturn(Optional.of(destinationAccount));
+        when(accountPort.lockByAccountNumbers(any())).thenReturn(List.of(sourceAccount, destinationAccount));
         when(transactionPort.saveTransaction(any(Transaction.class))).thenReturn(transaction);
         when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
 
@@ -169,10 +191,41 @@ public class TransactionServiceTest {
         verify(transactionPort).saveTransaction(any(Transaction.class));
     }
 
+    @Test
+    void createTransfer_CrossCurrency_CreditsConvertedAmount() {
+        // Given
+        Account usdAccount = Account.builder()
+                .id(3L)
+                .accountType(AccountType.CHECKING)
+                .accountNumber("3387654321")
+                .status(AccountStatus.ACTIVE)
+                .balance(new BigDecimal("10.00"))
+                .currency("USD")
+                .build();
+        when(accountPort.lockByAccountNumbers(Set.of("5312345678", "3387654321")))
+                .thenReturn(List.of(sourceAccount, usdAccount));
+        when(exchangeRateService.convert(new BigDecimal("410.00"), "COP", "USD"))
+                .thenReturn(new CurrencyConversion(new BigDecimal("0.10"), new BigDecimal("0.0002439024"), 7L));
+        when(transactionPort.saveTransaction(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
+
+        // When
+        transactionService.createTransfer("5312345678", "3387654321", new BigDecimal("410.00"));
+
+        // Then
+        ArgumentCaptor<Transaction> saved = ArgumentCaptor.forClass(Transaction.class);
+        verify(transactionPort).saveTransaction(saved.capture());
+        assertEquals(new BigDecimal("410.00"), saved.getValue().getAmount());
+        assertEquals(new BigDecimal("0.10"), saved.getValue().getDestinationAmount());
+        assertEquals(7L, saved.getValue().getRateVersion());
+        assertEquals(new BigDecimal("590.00"), sourceAccount.getBalance());
+        assertEquals(new BigDecimal("10.10"), usdAccount.getBalance());
+    }
+
     @Test
     void createWithdrawal_InsufficientFunds_ThrowsException() {
         // Given
-        when(accountPort.findByAccountNumber(any())).thenReturn(Optional.of(sourceAccount));
+        when(accountPort.lockByAccountNumbers(any())).thenReturn(List.of(sourceAccount));
 
         // When & Then
         assertThrows(InvalidAccountOperationException.class, () ->
@@ -190,7 +243,7 @@ public class TransactionServiceTest {
                 .balance(new BigDecimal("1000.00"))
                 .build();
 
-        when(accountPort.findByAccountNumber(any())).thenReturn(Optional.of(inactiveAccount));
+        when(accountPort.lockByAccountNumbers(any())).thenReturn(List.of(inactiveAccount));
 
         // When & Then
         assertThrows(InvalidAccountOperationException.class, () ->
@@ -198,6 +251,21 @@ public class TransactionServiceTest {
         );
     }
 
+    @Test
+    void createWithdrawal_VelocityRuleRejects_DoesNotMoveFunds() {
+        // Given
+        when(accountPort.lockByAccountNumbers(any())).thenReturn(List.of(sourceAccount));
+        doThrow(new FraudSuspectedException("too many withdrawals"))
+                .when(fraudVelocityService).checkWithdrawal(sourceAccount, new BigDecimal("100.00"));
+
+        // When & Then
+        assertThrows(FraudSuspectedException.class, () ->
+                transactionService.createWithdrawal("5312345678", new BigDecimal("100.00"))
+        );
+        assertEquals(new BigDecimal("1000.00"), sourceAccount.getBalance());
+        verify(transactionPort, never()).saveTransaction(any(Transaction.class));
+    }
+
     @Test
     void findTransactionById_Success() {
         // Given
@@ -217,15 +285,62 @@ public class TransactionServiceTest {
         // Given
         List<Transaction> transactions = Arrays.asList(transaction);
         when(accountPort.findByAccountNumber(any())).thenReturn(Optional.of(sourceAccount));
-        when(transactionPort.findByAccountId(anyLong())).thenReturn(transactions);
+        when(transactionPort.findByAccountId(anyLong(), any(), any())).thenReturn(transactions);
         when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
 
         // When
-        List<TransactionDTO> result = transactionService.getTransactionsByAccount("5312345678");
+        List<TransactionDTO> result = transactionService.getTransactionsByAccount("5312345678", null, null);
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(transactionDTO.getId(), result.get(0).getId());
     }
+
+    @Test
+    void getTransactionsByAccount_WithoutFrom_QueriesWholeHistorySinceAccountCreation() {
+        // Given
+        LocalDateTime to = LocalDateTime.of(2024, 6, 15, 10, 0);
+        LocalDateTime created = LocalDateTime.of(2019, 2, 3, 14, 30);
+        InMemoryEntities.setField(sourceAccount, "createdAt", created);
+        when(accountPort.findByAccountNumber("5312345678")).thenReturn(Optional.of(sourceAccount));
+        when(transactionPort.findByAccountId(sourceAccount.getId(), created.toLocalDate().atStartOfDay(), to))
+                .thenReturn(List.of());
+
+        // When
+        List<TransactionDTO> result = transactionService.getTransactionsByAccount("5312345678", null, to);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(transactionPort).findByAccountId(sourceAccount.getId(), created.toLocalDate().atStartOfDay(), to);
+    }
+
+    @Test
+    void getTransactionsByAccount_MergesArchivedRowsWithoutDuplicates() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 6, 1, 0, 0);
+        Transaction hot = dated(transaction, LocalDateTime.of(2024, 5, 20, 9, 0));
+        Transaction archivedCopy = dated(Transaction.builder().id(1L).transactionType(TransactionType.TRANSFER)
+                .amount(new BigDecimal("100.00")).build(), LocalDateTime.of(2024, 5, 20, 9, 0));
+        Transaction archived = dated(Transaction.builder().id(7L).transactionType(TransactionType.DEPOSIT)
+                .amount(new BigDecimal("40.00")).destinationAccount(sourceAccount).build(),
+                LocalDateTime.of(2023, 2, 3, 8, 0));
+        when(accountPort.findByAccountNumber("5312345678")).thenReturn(Optional.of(sourceAccount));
+        when(transactionPort.findByAccountId(1L, from, to)).thenReturn(List.of(hot));
+        when(transactionArchivePort.findByAccountId(1L, from, to)).thenReturn(List.of(archived, archivedCopy));
+        when(transactionMapper.toDTO(any(Transaction.class)))
+                .thenAnswer(invocation -> TransactionDTO.builder().id(invocation.<Transaction>getArgument(0).getId()).build());
+
+        // When
+        List<TransactionDTO> result = transactionService.getTransactionsByAccount("5312345678", from, to);
+
+        // Then
+        assertEquals(List.of(1L, 7L), result.stream().map(TransactionDTO::getId).toList());
+    }
+
+    private static Transaction dated(Transaction transaction, LocalDateTime date) {
+        InMemoryEntities.setField(transaction, "transactionDate", date);
+        return transaction;
+    }
 }
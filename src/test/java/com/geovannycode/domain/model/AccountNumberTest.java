@@ -0,0 +1,41 @@
+package com.geovannycode.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AccountNumberTest {
+
+    @Test
+    void pack_RoundTripsAccountNumbers() {
+        // Given
+        String savings = "5312345678";
+        String leadingZeros = "0000000042";
+
+        // When
+        long packedSavings = AccountNumber.pack(savings);
+        long packedLeadingZeros = AccountNumber.pack(leadingZeros);
+
+        // Then
+        assertEquals(5312345678L, packedSavings);
+        assertEquals(savings, AccountNumber.unpack(packedSavings));
+        assertEquals(leadingZeros, AccountNumber.unpack(packedLeadingZeros));
+    }
+
+    @Test
+    void pack_WhenNotTenDigits_ReturnsInvalid() {
+        // When / Then
+        assertEquals(AccountNumber.INVALID, AccountNumber.pack(null));
+        assertEquals(AccountNumber.INVALID, AccountNumber.pack("123"));
+        assertEquals(AccountNumber.INVALID, AccountNumber.pack("53A2345678"));
+        assertEquals(AccountNumber.INVALID, AccountNumber.pack("-312345678"));
+    }
+
+    @Test
+    void unpack_WhenOutOfRange_ThrowsException() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> AccountNumber.unpack(10_000_000_000L));
+        assertThrows(IllegalArgumentException.class, () -> AccountNumber.unpack(-1));
+    }
+}
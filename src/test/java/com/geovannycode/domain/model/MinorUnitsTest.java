@@ -0,0 +1,50 @@
+package com.geovannycode.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MinorUnitsTest {
+
+    @Test
+    void of_ConvertsAmountsToCents() {
+        // When / Then
+        assertEquals(10050L, MinorUnits.of(new BigDecimal("100.5")));
+        assertEquals(100L, MinorUnits.of(BigDecimal.ONE));
+        assertEquals(new BigDecimal("100.50"), MinorUnits.toBigDecimal(10050L));
+    }
+
+    @Test
+    void of_WhenFractionOfCent_ThrowsException() {
+        // When / Then
+        assertFalse(MinorUnits.isExact(new BigDecimal("0.001")));
+        assertThrows(ArithmeticException.class, () -> MinorUnits.of(new BigDecimal("0.001")));
+    }
+
+    @Test
+    void isExact_RejectsAmountsThatOverflowLong() {
+        // Given
+        BigDecimal largest = new BigDecimal("9999999999999999.99");
+        BigDecimal tooLarge = new BigDecimal("99999999999999999.99");
+
+        // When / Then
+        assertTrue(MinorUnits.isExact(largest));
+        assertEquals(999999999999999999L, MinorUnits.of(largest));
+        assertFalse(MinorUnits.isExact(tooLarge));
+        assertThrows(ArithmeticException.class, () -> MinorUnits.of(new BigDecimal("1E+17")));
+    }
+
+    @Test
+    void add_WhenOverflowing_ThrowsException() {
+        // When / Then
+        assertEquals(300L, MinorUnits.add(100L, 200L));
+        assertEquals(-100L, MinorUnits.subtract(100L, 200L));
+        assertThrows(ArithmeticException.class, () -> MinorUnits.add(Long.MAX_VALUE, 1L));
+        assertThrows(ArithmeticException.class, () -> MinorUnits.subtract(Long.MIN_VALUE, 1L));
+    }
+}
@@ -0,0 +1,102 @@
+package com.geovannycode.infrastructure.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AccountLaneExecutorTest {
+
+    private AccountLaneExecutor laneExecutor;
+
+    @BeforeEach
+    void setUp() {
+        laneExecutor = new AccountLaneExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        laneExecutor.close();
+    }
+
+    @Test
+    void execute_SameAccount_RunsOnSameThread() {
+        // When
+        String first = laneExecutor.execute("5312345678", () -> Thread.currentThread().getName());
+        String second = laneExecutor.execute("5312345678", () -> Thread.currentThread().getName());
+
+        // Then
+        assertEquals(first, second);
+        assertEquals("account-lane-" + laneExecutor.laneOf("5312345678"), first);
+    }
+
+    @Test
+    void execute_PropagatesTaskException() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () ->
+                laneExecutor.execute("5312345678", () -> {
+                    throw new IllegalStateException("boom");
+                })
+        );
+    }
+
+    @Test
+    void execute_TwoLanes_RunsOnHigherLane() {
+        // Given
+        String source = accountOnLane(0);
+        String destination = accountOnLane(3);
+
+        // When
+        String thread = laneExecutor.execute(source, destination, () -> Thread.currentThread().getName());
+
+        // Then
+        assertNotEquals(laneExecutor.laneOf(source), laneExecutor.laneOf(destination));
+        assertEquals("account-lane-3", thread);
+    }
+
+    @Test
+    void execute_OpposingTransfers_DoNotDeadlock() throws Exception {
+        // Given
+        String first = accountOnLane(1);
+        String second = accountOnLane(2);
+        long[] balances = new long[2];
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 2000; i++) {
+            boolean forward = i % 2 == 0;
+            futures.add(CompletableFuture.runAsync(() -> laneExecutor.execute(
+                    forward ? first : second, forward ? second : first, () -> {
+                        balances[forward ? 0 : 1]--;
+                        balances[forward ? 1 : 0]++;
+                        return null;
+                    }), clients));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        clients.shutdown();
+
+        // Then
+        assertEquals(0, balances[0]);
+        assertEquals(0, balances[1]);
+    }
+
+    private String accountOnLane(int lane) {
+        for (long candidate = 5300000000L; ; candidate++) {
+            String accountNumber = Long.toString(candidate);
+            if (laneExecutor.laneOf(accountNumber) == lane) {
+                return accountNumber;
+            }
+        }
+    }
+}
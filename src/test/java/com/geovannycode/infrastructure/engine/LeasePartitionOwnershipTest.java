@@ -0,0 +1,128 @@
+package com.geovannycode.infrastructure.engine;
+
+import com.geovannycode.domain.port.out.PartitionLeasePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LeasePartitionOwnershipTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Mock
+    private PartitionLeasePort partitionLeasePort;
+
+    private LeasePartitionOwnership ownership;
+
+    @BeforeEach
+    void setUp() {
+        ownership = new LeasePartitionOwnership(partitionLeasePort, "node-1", TTL, Duration.ZERO);
+    }
+
+    @Test
+    void ownedPartitions_FirstCall_AcquiresFairShare() {
+        // Given
+        when(partitionLeasePort.countLiveNodes(TTL)).thenReturn(3);
+        when(partitionLeasePort.renew("transfers", "node-1", TTL)).thenReturn(Set.of());
+        when(partitionLeasePort.acquire("transfers", "node-1", 4, TTL)).thenReturn(Set.of(0, 1, 2, 3));
+
+        // When
+        Set<Integer> owned = ownership.ownedPartitions("transfers", 10);
+
+        // Then
+        assertEquals(Set.of(0, 1, 2, 3), owned);
+        verify(partitionLeasePort).ensurePartitions("transfers", 10);
+        verify(partitionLeasePort).recordHeartbeat("node-1", TTL);
+    }
+
+    @Test
+    void heartbeat_WhenNodesJoin_ReleasesHighestSurplusPartitions() {
+        // Given
+        when(partitionLeasePort.countLiveNodes(TTL)).thenReturn(1);
+        when(partitionLeasePort.renew("transfers", "node-1", TTL)).thenReturn(Set.of());
+        when(partitionLeasePort.acquire("transfers", "node-1", 4, TTL)).thenReturn(Set.of(0, 1, 2, 3));
+        ownership.ownedPartitions("transfers", 4);
+        when(partitionLeasePort.countLiveNodes(TTL)).thenReturn(2);
+        when(partitionLeasePort.renew("transfers", "node-1", TTL)).thenReturn(Set.of(0, 1, 2, 3));
+
+        // When
+        ownership.heartbeat();
+
+        // Then
+        verify(partitionLeasePort).release("transfers", "node-1", List.of(3, 2));
+        assertEquals(Set.of(0, 1), ownership.ownedPartitions("transfers", 4));
+    }
+
+    @Test
+    void heartbeat_WhenLeasesWereLost_OnlyReportsRenewedPartitions() {
+        // Given
+        when(partitionLeasePort.countLiveNodes(TTL)).thenReturn(2);
+        when(partitionLeasePort.renew("transfers", "node-1", TTL)).thenReturn(Set.of());
+        when(partitionLeasePort.acquire("transfers", "node-1", 2, TTL)).thenReturn(Set.of(0, 1));
+        ownership.ownedPartitions("transfers", 4);
+        when(partitionLeasePort.renew("transfers", "node-1", TTL)).thenReturn(Set.of(1));
+        when(partitionLeasePort.acquire("transfers", "node-1", 1, TTL)).thenReturn(Set.of());
+
+        // When
+        ownership.heartbeat();
+
+        // Then
+        assertEquals(Set.of(1), ownership.ownedPartitions("transfers", 4));
+    }
+
+    @Test
+    void ownedPartitions_WhenDatabaseUnavailable_OwnsNothing() {
+        // Given
+        when(partitionLeasePort.countLiveNodes(TTL)).thenThrow(new IllegalStateException("database down"));
+
+        // When
+        Set<Integer> owned = ownership.ownedPartitions("transfers", 4);
+
+        // Then
+        assertTrue(owned.isEmpty());
+        assertFalse(ownership.isLeader("nightly-job"));
+        verify(partitionLeasePort, never()).acquire(eq("transfers"), any(), anyInt(), any());
+    }
+
+    @Test
+    void ownedPartitions_WithDifferentPartitionCount_ThrowsException() {
+        // Given
+        when(partitionLeasePort.countLiveNodes(TTL)).thenReturn(1);
+        when(partitionLeasePort.renew(any(), any(), any())).thenReturn(Set.of());
+        when(partitionLeasePort.acquire(any(), any(), anyInt(), any())).thenReturn(Set.of());
+        ownership.ownedPartitions("transfers", 4);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ownership.ownedPartitions("transfers", 8));
+    }
+
+    @Test
+    void close_ReleasesAllLeases() {
+        // When
+        ownership.close();
+
+        // Then
+        verify(partitionLeasePort).releaseAll("node-1");
+    }
+}
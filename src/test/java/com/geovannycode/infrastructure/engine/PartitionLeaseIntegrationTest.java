@@ -0,0 +1,114 @@
+package com.geovannycode.infrastructure.engine;
+
+import com.geovannycode.SistemaFinancieroApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PartitionLeaseIntegrationTest {
+
+    private static final String WORKLOAD = "integration-test";
+    private static final int PARTITIONS = 12;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void nodesSplitPartitionsAndTakeOverFromAnExpiredNode() {
+        // Given
+        LeasePartitionOwnership first = start("node-1");
+        LeasePartitionOwnership second = start("node-2");
+        LeasePartitionOwnership third = start("node-3");
+        List<LeasePartitionOwnership> all = List.of(first, second, third);
+        all.forEach(node -> node.ownedPartitions(WORKLOAD, PARTITIONS));
+
+        // When
+        for (int round = 0; round < 3; round++) {
+            all.forEach(LeasePartitionOwnership::heartbeat);
+        }
+
+        // Then
+        assertDisjointCover(all);
+        all.forEach(node -> assertEquals(4, node.ownedPartitions(WORKLOAD, PARTITIONS).size()));
+
+        // When
+        JdbcTemplate jdbcTemplate = nodes.getFirst().getBean(JdbcTemplate.class);
+        jdbcTemplate.update("update lease_nodes set heartbeat_at = now() - interval '1 hour' where node_id = 'node-3'");
+        jdbcTemplate.update("update partition_leases set lease_until = now() - interval '1 second' where owner = 'node-3'");
+        List<LeasePartitionOwnership> survivors = List.of(first, second);
+        survivors.forEach(LeasePartitionOwnership::heartbeat);
+
+        // Then
+        assertDisjointCover(survivors);
+        survivors.forEach(node -> assertEquals(6, node.ownedPartitions(WORKLOAD, PARTITIONS).size()));
+    }
+
+    @Test
+    void onlyOneNodeIsLeaderOfASingletonJob() {
+        // Given
+        LeasePartitionOwnership first = start("node-1");
+        LeasePartitionOwnership second = start("node-2");
+
+        // When
+        boolean firstLeads = first.isLeader("nightly-job");
+        boolean secondLeads = second.isLeader("nightly-job");
+
+        // Then
+        assertTrue(firstLeads ^ secondLeads);
+    }
+
+    private LeasePartitionOwnership start(String nodeId) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SistemaFinancieroApplication.class)
+                .properties(
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "spring.docker.compose.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0",
+                        "app.leases.node-id=" + nodeId,
+                        "app.leases.ttl=1m",
+                        "app.leases.renew-interval=0s",
+                        "app.interest.enabled=false",
+                        "app.reconciliation.enabled=false",
+                        "app.scheduled-transfers.enabled=false")
+                .run();
+        nodes.add(context);
+        return context.getBean(LeasePartitionOwnership.class);
+    }
+
+    private static void assertDisjointCover(List<LeasePartitionOwnership> owners) {
+        Set<Integer> covered = new HashSet<>();
+        int total = 0;
+        for (LeasePartitionOwnership owner : owners) {
+            Set<Integer> owned = owner.ownedPartitions(WORKLOAD, PARTITIONS);
+            covered.addAll(owned);
+            total += owned.size();
+        }
+        assertEquals(PARTITIONS, total);
+        assertEquals(IntStream.range(0, PARTITIONS).boxed().collect(Collectors.toSet()), covered);
+    }
+}
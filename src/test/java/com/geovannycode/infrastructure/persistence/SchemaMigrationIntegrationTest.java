@@ -0,0 +1,145 @@
+package com.geovannycode.infrastructure.persistence;
+
+import com.geovannycode.infrastructure.persistence.adapter.TransactionPartitionAdapter;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        TransactionPartitionAdapter partitions = new TransactionPartitionAdapter(jdbcTemplate);
+        for (YearMonth month = YearMonth.now().minusMonths(6); !month.isAfter(YearMonth.now()); month = month.plusMonths(1)) {
+            partitions.createPartition(month);
+        }
+
+        jdbcTemplate.execute("""
+                insert into customers (identification_type, identification_number, first_name, last_name,
+                                       email, birth_date, created_at)
+                select 'CC', 'ID' || lpad(g::text, 6, '0'), 'Name' || g, 'Last' || g,
+                       'user' || g || '@example.com', date '1990-01-01', now()
+                from generate_series(1, 20000) g
+                """);
+        jdbcTemplate.execute("""
+                insert into accounts (account_type, account_number, status, balance, currency, created_at, customer_id)
+                select case when g % 2 = 0 then 'SAVINGS' else 'CHECKING' end, lpad(g::text, 10, '0'),
+                       case when g % 10 = 0 then 'INACTIVE' else 'ACTIVE' end, 100, 'COP', now(), (g + 1) / 2
+                from generate_series(1, 40000) g
+                """);
+        jdbcTemplate.execute("""
+                insert into transactions (transaction_type, amount, transaction_date, source_account_id,
+                                          destination_account_id)
+                select 'TRANSFER', 1, now() - g * interval '1 minute', g % 40000 + 1, (g * 7) % 40000 + 1
+                from generate_series(1, 200000) g
+                """);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @Test
+    void findByCustomerId_UsesCustomerIndex() {
+        assertUsesIndex("idx_accounts_customer_id", "select * from accounts where customer_id = 1234");
+    }
+
+    // Each partition gets its own copy of the parent index, named after the partition, so the
+    // transaction plans are checked for the absence of sequential scans instead of an index name.
+    @Test
+    void transactionsBySourceAccount_UseSourceIndex() {
+        assertUsesIndexes("select * from transactions where source_account_id = 1234");
+        assertUsesIndexes("select * from transactions where source_account_id = 1234"
+                + " and transaction_date >= now() - interval '30 days' order by transaction_date");
+    }
+
+    @Test
+    void historyWithDateRange_ScansOnlyMatchingPartitions() {
+        YearMonth current = YearMonth.now();
+        String plan = explain("select * from transactions where source_account_id = 1234"
+                + " and transaction_date >= '" + current.atDay(1) + "' and transaction_date < '"
+                + current.plusMonths(1).atDay(1) + "'");
+
+        assertTrue(plan.contains("transactions_p" + current.format(MONTH)), plan);
+        assertFalse(plan.contains("transactions_p" + current.minusMonths(1).format(MONTH)), plan);
+    }
+
+    @Test
+    void transactionsByDestinationAccount_UseDestinationIndex() {
+        assertUsesIndexes("select * from transactions where destination_account_id = 1234");
+    }
+
+    @Test
+    void reconciliationOfOneAccount_UsesBothTransactionIndexes() {
+        String plan = explain("""
+                select a.balance,
+                       coalesce((select sum(coalesce(t.destination_amount, t.amount)) from transactions t
+                                 where t.destination_account_id = a.id), 0)
+                     - coalesce((select sum(t.amount) from transactions t where t.source_account_id = a.id), 0)
+                from accounts a
+                where a.id = 1234
+                """);
+
+        assertTrue(plan.contains("source_account_id"), plan);
+        assertTrue(plan.contains("destination_account_id"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void customerSearch_UsesTrigramIndex() {
+        assertUsesIndex("idx_customers_search_trgm", """
+                select id from customers
+                where lower(first_name || ' ' || last_name || ' ' || email || ' ' || identification_number)
+                      like '%id012345%'
+                """);
+    }
+
+    @Test
+    void negativeBalance_IsRejected() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("update accounts set balance = -1 where id = 1"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from accounts where balance < 0", Integer.class));
+    }
+
+    private static void assertUsesIndex(String index, String sql) {
+        String plan = explain(sql);
+        assertTrue(plan.contains(index), plan);
+    }
+
+    private static void assertUsesIndexes(String sql) {
+        String plan = explain(sql);
+        assertTrue(plan.contains("Index"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    private static String explain(String sql) {
+        List<String> lines = jdbcTemplate.queryForList("explain " + sql, String.class);
+        return String.join("\n", lines);
+    }
+}
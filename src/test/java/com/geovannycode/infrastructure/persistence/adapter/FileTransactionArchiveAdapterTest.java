@@ -0,0 +1,53 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.port.out.TransactionArchiveCatalogPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FileTransactionArchiveAdapterTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 7, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 8, 1, 0, 0);
+
+    @Mock
+    private TransactionArchiveCatalogPort transactionArchiveCatalogPort;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findByAccountId_MonthNotCatalogued_SkipsMissingFile() {
+        // Given
+        FileTransactionArchiveAdapter adapter = new FileTransactionArchiveAdapter(directory, 8192, true,
+                () -> transactionArchiveCatalogPort);
+        when(transactionArchiveCatalogPort.findArchiveLocations()).thenReturn(Map.of());
+
+        // When & Then
+        assertTrue(adapter.findByAccountId(1L, FROM, TO).isEmpty());
+    }
+
+    @Test
+    void findByAccountId_CataloguedFileMissing_Throws() {
+        // Given
+        FileTransactionArchiveAdapter adapter = new FileTransactionArchiveAdapter(directory, 8192, true,
+                () -> transactionArchiveCatalogPort);
+        when(transactionArchiveCatalogPort.findArchiveLocations()).thenReturn(
+                Map.of(YearMonth.of(2024, 7), adapter.locationOf(YearMonth.of(2024, 7))));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> adapter.findByAccountId(1L, FROM, TO));
+    }
+}
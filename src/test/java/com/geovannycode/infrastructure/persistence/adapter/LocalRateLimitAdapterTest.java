@@ -0,0 +1,149 @@
+package com.geovannycode.infrastructure.persistence.adapter;
+
+import com.geovannycode.domain.model.RateLimit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalRateLimitAdapterTest {
+
+    private static final RateLimit LIMIT = new RateLimit(3, 1);
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void tryAcquire_AllowsBurstUpToCapacityThenReportsWait() {
+        // Given
+        LocalRateLimitAdapter adapter = new LocalRateLimitAdapter(10, clock::get);
+
+        // When
+        long first = adapter.tryAcquire("user:a", LIMIT);
+        adapter.tryAcquire("user:a", LIMIT);
+        adapter.tryAcquire("user:a", LIMIT);
+        long rejected = adapter.tryAcquire("user:a", LIMIT);
+
+        // Then
+        assertEquals(0, first);
+        assertEquals(SECOND, rejected);
+    }
+
+    @Test
+    void tryAcquire_RefillsOverTime() {
+        // Given
+        LocalRateLimitAdapter adapter = new LocalRateLimitAdapter(10, clock::get);
+        for (int i = 0; i < 3; i++) {
+            adapter.tryAcquire("user:a", LIMIT);
+        }
+
+        // When
+        clock.addAndGet(SECOND);
+
+        // Then
+        assertEquals(0, adapter.tryAcquire("user:a", LIMIT));
+        assertTrue(adapter.tryAcquire("user:a", LIMIT) > 0);
+    }
+
+    @Test
+    void release_ReturnsToken() {
+        // Given
+        LocalRateLimitAdapter adapter = new LocalRateLimitAdapter(10, clock::get);
+        for (int i = 0; i < 3; i++) {
+            adapter.tryAcquire("user:a", LIMIT);
+        }
+
+        // When
+        adapter.release("user:a", LIMIT);
+
+        // Then
+        assertEquals(0, adapter.tryAcquire("user:a", LIMIT));
+    }
+
+    @Test
+    void tryAcquire_WhenFull_EvictsIdleBuckets() {
+        // Given
+        LocalRateLimitAdapter adapter = new LocalRateLimitAdapter(2, clock::get);
+        adapter.tryAcquire("user:a", LIMIT);
+        adapter.tryAcquire("user:b", LIMIT);
+        clock.addAndGet(2 * SECOND);
+
+        // When
+        long wait = adapter.tryAcquire("user:c", LIMIT);
+
+        // Then
+        assertEquals(0, wait);
+        assertEquals(1, adapter.size());
+    }
+
+    @Test
+    void tryAcquire_WhenFullOfActiveBuckets_SharesOverflowBucket() {
+        // Given
+        LocalRateLimitAdapter adapter = new LocalRateLimitAdapter(1, clock::get);
+        adapter.tryAcquire("user:a", LIMIT);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            adapter.tryAcquire("user:new-" + i, LIMIT);
+        }
+
+        // Then
+        assertTrue(adapter.tryAcquire("user:another", LIMIT) > 0);
+        assertEquals(1, adapter.size());
+    }
+
+    @Test
+    void release_WhenChargedToOverflowBucket_ReturnsTokenToIt() {
+        // Given
+        LocalRateLimitAdapter adapter = new LocalRateLimitAdapter(1, clock::get);
+        adapter.tryAcquire("user:a", LIMIT);
+        for (int i = 0; i < 3; i++) {
+            adapter.tryAcquire("user:new-" + i, LIMIT);
+        }
+
+        // When
+        adapter.release("user:new-2", LIMIT);
+
+        // Then
+        assertEquals(0, adapter.tryAcquire("user:another", LIMIT));
+        assertTrue(adapter.tryAcquire("user:another", LIMIT) > 0);
+    }
+
+    @Test
+    void tryAcquire_UnderContention_GrantsExactlyCapacity() throws Exception {
+        // Given
+        LocalRateLimitAdapter adapter = new LocalRateLimitAdapter(10, clock::get);
+        RateLimit limit = new RateLimit(1_000, 1);
+        List<Callable<Integer>> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            workers.add(() -> {
+                int granted = 0;
+                for (int i = 0; i < 500; i++) {
+                    if (adapter.tryAcquire("route:a:POST /api/transactions", limit) == 0) {
+                        granted++;
+                    }
+                }
+                return granted;
+            });
+        }
+
+        // When
+        int granted = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Future<Integer> result : executor.invokeAll(workers)) {
+                granted += result.get();
+            }
+        }
+
+        // Then
+        assertEquals(1_000, granted);
+    }
+}
@@ -0,0 +1,155 @@
+package com.geovannycode.infrastructure.persistence.archive;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Transaction;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryEntities;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionArchiveFileTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    private final Account usd = Account.builder().id(1L).accountNumber("5312345678").currency("USD").build();
+    private final Account cop = Account.builder().id(2L).accountNumber("4312345678").currency("COP").build();
+    private final Account other = Account.builder().id(3L).accountNumber("4398765432").currency("COP").build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTrip_ReturnsOnlyRowsOfAccountWithinRange() throws IOException {
+        // Given
+        Path file = directory.resolve("transactions-202403.txa");
+        try (TransactionArchiveWriter writer = new TransactionArchiveWriter(file, 4)) {
+            for (int i = 0; i < 10; i++) {
+                writer.append(transaction(100L + i, TransactionType.TRANSFER, "10.00", cop, other, START.plusDays(i)));
+            }
+            writer.append(converted(200L, START.plusDays(12)));
+            writer.append(transaction(201L, TransactionType.DEPOSIT, "5.50", null, cop, START.plusDays(13)));
+            assertEquals(12, writer.commit());
+        }
+
+        // When
+        List<Transaction> result;
+        try (TransactionArchiveReader reader = new TransactionArchiveReader(file)) {
+            assertEquals(12, reader.rowCount());
+            result = reader.findByAccount(2L, START.plusDays(8), START.plusMonths(1));
+        }
+
+        // Then
+        assertEquals(List.of(108L, 109L, 200L, 201L), result.stream().map(Transaction::getId).toList());
+        Transaction conversion = result.get(2);
+        assertEquals(new BigDecimal("25.00"), conversion.getAmount());
+        assertEquals(new BigDecimal("100000.00"), conversion.getDestinationAmount());
+        assertEquals(new BigDecimal("4000.0000000000"), conversion.getExchangeRate());
+        assertEquals(7L, conversion.getRateVersion());
+        assertEquals("USD", conversion.getSourceAccount().getCurrency());
+        assertEquals("4312345678", conversion.getDestinationAccount().getAccountNumber());
+        assertEquals(START.plusDays(12), conversion.getTransactionDate());
+        assertNull(result.get(3).getSourceAccount());
+        assertFalse(Files.exists(directory.resolve("transactions-202403.txa.tmp")));
+    }
+
+    @Test
+    void findByAccount_UnknownAccount_ReturnsEmpty() throws IOException {
+        // Given
+        Path file = directory.resolve("transactions-202403.txa");
+        try (TransactionArchiveWriter writer = new TransactionArchiveWriter(file, 4)) {
+            writer.append(transaction(1L, TransactionType.TRANSFER, "10.00", cop, other, START));
+            writer.commit();
+        }
+
+        // When
+        try (TransactionArchiveReader reader = new TransactionArchiveReader(file)) {
+            // Then
+            assertTrue(reader.findByAccount(99L, START, START.plusMonths(1)).isEmpty());
+        }
+    }
+
+    @Test
+    void close_WithoutCommit_LeavesNoFile() throws IOException {
+        // Given
+        Path file = directory.resolve("transactions-202403.txa");
+
+        // When
+        try (TransactionArchiveWriter writer = new TransactionArchiveWriter(file, 4)) {
+            writer.append(transaction(1L, TransactionType.TRANSFER, "10.00", cop, other, START));
+        }
+
+        // Then
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void findByAccount_CorruptColumnChunk_Throws() throws IOException {
+        // Given
+        Path file = directory.resolve("transactions-202403.txa");
+        try (TransactionArchiveWriter writer = new TransactionArchiveWriter(file, 4)) {
+            writer.append(transaction(1L, TransactionType.TRANSFER, "10.00", cop, other, START));
+            writer.commit();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[12] ^= 0x55;
+        Files.write(file, bytes);
+
+        // When / Then
+        try (TransactionArchiveReader reader = new TransactionArchiveReader(file)) {
+            assertThrows(IOException.class, () -> reader.findByAccount(2L, START, START.plusMonths(1)));
+        }
+    }
+
+    @Test
+    void open_TruncatedFile_Throws() throws IOException {
+        // Given
+        Path file = directory.resolve("transactions-202403.txa");
+        Files.write(file, new byte[10]);
+
+        // When / Then
+        assertThrows(IOException.class, () -> new TransactionArchiveReader(file));
+    }
+
+    private Transaction converted(long id, LocalDateTime date) {
+        Transaction transaction = Transaction.builder()
+                .id(id)
+                .transactionType(TransactionType.TRANSFER)
+                .amount(new BigDecimal("25.00"))
+                .destinationAmount(new BigDecimal("100000.00"))
+                .exchangeRate(new BigDecimal("4000.0000000000"))
+                .rateVersion(7L)
+                .sourceAccount(usd)
+                .destinationAccount(cop)
+                .build();
+        InMemoryEntities.setField(transaction, "transactionDate", date);
+        return transaction;
+    }
+
+    private static Transaction transaction(long id, TransactionType type, String amount,
+                                           Account source, Account destination, LocalDateTime date) {
+        Transaction transaction = Transaction.builder()
+                .id(id)
+                .transactionType(type)
+                .amount(new BigDecimal(amount))
+                .sourceAccount(source)
+                .destinationAccount(destination)
+                .build();
+        InMemoryEntities.setField(transaction, "transactionDate", date);
+        return transaction;
+    }
+}
@@ -0,0 +1,119 @@
+package com.geovannycode.infrastructure.persistence.memory;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryCustomerAdapterTest {
+
+    private InMemoryAccountAdapter accountAdapter;
+    private InMemoryCustomerAdapter customerAdapter;
+
+    @BeforeEach
+    void setUp() {
+        accountAdapter = new InMemoryAccountAdapter(InMemoryChangeLog.NONE);
+        customerAdapter = new InMemoryCustomerAdapter(accountAdapter, InMemoryChangeLog.NONE);
+    }
+
+    @Test
+    void saveCustomer_AssignsIdAndTimestamps() {
+        // When
+        Customer saved = customerAdapter.saveCustomer(customer("123456789", "john.doe@example.com"));
+
+        // Then
+        assertEquals(1L, saved.getId());
+        assertNotNull(saved.getCreatedAt());
+        assertTrue(customerAdapter.existsByEmail("john.doe@example.com"));
+        assertEquals(saved, customerAdapter.findByIdentificationNumber("123456789").orElseThrow());
+    }
+
+    @Test
+    void saveCustomer_DuplicateEmail_ThrowsException() {
+        // Given
+        customerAdapter.saveCustomer(customer("123456789", "john.doe@example.com"));
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () ->
+                customerAdapter.saveCustomer(customer("987654321", "john.doe@example.com")));
+        assertTrue(customerAdapter.findByIdentificationNumber("987654321").isEmpty());
+    }
+
+    @Test
+    void saveCustomer_UpdatedEmail_ReleasesPreviousEmail() {
+        // Given
+        Customer saved = customerAdapter.saveCustomer(customer("123456789", "john.doe@example.com"));
+        saved.updateInfo("CC", "123456789", "John", "Doe", "john@example.com", LocalDate.of(1990, 1, 15));
+
+        // When
+        customerAdapter.saveCustomer(saved);
+
+        // Then
+        assertFalse(customerAdapter.existsByEmail("john.doe@example.com"));
+        assertTrue(customerAdapter.existsByEmail("john@example.com"));
+    }
+
+    @Test
+    void deleteCustomer_RemovesIndexes() {
+        // Given
+        Customer saved = customerAdapter.saveCustomer(customer("123456789", "john.doe@example.com"));
+
+        // When
+        customerAdapter.deleteCustomer(saved.getId());
+
+        // Then
+        assertTrue(customerAdapter.findById(saved.getId()).isEmpty());
+        assertFalse(customerAdapter.existsByEmail("john.doe@example.com"));
+        assertTrue(customerAdapter.findByIdentificationNumber("123456789").isEmpty());
+    }
+
+    @Test
+    void customerHasAccounts_ReflectsAccountAdapter() {
+        // Given
+        Customer saved = customerAdapter.saveCustomer(customer("123456789", "john.doe@example.com"));
+        assertFalse(customerAdapter.customerHasAccounts(saved.getId()));
+
+        // When
+        accountAdapter.saveAccount(Account.builder()
+                .accountType(AccountType.SAVINGS)
+                .accountNumber("5312345678")
+                .status(AccountStatus.ACTIVE)
+                .balance(BigDecimal.ZERO)
+                .customer(saved)
+                .build());
+
+        // Then
+        assertTrue(customerAdapter.customerHasAccounts(saved.getId()));
+        assertThrows(DataIntegrityViolationException.class, () ->
+                accountAdapter.saveAccount(Account.builder()
+                        .accountType(AccountType.SAVINGS)
+                        .accountNumber("5312345678")
+                        .status(AccountStatus.ACTIVE)
+                        .balance(BigDecimal.ZERO)
+                        .customer(saved)
+                        .build()));
+    }
+
+    private Customer customer(String identificationNumber, String email) {
+        return Customer.builder()
+                .identificationType("CC")
+                .identificationNumber(identificationNumber)
+                .firstName("John")
+                .lastName("Doe")
+                .email(email)
+                .birthDate(LocalDate.of(1990, 1, 15))
+                .build();
+    }
+}
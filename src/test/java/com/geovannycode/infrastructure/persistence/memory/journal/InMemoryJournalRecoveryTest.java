@@ -0,0 +1,178 @@
+package com.geovannycode.infrastructure.persistence.memory.journal;
+
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryJournalRecoveryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_ReplaysJournalAfterUncleanShutdown() throws IOException {
+        // Given
+        try (JournalCrashSimulator simulator = new JournalCrashSimulator(directory)) {
+            simulator.openAccounts();
+            simulator.transfer(true, new BigDecimal("100.00"));
+            simulator.transfer(false, new BigDecimal("25.00"));
+        }
+
+        // When
+        try (JournalCrashSimulator recovered = new JournalCrashSimulator(directory)) {
+
+            // Then
+            assertEquals(new BigDecimal("925.00"), balance(recovered, JournalCrashSimulator.FIRST_ACCOUNT));
+            assertEquals(new BigDecimal("1075.00"), balance(recovered, JournalCrashSimulator.SECOND_ACCOUNT));
+            assertEquals(2, recovered.transactionAdapter.findAll().size());
+            assertTrue(recovered.customerAdapter.existsByEmail("john.doe@example.com"));
+        }
+    }
+
+    @Test
+    void recover_AfterSnapshot_ContinuesFromJournalTail() throws IOException {
+        // Given
+        try (JournalCrashSimulator simulator = new JournalCrashSimulator(directory)) {
+            simulator.openAccounts();
+            simulator.transfer(true, new BigDecimal("100.00"));
+            simulator.snapshotManager.snapshot();
+            simulator.transfer(true, new BigDecimal("50.00"));
+        }
+
+        // When
+        try (JournalCrashSimulator recovered = new JournalCrashSimulator(directory)) {
+
+            // Then
+            assertEquals(new BigDecimal("850.00"), balance(recovered, JournalCrashSimulator.FIRST_ACCOUNT));
+            assertEquals(2, recovered.transactionAdapter.findAll().size());
+        }
+    }
+
+    @Test
+    void rollback_AfterAccountSaved_UndoesInMemoryChanges() throws IOException {
+        // Given
+        try (JournalCrashSimulator simulator = new JournalCrashSimulator(directory)) {
+            simulator.openAccounts();
+            simulator.transfer(true, new BigDecimal("100.00"));
+
+            // When
+            assertThrows(IllegalStateException.class, () -> simulator.transferThenFail(new BigDecimal("300.00")));
+
+            // Then
+            assertEquals(new BigDecimal("900.00"), balance(simulator, JournalCrashSimulator.FIRST_ACCOUNT));
+            assertEquals(new BigDecimal("1100.00"), balance(simulator, JournalCrashSimulator.SECOND_ACCOUNT));
+            assertEquals(1, simulator.transactionAdapter.findAll().size());
+
+            simulator.transfer(true, new BigDecimal("50.00"));
+            assertEquals(new BigDecimal("850.00"), balance(simulator, JournalCrashSimulator.FIRST_ACCOUNT));
+        }
+
+        try (JournalCrashSimulator recovered = new JournalCrashSimulator(directory)) {
+            assertEquals(new BigDecimal("850.00"), balance(recovered, JournalCrashSimulator.FIRST_ACCOUNT));
+            assertEquals(new BigDecimal("1150.00"), balance(recovered, JournalCrashSimulator.SECOND_ACCOUNT));
+            assertEquals(2, recovered.transactionAdapter.findAll().size());
+        }
+    }
+
+    @Test
+    void recover_IgnoresTornFrameAtTail() throws IOException {
+        // Given
+        try (JournalCrashSimulator simulator = new JournalCrashSimulator(directory)) {
+            simulator.openAccounts();
+            simulator.transfer(true, new BigDecimal("100.00"));
+        }
+        Path segment = latestSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer frames = ByteBuffer.allocate(Integer.BYTES);
+            long position = 0;
+            while (true) {
+                frames.clear();
+                channel.read(frames, position);
+                int length = frames.getInt(0);
+                if (length == 0) {
+                    break;
+                }
+                position += Integer.BYTES * 2L + length;
+            }
+            ByteBuffer torn = ByteBuffer.allocate(Integer.BYTES * 2 + 3);
+            torn.putInt(64).putInt(0x5eed).put(new byte[]{4, 0, 0}).flip();
+            channel.write(torn, position);
+        }
+
+        // When
+        try (JournalCrashSimulator recovered = new JournalCrashSimulator(directory)) {
+
+            // Then
+            assertEquals(new BigDecimal("900.00"), balance(recovered, JournalCrashSimulator.FIRST_ACCOUNT));
+            assertEquals(1, recovered.transactionAdapter.findAll().size());
+        }
+    }
+
+    @Test
+    void recover_AfterProcessKilledMidBatch_KeepsBalancesConsistent() throws Exception {
+        // Given
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                JournalCrashSimulator.class.getName(), directory.toString())
+                .redirectErrorStream(true)
+                .start();
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = output.readLine()) != null && !line.equals("READY")) {
+                // wait until the simulator is transferring
+            }
+            Thread.sleep(200);
+            process.destroyForcibly();
+            assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        }
+
+        // When
+        try (JournalCrashSimulator recovered = new JournalCrashSimulator(directory)) {
+
+            // Then
+            Account first = recovered.accountAdapter.findByAccountNumber(JournalCrashSimulator.FIRST_ACCOUNT).orElseThrow();
+            Account second = recovered.accountAdapter.findByAccountNumber(JournalCrashSimulator.SECOND_ACCOUNT).orElseThrow();
+            List<Transaction> transactions = recovered.transactionAdapter.findAll();
+            assertTrue(transactions.size() > 1000);
+
+            BigDecimal firstNet = BigDecimal.ZERO;
+            for (Transaction transaction : transactions) {
+                firstNet = transaction.getSourceAccount().getId().equals(first.getId())
+                        ? firstNet.subtract(transaction.getAmount())
+                        : firstNet.add(transaction.getAmount());
+            }
+            assertEquals(JournalCrashSimulator.OPENING_BALANCE.add(firstNet), first.getBalance());
+            assertEquals(new BigDecimal("2000.00"), first.getBalance().add(second.getBalance()));
+        }
+    }
+
+    private BigDecimal balance(JournalCrashSimulator simulator, String accountNumber) {
+        return simulator.accountAdapter.findByAccountNumber(accountNumber).orElseThrow().getBalance();
+    }
+
+    private Path latestSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("journal-"))
+                    .max(Path::compareTo)
+                    .orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.geovannycode.infrastructure.persistence.memory.journal;
+
+import com.geovannycode.application.mapper.TransactionMapper;
+import com.geovannycode.application.service.ExchangeRateService;
+import com.geovannycode.application.service.FraudVelocityService;
+import com.geovannycode.application.service.TransactionLimitService;
+import com.geovannycode.application.service.TransactionService;
+import com.geovannycode.domain.model.Account;
+import com.geovannycode.domain.model.Customer;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.model.enums.FraudAction;
+import com.geovannycode.infrastructure.persistence.adapter.FileTransactionArchiveAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryAccountAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryCustomerAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryExchangeRateHistoryAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryLimitUsageAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryTransactionAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+public class JournalCrashSimulator implements AutoCloseable {
+
+    static final String FIRST_ACCOUNT = "5300000001";
+    static final String SECOND_ACCOUNT = "3300000002";
+    static final BigDecimal OPENING_BALANCE = new BigDecimal("1000.00");
+    private static final BigDecimal UNLIMITED = new BigDecimal("1000000000000");
+
+    final InMemoryAccountAdapter accountAdapter;
+    final InMemoryCustomerAdapter customerAdapter;
+    final InMemoryTransactionAdapter transactionAdapter;
+    final InMemoryJournal journal;
+    final InMemorySnapshotManager snapshotManager;
+    final TransactionTemplate transactionTemplate;
+    final TransactionService transactionService;
+
+    JournalCrashSimulator(Path directory) throws IOException {
+        journal = new InMemoryJournal(directory, 1 << 20, Duration.ofMillis(1));
+        accountAdapter = new InMemoryAccountAdapter(journal);
+        customerAdapter = new InMemoryCustomerAdapter(accountAdapter, journal);
+        transactionAdapter = new InMemoryTransactionAdapter(journal);
+        snapshotManager = new InMemorySnapshotManager(journal, customerAdapter, accountAdapter,
+                transactionAdapter, Duration.ZERO);
+        transactionTemplate = new TransactionTemplate(new JournalTransactionManager(journal));
+        ExchangeRateService exchangeRateService = new ExchangeRateService(Map::of,
+                new InMemoryExchangeRateHistoryAdapter(), new SimpleMeterRegistry(), "COP");
+        transactionService = new TransactionService(transactionAdapter, accountAdapter, new TransactionMapper(),
+                event -> {
+                }, new FraudVelocityService(new SimpleMeterRegistry(), false, 0, FraudAction.OFF, 0,
+                Duration.ofMinutes(10), 10, FraudAction.OFF, 0, Duration.ofDays(30), 30, 0),
+                new TransactionLimitService(new InMemoryLimitUsageAdapter(), exchangeRateService, UNLIMITED, UNLIMITED,
+                        UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED),
+                exchangeRateService,
+                new FileTransactionArchiveAdapter(directory.resolve("archive"), 8192));
+        snapshotManager.recover();
+    }
+
+    void openAccounts() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Customer customer = customerAdapter.saveCustomer(Customer.builder()
+                    .identificationType("CC")
+                    .identificationNumber("123456789")
+                    .firstName("John")
+                    .lastName("Doe")
+                    .email("john.doe@example.com")
+                    .birthDate(LocalDate.of(1990, 1, 15))
+                    .build());
+            accountAdapter.saveAccount(account(customer, AccountType.SAVINGS, FIRST_ACCOUNT));
+            accountAdapter.saveAccount(account(customer, AccountType.CHECKING, SECOND_ACCOUNT));
+        });
+    }
+
+    void transfer(boolean forward, BigDecimal amount) {
+        transactionTemplate.executeWithoutResult(status -> transactionService.createTransfer(
+                forward ? FIRST_ACCOUNT : SECOND_ACCOUNT, forward ? SECOND_ACCOUNT : FIRST_ACCOUNT, amount));
+    }
+
+    void transferThenFail(BigDecimal amount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionService.createTransfer(FIRST_ACCOUNT, SECOND_ACCOUNT, amount);
+            throw new IllegalStateException("Validation failed after the transfer was saved");
+        });
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+
+    private static Account account(Customer customer, AccountType type, String accountNumber) {
+        return Account.builder()
+                .accountType(type)
+                .accountNumber(accountNumber)
+                .status(AccountStatus.ACTIVE)
+                .balance(OPENING_BALANCE)
+                .gmfExempt(false)
+                .customer(customer)
+                .build();
+    }
+
+    public static void main(String[] args) throws IOException {
+        JournalCrashSimulator simulator = new JournalCrashSimulator(Path.of(args[0]));
+        simulator.openAccounts();
+        for (long i = 0; ; i++) {
+            simulator.transfer(i % 3 != 0, BigDecimal.valueOf(i % 50 + 1, 2));
+            if (i == 1000) {
+                System.out.println("READY");
+                System.out.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.geovannycode.infrastructure.persistence.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong wallClock = new AtomicLong(1_700_000_000_000L);
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock::get,
+            wallClock::get);
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor, tracker);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+        tracker.clearCurrentRequest();
+    }
+
+    @Test
+    void writeTransaction_GoesToPrimary() {
+        // When
+        Object target = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.Target.PRIMARY, target);
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaCurrent_GoesToReplica() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isWithinTolerance()).thenReturn(true);
+
+        // When
+        Object target = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.Target.REPLICA, target);
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaLagging_GoesToPrimary() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isWithinTolerance()).thenReturn(false);
+
+        // When
+        Object target = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.Target.PRIMARY, target);
+    }
+
+    @Test
+    void readOnlyTransaction_AfterOwnWrite_StaysOnPrimaryUntilWindowPasses() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isWithinTolerance()).thenReturn(true);
+        tracker.recordWrite("admin");
+        tracker.recordWrite("other");
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        Object whilePinned = routingDataSource.determineCurrentLookupKey();
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        Object afterWindow = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.Target.PRIMARY, whilePinned);
+        assertEquals(ReplicaRoutingDataSource.Target.REPLICA, afterWindow);
+    }
+
+    @Test
+    void readOnlyTransaction_AfterRequestUsedPrimary_StaysOnPrimaryWhenReplicaCatchesUp() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isWithinTolerance()).thenReturn(false, true);
+        tracker.startRequest();
+
+        // When
+        Object versionRead = routingDataSource.determineCurrentLookupKey();
+        Object bodyRead = routingDataSource.determineCurrentLookupKey();
+        tracker.clearCurrentRequest();
+        Object nextRequest = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.Target.PRIMARY, versionRead);
+        assertEquals(ReplicaRoutingDataSource.Target.PRIMARY, bodyRead);
+        assertEquals(ReplicaRoutingDataSource.Target.REPLICA, nextRequest);
+    }
+
+    @Test
+    void writeTransaction_OutsideRequest_DoesNotPinLaterReads() {
+        // Given
+        when(replicaLagMonitor.isWithinTolerance()).thenReturn(true);
+        routingDataSource.determineCurrentLookupKey();
+
+        // When
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Object target = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.Target.REPLICA, target);
+    }
+
+    @Test
+    void purgeExpired_ForgetsClientsOutsideWindow() {
+        // Given
+        tracker.recordWrite("admin");
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+        tracker.recordWrite("other");
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        // When
+        tracker.purgeExpired();
+
+        // Then
+        assertFalse(tracker.isPinnedToPrimary("admin"));
+        assertTrue(tracker.isPinnedToPrimary("other"));
+    }
+
+    @Test
+    void readOnlyTransaction_WithDeadlineFromAnotherNode_StaysOnPrimary() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isWithinTolerance()).thenReturn(true);
+        long stickyUntil = tracker.stickyUntilMillis();
+
+        // When
+        wallClock.addAndGet(Duration.ofSeconds(4).toMillis());
+        tracker.pinCurrentRequest(stickyUntil);
+        Object whilePinned = routingDataSource.determineCurrentLookupKey();
+        tracker.clearCurrentRequest();
+        wallClock.addAndGet(Duration.ofSeconds(1).toMillis());
+        tracker.pinCurrentRequest(stickyUntil);
+        Object afterWindow = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.Target.PRIMARY, whilePinned);
+        assertEquals(ReplicaRoutingDataSource.Target.REPLICA, afterWindow);
+    }
+
+    @Test
+    void pinCurrentRequest_WithDeadlineBeyondWindow_IsIgnored() {
+        // When
+        tracker.pinCurrentRequest(wallClock.get() + Duration.ofHours(1).toMillis());
+
+        // Then
+        assertFalse(tracker.isPinnedToPrimary(null));
+    }
+}
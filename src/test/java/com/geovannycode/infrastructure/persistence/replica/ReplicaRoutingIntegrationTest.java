@@ -0,0 +1,119 @@
+package com.geovannycode.infrastructure.persistence.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Two independent servers stand in for a primary and its replica; each labels itself so the test can see
+// where a statement ran.
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Container
+    static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private static final String NODE = "select name from node";
+
+    private static DriverManagerDataSource replicaDataSource;
+    private static ReplicaLagMonitor lagMonitor;
+    private static ReadYourWritesTracker tracker;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate writeTransaction;
+    private static TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource primaryDataSource = dataSource(PRIMARY);
+        replicaDataSource = dataSource(REPLICA);
+        new JdbcTemplate(primaryDataSource).execute("create table node as select 'primary' as name");
+        new JdbcTemplate(replicaDataSource).execute("create table node as select 'replica' as name");
+
+        lagMonitor = new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), Duration.ofSeconds(2),
+                new SimpleMeterRegistry());
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, lagMonitor, tracker));
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_RunsOnReplicaOnceLagIsKnown() {
+        // Given
+        lagMonitor.refresh();
+
+        // When
+        String reader = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE, String.class));
+        String writer = writeTransaction.execute(status -> jdbcTemplate.queryForObject(NODE, String.class));
+
+        // Then
+        assertEquals("replica", reader);
+        assertEquals("primary", writer);
+    }
+
+    @Test
+    void readOnlyTransaction_AfterClientWrite_RunsOnPrimary() {
+        // Given
+        lagMonitor.refresh();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("teller", null, List.of()));
+        tracker.recordWrite("teller");
+
+        // When
+        String reader = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE, String.class));
+
+        // Then
+        assertEquals("primary", reader);
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaUnreachable_FallsBackToPrimary() {
+        // Given
+        ReplicaLagMonitor unreachable = new ReplicaLagMonitor(
+                new JdbcTemplate(new DriverManagerDataSource("jdbc:postgresql://localhost:1/none")),
+                Duration.ofSeconds(2), new SimpleMeterRegistry());
+        unreachable.refresh();
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(dataSource(PRIMARY), replicaDataSource, unreachable, tracker));
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readOnly.setReadOnly(true);
+
+        // When
+        String reader = readOnly.execute(status -> new JdbcTemplate(routing).queryForObject(NODE, String.class));
+
+        // Then
+        assertEquals("primary", reader);
+    }
+
+    private static DriverManagerDataSource dataSource(PostgreSQLContainer<?> container) {
+        return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+}
@@ -2,6 +2,7 @@ package com.geovannycode.infrastructure.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.geovannycode.application.dto.AccountDTO;
+import com.geovannycode.domain.model.ResourceVersion;
 import com.geovannycode.domain.model.enums.AccountStatus;
 import com.geovannycode.domain.port.in.AccountUseCase;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -27,14 +29,20 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class AccountControllerTest {
 
+    private static final ResourceVersion VERSION = new ResourceVersion(3, LocalDateTime.of(2024, 5, 20, 9, 30));
+
     @Mock
     private AccountUseCase accountUseCase;
 
@@ -105,11 +113,13 @@ public class AccountControllerTest {
     @Test
     void getAccountById_Success() throws Exception {
         // Given
+        when(accountUseCase.findAccountVersionById(1L)).thenReturn(Optional.of(VERSION));
         when(accountUseCase.findAccountById(anyLong())).thenReturn(Optional.of(accountResponse));
 
         // When & Then
         mockMvc.perform(get("/api/accounts/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ConditionalGet.eTag(VERSION)))
                 .andExpect(jsonPath("$.id").value(accountResponse.getId()))
                 .andExpect(jsonPath("$.accountNumber").value(accountResponse.getAccountNumber()));
     }
@@ -117,7 +127,7 @@ public class AccountControllerTest {
     @Test
     void getAccountById_NotFound() throws Exception {
         // Given
-        when(accountUseCase.findAccountById(anyLong())).thenReturn(Optional.empty());
+        when(accountUseCase.findAccountVersionById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(get("/api/accounts/1"))
@@ -127,6 +137,7 @@ public class AccountControllerTest {
     @Test
     void getAccountByNumber_Success() throws Exception {
         // Given
+        when(accountUseCase.findAccountVersionByNumber("5312345678")).thenReturn(Optional.of(VERSION));
         when(accountUseCase.findAccountByNumber(anyString())).thenReturn(Optional.of(accountResponse));
 
         // When & Then
@@ -136,6 +147,32 @@ public class AccountControllerTest {
                 .andExpect(jsonPath("$.accountNumber").value(accountResponse.getAccountNumber()));
     }
 
+    @Test
+    void getAccountByNumber_Unchanged_ReturnsNotModifiedWithoutLoading() throws Exception {
+        // Given
+        when(accountUseCase.findAccountVersionByNumber("5312345678")).thenReturn(Optional.of(VERSION));
+
+        // When & Then
+        mockMvc.perform(get("/api/accounts/number/5312345678").header("If-None-Match", ConditionalGet.eTag(VERSION)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(accountUseCase, never()).findAccountByNumber(anyString());
+    }
+
+    @Test
+    void getAccountById_ChangedSinceCachedCopy_ReturnsBody() throws Exception {
+        // Given
+        ResourceVersion previous = new ResourceVersion(VERSION.version() - 1, VERSION.updatedAt());
+        when(accountUseCase.findAccountVersionById(1L)).thenReturn(Optional.of(VERSION));
+        when(accountUseCase.findAccountById(1L)).thenReturn(Optional.of(accountResponse));
+
+        // When & Then
+        mockMvc.perform(get("/api/accounts/1").header("If-None-Match", ConditionalGet.eTag(previous)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ConditionalGet.eTag(VERSION)))
+                .andExpect(jsonPath("$.id").value(accountResponse.getId()));
+    }
+
     @Test
     void getAccountsByCustomerId_Success() throws Exception {
         // Given
@@ -0,0 +1,120 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.application.dto.AccountDTO;
+import com.geovannycode.application.service.AccountEventBus;
+import com.geovannycode.domain.model.ResourceVersion;
+import com.geovannycode.domain.port.in.AccountUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountStreamControllerTest {
+
+    private static final ResourceVersion VERSION = new ResourceVersion(4, LocalDateTime.of(2024, 5, 20, 9, 30));
+
+    @Mock
+    private AccountUseCase accountUseCase;
+
+    @Mock
+    private AccountEventBus.Sink otherSubscriber;
+
+    private AccountEventBus accountEventBus;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        accountEventBus = new AccountEventBus(new SimpleMeterRegistry(), 1, 8);
+        AccountStreamController controller = new AccountStreamController(accountUseCase, accountEventBus, 2,
+                Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountEventBus.close();
+    }
+
+    @Test
+    void stream_KnownAccounts_SubscribesBeforeReadingSnapshot() throws Exception {
+        // Given
+        AtomicBoolean subscribedFirst = new AtomicBoolean();
+        when(accountUseCase.findAccountVersionByNumber("5312345678")).thenAnswer(invocation -> {
+            subscribedFirst.set(accountEventBus.subscriberCount() == 1);
+            return Optional.of(VERSION);
+        });
+        when(accountUseCase.findAccountByNumber("5312345678")).thenReturn(Optional.of(AccountDTO.builder()
+                .accountNumber("5312345678").balance(new BigDecimal("1000.00")).currency("COP").build()));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/accounts/stream").param("accounts", "5312345678"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Headers reach the response with the first event, which the bus sends from its own thread.
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (result.getResponse().getContentAsString().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertEquals("no-store", result.getResponse().getHeader("Cache-Control"));
+        assertEquals(1, accountEventBus.subscriberCount());
+        assertTrue(subscribedFirst.get());
+    }
+
+    @Test
+    void stream_TooManyAccounts_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/accounts/stream").param("accounts", "5312345678", "3312345678", "4312345678"))
+                .andExpect(status().isBadRequest());
+        verify(accountUseCase, never()).findAccountVersionByNumber(anyString());
+    }
+
+    @Test
+    void stream_UnknownAccount_ReturnsNotFound() throws Exception {
+        // Given
+        when(accountUseCase.findAccountVersionByNumber("5312345678")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/accounts/stream").param("accounts", "5312345678"))
+                .andExpect(status().isNotFound());
+        assertEquals(0, accountEventBus.subscriberCount());
+    }
+
+    @Test
+    void stream_NodeAtSubscriberLimit_ReturnsServiceUnavailable() throws Exception {
+        // Given
+        accountEventBus.subscribe(Set.of("3312345678"), otherSubscriber);
+
+        // When & Then
+        mockMvc.perform(get("/api/accounts/stream").param("accounts", "5312345678"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+        verify(accountUseCase, never()).findAccountVersionByNumber(anyString());
+    }
+}
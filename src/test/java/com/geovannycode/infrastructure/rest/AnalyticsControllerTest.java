@@ -0,0 +1,78 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.application.dto.TransactionVolumeDTO;
+import com.geovannycode.domain.model.enums.RollupGranularity;
+import com.geovannycode.domain.model.enums.TransactionType;
+import com.geovannycode.domain.port.in.TransactionAnalyticsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsControllerTest {
+
+    @Mock
+    private TransactionAnalyticsUseCase transactionAnalyticsUseCase;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(analyticsController).build();
+    }
+
+    @Test
+    void getTransactionVolume_ReturnsBuckets() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 3, 15, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 3, 16, 0, 0);
+        when(transactionAnalyticsUseCase.getTransactionVolume(from, to, RollupGranularity.HOUR)).thenReturn(List.of(
+                TransactionVolumeDTO.builder()
+                        .granularity(RollupGranularity.HOUR)
+                        .bucketStart(from)
+                        .transactionType(TransactionType.DEPOSIT)
+                        .transactionCount(3)
+                        .totalAmount(new BigDecimal("25.00"))
+                        .build()));
+
+        // When / Then
+        mockMvc.perform(get("/api/analytics/transactions")
+                        .param("from", "2024-03-15T00:00:00")
+                        .param("to", "2024-03-16T00:00:00")
+                        .param("granularity", "HOUR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].transactionType").value("DEPOSIT"))
+                .andExpect(jsonPath("$[0].transactionCount").value(3))
+                .andExpect(jsonPath("$[0].totalAmount").value(25.00));
+    }
+
+    @Test
+    void getTransactionVolume_WhenRangeIsEmpty_ReturnsBadRequest() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/analytics/transactions")
+                        .param("from", "2024-03-16T00:00:00")
+                        .param("to", "2024-03-15T00:00:00"))
+                .andExpect(status().isBadRequest());
+        verify(transactionAnalyticsUseCase, never()).getTransactionVolume(any(), any(), any());
+    }
+}
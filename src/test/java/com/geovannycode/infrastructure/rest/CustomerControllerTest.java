@@ -2,6 +2,13 @@ package com.geovannycode.infrastructure.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.geovannycode.application.dto.CustomerDTO;
+import com.geovannycode.application.dto.CustomerSearchResultDTO;
+import com.geovannycode.application.dto.CustomerSummaryDTO;
+import com.geovannycode.domain.model.ResourceVersion;
+import com.geovannycode.domain.model.enums.AccountStatus;
+import com.geovannycode.domain.model.enums.AccountType;
+import com.geovannycode.domain.port.in.CustomerSearchUseCase;
+import com.geovannycode.domain.port.in.CustomerSummaryUseCase;
 import com.geovannycode.domain.port.in.CustomerUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,27 +23,44 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
 public class CustomerControllerTest {
 
+    private static final ResourceVersion VERSION = new ResourceVersion(3, LocalDateTime.of(2024, 5, 20, 9, 30));
+
     @Mock
     private CustomerUseCase customerUseCase;
 
+    @Mock
+    private CustomerSummaryUseCase customerSummaryUseCase;
+
+    @Mock
+    private CustomerSearchUseCase customerSearchUseCase;
+
     @InjectMocks
     private CustomerController customerController;
 
@@ -102,11 +126,13 @@ public class CustomerControllerTest {
     @Test
     void getCustomerById_Success() throws Exception {
         // Given
+        when(customerUseCase.findCustomerVersionById(1L)).thenReturn(Optional.of(VERSION));
         when(customerUseCase.findCustomerById(anyLong())).thenReturn(Optional.of(customerResponse));
 
         // When & Then
         mockMvc.perform(get("/api/customers/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ConditionalGet.eTag(VERSION)))
                 .andExpect(jsonPath("$.id").value(customerResponse.getId()))
                 .andExpect(jsonPath("$.firstName").value(customerResponse.getFirstName()))
                 .andExpect(jsonPath("$.lastName").value(customerResponse.getLastName()));
@@ -115,13 +141,26 @@ public class CustomerControllerTest {
     @Test
     void getCustomerById_NotFound() throws Exception {
         // Given
-        when(customerUseCase.findCustomerById(anyLong())).thenReturn(Optional.empty());
+        when(customerUseCase.findCustomerVersionById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(get("/api/customers/1"))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getCustomerById_Unchanged_ReturnsNotModifiedWithoutLoading() throws Exception {
+        // Given
+        when(customerUseCase.findCustomerVersionById(1L)).thenReturn(Optional.of(VERSION));
+
+        // When & Then
+        mockMvc.perform(get("/api/customers/1").header("If-None-Match", ConditionalGet.eTag(VERSION)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ConditionalGet.eTag(VERSION)))
+                .andExpect(content().string(""));
+        verify(customerUseCase, never()).findCustomerById(anyLong());
+    }
+
     @Test
     void listCustomers_Success() throws Exception {
         // Given
@@ -134,4 +173,55 @@ public class CustomerControllerTest {
                 .andExpect(jsonPath("$[0].firstName").value(customerResponse.getFirstName()))
                 .andExpect(jsonPath("$[0].lastName").value(customerResponse.getLastName()));
     }
+
+    @Test
+    void getCustomerSummary_ReturnsAggregates() throws Exception {
+        // Given
+        CustomerSummaryDTO summary = CustomerSummaryDTO.builder()
+                .customerId(1L)
+                .balanceByAccountType(Map.of(AccountType.SAVINGS, new BigDecimal("150.00"),
+                        AccountType.CHECKING, BigDecimal.ZERO))
+                .accountsByStatus(Map.of(AccountStatus.ACTIVE, 2L))
+                .month(YearMonth.of(2024, 3))
+                .monthToDateInflow(new BigDecimal("200.00"))
+                .monthToDateOutflow(new BigDecimal("50.00"))
+                .build();
+        when(customerSummaryUseCase.getCustomerSummary(1L)).thenReturn(Optional.of(summary));
+
+        // When / Then
+        mockMvc.perform(get("/api/customers/1/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customerId").value(1))
+                .andExpect(jsonPath("$.balanceByAccountType.SAVINGS").value(150.00))
+                .andExpect(jsonPath("$.accountsByStatus.ACTIVE").value(2))
+                .andExpect(jsonPath("$.monthToDateInflow").value(200.00));
+    }
+
+    @Test
+    void getCustomerSummary_WhenCustomerMissing_ReturnsNotFound() throws Exception {
+        // Given
+        when(customerSummaryUseCase.getCustomerSummary(99L)).thenReturn(Optional.empty());
+
+        // When / Then
+        mockMvc.perform(get("/api/customers/99/summary"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void searchCustomers_ReturnsRankedPage() throws Exception {
+        // Given
+        CustomerSearchResultDTO result = CustomerSearchResultDTO.builder()
+                .customers(List.of(customerResponse))
+                .page(0)
+                .size(10)
+                .hasMore(true)
+                .build();
+        when(customerSearchUseCase.searchCustomers("joh", 0, 10)).thenReturn(result);
+
+        // When / Then
+        mockMvc.perform(get("/api/customers/search").param("q", "joh").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customers[0].firstName").value(customerResponse.getFirstName()))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
 }
@@ -0,0 +1,75 @@
+package com.geovannycode.infrastructure.rest;
+
+import com.geovannycode.application.service.RateLimitService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitInterceptorTest {
+
+    @Mock
+    private RateLimitService rateLimitService;
+
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new RateLimitInterceptor(rateLimitService);
+        when(rateLimitService.checkRequest(anyString(), anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void read_IsNotChargedToAccount() {
+        // Given
+        MockHttpServletRequest request = request("GET", "/api/accounts/number/{accountNumber}");
+
+        // When
+        boolean allowed = interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        // Then
+        assertTrue(allowed);
+        verify(rateLimitService, never()).checkAccount(anyString());
+    }
+
+    @Test
+    void mutation_IsChargedToAccount() {
+        // Given
+        MockHttpServletRequest request = request("PATCH", "/api/accounts/number/{accountNumber}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(rateLimitService.checkAccount("5312345678"))
+                .thenReturn(Optional.of(new RateLimitService.Rejection(RateLimitService.ACCOUNT, Duration.ofSeconds(3))));
+
+        // When
+        boolean allowed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertFalse(allowed);
+        assertEquals(429, response.getStatus());
+        assertEquals(RateLimitService.ACCOUNT, response.getHeader(RateLimitInterceptor.SCOPE_HEADER));
+    }
+
+    private static MockHttpServletRequest request(String method, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/accounts/number/5312345678");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("accountNumber", "5312345678"));
+        return request;
+    }
+}
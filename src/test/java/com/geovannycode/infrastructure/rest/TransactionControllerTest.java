@@ -17,12 +17,14 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -97,7 +99,8 @@ public class TransactionControllerTest {
     @Test
     void getTransactionsByAccount_Success() throws Exception {
         // Given
-        when(transactionUseCase.getTransactionsByAccount(anyString())).thenReturn(Arrays.asList(transactionResponse));
+        when(transactionUseCase.getTransactionsByAccount(eq("5312345678"), isNull(), isNull()))
+                .thenReturn(Arrays.asList(transactionResponse));
 
         // When & Then
         mockMvc.perform(get("/api/transactions/accounts/5312345678"))
@@ -105,4 +108,16 @@ public class TransactionControllerTest {
                 .andExpect(jsonPath("$[0].id").value(transactionResponse.getId()))
                 .andExpect(jsonPath("$[0].transactionType").value(transactionResponse.getTransactionType().toString()));
     }
+
+    @Test
+    void getTransactionsByAccount_WithRange_PassesBounds() throws Exception {
+        // Given
+        when(transactionUseCase.getTransactionsByAccount(eq("5312345678"), eq(LocalDateTime.of(2024, 1, 1, 0, 0)), isNull()))
+                .thenReturn(Arrays.asList(transactionResponse));
+
+        // When & Then
+        mockMvc.perform(get("/api/transactions/accounts/5312345678").param("from", "2024-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(transactionResponse.getId()));
+    }
 }
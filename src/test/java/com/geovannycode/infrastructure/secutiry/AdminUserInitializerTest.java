@@ -0,0 +1,58 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import com.geovannycode.domain.model.AppUser;
+import com.geovannycode.domain.port.out.UserPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminUserInitializerTest {
+
+    @Mock
+    private UserPort userPort;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private AdminUserInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        initializer = new AdminUserInitializer(userPort, passwordEncoder, "admin", "secret");
+    }
+
+    @Test
+    void run_WhenUsersExist_CreatesNothing() {
+        // Given
+        when(userPort.count()).thenReturn(1L);
+
+        // When
+        initializer.run(null);
+
+        // Then
+        verify(userPort, never()).save(any());
+    }
+
+    @Test
+    void run_WhenAnotherNodeCreatedAdministrator_StartsNormally() {
+        // Given
+        when(userPort.count()).thenReturn(0L);
+        when(passwordEncoder.encode("secret")).thenReturn("hash");
+        when(userPort.save(any(AppUser.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates uk_app_users_username"));
+
+        // When & Then
+        assertDoesNotThrow(() -> initializer.run(null));
+    }
+}
@@ -0,0 +1,141 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import com.geovannycode.infrastructure.persistence.memory.InMemoryRefreshTokenAdapter;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryTokenRevocationAdapter;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthTokenServiceTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RevokedTokenRegistry revokedTokenRegistry;
+    private AuthTokenService authTokenService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", "dda0d528aac24db68ee9b057391d40f07e9c8a5fb23f4c1d9a76e540bf31a05c");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 900_000L);
+        jwtTokenProvider.init();
+        revokedTokenRegistry = new RevokedTokenRegistry(new InMemoryTokenRevocationAdapter(), new SimpleMeterRegistry(), 100, 0.01,
+                Duration.ofSeconds(30));
+        authTokenService = new AuthTokenService(jwtTokenProvider, new InMemoryRefreshTokenAdapter(),
+                revokedTokenRegistry, userDetailsService, Duration.ofDays(30));
+    }
+
+    @Test
+    void issue_AccessTokenCarriesJtiAndRoles() {
+        // When
+        AuthTokenService.TokenPair tokens = authTokenService.issue("admin", List.of("ROLE_ADMIN"));
+
+        // Then
+        Claims claims = jwtTokenProvider.parse(tokens.accessToken());
+        assertNotNull(claims.getId());
+        assertEquals("admin", claims.getSubject());
+        assertEquals(900, tokens.expiresIn());
+    }
+
+    @Test
+    void refresh_RotatesRefreshToken() {
+        // Given
+        AuthTokenService.TokenPair first = authTokenService.issue("admin", List.of("ROLE_ADMIN"));
+        when(userDetailsService.loadUserByUsername("admin"))
+                .thenReturn(User.withUsername("admin").password("x").roles("ADMIN").build());
+
+        // When
+        Optional<AuthTokenService.TokenPair> second = authTokenService.refresh(first.refreshToken());
+
+        // Then
+        assertTrue(second.isPresent());
+        assertNotEquals(first.refreshToken(), second.get().refreshToken());
+        assertTrue(authTokenService.refresh("unknown").isEmpty());
+    }
+
+    @Test
+    void refresh_WhenTokenReused_RevokesWholeSession() {
+        // Given
+        AuthTokenService.TokenPair first = authTokenService.issue("admin", List.of("ROLE_ADMIN"));
+        when(userDetailsService.loadUserByUsername("admin"))
+                .thenReturn(User.withUsername("admin").password("x").roles("ADMIN").build());
+        AuthTokenService.TokenPair second = authTokenService.refresh(first.refreshToken()).orElseThrow();
+
+        // When
+        Optional<AuthTokenService.TokenPair> reused = authTokenService.refresh(first.refreshToken());
+
+        // Then
+        assertTrue(reused.isEmpty());
+        assertTrue(authTokenService.refresh(second.refreshToken()).isEmpty());
+        assertTrue(revokedTokenRegistry.isRevoked(jwtTokenProvider.parse(first.accessToken()).getId()));
+        assertTrue(revokedTokenRegistry.isRevoked(jwtTokenProvider.parse(second.accessToken()).getId()));
+    }
+
+    @Test
+    void refresh_SameTokenConcurrently_RotatesOnlyOnce() throws Exception {
+        // Given
+        AuthTokenService.TokenPair first = authTokenService.issue("admin", List.of("ROLE_ADMIN"));
+        when(userDetailsService.loadUserByUsername("admin"))
+                .thenReturn(User.withUsername("admin").password("x").roles("ADMIN").build());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<Optional<AuthTokenService.TokenPair>>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return authTokenService.refresh(first.refreshToken());
+            }));
+        }
+        start.countDown();
+        int rotated = 0;
+        for (Future<Optional<AuthTokenService.TokenPair>> result : results) {
+            rotated += result.get(10, TimeUnit.SECONDS).isPresent() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, rotated);
+    }
+
+    @Test
+    void logout_RevokesAccessAndRefreshTokens() {
+        // Given
+        AuthTokenService.TokenPair tokens = authTokenService.issue("admin", List.of("ROLE_ADMIN"));
+        Claims claims = jwtTokenProvider.parse(tokens.accessToken());
+
+        // When
+        authTokenService.logout(claims, tokens.refreshToken());
+
+        // Then
+        assertTrue(revokedTokenRegistry.isRevoked(claims.getId()));
+        assertTrue(authTokenService.refresh(tokens.refreshToken()).isEmpty());
+    }
+}
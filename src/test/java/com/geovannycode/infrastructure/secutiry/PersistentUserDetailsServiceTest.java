@@ -0,0 +1,85 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import com.geovannycode.domain.model.AppUser;
+import com.geovannycode.domain.model.enums.UserRole;
+import com.geovannycode.domain.port.out.UserPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PersistentUserDetailsServiceTest {
+
+    @Mock
+    private UserPort userPort;
+
+    @InjectMocks
+    private PersistentUserDetailsService userDetailsService;
+
+    @Test
+    void loadUserByUsername_MapsRolesToAuthorities() {
+        // Given
+        when(userPort.findByUsername("admin")).thenReturn(Optional.of(user()));
+
+        // When
+        UserDetails details = userDetailsService.loadUserByUsername("admin");
+
+        // Then
+        Set<String> authorities = details.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("ROLE_ADMIN", "ROLE_USER"), authorities);
+        assertEquals("$2a$10$hash", details.getPassword());
+        assertTrue(details.isEnabled());
+    }
+
+    @Test
+    void loadUserByUsername_WhenMissing_ThrowsUsernameNotFound() {
+        // Given
+        when(userPort.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost"));
+    }
+
+    @Test
+    void updatePassword_StoresRehashedPassword() {
+        // Given
+        AppUser user = user();
+        when(userPort.findByUsername("admin")).thenReturn(Optional.of(user));
+        when(userPort.save(any(AppUser.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        UserDetails details = userDetailsService.updatePassword(
+                userDetailsService.loadUserByUsername("admin"), "$2a$12$stronger");
+
+        // Then
+        assertEquals("$2a$12$stronger", user.getPasswordHash());
+        assertEquals("$2a$12$stronger", details.getPassword());
+    }
+
+    private static AppUser user() {
+        return AppUser.builder()
+                .id(1L)
+                .username("admin")
+                .passwordHash("$2a$10$hash")
+                .roles(EnumSet.of(UserRole.ADMIN, UserRole.USER))
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PooledPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    void encodeAndMatches_RunOnPoolAndRecordLatency() {
+        // Given
+        encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(4), 1, 4, meterRegistry);
+
+        // When
+        String hash = encoder.encode("secret");
+
+        // Then
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("other", hash));
+        assertEquals(1, meterRegistry.timer("auth.password.hash", "operation", "encode").count());
+        assertEquals(2, meterRegistry.timer("auth.password.hash", "operation", "matches").count());
+        assertEquals(3, meterRegistry.timer("auth.password.queue.wait").count());
+    }
+
+    @Test
+    void upgradeEncoding_WhenStrengthRaised_ReportsWeakerHash() {
+        // Given
+        String weak = new BCryptPasswordEncoder(4).encode("secret");
+        encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(5), 1, 4, meterRegistry);
+
+        // When
+        boolean upgrade = encoder.upgradeEncoding(weak);
+
+        // Then
+        assertTrue(upgrade);
+    }
+
+    @Test
+    void matches_WhenQueueFull_RejectsWithoutWaiting() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new PooledPasswordEncoder(new BlockingEncoder(started, release), 1, 1, meterRegistry);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+        while (meterRegistry.get("auth.password.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        assertThrows(PasswordHashingSaturatedException.class, () -> encoder.matches("c", "c"));
+
+        // Then
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.counter("auth.password.rejected").count());
+    }
+
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.geovannycode.infrastructure.secutiry;
+
+import com.geovannycode.domain.model.RevokedToken;
+import com.geovannycode.domain.port.out.TokenRevocationPort;
+import com.geovannycode.infrastructure.persistence.memory.InMemoryTokenRevocationAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RevokedTokenRegistryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+    private static final Duration COMMIT_LAG = Duration.ofSeconds(30);
+
+    private final InMemoryTokenRevocationAdapter store = new InMemoryTokenRevocationAdapter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void refresh_PicksUpRevocationsFromOtherNodes() {
+        // Given
+        RevokedTokenRegistry registry = new RevokedTokenRegistry(store, meterRegistry, 100, 0.01, COMMIT_LAG);
+        store.revoke("jti-1", NOW.plusMinutes(10));
+
+        // When
+        boolean before = registry.isRevoked("jti-1");
+        registry.refresh(NOW);
+
+        // Then
+        assertFalse(before);
+        assertTrue(registry.isRevoked("jti-1"));
+        assertFalse(registry.isRevoked("jti-2"));
+        assertFalse(registry.isRevoked(null));
+    }
+
+    @Test
+    void revoke_AppliesLocallyAndStoresForOtherNodes() {
+        // Given
+        RevokedTokenRegistry registry = new RevokedTokenRegistry(store, meterRegistry, 100, 0.01, COMMIT_LAG);
+
+        // When
+        registry.revoke("jti-1", NOW.plusMinutes(10));
+
+        // Then
+        assertTrue(registry.isRevoked("jti-1"));
+        assertEquals(1, store.findRevokedSince(LocalDateTime.of(1970, 1, 1, 0, 0), 0, 10).size());
+    }
+
+    @Test
+    void refresh_DropsExpiredRevocations() {
+        // Given
+        RevokedTokenRegistry registry = new RevokedTokenRegistry(store, meterRegistry, 100, 0.01, COMMIT_LAG);
+        registry.revoke("short", NOW.plusMinutes(1));
+        registry.revoke("long", NOW.plusMinutes(10));
+
+        // When
+        registry.refresh(NOW.plusMinutes(5));
+
+        // Then
+        assertFalse(registry.isRevoked("short"));
+        assertTrue(registry.isRevoked("long"));
+        assertEquals(1, meterRegistry.get("auth.tokens.revoked").gauge().value());
+    }
+
+    @Test
+    void refresh_PicksUpRevocationCommittedAfterManyHigherIds() {
+        // Given
+        List<RevokedToken> committed = new ArrayList<>();
+        TokenRevocationPort port = mock(TokenRevocationPort.class);
+        when(port.findRevokedSince(any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime revokedAt = invocation.getArgument(0);
+            long afterId = invocation.getArgument(1);
+            return committed.stream()
+                    .filter(token -> token.revokedAt().isAfter(revokedAt)
+                            || token.revokedAt().isEqual(revokedAt) && token.id() > afterId)
+                    .sorted(Comparator.comparing(RevokedToken::revokedAt).thenComparingLong(RevokedToken::id))
+                    .limit(invocation.<Integer>getArgument(2))
+                    .toList();
+        });
+        RevokedTokenRegistry registry = new RevokedTokenRegistry(port, meterRegistry, 1000, 0.01, COMMIT_LAG);
+        for (long id = 2; id <= 500; id++) {
+            committed.add(new RevokedToken(id, "jti-" + id, NOW.plusMinutes(10), NOW.minusSeconds(1)));
+        }
+        registry.refresh(NOW);
+
+        // When
+        committed.add(new RevokedToken(1, "late", NOW.plusMinutes(10), NOW.minusSeconds(5)));
+        registry.refresh(NOW);
+
+        // Then
+        assertTrue(registry.isRevoked("jti-500"));
+        assertTrue(registry.isRevoked("late"));
+    }
+}
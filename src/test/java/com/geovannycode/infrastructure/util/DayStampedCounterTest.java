@@ -0,0 +1,180 @@
+package com.geovannycode.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DayStampedCounterTest {
+
+    private static final long TODAY = 20_000;
+
+    @Test
+    void tryAdd_WithinLimit_AccumulatesUsage() {
+        // Given
+        DayStampedCounter counter = new DayStampedCounter();
+
+        // When
+        boolean first = counter.tryAdd(TODAY, 600, 1000);
+        boolean second = counter.tryAdd(TODAY, 400, 1000);
+        boolean third = counter.tryAdd(TODAY, 1, 1000);
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(1000, counter.get(TODAY));
+    }
+
+    @Test
+    void tryAdd_OnNewDay_StartsFromZero() {
+        // Given
+        DayStampedCounter counter = new DayStampedCounter();
+        counter.tryAdd(TODAY, 1000, 1000);
+
+        // When
+        boolean added = counter.tryAdd(TODAY + 1, 300, 1000);
+
+        // Then
+        assertTrue(added);
+        assertEquals(300, counter.get(TODAY + 1));
+        assertEquals(0, counter.get(TODAY));
+        assertEquals(TODAY + 1, counter.day());
+    }
+
+    @Test
+    void tryAdd_OnNewDay_KeepsTheClosedDaysTotal() {
+        // Given
+        DayStampedCounter counter = new DayStampedCounter();
+        counter.tryAdd(TODAY, 700, 1000);
+
+        // When
+        counter.tryAdd(TODAY + 1, 300, 1000);
+        counter.subtract(TODAY, 200);
+
+        // Then
+        assertEquals(TODAY, counter.closedDay());
+        assertEquals(500, counter.getClosed(TODAY));
+        assertEquals(0, counter.getClosed(TODAY + 1));
+        assertEquals(300, counter.get(TODAY + 1));
+    }
+
+    @Test
+    void tryAdd_WithStaleDay_CountsAgainstCurrentDay() {
+        // Given
+        DayStampedCounter counter = new DayStampedCounter();
+        counter.tryAdd(TODAY + 1, 900, 1000);
+
+        // When
+        boolean added = counter.tryAdd(TODAY, 200, 1000);
+
+        // Then
+        assertFalse(added);
+        assertEquals(900, counter.get(TODAY + 1));
+    }
+
+    @Test
+    void subtract_OnlyReleasesUsageOfTheSameDay() {
+        // Given
+        DayStampedCounter counter = new DayStampedCounter();
+        counter.tryAdd(TODAY, 500, 1000);
+
+        // When
+        counter.subtract(TODAY, 200);
+        counter.subtract(TODAY - 1, 200);
+
+        // Then
+        assertEquals(300, counter.get(TODAY));
+    }
+
+    @Test
+    void restore_KeepsTheLargerValue() {
+        // Given
+        DayStampedCounter counter = new DayStampedCounter();
+        counter.tryAdd(TODAY, 500, 1000);
+
+        // When
+        counter.restore(TODAY, 300);
+        counter.restore(TODAY - 1, 900);
+
+        // Then
+        assertEquals(500, counter.get(TODAY));
+        counter.restore(TODAY, 700);
+        assertEquals(700, counter.get(TODAY));
+    }
+
+    @Test
+    void tryAdd_UnderContention_NeverExceedsLimit() throws Exception {
+        // Given
+        DayStampedCounter counter = new DayStampedCounter();
+        int threads = 16;
+        int attemptsPerThread = 10_000;
+        long limit = 50_000;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < attemptsPerThread; j++) {
+                        if (counter.tryAdd(TODAY, 1, limit)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertEquals(limit, accepted.get());
+        assertEquals(limit, counter.get(TODAY));
+    }
+
+    @Test
+    void tryAddAndSubtract_UnderContention_BalanceOut() throws Exception {
+        // Given
+        DayStampedCounter counter = new DayStampedCounter();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 10_000; j++) {
+                        if (counter.tryAdd(TODAY, 7, Long.MAX_VALUE)) {
+                            counter.subtract(TODAY, 7);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertEquals(0, counter.get(TODAY));
+    }
+}
@@ -0,0 +1,72 @@
+package com.geovannycode.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongLongHashMapTest {
+
+    @Test
+    void addTo_AccumulatesAndGrowsPastExpectedSize() {
+        // Given
+        LongLongHashMap map = new LongLongHashMap(2);
+
+        // When
+        for (long key = 1; key <= 10_000; key++) {
+            map.addTo(key, key);
+            map.addTo(key, -1);
+        }
+
+        // Then
+        assertEquals(10_000, map.size());
+        assertEquals(0L, map.get(1));
+        assertEquals(9_999L, map.get(10_000));
+        assertTrue(map.containsKey(5_000));
+        assertFalse(map.containsKey(10_001));
+        assertEquals(0L, map.get(10_001));
+    }
+
+    @Test
+    void putIfAbsentAndRemove_KeepOtherKeysReachable() {
+        // Given
+        LongLongHashMap map = new LongLongHashMap(4);
+        for (long key = 1; key <= 1_000; key++) {
+            assertEquals(0L, map.putIfAbsent(key * 7_919, key));
+        }
+
+        // When
+        long duplicate = map.putIfAbsent(7_919, 42);
+        for (long key = 1; key <= 1_000; key += 2) {
+            assertEquals(key, map.remove(key * 7_919));
+        }
+
+        // Then
+        assertEquals(1L, duplicate);
+        assertEquals(500, map.size());
+        for (long key = 1; key <= 1_000; key++) {
+            assertEquals(key % 2 == 0 ? key : 0L, map.get(key * 7_919));
+        }
+        assertEquals(0L, map.remove(7_919));
+    }
+
+    @Test
+    void addTo_WhenKeyIsZeroOrOverflows_ThrowsException() {
+        // Given
+        LongLongHashMap map = new LongLongHashMap(16);
+        map.addTo(7, Long.MAX_VALUE);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> map.addTo(0, 1));
+        assertThrows(ArithmeticException.class, () -> map.addTo(7, 1));
+    }
+
+    @Test
+    void constructor_WithSizeBeyondTableLimit_ThrowsException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new LongLongHashMap(Integer.MAX_VALUE));
+        assertEquals(0, new LongLongHashMap(0).size());
+    }
+}
@@ -0,0 +1,81 @@
+package com.geovannycode.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrefixIndexTest {
+
+    @Test
+    void search_RanksExactMatchesBeforeLongerTokens() {
+        // Given
+        PrefixIndex<String> index = new PrefixIndex<>();
+        index.put(1L, "johnathan", Set.of("johnathan"));
+        index.put(2L, "johnny", Set.of("johnny"));
+        index.put(3L, "john", Set.of("john", "john smith"));
+        index.put(4L, "maria", Set.of("maria"));
+
+        // When
+        List<String> results = index.search("john", 0, 10, 100);
+
+        // Then
+        assertEquals(List.of("john", "johnny", "johnathan"), results);
+    }
+
+    @Test
+    void search_PaginatesOverRankedResults() {
+        // Given
+        PrefixIndex<String> index = new PrefixIndex<>();
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, "customer-" + id, Set.of("ana"));
+        }
+
+        // When
+        List<String> firstPage = index.search("an", 0, 2, 100);
+        List<String> lastPage = index.search("an", 4, 2, 100);
+
+        // Then
+        assertEquals(List.of("customer-1", "customer-2"), firstPage);
+        assertEquals(List.of("customer-5"), lastPage);
+    }
+
+    @Test
+    void put_ReplacesPreviousTokensAndRemoveDropsEntry() {
+        // Given
+        PrefixIndex<String> index = new PrefixIndex<>();
+        index.put(1L, "old", Set.of("perez"));
+
+        // When
+        index.put(1L, "new", Set.of("gomez"));
+
+        // Then
+        assertTrue(index.search("perez", 0, 10, 100).isEmpty());
+        assertEquals(List.of("new"), index.search("gom", 0, 10, 100));
+
+        // When
+        index.remove(1L);
+
+        // Then
+        assertTrue(index.search("gom", 0, 10, 100).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void search_StopsAfterMaxCandidates() {
+        // Given
+        PrefixIndex<String> index = new PrefixIndex<>();
+        for (long id = 1; id <= 20; id++) {
+            index.put(id, "customer-" + id, Set.of("luis" + id));
+        }
+
+        // When
+        List<String> results = index.search("luis", 0, 20, 5);
+
+        // Then
+        assertEquals(5, results.size());
+    }
+}
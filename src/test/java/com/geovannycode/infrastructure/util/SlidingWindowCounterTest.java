@@ -0,0 +1,114 @@
+package com.geovannycode.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SlidingWindowCounterTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    void add_CountsEventsInsideTheWindow() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10);
+        long now = 1_000 * MINUTE;
+
+        // When
+        counter.add(now - 9 * MINUTE, 100);
+        counter.add(now - MINUTE, 250);
+        counter.add(now, 50);
+
+        // Then
+        assertEquals(3, counter.count(now));
+        assertEquals(400, counter.sum(now));
+        assertEquals(2, counter.count(now + MINUTE));
+        assertEquals(1, counter.count(now + 9 * MINUTE));
+        assertEquals(0, counter.count(now + 10 * MINUTE));
+    }
+
+    @Test
+    void add_ReusesSlotsOnceTheyExpire() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10);
+        long now = 1_000 * MINUTE;
+        counter.add(now, 10);
+
+        // When
+        counter.add(now + 10 * MINUTE, 5);
+
+        // Then
+        assertEquals(1, counter.count(now + 10 * MINUTE));
+        assertEquals(5, counter.sum(now + 10 * MINUTE));
+    }
+
+    @Test
+    void add_IgnoresEventsOlderThanTheirSlot() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10);
+        long now = 1_000 * MINUTE;
+        counter.add(now, 10);
+
+        // When
+        counter.add(now - 10 * MINUTE, 99);
+
+        // Then
+        assertEquals(1, counter.count(now));
+        assertEquals(10, counter.sum(now));
+    }
+
+    @Test
+    void isIdle_WhenAllBucketsExpired_ReturnsTrue() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10);
+        long now = 1_000 * MINUTE;
+        counter.add(now, 1);
+
+        // When & Then
+        assertFalse(counter.isIdle(now + 9 * MINUTE));
+        assertTrue(counter.isIdle(now + 10 * MINUTE));
+    }
+
+    @Test
+    void add_FromManyThreadsInOneBucket_KeepsEveryIncrement() throws Exception {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10);
+        long now = 1_000 * MINUTE;
+        counter.add(now, 0);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        counter.add(now, 1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertEquals(80_001, counter.count(now));
+        assertEquals(80_000, counter.sum(now));
+    }
+
+    @Test
+    void constructor_WhenWindowIsShorterThanBuckets_ThrowsException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(Duration.ofMillis(5), 10));
+    }
+}